@@ -8,7 +8,9 @@ import cloud.fogbow.common.util.ServiceAsymmetricKeysHolder;
 import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
 import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
 import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.*;
+import cloud.fogbow.ras.core.cloudconnector.CloudPluginsHolder;
 import cloud.fogbow.ras.core.datastore.DatabaseManager;
 import cloud.fogbow.ras.core.datastore.services.AuditableOrderStateChangeService;
 import cloud.fogbow.ras.core.datastore.services.AuditableRequestService;
@@ -16,12 +18,17 @@ import cloud.fogbow.ras.core.datastore.services.RecoveryService;
 import cloud.fogbow.ras.core.intercomponent.RemoteFacade;
 import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
 import cloud.fogbow.ras.core.models.RasOperation;
+import cloud.fogbow.ras.core.plugins.interoperability.aws.AwsV2ClientUtil;
+import cloud.fogbow.ras.core.plugins.interoperability.azure.util.AzureSchedulerManager;
+import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.CloudStackAsyncJobTracker;
+import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.publicip.v4_9.CloudStackPublicIpPlugin;
 import org.apache.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PreDestroy;
 import java.util.concurrent.TimeUnit;
 
 @Component
@@ -37,6 +44,8 @@ public class Main implements ApplicationRunner {
     @Autowired
     private AuditableOrderStateChangeService auditableOrderStateChangeService;
 
+    private ProcessorsThreadController processorsThreadController;
+
     @Override
     public void run(ApplicationArguments args) {
         try {
@@ -47,6 +56,11 @@ public class Main implements ApplicationRunner {
             DatabaseManager.getInstance().setRecoveryService(recoveryService);
             DatabaseManager.getInstance().setAuditableOrderStateChangeService(auditableOrderStateChangeService);
             DatabaseManager.getInstance().setAuditableRequestService(auditableRequestService);
+            String orderStorageMode = PropertiesHolder.getInstance().getProperty(
+                    ConfigurationPropertyKeys.ORDER_STORAGE_MODE_KEY, ConfigurationPropertyDefaults.ORDER_STORAGE_MODE);
+            if (orderStorageMode.equals(SystemConstants.WRITE_BEHIND_ORDER_STORAGE_MODE)) {
+                enableWriteBehindOrderStorage();
+            }
 
             // Setting up asymmetric cryptography
             String publicKeyFilePath = PropertiesHolder.getInstance().getProperty(FogbowConstants.PUBLIC_KEY_FILE_PATH);
@@ -73,11 +87,10 @@ public class Main implements ApplicationRunner {
             remoteFacade.setCloudListController(cloudListController);
 
             // Setting up order processors
-            ProcessorsThreadController processorsThreadController = new
-                    ProcessorsThreadController(localProviderId, orderController);
+            this.processorsThreadController = new ProcessorsThreadController(localProviderId, orderController);
 
             // Starting threads
-            processorsThreadController.startRasThreads();
+            this.processorsThreadController.startRasThreads();
 
             String xmpp_enabled = PropertiesHolder.getInstance().getProperty(ConfigurationPropertyKeys.XMPP_ENABLED_KEY,
                     ConfigurationPropertyDefaults.XMPP_ENABLED);
@@ -104,6 +117,38 @@ public class Main implements ApplicationRunner {
         }
     }
 
+    @PreDestroy
+    public void shutdown() {
+        // Finishing the orders being processed, whose changes must still be written
+        if (this.processorsThreadController != null) {
+            this.processorsThreadController.stopRasThreads();
+        }
+        // Writing the order changes still pending
+        DatabaseManager.getInstance().disableWriteBehind();
+        // Releasing resources held by the interoperability plugins
+        CloudPluginsHolder.getInstance().close();
+        // The EC2 clients, the Azure executors and the CloudStack job poller and public ip steps are shared by the
+        // plugins of all clouds
+        AwsV2ClientUtil.closeClients();
+        AzureSchedulerManager.shutdown();
+        CloudStackAsyncJobTracker.getInstance().shutdown();
+        CloudStackPublicIpPlugin.shutdownStepExecutor();
+    }
+
+    private void enableWriteBehindOrderStorage() {
+        PropertiesHolder propertiesHolder = PropertiesHolder.getInstance();
+        int queueCapacity = Integer.parseInt(propertiesHolder.getProperty(
+                ConfigurationPropertyKeys.ORDER_STORAGE_QUEUE_CAPACITY_KEY,
+                ConfigurationPropertyDefaults.ORDER_STORAGE_QUEUE_CAPACITY));
+        long groupCommitInterval = Long.parseLong(propertiesHolder.getProperty(
+                ConfigurationPropertyKeys.ORDER_STORAGE_GROUP_COMMIT_INTERVAL_KEY,
+                ConfigurationPropertyDefaults.ORDER_STORAGE_GROUP_COMMIT_INTERVAL));
+        int maxBatchSize = Integer.parseInt(propertiesHolder.getProperty(
+                ConfigurationPropertyKeys.ORDER_STORAGE_MAX_BATCH_SIZE_KEY,
+                ConfigurationPropertyDefaults.ORDER_STORAGE_MAX_BATCH_SIZE));
+        DatabaseManager.getInstance().enableWriteBehind(queueCapacity, groupCommitInterval, maxBatchSize);
+    }
+
     private void tryExit() {
         if (!Boolean.parseBoolean(System.getenv("SKIP_TEST_ON_TRAVIS")))
             System.exit(1);
@@ -1,6 +1,7 @@
 package cloud.fogbow.ras.api.http.request;
 
 import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.InvalidParameterException;
 import cloud.fogbow.ras.api.http.CommonKeys;
 import cloud.fogbow.ras.api.http.response.ImageInstance;
 import cloud.fogbow.ras.api.http.response.ImageSummary;
@@ -8,14 +9,18 @@ import cloud.fogbow.ras.constants.ApiDocumentation;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.ApplicationFacade;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import org.apache.log4j.Logger;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @CrossOrigin
@@ -25,6 +30,12 @@ import java.util.List;
 public class Image {
     public static final String IMAGE_SUFFIX_ENDPOINT = "images";
     public static final String IMAGE_ENDPOINT = SystemConstants.SERVICE_BASE_ENDPOINT + IMAGE_SUFFIX_ENDPOINT;
+    public static final String PAGE_PARAMETER = "page";
+    public static final String PAGE_SIZE_PARAMETER = "size";
+    private static final String ETAG_FORMAT = "\"%s\"";
+    private static final String ANY_ETAG = "*";
+    private static final String ETAG_SEPARATOR = ",";
+    private static final String WEAK_ETAG_PREFIX = "W/";
 
     private final Logger LOGGER = Logger.getLogger(Image.class);
 
@@ -36,13 +47,24 @@ public class Image {
             @ApiParam(value = ApiDocumentation.CommonParameters.CLOUD_NAME)
             @PathVariable String cloudName,
             @ApiParam(value = cloud.fogbow.common.constants.ApiDocumentation.Token.SYSTEM_USER_TOKEN)
-            @RequestHeader(required = false, value = CommonKeys.SYSTEM_USER_TOKEN_HEADER_KEY) String systemUserToken)
+            @RequestHeader(required = false, value = CommonKeys.SYSTEM_USER_TOKEN_HEADER_KEY) String systemUserToken,
+            @ApiParam(value = ApiDocumentation.Image.PAGE)
+            @RequestParam(required = false, value = PAGE_PARAMETER) Integer page,
+            @ApiParam(value = ApiDocumentation.Image.PAGE_SIZE)
+            @RequestParam(required = false, value = PAGE_SIZE_PARAMETER) Integer size,
+            @ApiParam(value = ApiDocumentation.Image.IF_NONE_MATCH)
+            @RequestHeader(required = false, value = HttpHeaders.IF_NONE_MATCH) String ifNoneMatch)
             throws FogbowException {
 
         try {
             LOGGER.info(Messages.Log.RECEIVING_GET_ALL_IMAGES_REQUEST);
             List<ImageSummary> imagesMap = ApplicationFacade.getInstance().getAllImages(providerId, cloudName, systemUserToken);
-            return new ResponseEntity<>(imagesMap, HttpStatus.OK);
+            // The tag identifies the whole list, so that every page of an unchanged list is not modified
+            String eTag = getETag(imagesMap);
+            if (matchesAny(eTag, ifNoneMatch)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+            return ResponseEntity.ok().eTag(eTag).body(getPage(imagesMap, page, size));
         } catch (Exception e) {
             LOGGER.debug(String.format(Messages.Log.GENERIC_EXCEPTION_S, e.getMessage()), e);
             throw e;
@@ -71,4 +93,51 @@ public class Image {
             throw e;
         }
     }
+
+    /**
+     * The tag is a digest of the ids and names of the images, so that a changed list gets a different tag.
+     */
+    private String getETag(List<ImageSummary> images) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        for (ImageSummary image : images) {
+            hasher.putString(String.valueOf(image.getId()), StandardCharsets.UTF_8).putByte((byte) 0);
+            hasher.putString(String.valueOf(image.getName()), StandardCharsets.UTF_8).putByte((byte) 0);
+        }
+        return String.format(ETAG_FORMAT, hasher.hash());
+    }
+
+    /**
+     * If-None-Match holds either * or a list of tags; the tags are compared with the weak comparison, as
+     * required for this header, so that a weak tag sent by a proxy still matches.
+     */
+    private boolean matchesAny(String eTag, String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(ETAG_SEPARATOR)) {
+            tag = tag.trim();
+            if (tag.startsWith(WEAK_ETAG_PREFIX)) {
+                tag = tag.substring(WEAK_ETAG_PREFIX.length());
+            }
+            if (tag.equals(ANY_ETAG) || tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<ImageSummary> getPage(List<ImageSummary> images, Integer page, Integer size)
+            throws InvalidParameterException {
+
+        if (page == null && size == null) {
+            return images;
+        }
+        int pageNumber = page == null ? 0 : page;
+        if (pageNumber < 0 || size == null || size <= 0) {
+            throw new InvalidParameterException(String.format(Messages.Exception.INVALID_PAGE_S_S, page, size));
+        }
+        int fromIndex = (int) Math.min((long) pageNumber * size, images.size());
+        int toIndex = Math.min(fromIndex + size, images.size());
+        return images.subList(fromIndex, toIndex);
+    }
 }
@@ -45,6 +45,9 @@ public class ApiDocumentation {
         public static final String GET_OPERATION = "Lists all images available to the user at the indicated provider and cloud.";
         public static final String GET_BY_ID_OPERATION = "Lists a specific image available to the user at the indicated provider and cloud.";
         public static final String ID = "The ID of the specific image.";
+        public static final String PAGE = "The number of the page of images to be listed, starting at 0 (requires size).";
+        public static final String PAGE_SIZE = "The number of images in each page; all images are listed when it is absent.";
+        public static final String IF_NONE_MATCH = "The ETags of previous listings, or *; the images are not sent again if they have not changed.";
     }
 
     public static class Network {
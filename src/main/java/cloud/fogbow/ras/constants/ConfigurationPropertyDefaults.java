@@ -18,13 +18,73 @@ public class ConfigurationPropertyDefaults {
     public static final String REMOTE_ORDER_STATE_SYNCHRONIZATION_SLEEP_TIME = Long.toString(TimeUnit.SECONDS.toMillis(10));
     // reference value is 10 seconds
     public static final String UNABLE_TO_CHECK_ORDERS_SLEEP_TIME = Long.toString(TimeUnit.SECONDS.toMillis(10));
+    // a pool size of 1 means that each processor handles one order at a time in its own thread
+    public static final String PROCESSORS_WORKER_POOL_SIZE = "1";
+    // a value of 0 means that there is no limit
+    public static final String PROCESSORS_MAX_CONCURRENT_ORDERS_PER_CLOUD = "0";
+    // reference value is 1 minute
+    public static final String SPAWNING_ORDERS_MAX_CHECK_INTERVAL = Long.toString(TimeUnit.MINUTES.toMillis(1));
+    // reference value is 5 minutes
+    public static final String FULFILLED_ORDERS_MAX_CHECK_INTERVAL = Long.toString(TimeUnit.MINUTES.toMillis(5));
+    // reference value is 2 minutes
+    public static final String REMOTE_ORDER_STATE_SYNCHRONIZATION_MAX_CHECK_INTERVAL = Long.toString(TimeUnit.MINUTES.toMillis(2));
+    // synchronous mode writes each order change to the database before returning
+    public static final String ORDER_STORAGE_MODE = SystemConstants.SYNCHRONOUS_ORDER_STORAGE_MODE;
+    public static final String ORDER_STORAGE_QUEUE_CAPACITY = "10000";
+    // reference value is 100 milliseconds
+    public static final String ORDER_STORAGE_GROUP_COMMIT_INTERVAL = "100";
+    public static final String ORDER_STORAGE_MAX_BATCH_SIZE = "500";
+    public static final String AWS_CLIENT_CACHE_MAX_SIZE = "100";
+    // reference value is 10 minutes
+    public static final String AWS_CLIENT_IDLE_TIMEOUT = Long.toString(TimeUnit.MINUTES.toMillis(10));
+    // reference value is 2 minutes
+    public static final String AWS_CLIENT_API_CALL_TIMEOUT = Long.toString(TimeUnit.MINUTES.toMillis(2));
+    // reference value is 30 seconds
+    public static final String AWS_CLIENT_API_CALL_ATTEMPT_TIMEOUT = Long.toString(TimeUnit.SECONDS.toMillis(30));
+    public static final String AWS_CLIENT_MAX_RETRIES = "3";
+    // reference value is 500 milliseconds
+    public static final String AZURE_INSTANCE_CREATION_CHECK_TIMEOUT = "500";
+    public static final String AZURE_ATTACHMENT_POOL_SIZE = "2";
+    public static final String AZURE_VIRTUAL_MACHINE_POOL_SIZE = "2";
+    public static final String AZURE_VOLUME_POOL_SIZE = "2";
+    public static final String AZURE_VIRTUAL_NETWORK_POOL_SIZE = "3";
+    public static final String AZURE_PUBLIC_IP_ADDRESS_POOL_SIZE = "3";
+    public static final String AZURE_OPERATION_QUEUE_CAPACITY = "100";
+    // reference value is 5 minutes
+    public static final String OPENSTACK_FLAVOR_CATALOG_REFRESH_INTERVAL = Long.toString(TimeUnit.MINUTES.toMillis(5));
+    // reference value is 5 minutes
+    public static final String AWS_IMAGES_SIZE_CACHE_TTL = Long.toString(TimeUnit.MINUTES.toMillis(5));
+    // reference value is 10 minutes
+    public static final String OPENNEBULA_METADATA_CACHE_TTL = Long.toString(TimeUnit.MINUTES.toMillis(10));
+    public static final String OPENNEBULA_RPC_MAX_CONNECTIONS = "10";
+    // reference value is 1 minute
+    public static final String OPENNEBULA_RPC_TIMEOUT = Long.toString(TimeUnit.MINUTES.toMillis(1));
+    // reference value is 10 minutes
+    public static final String OPENNEBULA_CLIENT_IDLE_TIMEOUT = Long.toString(TimeUnit.MINUTES.toMillis(10));
+    // reference value is 5 minutes
+    public static final String IMAGE_CATALOG_REFRESH_INTERVAL = Long.toString(TimeUnit.MINUTES.toMillis(5));
+    // reference value is 30 seconds
+    public static final String QUOTA_CACHE_TTL = Long.toString(TimeUnit.SECONDS.toMillis(30));
+    // reference value is 1 minute; a value of 0 disables the verified token cache
+    public static final String VERIFIED_TOKEN_CACHE_TTL = Long.toString(TimeUnit.MINUTES.toMillis(1));
+    // reference value is 500 milliseconds
+    public static final String ORDER_STATE_NOTIFICATION_DELAY = "500";
+    public static final String ORDER_STATE_NOTIFICATION_MAX_RETRIES = "5";
     public static final String BUILD_NUMBER = "[testing mode]";
 
+    // MAPPER CONF DEFAULTS
+    // reference value is 30 minutes; a value of 0 disables the cloud user cache
+    public static final String CLOUD_USER_CACHE_TTL = Long.toString(TimeUnit.MINUTES.toMillis(30));
+    // reference value is 5 minutes
+    public static final String CLOUD_USER_CACHE_REFRESH_MARGIN = Long.toString(TimeUnit.MINUTES.toMillis(5));
+
     // INTERCOMPONENT CONF DEFAULT
     public static final String XMPP_ENABLED = "true";
     public static final String XMPP_TIMEOUT = Long.toString(TimeUnit.SECONDS.toMillis(5));
     // reference value is 5 seconds
     public static final String XMPP_CSC_PORT = Integer.toString(5347);
+    public static final String XMPP_MAX_IN_FLIGHT_REQUESTS_PER_PROVIDER = "8";
+    public static final String ORDER_CODECS = "compact-v1,json";
 
     // SSH CONF DEFAULTS
     public static final String SSH_COMMON_USER = "fogbow";
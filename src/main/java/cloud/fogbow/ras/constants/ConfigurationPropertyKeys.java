@@ -7,6 +7,8 @@ public class ConfigurationPropertyKeys {
     public static final String XMPP_SERVER_IP_KEY = "xmpp_server_ip";
     public static final String XMPP_C2C_PORT_KEY = "xmpp_c2c_port";
     public static final String XMPP_TIMEOUT_KEY = "xmpp_timeout";
+    public static final String XMPP_MAX_IN_FLIGHT_REQUESTS_PER_PROVIDER_KEY = "xmpp_max_in_flight_requests_per_provider";
+    public static final String ORDER_CODECS_KEY = "order_codecs";
 
     // RAS configuration
     public static final String PROVIDER_ID_KEY = "provider_id";
@@ -17,6 +19,38 @@ public class ConfigurationPropertyKeys {
     public static final String CHECKING_DELETION_ORDERS_SLEEP_TIME_KEY = "checking_deletion_orders_sleep_period";
     public static final String ASSIGNED_FOR_DELETION_ORDERS_SLEEP_TIME_KEY = "assigned_for_deletion_orders_sleep_period";
     public static final String REMOTE_ORDER_STATE_SYNCHRONIZATION_SLEEP_TIME_KEY = "remote_order_state_synchronization_sleep_period";
+    public static final String PROCESSORS_WORKER_POOL_SIZE_KEY = "processors_worker_pool_size";
+    public static final String PROCESSORS_MAX_CONCURRENT_ORDERS_PER_CLOUD_KEY = "processors_max_concurrent_orders_per_cloud";
+    public static final String SPAWNING_ORDERS_MAX_CHECK_INTERVAL_KEY = "spawning_orders_max_check_interval";
+    public static final String FULFILLED_ORDERS_MAX_CHECK_INTERVAL_KEY = "fulfilled_orders_max_check_interval";
+    public static final String REMOTE_ORDER_STATE_SYNCHRONIZATION_MAX_CHECK_INTERVAL_KEY = "remote_order_state_synchronization_max_check_interval";
+    public static final String ORDER_STORAGE_MODE_KEY = "order_storage_mode";
+    public static final String ORDER_STORAGE_QUEUE_CAPACITY_KEY = "order_storage_queue_capacity";
+    public static final String ORDER_STORAGE_GROUP_COMMIT_INTERVAL_KEY = "order_storage_group_commit_interval";
+    public static final String ORDER_STORAGE_MAX_BATCH_SIZE_KEY = "order_storage_max_batch_size";
+    public static final String AWS_CLIENT_CACHE_MAX_SIZE_KEY = "aws_client_cache_max_size";
+    public static final String AWS_CLIENT_IDLE_TIMEOUT_KEY = "aws_client_idle_timeout";
+    public static final String AWS_CLIENT_API_CALL_TIMEOUT_KEY = "aws_client_api_call_timeout";
+    public static final String AWS_CLIENT_API_CALL_ATTEMPT_TIMEOUT_KEY = "aws_client_api_call_attempt_timeout";
+    public static final String AWS_CLIENT_MAX_RETRIES_KEY = "aws_client_max_retries";
+    public static final String AZURE_INSTANCE_CREATION_CHECK_TIMEOUT_KEY = "azure_instance_creation_check_timeout";
+    public static final String AZURE_ATTACHMENT_POOL_SIZE_KEY = "azure_attachment_pool_size";
+    public static final String AZURE_VIRTUAL_MACHINE_POOL_SIZE_KEY = "azure_virtual_machine_pool_size";
+    public static final String AZURE_VOLUME_POOL_SIZE_KEY = "azure_volume_pool_size";
+    public static final String AZURE_VIRTUAL_NETWORK_POOL_SIZE_KEY = "azure_virtual_network_pool_size";
+    public static final String AZURE_PUBLIC_IP_ADDRESS_POOL_SIZE_KEY = "azure_public_ip_address_pool_size";
+    public static final String AZURE_OPERATION_QUEUE_CAPACITY_KEY = "azure_operation_queue_capacity";
+    public static final String OPENSTACK_FLAVOR_CATALOG_REFRESH_INTERVAL_KEY = "openstack_flavor_catalog_refresh_interval";
+    public static final String AWS_IMAGES_SIZE_CACHE_TTL_KEY = "aws_images_size_cache_ttl";
+    public static final String OPENNEBULA_METADATA_CACHE_TTL_KEY = "opennebula_metadata_cache_ttl";
+    public static final String OPENNEBULA_RPC_MAX_CONNECTIONS_KEY = "opennebula_rpc_max_connections";
+    public static final String OPENNEBULA_RPC_TIMEOUT_KEY = "opennebula_rpc_timeout";
+    public static final String OPENNEBULA_CLIENT_IDLE_TIMEOUT_KEY = "opennebula_client_idle_timeout";
+    public static final String IMAGE_CATALOG_REFRESH_INTERVAL_KEY = "image_catalog_refresh_interval";
+    public static final String QUOTA_CACHE_TTL_KEY = "quota_cache_ttl";
+    public static final String VERIFIED_TOKEN_CACHE_TTL_KEY = "verified_token_cache_ttl";
+    public static final String ORDER_STATE_NOTIFICATION_DELAY_KEY = "order_state_notification_delay";
+    public static final String ORDER_STATE_NOTIFICATION_MAX_RETRIES_KEY = "order_state_notification_max_retries";
     public static final String CLOUD_NAMES_KEY = "cloud_names";
     public static final String BUILD_NUMBER_KEY = "build_number";
 
@@ -31,6 +65,8 @@ public class ConfigurationPropertyKeys {
     public static final String SECURITY_RULE_PLUGIN_CLASS_KEY = "security_rule_plugin_class";
     public static final String SYSTEM_TO_CLOUD_MAPPER_PLUGIN_CLASS_KEY = "system_to_cloud_mapper_plugin_class";
     public static final String CLOUD_IDENTITY_PROVIDER_URL_KEY = "cloud_identity_provider_url";
+    public static final String CLOUD_USER_CACHE_TTL_KEY = "cloud_user_cache_ttl";
+    public static final String CLOUD_USER_CACHE_REFRESH_MARGIN_KEY = "cloud_user_cache_refresh_margin";
     public static final String QUOTA_PLUGIN_CLASS_KEY = "quota_plugin_class";
 
     // AS configuration
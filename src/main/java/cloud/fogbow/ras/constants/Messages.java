@@ -3,6 +3,7 @@ package cloud.fogbow.ras.constants;
 public class Messages {
 
     public static class Exception {
+        public static final String AZURE_OPERATION_QUEUE_FULL_S = "Too many Azure operations are waiting on the %s executor; try again later.";
         public static final String CLOUD_NAMES_DO_NOT_MATCH = "The embedded resource has not been instantiated in the same cloud.";
         public static final String DEFAULT_CREDENTIALS_NOT_FOUND = "Default credentials not found.";
         public static final String DEFAULT_NETWORK_NOT_FOUND = "Default network not found.";
@@ -26,6 +27,7 @@ public class Messages {
         public static final String INSTANCE_NULL_S = "There is no active instance with id: <%s>.";
         public static final String INVALID_CIDR_S = "CIDR %s is not valid.";
         public static final String INVALID_CIDR_FORMAT_S = "The cidr %s does not follow the expected format";
+        public static final String INVALID_PAGE_S_S = "Invalid page %s of size %s.";
         public static final String INVALID_PARAMETER = "Invalid parameter.";
         public static final String INVALID_PARAMETER_S = "Invalid parameter: %s.";
         public static final String INVALID_REGION_NAME_S = "The region name '%s' is invalid.";
@@ -58,6 +60,7 @@ public class Messages {
         public static final String SIGNALING_PROVIDER_DIFFERENT_OF_PROVIDER_S_S = "Signalling provider %s is not the provider %s.";
         public static final String TOO_BIG_USER_DATA_FILE_CONTENT = "Too big user data file.";
         public static final String TRYING_TO_USE_RESOURCES_FROM_ANOTHER_USER = "Trying to use resources from another user.";
+        public static final String UNABLE_TO_ACQUIRE_RPC_CONNECTION_S = "Unable to acquire an XML-RPC connection to %s.";
         public static final String UNABLE_TO_COMPLETE_REQUEST_CLOUDSTACK = "Unable to complete request.";
         public static final String UNABLE_TO_COMPLETE_REQUEST_DISK_OFFERING_CLOUDSTACK = "Unable to complete disk offering.";
         public static final String UNABLE_TO_COMPLETE_REQUEST_SERVICE_OFFERING_CLOUDSTACK = "Unable to complete service offering.";
@@ -74,9 +77,13 @@ public class Messages {
         public static final String UNABLE_TO_REMOVE_INACTIVE_REQUEST_S = "Unable to remove inactive request %s.";
         public static final String UNABLE_TO_RETRIEVE_NETWORK_ID_S = Log.UNABLE_TO_RETRIEVE_NETWORK_ID_S;
         public static final String UNABLE_TO_RETRIEVE_RESPONSE_FROM_PROVIDER_S = "Unable to retrieve response from provider: %s.";
+        public static final String UNABLE_TO_WRITE_ORDER_S = "Unable to write order %s to the database.";
         public static final String UNEXPECTED_ERROR = "Unexpected error.";
         public static final String UNEXPECTED_JOB_STATUS = "Job status must be one of {0, 1, 2}.";
         public static final String UNEXPECTED_OPERATION_S = "Unexpected operation: %s.";
+        public static final String UNKNOWN_ORDER_CODEC_S = "Unknown order codec %s.";
+        public static final String UNKNOWN_ORDER_TYPE_S = "Unknown order type %s.";
+        public static final String UNSUPPORTED_ORDER_PAYLOAD_VERSION_S = "Unsupported order payload version %s.";
         public static final String UNSUPPORTED_REQUEST_TYPE_S = "Request type %s not supported.";
         public static final String WRONG_URI_SYNTAX_S = "Wrong syntax for endpoint %s.";
     }
@@ -84,7 +91,12 @@ public class Messages {
     public static class Log {
         public static final String ACTIVATING_NEW_REQUEST = "Activating new request.";
         public static final String ASYNCHRONOUS_PUBLIC_IP_STATE_S = "The asynchronous public ip request %s is in the state %s.";
+        public static final String AZURE_OPERATION_NOT_STARTED = "Unable to start the asynchronous Azure operation.";
+        public static final String AZURE_OPERATION_REJECTED_S_S_S = "The queue of the %s executor is full (%s operations running, %s waiting); rejecting the operation.";
         public static final String CHANGE_TO_DEFAULT_RESOURCE_GROUP = "Changing to the default resource group.";
+        public static final String CLOSING_PLUGINS_OF_CLOUD_S = "Closing plugins of cloud %s.";
+        public static final String CLOUD_USER_CACHE_STATISTICS_S_S_S = "Cloud user cache: %s hits, %s misses, %s refreshes.";
+        public static final String CLOUD_USER_INVALIDATED = "The cached cloud user was rejected by the cloud and has been invalidated.";
         public static final String CONNECTING_UP_PACKET_SENDER = "Connecting XMPP packet sender.";
         public static final String CONTENT_SECURITY_GROUP_NOT_DEFINED = "The content of SecuriryGroups in the VirtualNetwork template is not defined.";
         public static final String COULD_NOT_FIND_DEPENDENCY_S_S = "Could not find dependency %s for order %s.";
@@ -158,9 +170,11 @@ public class Messages {
         public static final String FIRST_STEP_DETACH_PUBLIC_IP_ASYNC_BEHAVIOUR = "First step: Public IP Address disassociated from network interface.";
         public static final String FIRST_STEP_DETACH_RESOURCES_ASYNC_BEHAVIOUR = "First step: Public IP address and network security group disassociated from network instance.";
         public static final String GENERIC_EXCEPTION_S = "Operation returned error: %s.";
+        public static final String GETTING_INSTANCES_OF_D_ORDERS = "Getting instances of %d orders.";
         public static final String GETTING_INSTANCE_S = "Getting instance %s.";
         public static final String GETTING_QUOTA = "Getting quota.";
         public static final String GET_PUBLIC_KEY = "Get public key received.";
+        public static final String GIVING_UP_NOTIFYING_ORDER_STATES_S = "Giving up notifying provider %s of the state of the orders it requested; it will get them by synchronizing its remote orders.";
         public static final String INCONSISTENT_DIRECTION_S = "The direction (%s) is inconsistent";
         public static final String INCONSISTENT_PROTOCOL_S = "The protocol (%s) is inconsistent";
         public static final String INCONSISTENT_RANGE_S = "The range(%s) is inconsistent";
@@ -176,7 +190,9 @@ public class Messages {
         public static final String NETWORK_NOT_FOUND_S = "Network id %s was not found when trying to delete it.";
         public static final String NO_PACKET_SENDER = "PacketSender was not initialized. Trying again.";
         public static final String NO_REMOTE_COMMUNICATION_CONFIGURED = "No remote communication configured.";
+        public static final String ORDER_S_ALREADY_STORED = "Order %s is already stored; it will not be added again.";
         public static final String ORDER_S_CHANGED_STATE_TO_S = "Order changed %s state to %s.";
+        public static final String ORDER_S_NOT_STORED = "Order %s is not stored; it cannot be updated.";
         public static final String PACKET_SENDER_INITIALIZED = "XMPP packet sender initialized.";
         public static final String RECEIVING_COMPUTE_QUOTA_REQUEST_S_S = "Get compute %s request for provider %s received.";
         public static final String RECEIVING_CREATE_REQUEST_S = "Create request for %s received.";
@@ -188,13 +204,18 @@ public class Messages {
         public static final String RECEIVING_GET_REQUEST_S = "Get request for %s %s received.";
         public static final String RECEIVING_REMOTE_REQUEST_S = "Received remote request for request: %s.";
         public static final String RECEIVING_RESOURCE_S_REQUEST_S = "Get %s request for provider %s received.";
+        public static final String RECOVERED_ASYNCHRONOUS_PUBLIC_IP_STATE_S = "The state of the asynchronous public ip request %s was recovered from the cloud.";
         public static final String RECOVERING_LIST_OF_ORDERS_S_D = "Recovering requests in %s list: %d requests recovered so far.";
+        public static final String REFRESHING_AS_PUBLIC_KEY = "Refreshing the AS public key after a token failed the verification.";
+        public static final String RELOADING_PLUGINS_OF_CLOUD_S = "Reloading plugins of cloud %s.";
         public static final String REMOVING_ORDER_IN_SELECT_STATE_S = "Order %s might have left garbage in cloud.";
         public static final String REQUESTING_GET_ALL_FROM_PROVIDER = "Requesting all images from provider.";
         public static final String REQUESTING_INSTANCE_FROM_PROVIDER = "Requesting instance from provider.";
         public static final String REQUESTING_TO_CLOUD_S_S = "Requesting to the cloud by the user %s. URL: %s";
+        public static final String REQUEST_S_TO_PROVIDER_S_TIMED_OUT = "Request %s to provider %s timed out.";
         public static final String RESOURCE_CREATION_FAILED_S = "Resource creation failed: %s";
         public static final String RESPONSE_RECEIVED_S = "Received response: %s.";
+        public static final String RETRYING_D_ORDER_CHANGES_IN_D_MS = "Retrying to write %d order changes to the database in %d ms.";
         public static final String SECOND_STEP_CREATE_AND_ATTACH_NSG_ASYNC_BEHAVIOUR = "Second step: Create network security group and associated with the network interface.";
         public static final String SECOND_STEP_CREATE_VNET_ASYNC_BEHAVIOUR = "Second step on virtual network creation: Network created.";
         public static final String SEEK_VIRTUAL_MACHINE_SIZE_BY_NAME_S_S = "Seek for the Virtual Machine Size by name %s at region %s";
@@ -204,30 +225,47 @@ public class Messages {
         public static final String SLEEP_THREAD_INTERRUPTED = "Thread is not able to sleep.";
         public static final String STARTING_THREADS = "Starting processor threads.";
         public static final String START_ASYNC_INSTANCE_CREATION_S = "Start instance (%s) creation.";
+        public static final String STOPPING_THREADS = "Stopping processor threads.";
         public static final String SUCCESS = "Successfully executed operation.";
         public static final String THREAD_HAS_BEEN_INTERRUPTED = "Thread has been interrupted.";
         public static final String UNABLE_TO_ADD_EXTRA_USER_DATA_FILE_CONTENT_NULL = "Unable to add the extra user data file; content is null.";
         public static final String UNABLE_TO_ADD_EXTRA_USER_DATA_FILE_TYPE_NULL = "Unable to add the extra user data file; file type is null.";
+        public static final String UNABLE_TO_CLOSE_EC2_CLIENT_S = "Unable to close the EC2 client of region %s.";
         public static final String UNABLE_TO_CREATE_ATTACHMENT = "Unable to create an attachment from json.";
         public static final String UNABLE_TO_DECODE_URL_S = "Unable to decode url %s.";
         public static final String UNABLE_TO_DELETE_INSTANCE_S = "Unable to delete instance %s.";
         public static final String UNABLE_TO_DELETE_NETWORK_WITH_ID_S = "Unable to delete network with id %s.";
         public static final String UNABLE_TO_DELETE_SECURITY_GROUP_WITH_ID_S = "Unable to delete security group with id %s.";
+        public static final String UNABLE_TO_FINISH_OPERATIONS_OF_EXECUTOR_S = "Unable to finish the operations of executor %s before shutting it down.";
         public static final String UNABLE_TO_GENERATE_JSON = "Unable to generate json.";
         public static final String UNABLE_TO_GET_ATTACHMENT_INSTANCE = "Unable to get attachment instance from json.";
+        public static final String UNABLE_TO_GET_INSTANCES_OF_CLOUD_S = "Unable to get the instances of the orders of cloud %s in bulk; they will be checked one at a time.";
         public static final String UNABLE_TO_GET_NETWORK_S = "Unable to get network information from json %s.";
+        public static final String UNABLE_TO_GET_ORDER_STATES_FROM_PROVIDER_S = "Unable to get the states of the orders of provider %s in bulk; they will be synchronized one at a time.";
+        public static final String UNABLE_TO_GET_S_INSTANCES_OF_USER_S = "Unable to get the %s instances of user %s in bulk; they will be checked one at a time.";
+        public static final String UNABLE_TO_LIST_ASYNC_JOBS_S = "Unable to list the asynchronous jobs of cloud %s.";
         public static final String UNABLE_TO_LOAD_FLAVOURS = "Unable to load flavours.";
         public static final String UNABLE_TO_LOCATE_ORDER_S_S = "Unable to locate order %s notified by %s.";
         public static final String UNABLE_TO_MARSHALL_IN_XML = "Unable to marshall in xml.";
+        public static final String UNABLE_TO_NOTIFY_ORDER_STATES_S_S = "Unable to notify provider %s of the state of the orders it requested; retrying in %s ms.";
         public static final String UNABLE_TO_NOTIFY_REQUESTING_PROVIDER_S_S = "Unable to notify requesting provider %s for request %s.";
+        public static final String UNABLE_TO_REFRESH_CLOUD_USER_S = "Unable to refresh cached cloud user: %s.";
+        public static final String UNABLE_TO_REFRESH_FLAVOR_CATALOG_S = "Unable to refresh the flavors of %s; the previous ones are kept.";
+        public static final String UNABLE_TO_REFRESH_IMAGE_CATALOG_S_S = "Unable to refresh the images of user %s in cloud %s.";
         public static final String UNABLE_TO_RETRIEVE_NETWORK_ID_S = "Unable to retrieve network id from json %s.";
         public static final String UNABLE_TO_RETRIEVE_ROOT_VOLUME_S = "Unable to retrieve root volume for virtual machine %s; assigning -1 to disk size.";
+        public static final String UNABLE_TO_SAVE_BATCH_OF_D_ORDERS = "Unable to save a batch of %d orders; they will be saved one at a time.";
+        public static final String UNABLE_TO_SEND_REQUEST_S_TO_PROVIDER_S = "Unable to send request %s to provider %s.";
+        public static final String UNABLE_TO_TRACK_JOB_OF_ASYNCHRONOUS_PUBLIC_IP_S = "Unable to track the current job of the asynchronous public ip request %s; it will be tracked again on the next check.";
         public static final String UNABLE_TO_UNMARSHALL_XML_S = "Unable to unmarshall xml: %s.";
+        public static final String UNABLE_TO_UPDATE_ORDER_S_NOTIFIED_BY_S = "Unable to update order %s notified by %s.";
+        public static final String UNABLE_TO_WRITE_D_ORDER_CHANGES = "Unable to write %d order changes to the database.";
         public static final String UNDEFINED_INSTANCE_STATE_MAPPING_S_S = "State %s was not mapped to a Fogbow state by %s.";
         public static final String UNEXPECTED_ERROR = "Unexpected error.";
         public static final String UNEXPECTED_ERROR_WITH_MESSAGE_S = "Unexpected exception error: %s.";
         public static final String UNEXPECTED_JOB_STATUS = "Unexpected job status.";
         public static final String UNSPECIFIED_PROJECT_ID = "Unspecified projectId.";
+        public static final String VERIFIED_TOKEN_CACHE_STATISTICS_S_S = "Verified token cache: %s hits, %s misses.";
         public static final String XMPP_HANDLERS_SET = "XMPP handlers set.";
     }
 }
@@ -19,6 +19,10 @@ public class SystemConstants {
     public static final String PIP_SECURITY_GROUP_PREFIX = FOGBOW_INSTANCE_NAME_PREFIX + "sg-pip-";
     public static final String DEFAULT_NETWORK_NAME = "default";
 
+    // ORDER STORAGE MODES
+    public static final String SYNCHRONOUS_ORDER_STORAGE_MODE = "synchronous";
+    public static final String WRITE_BEHIND_ORDER_STORAGE_MODE = "write_behind";
+
     // SERVICE XMPP NAME
     public static final String JID_SERVICE_NAME = "";
     public static final String XMPP_SERVER_NAME_PREFIX = "ras-";
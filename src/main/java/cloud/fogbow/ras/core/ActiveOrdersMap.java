@@ -0,0 +1,247 @@
+package cloud.fogbow.ras.core;
+
+import cloud.fogbow.common.models.SystemUser;
+import cloud.fogbow.ras.core.models.ResourceType;
+import cloud.fogbow.ras.core.models.orders.Order;
+import com.google.common.annotations.VisibleForTesting;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The map of active orders (indexed by order id), which also keeps the orders indexed by user, resource
+ * type and cloud (provider and cloud name), so that the queries on the orders of a single user (e.g. status
+ * and allocation) do not need to go through all the orders of the system.
+ *
+ * The order state is not part of the index: it is the only one of these attributes that changes while the
+ * order is in the map, through several paths (state transitions, remote state synchronization, recovery),
+ * and an index on it would go stale whenever one of them missed an update. The orders of a user in a given
+ * cloud are few, so filtering them by state is cheap.
+ *
+ * The index is only a superset of the orders that match a query: the caller must still check the
+ * user and any other criteria on the returned orders.
+ *
+ * The orders are kept in a private map, not in a superclass, so that every change to the map goes through
+ * the methods below and updates the index; the views of the map (keySet, values and entrySet) are read-only.
+ * The other ConcurrentMap operations (compute, merge, replaceAll...) are built on these methods.
+ */
+public class ActiveOrdersMap extends AbstractMap<String, Order> implements ConcurrentMap<String, Order> {
+    private static final String UNKNOWN_USER_KEY = "";
+    private static final String CLOUD_KEY_SEPARATOR = "/";
+
+    private final ConcurrentHashMap<String, Order> orders;
+    private final Map<String, Map<ResourceType, Map<String, Set<Order>>>> userOrdersIndex;
+
+    public ActiveOrdersMap() {
+        this.orders = new ConcurrentHashMap<>();
+        this.userOrdersIndex = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public Order get(Object orderId) {
+        return this.orders.get(orderId);
+    }
+
+    @Override
+    public boolean containsKey(Object orderId) {
+        return this.orders.containsKey(orderId);
+    }
+
+    @Override
+    public int size() {
+        return this.orders.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.orders.isEmpty();
+    }
+
+    @Override
+    public Order put(String orderId, Order order) {
+        Order previousOrder = this.orders.put(orderId, order);
+        if (previousOrder != order) {
+            unindex(previousOrder);
+            index(orderId, order);
+        }
+        return previousOrder;
+    }
+
+    @Override
+    public Order putIfAbsent(String orderId, Order order) {
+        Order previousOrder = this.orders.putIfAbsent(orderId, order);
+        if (previousOrder == null) {
+            index(orderId, order);
+        }
+        return previousOrder;
+    }
+
+    @Override
+    public Order replace(String orderId, Order order) {
+        Order previousOrder = this.orders.replace(orderId, order);
+        if (previousOrder != null && previousOrder != order) {
+            unindex(previousOrder);
+            index(orderId, order);
+        }
+        return previousOrder;
+    }
+
+    @Override
+    public boolean replace(String orderId, Order oldOrder, Order newOrder) {
+        boolean replaced = this.orders.replace(orderId, oldOrder, newOrder);
+        if (replaced && oldOrder != newOrder) {
+            unindex(oldOrder);
+            index(orderId, newOrder);
+        }
+        return replaced;
+    }
+
+    @Override
+    public Order remove(Object orderId) {
+        Order removedOrder = this.orders.remove(orderId);
+        unindex(removedOrder);
+        return removedOrder;
+    }
+
+    @Override
+    public boolean remove(Object orderId, Object order) {
+        boolean removed = this.orders.remove(orderId, order);
+        if (removed) {
+            unindex((Order) order);
+        }
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        for (String orderId : this.orders.keySet()) {
+            remove(orderId);
+        }
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return Collections.unmodifiableSet(this.orders.keySet());
+    }
+
+    @Override
+    public Collection<Order> values() {
+        return Collections.unmodifiableCollection(this.orders.values());
+    }
+
+    @Override
+    public Set<Entry<String, Order>> entrySet() {
+        return Collections.unmodifiableSet(this.orders.entrySet());
+    }
+
+    /**
+     * @return The active orders of the given type whose user has the same id as systemUser.
+     */
+    public List<Order> getUserOrders(SystemUser systemUser, ResourceType resourceType) {
+        Map<String, Set<Order>> cloudOrders = getCloudOrders(systemUser, resourceType);
+        List<Order> activeOrders = new ArrayList<>();
+        for (Set<Order> orders : cloudOrders.values()) {
+            addActiveOrders(orders, activeOrders);
+        }
+        return activeOrders;
+    }
+
+    /**
+     * @return The active orders of the given type whose user has the same id as systemUser, and that were
+     * requested to the cloud cloudName of the provider providerId.
+     */
+    public List<Order> getUserOrders(SystemUser systemUser, ResourceType resourceType, String providerId,
+                                     String cloudName) {
+        Set<Order> orders = getCloudOrders(systemUser, resourceType).get(getCloudKey(providerId, cloudName));
+        if (orders == null) {
+            return Collections.emptyList();
+        }
+        List<Order> activeOrders = new ArrayList<>(orders.size());
+        addActiveOrders(orders, activeOrders);
+        return activeOrders;
+    }
+
+    private Map<String, Set<Order>> getCloudOrders(SystemUser systemUser, ResourceType resourceType) {
+        Map<ResourceType, Map<String, Set<Order>>> userOrders = this.userOrdersIndex.get(getUserKey(systemUser));
+        if (userOrders == null || resourceType == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, Set<Order>> cloudOrders = userOrders.get(resourceType);
+        return cloudOrders == null ? Collections.emptyMap() : cloudOrders;
+    }
+
+    private void addActiveOrders(Set<Order> orders, List<Order> activeOrders) {
+        for (Order order : orders) {
+            // Skipping an order that is being removed from (or replaced in) the map
+            if (get(order.getId()) == order) {
+                activeOrders.add(order);
+            }
+        }
+    }
+
+    // The index of a user is only changed inside compute calls on its key, so that a bucket that became empty
+    // is never removed while another order is being added to it
+    private void index(String orderId, Order order) {
+        if (order == null || order.getType() == null) {
+            return;
+        }
+        this.userOrdersIndex.compute(getUserKey(order.getSystemUser()), (userKey, userOrders) -> {
+            if (userOrders == null) {
+                userOrders = new ConcurrentHashMap<>();
+            }
+            userOrders.computeIfAbsent(order.getType(), key -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(getCloudKey(order.getProvider(), order.getCloudName()),
+                            key -> ConcurrentHashMap.newKeySet())
+                    .add(order);
+            return userOrders;
+        });
+        // The order may have been removed while it was being indexed
+        if (get(orderId) != order) {
+            unindex(order);
+        }
+    }
+
+    private void unindex(Order order) {
+        if (order == null || order.getType() == null) {
+            return;
+        }
+        this.userOrdersIndex.computeIfPresent(getUserKey(order.getSystemUser()), (userKey, userOrders) -> {
+            Map<String, Set<Order>> cloudOrders = userOrders.get(order.getType());
+            if (cloudOrders != null) {
+                String cloudKey = getCloudKey(order.getProvider(), order.getCloudName());
+                Set<Order> ordersInCloud = cloudOrders.get(cloudKey);
+                if (ordersInCloud != null && ordersInCloud.remove(order) && ordersInCloud.isEmpty()) {
+                    cloudOrders.remove(cloudKey);
+                }
+                if (cloudOrders.isEmpty()) {
+                    userOrders.remove(order.getType());
+                }
+            }
+            // Returning null removes the user from the index
+            return userOrders.isEmpty() ? null : userOrders;
+        });
+    }
+
+    @VisibleForTesting
+    boolean isIndexEmpty() {
+        return this.userOrdersIndex.isEmpty();
+    }
+
+    private String getCloudKey(String providerId, String cloudName) {
+        return providerId + CLOUD_KEY_SEPARATOR + cloudName;
+    }
+
+    private String getUserKey(SystemUser systemUser) {
+        if (systemUser == null || systemUser.getId() == null) {
+            return UNKNOWN_USER_KEY;
+        }
+        return systemUser.getId();
+    }
+}
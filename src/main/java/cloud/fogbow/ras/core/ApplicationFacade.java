@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
 import cloud.fogbow.ras.api.http.response.quotas.allocation.*;
@@ -16,6 +17,7 @@ import cloud.fogbow.as.core.util.AuthenticationUtil;
 import cloud.fogbow.common.exceptions.FogbowException;
 import cloud.fogbow.common.exceptions.InstanceNotFoundException;
 import cloud.fogbow.common.exceptions.InvalidParameterException;
+import cloud.fogbow.common.exceptions.UnauthenticatedUserException;
 import cloud.fogbow.common.models.SystemUser;
 import cloud.fogbow.common.plugins.authorization.AuthorizationPlugin;
 import cloud.fogbow.common.util.CryptoUtil;
@@ -56,6 +58,9 @@ public class ApplicationFacade {
     
     private static final Logger LOGGER = Logger.getLogger(ApplicationFacade.class);
 
+    // A token that fails the verification triggers at most one refresh of the AS public key per interval
+    private static final long AS_PUBLIC_KEY_REFRESH_INTERVAL = TimeUnit.MINUTES.toMillis(1);
+
     private static ApplicationFacade instance;
 
     private AuthorizationPlugin<RasOperation> authorizationPlugin;
@@ -63,7 +68,8 @@ public class ApplicationFacade {
     private SecurityRuleController securityRuleController;
     private CloudListController cloudListController;
     private String providerId;
-    private RSAPublicKey asPublicKey;
+    private volatile RSAPublicKey asPublicKey;
+    private long lastAsPublicKeyRefreshTime;
     private String buildNumber;
 
     private ApplicationFacade() {
@@ -110,6 +116,16 @@ public class ApplicationFacade {
         }
     }
 
+    public synchronized void refreshAsPublicKey() throws FogbowException {
+        RSAPublicKey previousPublicKey = this.asPublicKey;
+        this.asPublicKey = RasPublicKeysHolder.getInstance().refreshAsPublicKey();
+        this.lastAsPublicKeyRefreshTime = System.currentTimeMillis();
+        if (!this.asPublicKey.equals(previousPublicKey)) {
+            // The tokens verified with the previous key must be verified again
+            VerifiedTokenCache.getInstance().invalidateAll();
+        }
+    }
+
     public List<String> getCloudNames(String providerId, String userToken) throws FogbowException {
         SystemUser requester = authenticate(userToken);
         RasOperation rasOperation = new RasOperation(Operation.GET, ResourceType.CLOUD_NAME);
@@ -323,9 +339,40 @@ public class ApplicationFacade {
     
     protected SystemUser authenticate(String userToken) throws FogbowException {
         RSAPublicKey keyRSA = getAsPublicKey();
-        return AuthenticationUtil.authenticate(keyRSA, userToken);
+        try {
+            return verifyToken(keyRSA, userToken);
+        } catch (UnauthenticatedUserException e) {
+            // The AS may have rotated its keys since its public key was fetched
+            RSAPublicKey refreshedKeyRSA = refreshStaleAsPublicKey(keyRSA);
+            if (refreshedKeyRSA.equals(keyRSA)) {
+                throw e;
+            }
+            return verifyToken(refreshedKeyRSA, userToken);
+        }
     }
-    
+
+    protected SystemUser verifyToken(RSAPublicKey keyRSA, String userToken) throws FogbowException {
+        return VerifiedTokenCache.getInstance().get(keyRSA, userToken, AuthenticationUtil::authenticate);
+    }
+
+    /**
+     * Refreshes the AS public key, unless another thread already did it or it was refreshed less than
+     * AS_PUBLIC_KEY_REFRESH_INTERVAL milliseconds ago.
+     *
+     * @return The current AS public key.
+     */
+    protected synchronized RSAPublicKey refreshStaleAsPublicKey(RSAPublicKey staleKeyRSA) throws FogbowException {
+        if (this.asPublicKey != null && !this.asPublicKey.equals(staleKeyRSA)) {
+            return this.asPublicKey;
+        }
+        if (System.currentTimeMillis() - this.lastAsPublicKeyRefreshTime < AS_PUBLIC_KEY_REFRESH_INTERVAL) {
+            return staleKeyRSA;
+        }
+        LOGGER.info(Messages.Log.REFRESHING_AS_PUBLIC_KEY);
+        refreshAsPublicKey();
+        return this.asPublicKey;
+    }
+
     protected String activateOrder(Order order, String userToken) throws FogbowException {
         // Check if the user is authentic
         SystemUser requester = authenticate(userToken);
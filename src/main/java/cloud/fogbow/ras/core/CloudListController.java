@@ -27,7 +27,8 @@ public class CloudListController {
             cloud = cloud.trim();
             // Here we populate the list of clouds configured and, at the same time, check if all
             // clouds have been correctly configured. If not, the RAS won't even start, and will throw a
-            // fatal exception.
+            // fatal exception. This also builds the plugins of each cloud, which are kept by the
+            // CloudPluginsHolder and reused by all subsequent connectors.
             CloudConnectorFactory.getInstance().getCloudConnector(providerId, cloud);
             this.cloudNames.add(cloud);
         }
@@ -57,26 +57,37 @@ public class OrderController {
         Map<String, Order> activeOrdersMap = sharedOrderHolders.getActiveOrdersMap();
         ChainedList<Order> openOrdersList = sharedOrderHolders.getOpenOrdersList();
 
-        synchronized (activeOrdersMap) {
-            String orderId = order.getId();
-            if (activeOrdersMap.containsKey(orderId)) {
+        String orderId = order.getId();
+        // The order is atomically claimed in the active orders map, thus concurrent activations do not
+        // need to serialize on a common lock. Its state is set before it is published, so that readers of
+        // the active orders map never see an order without a state.
+        synchronized (order) {
+            OrderState previousState = order.getOrderState();
+            order.setOrderStateInMemory(OrderState.OPEN);
+            if (activeOrdersMap.putIfAbsent(orderId, order) != null) {
+                order.setOrderStateInMemory(previousState);
                 String message = String.format(Messages.Exception.REQUEST_ID_ALREADY_ACTIVATED_S, orderId);
                 throw new InternalServerErrorException(message);
             }
 
-            order.setOrderState(OrderState.OPEN);
-            activeOrdersMap.put(orderId, order);
-            openOrdersList.addItem(order);
-            // Sometimes an order depends on other orders (ex. an attachment depends on a volume and a compute).
-            // We need to keep this information, so to disallow the deletion of an order on which another order
-            // depends (ex. we should not allow the deletion of a volume, for which there is an active attachment),
-            // but the information needs only to be kept at the provider that received the create request through its
-            // REST API.
-            if (order.isRequesterLocal(this.localProviderId)) {
-                this.updateOrderDependencies(order, Operation.CREATE);
+            try {
+                order.saveOrderState();
+            } catch (InternalServerErrorException e) {
+                activeOrdersMap.remove(orderId, order);
+                throw e;
             }
-            return order.getId();
         }
+        openOrdersList.addItem(order);
+        sharedOrderHolders.signalOrdersList(OrderState.OPEN);
+        // Sometimes an order depends on other orders (ex. an attachment depends on a volume and a compute).
+        // We need to keep this information, so to disallow the deletion of an order on which another order
+        // depends (ex. we should not allow the deletion of a volume, for which there is an active attachment),
+        // but the information needs only to be kept at the provider that received the create request through its
+        // REST API.
+        if (order.isRequesterLocal(this.localProviderId)) {
+            this.updateOrderDependencies(order, Operation.CREATE);
+        }
+        return orderId;
     }
 
     public void closeOrder(Order order) throws InternalServerErrorException {
@@ -99,13 +110,9 @@ public class OrderController {
             ChainedList<Order> checkingDeletionOrders = sharedOrderHolders.getCheckingDeletionOrdersList();
             ChainedList<Order> remoteProviderOrders = sharedOrderHolders.getRemoteProviderOrdersList();
 
-            synchronized (activeOrdersMap) {
-                if (activeOrdersMap.containsKey(order.getId())) {
-                    activeOrdersMap.remove(order.getId());
-                } else {
-                    String message = String.format(Messages.Exception.UNABLE_TO_REMOVE_INACTIVE_REQUEST_S, order.getId());
-                    throw new InternalServerErrorException(message);
-                }
+            if (!activeOrdersMap.remove(order.getId(), order)) {
+                String message = String.format(Messages.Exception.UNABLE_TO_REMOVE_INACTIVE_REQUEST_S, order.getId());
+                throw new InternalServerErrorException(message);
             }
 
             if (order.isProviderLocal(this.localProviderId)) {
@@ -180,12 +187,9 @@ public class OrderController {
     public Allocation getUserAllocation(String providerId, String cloudName, SystemUser systemUser, ResourceType resourceType)
             throws InternalServerErrorException {
 
-        Map<String, Order> activeOrdersMap = this.orderHolders.getActiveOrdersMap();
-
-        Collection<Order> orders = activeOrdersMap.values();
+        Collection<Order> orders = this.orderHolders.getActiveOrders(systemUser, resourceType, providerId, cloudName);
 
         List<Order> filteredOrders = orders.stream()
-                .filter(order -> order.getType().equals(resourceType))
                 .filter(order -> order.getOrderState().equals(OrderState.FULFILLED))
                 .filter(order -> order.isProviderLocal(providerId))
                 .filter(order -> order.getSystemUser().equals(systemUser))
@@ -309,13 +313,11 @@ public class OrderController {
     }
 
     private List<Order> getAllOrders(SystemUser systemUser, ResourceType resourceType) {
-        Map<String, Order> activeOrdersMap = this.orderHolders.getActiveOrdersMap();
-
-        Collection<Order> orders = activeOrdersMap.values();
+        // The orders are indexed by user and resource type, so only the orders of resourceType from
+        // the user systemUser need to be filtered.
+        Collection<Order> orders = this.orderHolders.getActiveOrders(systemUser, resourceType);
 
-        // Filter all orders of resourceType from the user systemUser.
         List<Order> requestedOrders = orders.stream()
-                .filter(order -> order.getType().equals(resourceType))
                 .filter(order -> order.getSystemUser().equals(systemUser)).collect(Collectors.toList());
 
         return requestedOrders;
@@ -0,0 +1,32 @@
+package cloud.fogbow.ras.core;
+
+/**
+ * Signals the processor of an orders list that there are new orders to be processed in that list. A signal
+ * raised while the processor is not waiting is not lost: the next call to await() returns immediately.
+ */
+public class OrderListSignal {
+    private boolean signaled;
+
+    public synchronized void signal() {
+        this.signaled = true;
+        notifyAll();
+    }
+
+    /**
+     * Waits until the signal is raised or the timeout expires, and then clears the signal.
+     *
+     * @param timeout - Maximum time to wait, in milliseconds.
+     * @return true if the signal was raised.
+     */
+    public synchronized boolean await(long timeout) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeout;
+        long remainingTime = timeout;
+        while (!this.signaled && remainingTime > 0) {
+            wait(remainingTime);
+            remainingTime = deadline - System.currentTimeMillis();
+        }
+        boolean signaled = this.signaled;
+        this.signaled = false;
+        return signaled;
+    }
+}
@@ -3,6 +3,8 @@ package cloud.fogbow.ras.core;
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
 import cloud.fogbow.common.models.linkedlists.SynchronizedDoublyLinkedList;
 import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.cloudconnector.QuotaCache;
+import cloud.fogbow.ras.core.intercomponent.OrderStateNotifier;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
 
@@ -27,6 +29,10 @@ public class OrderStateTransitioner {
         transition(order, newState, newState);
     }
 
+    /**
+     * The list move and the state change are done under the order monitor, as a single step: other threads
+     * holding the monitor never see the order in a state whose list does not contain it.
+     */
     private static void transition(Order order, OrderState newStateList, OrderState newStateOrder) throws InternalServerErrorException {
         synchronized (order) {
             OrderState currentState = order.getOrderState();
@@ -47,15 +53,26 @@ public class OrderStateTransitioner {
             } else if (destination == null) {
                 String message = String.format(Messages.Exception.UNABLE_TO_FIND_LIST_FOR_REQUESTS_S, newStateList);
                 throw new InternalServerErrorException(message);
-            } else {
-                // The order may have already been removed from the origin list by another thread
-                // In this case, there is nothing else to be done
-                if (origin.removeItem(order)) {
-                    order.setOrderState(newStateOrder);
-                    destination.addItem(order);
-                }
+            }
+
+            // The order may have already been removed from the origin list by another thread (or be kept in
+            // the list of orders of remote providers); in this case, there is nothing else to be done
+            if (!origin.removeItem(order)) {
+                return;
+            }
+            // The state is written by the saveOrderState() below
+            order.setOrderStateInMemory(newStateOrder);
+            order.resetCheckSchedule();
+            QuotaCache.getInstance().invalidateUserQuota(order);
+            OrderStateNotifier.getInstance().notifyStateChange(order);
+            try {
+                order.saveOrderState();
+            } finally {
+                // The order is no longer in the origin list, thus it must be in the destination list even if
+                // its new state could not be written to the stable storage
+                destination.addItem(order);
+                ordersHolder.signalOrdersList(newStateList);
             }
         }
     }
-    
 }
@@ -3,9 +3,17 @@ package cloud.fogbow.ras.core;
 import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
 import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
 import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.models.ResourceType;
 import cloud.fogbow.ras.core.processors.*;
 import org.apache.log4j.Logger;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
 public class ProcessorsThreadController {
     private static final Logger LOGGER = Logger.getLogger(ProcessorsThreadController.class);
 
@@ -24,6 +32,10 @@ public class ProcessorsThreadController {
     private final static String FAILED_PROCESSOR_THREAD_NAME = "failed-proc";
     private final static String ASSIGNED_FOR_DELETION_PROCESSOR_THREAD_NAME = "assigned-for-deletion-proc";
     private final static String REMOTE_ORDER_STATE_SYNCHRONIZATION_PROCESSOR_THREAD_NAME = "remote-sync-proc";
+    private final static String RESOURCE_TYPE_KEY_SEPARATOR = "_";
+    private final static long THREAD_STOP_TIMEOUT = TimeUnit.SECONDS.toMillis(10);
+
+    private final List<OrderProcessorWorkerPool> workerPools = new ArrayList<>();
 
     public ProcessorsThreadController(String localProviderId, OrderController orderController) {
         String openOrdersProcSleepTimeStr = PropertiesHolder.getInstance().
@@ -68,6 +80,27 @@ public class ProcessorsThreadController {
 
         RemoteOrdersStateSynchronizationProcessor remoteOrdersStateSynchronizationProcessor = new RemoteOrdersStateSynchronizationProcessor(localProviderId, remoteOrdersStateSynchronizationProcSleepTimeStr);
 
+        openProcessor.setWorkerPool(createWorkerPool(OPEN_PROCESSOR_THREAD_NAME));
+        spawningProcessor.setWorkerPool(createWorkerPool(SPAWNING_PROCESSOR_THREAD_NAME));
+        fulfilledProcessor.setWorkerPool(createWorkerPool(FULFILLED_PROCESSOR_THREAD_NAME));
+        checkingDeletionProcessor.setWorkerPool(createWorkerPool(CHECKING_DELETION_PROCESSOR_THREAD_NAME));
+        unableToCheckStatusProcessor.setWorkerPool(createWorkerPool(FAILED_PROCESSOR_THREAD_NAME));
+        assignedForDeletionProcessor.setWorkerPool(createWorkerPool(ASSIGNED_FOR_DELETION_PROCESSOR_THREAD_NAME));
+        remoteOrdersStateSynchronizationProcessor.setWorkerPool(
+                createWorkerPool(REMOTE_ORDER_STATE_SYNCHRONIZATION_PROCESSOR_THREAD_NAME));
+
+        spawningProcessor.setCheckBackoffPolicy(createCheckBackoffPolicy(spawningOrdersProcSleepTimeStr,
+                ConfigurationPropertyKeys.SPAWNING_ORDERS_MAX_CHECK_INTERVAL_KEY,
+                ConfigurationPropertyDefaults.SPAWNING_ORDERS_MAX_CHECK_INTERVAL));
+        fulfilledProcessor.setCheckBackoffPolicy(createCheckBackoffPolicy(fulfilledOrdersProcSleepTimeStr,
+                ConfigurationPropertyKeys.FULFILLED_ORDERS_MAX_CHECK_INTERVAL_KEY,
+                ConfigurationPropertyDefaults.FULFILLED_ORDERS_MAX_CHECK_INTERVAL));
+        // The state changes of remote orders are pushed by their providers, thus polling them is a safety net
+        remoteOrdersStateSynchronizationProcessor.setCheckBackoffPolicy(createCheckBackoffPolicy(
+                remoteOrdersStateSynchronizationProcSleepTimeStr,
+                ConfigurationPropertyKeys.REMOTE_ORDER_STATE_SYNCHRONIZATION_MAX_CHECK_INTERVAL_KEY,
+                ConfigurationPropertyDefaults.REMOTE_ORDER_STATE_SYNCHRONIZATION_MAX_CHECK_INTERVAL));
+
         this.openProcessorThread = new Thread(openProcessor, OPEN_PROCESSOR_THREAD_NAME);
         this.spawningProcessorThread = new Thread(spawningProcessor, SPAWNING_PROCESSOR_THREAD_NAME);
         this.fulfilledProcessorThread = new Thread(fulfilledProcessor, FULFILLED_PROCESSOR_THREAD_NAME);
@@ -77,6 +110,39 @@ public class ProcessorsThreadController {
         this.remoteOrdersStateSynchronizationProcessorThread = new Thread(remoteOrdersStateSynchronizationProcessor, REMOTE_ORDER_STATE_SYNCHRONIZATION_PROCESSOR_THREAD_NAME);
     }
 
+    private OrderProcessorWorkerPool createWorkerPool(String processorName) {
+        int poolSize = Integer.parseInt(PropertiesHolder.getInstance().
+                getProperty(ConfigurationPropertyKeys.PROCESSORS_WORKER_POOL_SIZE_KEY,
+                        ConfigurationPropertyDefaults.PROCESSORS_WORKER_POOL_SIZE));
+        int maxConcurrentOrdersPerCloud = Integer.parseInt(PropertiesHolder.getInstance().
+                getProperty(ConfigurationPropertyKeys.PROCESSORS_MAX_CONCURRENT_ORDERS_PER_CLOUD_KEY,
+                        ConfigurationPropertyDefaults.PROCESSORS_MAX_CONCURRENT_ORDERS_PER_CLOUD));
+        OrderProcessorWorkerPool workerPool = new OrderProcessorWorkerPool(processorName, poolSize,
+                maxConcurrentOrdersPerCloud);
+        this.workerPools.add(workerPool);
+        return workerPool;
+    }
+
+    /**
+     * The maximum check interval may be overridden for a given resource type by appending its
+     * name to the property key (ex. fulfilled_orders_max_check_interval_compute).
+     */
+    private OrderCheckBackoffPolicy createCheckBackoffPolicy(String initialIntervalStr, String maxIntervalKey,
+                                                             String defaultMaxIntervalStr) {
+        PropertiesHolder propertiesHolder = PropertiesHolder.getInstance();
+        long initialInterval = Long.parseLong(initialIntervalStr);
+        long maxInterval = Long.parseLong(propertiesHolder.getProperty(maxIntervalKey, defaultMaxIntervalStr));
+        Map<ResourceType, Long> maxIntervalsPerResourceType = new HashMap<>();
+        for (ResourceType resourceType : ResourceType.values()) {
+            String resourceTypeMaxInterval = propertiesHolder.getProperty(
+                    maxIntervalKey + RESOURCE_TYPE_KEY_SEPARATOR + resourceType.getValue());
+            if (resourceTypeMaxInterval != null && !resourceTypeMaxInterval.isEmpty()) {
+                maxIntervalsPerResourceType.put(resourceType, Long.parseLong(resourceTypeMaxInterval));
+            }
+        }
+        return new OrderCheckBackoffPolicy(initialInterval, maxInterval, maxIntervalsPerResourceType);
+    }
+
     /**
      * This method starts all RAS processors, if you defined a new RAS operation and this
      * operation require a new thread to run, you should start this thread at this method.
@@ -91,4 +157,27 @@ public class ProcessorsThreadController {
         this.assignedForDeletionProcessorThread.start();
         this.remoteOrdersStateSynchronizationProcessorThread.start();
     }
+
+    /**
+     * Stops the processors and then their worker pools, letting the orders being processed finish.
+     */
+    public void stopRasThreads() {
+        LOGGER.info(Messages.Log.STOPPING_THREADS);
+        List<Thread> processorThreads = Arrays.asList(this.openProcessorThread, this.spawningProcessorThread,
+                this.fulfilledProcessorThread, this.checkingDeletionProcessorThread, this.failedProcessorThread,
+                this.assignedForDeletionProcessorThread, this.remoteOrdersStateSynchronizationProcessorThread);
+        for (Thread processorThread : processorThreads) {
+            processorThread.interrupt();
+        }
+        try {
+            for (Thread processorThread : processorThreads) {
+                processorThread.join(THREAD_STOP_TIMEOUT);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (OrderProcessorWorkerPool workerPool : this.workerPools) {
+            workerPool.shutdown();
+        }
+    }
 }
@@ -7,7 +7,7 @@ import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
 import java.security.interfaces.RSAPublicKey;
 
 public class RasPublicKeysHolder {
-    private RSAPublicKey asPublicKey;
+    private volatile RSAPublicKey asPublicKey;
 
     private static RasPublicKeysHolder instance;
 
@@ -21,7 +21,7 @@ public class RasPublicKeysHolder {
         return instance;
     }
 
-    public RSAPublicKey getAsPublicKey() throws FogbowException {
+    public synchronized RSAPublicKey getAsPublicKey() throws FogbowException {
         if (this.asPublicKey == null) {
             String asAddress = PropertiesHolder.getInstance().getProperty(ConfigurationPropertyKeys.AS_URL_KEY);
             String asPort = PropertiesHolder.getInstance().getProperty(ConfigurationPropertyKeys.AS_PORT_KEY);
@@ -29,4 +29,9 @@ public class RasPublicKeysHolder {
         }
         return this.asPublicKey;
     }
+
+    public synchronized RSAPublicKey refreshAsPublicKey() throws FogbowException {
+        this.asPublicKey = null;
+        return getAsPublicKey();
+    }
 }
@@ -2,23 +2,26 @@ package cloud.fogbow.ras.core;
 
 import cloud.fogbow.common.exceptions.FatalErrorException;
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.common.models.SystemUser;
 import cloud.fogbow.common.models.linkedlists.SynchronizedDoublyLinkedList;
 import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.datastore.DatabaseManager;
+import cloud.fogbow.ras.core.models.ResourceType;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
 import org.apache.log4j.Logger;
 
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 public class SharedOrderHolders {
     private static final Logger LOGGER = Logger.getLogger(SharedOrderHolders.class);
 
     private static SharedOrderHolders instance;
 
-    private Map<String, Order> activeOrdersMap;
+    private ActiveOrdersMap activeOrdersMap;
     private SynchronizedDoublyLinkedList<Order> openOrders;
     private SynchronizedDoublyLinkedList<Order> selectedOrders;
     private SynchronizedDoublyLinkedList<Order> spawningOrders;
@@ -29,10 +32,15 @@ public class SharedOrderHolders {
     private SynchronizedDoublyLinkedList<Order> remoteProviderOrders;
     private SynchronizedDoublyLinkedList<Order> assignedForDeletionOrders;
     private SynchronizedDoublyLinkedList<Order> checkingDeletionOrders;
+    private Map<OrderState, OrderListSignal> ordersListSignals;
 
     public SharedOrderHolders() {
         DatabaseManager databaseManager = DatabaseManager.getInstance();
-        this.activeOrdersMap = new ConcurrentHashMap<>();
+        this.activeOrdersMap = new ActiveOrdersMap();
+        this.ordersListSignals = new EnumMap<>(OrderState.class);
+        for (OrderState orderState : OrderState.values()) {
+            this.ordersListSignals.put(orderState, new OrderListSignal());
+        }
 
         try {
             // All orders in the PENDING state have remote providers
@@ -117,6 +125,15 @@ public class SharedOrderHolders {
         return this.activeOrdersMap;
     }
 
+    public List<Order> getActiveOrders(SystemUser systemUser, ResourceType resourceType) {
+        return this.activeOrdersMap.getUserOrders(systemUser, resourceType);
+    }
+
+    public List<Order> getActiveOrders(SystemUser systemUser, ResourceType resourceType, String providerId,
+                                       String cloudName) {
+        return this.activeOrdersMap.getUserOrders(systemUser, resourceType, providerId, cloudName);
+    }
+
     public SynchronizedDoublyLinkedList<Order> getOpenOrdersList() {
         return this.openOrders;
     }
@@ -195,4 +212,16 @@ public class SharedOrderHolders {
         }
         return list;
     }
+
+    /**
+     * Returns the signal raised whenever orders are added to the list of the given state. The list of
+     * orders in the PENDING state is the list of orders with remote providers.
+     */
+    public OrderListSignal getOrdersListSignal(OrderState orderState) {
+        return this.ordersListSignals.get(orderState);
+    }
+
+    public void signalOrdersList(OrderState orderState) {
+        this.ordersListSignals.get(orderState).signal();
+    }
 }
@@ -0,0 +1,136 @@
+package cloud.fogbow.ras.core;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.models.SystemUser;
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
+import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
+import cloud.fogbow.ras.constants.Messages;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import org.apache.log4j.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.security.interfaces.RSAPublicKey;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the system users of the tokens successfully verified against the AS public key, keyed by a digest of the
+ * token, so that the tokens of the clients that issue many requests are not decrypted and verified every time.
+ * An entry is valid for ttl milliseconds, and only for the public key it was verified with; tokens that fail the
+ * verification are never kept. The ttl must therefore be short compared to the lifetime of the tokens issued by
+ * the AS, since a token that expires within the ttl of its verification is accepted until the end of the ttl.
+ * The hit and miss counters are logged every STATISTICS_LOG_INTERVAL lookups.
+ */
+public class VerifiedTokenCache {
+    private static final Logger LOGGER = Logger.getLogger(VerifiedTokenCache.class);
+
+    private static final long MAXIMUM_SIZE = 10000;
+    private static final long STATISTICS_LOG_INTERVAL = 1000;
+
+    private static VerifiedTokenCache instance;
+
+    public interface Verifier {
+        SystemUser verify(RSAPublicKey publicKey, String userToken) throws FogbowException;
+    }
+
+    private final long ttl;
+    private final Cache<String, Entry> entries;
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+
+    @VisibleForTesting
+    VerifiedTokenCache(long ttl) {
+        this.ttl = ttl;
+        this.entries = CacheBuilder.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(Math.max(ttl, 0), TimeUnit.MILLISECONDS)
+                .build();
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+    }
+
+    public static synchronized VerifiedTokenCache getInstance() {
+        if (instance == null) {
+            long ttl = Long.parseLong(PropertiesHolder.getInstance().getProperty(
+                    ConfigurationPropertyKeys.VERIFIED_TOKEN_CACHE_TTL_KEY,
+                    ConfigurationPropertyDefaults.VERIFIED_TOKEN_CACHE_TTL));
+            instance = new VerifiedTokenCache(ttl);
+        }
+        return instance;
+    }
+
+    public SystemUser get(RSAPublicKey publicKey, String userToken, Verifier verifier) throws FogbowException {
+        if (this.ttl <= 0) {
+            // Caching is disabled
+            countMiss();
+            return verifier.verify(publicKey, userToken);
+        }
+
+        String key = getDigest(userToken);
+        Entry entry = this.entries.getIfPresent(key);
+        if (entry != null && entry.publicKey.equals(publicKey)) {
+            countHit();
+            return entry.systemUser;
+        }
+        countMiss();
+        SystemUser systemUser = verifier.verify(publicKey, userToken);
+        this.entries.put(key, new Entry(systemUser, publicKey));
+        return systemUser;
+    }
+
+    /**
+     * Discards every verified token; must be called when the AS public key is refreshed.
+     */
+    public void invalidateAll() {
+        this.entries.invalidateAll();
+    }
+
+    public long getHits() {
+        return this.hits.get();
+    }
+
+    public long getMisses() {
+        return this.misses.get();
+    }
+
+    @VisibleForTesting
+    long size() {
+        return this.entries.size();
+    }
+
+    private void countHit() {
+        this.hits.incrementAndGet();
+        logStatistics();
+    }
+
+    private void countMiss() {
+        this.misses.incrementAndGet();
+        logStatistics();
+    }
+
+    private void logStatistics() {
+        long hits = this.hits.get();
+        long misses = this.misses.get();
+        if ((hits + misses) % STATISTICS_LOG_INTERVAL == 0) {
+            LOGGER.info(String.format(Messages.Log.VERIFIED_TOKEN_CACHE_STATISTICS_S_S, hits, misses));
+        }
+    }
+
+    private String getDigest(String userToken) {
+        // The tokens themselves are not kept in memory longer than the request that carries them
+        return Hashing.sha256().hashString(userToken, StandardCharsets.UTF_8).toString();
+    }
+
+    private static class Entry {
+        private final SystemUser systemUser;
+        private final RSAPublicKey publicKey;
+
+        private Entry(SystemUser systemUser, RSAPublicKey publicKey) {
+            this.systemUser = systemUser;
+            this.publicKey = publicKey;
+        }
+    }
+}
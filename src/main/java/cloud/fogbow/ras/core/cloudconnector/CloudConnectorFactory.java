@@ -1,7 +1,6 @@
 package cloud.fogbow.ras.core.cloudconnector;
 
 import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
-import cloud.fogbow.ras.core.InteroperabilityPluginInstantiator;
 import cloud.fogbow.ras.core.PropertiesHolder;
 
 public class CloudConnectorFactory {
@@ -22,7 +21,10 @@ public class CloudConnectorFactory {
     public CloudConnector getCloudConnector(String providerId, String cloudName) {
         CloudConnector cloudConnector;
         if (providerId.equals(this.localProviderId)) {
-            cloudConnector = new LocalCloudConnector(new InteroperabilityPluginInstantiator(), cloudName);
+            // Plugins are built once per cloud and shared; the connector itself is a lightweight
+            // object, since it carries per-caller state (e.g. whether requests are audited).
+            CloudPlugins cloudPlugins = CloudPluginsHolder.getInstance().getCloudPlugins(cloudName);
+            cloudConnector = new LocalCloudConnector(cloudPlugins);
         } else {
             cloudConnector = new RemoteCloudConnector(providerId, cloudName);
         }
@@ -0,0 +1,99 @@
+package cloud.fogbow.ras.core.cloudconnector;
+
+import cloud.fogbow.ras.core.InteroperabilityPluginInstantiator;
+import cloud.fogbow.ras.core.plugins.interoperability.AttachmentPlugin;
+import cloud.fogbow.ras.core.plugins.interoperability.ComputePlugin;
+import cloud.fogbow.ras.core.plugins.interoperability.ImagePlugin;
+import cloud.fogbow.ras.core.plugins.interoperability.NetworkPlugin;
+import cloud.fogbow.ras.core.plugins.interoperability.PublicIpPlugin;
+import cloud.fogbow.ras.core.plugins.interoperability.QuotaPlugin;
+import cloud.fogbow.ras.core.plugins.interoperability.SecurityRulePlugin;
+import cloud.fogbow.ras.core.plugins.interoperability.VolumePlugin;
+import cloud.fogbow.ras.core.plugins.mapper.SystemToCloudMapperPlugin;
+
+/**
+ * The set of plugins configured for a single cloud. Instances are built once by the
+ * {@link CloudPluginsHolder} and shared by every {@link LocalCloudConnector} that
+ * targets the same cloud, thus plugins must be safe for concurrent use.
+ */
+public class CloudPlugins {
+    private final String cloudName;
+    private final SystemToCloudMapperPlugin mapperPlugin;
+    private final PublicIpPlugin publicIpPlugin;
+    private final AttachmentPlugin attachmentPlugin;
+    private final ComputePlugin computePlugin;
+    private final NetworkPlugin networkPlugin;
+    private final VolumePlugin volumePlugin;
+    private final ImagePlugin imagePlugin;
+    private final SecurityRulePlugin securityRulePlugin;
+    private final QuotaPlugin quotaPlugin;
+    private final ImageCatalog imageCatalog;
+
+    public CloudPlugins(InteroperabilityPluginInstantiator instantiator, String cloudName) {
+        this.cloudName = cloudName;
+        this.attachmentPlugin = instantiator.getAttachmentPlugin(cloudName);
+        this.computePlugin = instantiator.getComputePlugin(cloudName);
+        this.networkPlugin = instantiator.getNetworkPlugin(cloudName);
+        this.volumePlugin = instantiator.getVolumePlugin(cloudName);
+        this.imagePlugin = instantiator.getImagePlugin(cloudName);
+        this.publicIpPlugin = instantiator.getPublicIpPlugin(cloudName);
+        this.securityRulePlugin = instantiator.getSecurityRulePlugin(cloudName);
+        this.mapperPlugin = instantiator.getSystemToCloudMapperPlugin(cloudName);
+        this.quotaPlugin = instantiator.getQuotaPlugin(cloudName);
+        this.imageCatalog = new ImageCatalog(cloudName, this.imagePlugin);
+    }
+
+    public String getCloudName() {
+        return this.cloudName;
+    }
+
+    public SystemToCloudMapperPlugin getMapperPlugin() {
+        return this.mapperPlugin;
+    }
+
+    public PublicIpPlugin getPublicIpPlugin() {
+        return this.publicIpPlugin;
+    }
+
+    public AttachmentPlugin getAttachmentPlugin() {
+        return this.attachmentPlugin;
+    }
+
+    public ComputePlugin getComputePlugin() {
+        return this.computePlugin;
+    }
+
+    public NetworkPlugin getNetworkPlugin() {
+        return this.networkPlugin;
+    }
+
+    public VolumePlugin getVolumePlugin() {
+        return this.volumePlugin;
+    }
+
+    public ImagePlugin getImagePlugin() {
+        return this.imagePlugin;
+    }
+
+    public SecurityRulePlugin getSecurityRulePlugin() {
+        return this.securityRulePlugin;
+    }
+
+    public QuotaPlugin getQuotaPlugin() {
+        return this.quotaPlugin;
+    }
+
+    public ImageCatalog getImageCatalog() {
+        return this.imageCatalog;
+    }
+
+    /**
+     * Stops the background refresh of the image catalog of this cloud. The plugins themselves hold no
+     * resources of their own: their HTTP clients open a connection per request, and the SDK clients and
+     * thread pools they use are kept by the shared utilities of each cloud (AwsV2ClientUtil,
+     * AzureSchedulerManager), which outlive a reload. The plugins are simply discarded.
+     */
+    public void close() {
+        this.imageCatalog.close();
+    }
+}
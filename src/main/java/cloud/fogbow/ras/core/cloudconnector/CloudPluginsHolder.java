@@ -0,0 +1,86 @@
+package cloud.fogbow.ras.core.cloudconnector;
+
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.InteroperabilityPluginInstantiator;
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps one {@link CloudPlugins} per configured cloud. Building the plugins of a cloud requires reading its
+ * configuration files and instantiating every plugin by reflection, so this is done once per cloud, and the
+ * result is shared by all the {@link LocalCloudConnector} objects handed out by the {@link CloudConnectorFactory}.
+ */
+public class CloudPluginsHolder {
+    private static final Logger LOGGER = Logger.getLogger(CloudPluginsHolder.class);
+
+    private static CloudPluginsHolder instance;
+
+    private Map<String, CloudPlugins> cloudPluginsMap;
+
+    private CloudPluginsHolder() {
+        this.cloudPluginsMap = new ConcurrentHashMap<>();
+    }
+
+    public static synchronized CloudPluginsHolder getInstance() {
+        if (instance == null) {
+            instance = new CloudPluginsHolder();
+        }
+        return instance;
+    }
+
+    /**
+     * Eagerly builds the plugins of all the given clouds. A misconfigured cloud makes this method throw a
+     * FatalErrorException, which prevents the RAS from starting.
+     */
+    public void init(Collection<String> cloudNames) {
+        for (String cloudName : cloudNames) {
+            getCloudPlugins(cloudName);
+        }
+    }
+
+    public CloudPlugins getCloudPlugins(String cloudName) {
+        return this.cloudPluginsMap.computeIfAbsent(cloudName, this::createCloudPlugins);
+    }
+
+    /**
+     * Rebuilds the plugins of a cloud, re-reading its configuration files. Connectors that already hold
+     * the old plugins finish their current operation with them; new connectors receive the new ones.
+     */
+    public void reload(String cloudName) {
+        LOGGER.info(String.format(Messages.Log.RELOADING_PLUGINS_OF_CLOUD_S, cloudName));
+        CloudPlugins newCloudPlugins = createCloudPlugins(cloudName);
+        CloudPlugins oldCloudPlugins = this.cloudPluginsMap.put(cloudName, newCloudPlugins);
+        if (oldCloudPlugins != null) {
+            oldCloudPlugins.close();
+        }
+    }
+
+    public void reloadAll() {
+        for (String cloudName : new ArrayList<>(this.cloudPluginsMap.keySet())) {
+            reload(cloudName);
+        }
+    }
+
+    public void close() {
+        List<String> cloudNames = new ArrayList<>(this.cloudPluginsMap.keySet());
+        for (String cloudName : cloudNames) {
+            CloudPlugins cloudPlugins = this.cloudPluginsMap.remove(cloudName);
+            if (cloudPlugins != null) {
+                LOGGER.info(String.format(Messages.Log.CLOSING_PLUGINS_OF_CLOUD_S, cloudName));
+                cloudPlugins.close();
+            }
+        }
+    }
+
+    @VisibleForTesting
+    CloudPlugins createCloudPlugins(String cloudName) {
+        // A new instantiator is used so that the configuration files are re-read on reload.
+        return new CloudPlugins(new InteroperabilityPluginInstantiator(), cloudName);
+    }
+}
@@ -0,0 +1,253 @@
+package cloud.fogbow.ras.core.cloudconnector;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.models.CloudUser;
+import cloud.fogbow.ras.api.http.response.ImageSummary;
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
+import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.PropertiesHolder;
+import cloud.fogbow.ras.core.plugins.interoperability.ImagePlugin;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the images listed by the image plugin of a cloud, so that listing images does not reach the cloud on every
+ * request. The public images of the cloud are listed once for the whole cloud, with the credentials of the most
+ * recent user, and the private images once for each user; plugins that cannot tell them apart list all the images
+ * of a user as private, and the images listed for several users are then held once and shared by their lists.
+ * <p>
+ * A listing is loaded on the first request and then refreshed in background every refreshInterval milliseconds,
+ * but only while it is being used: a listing that was not requested since its last load is left alone, and is
+ * loaded again when it is next requested, if it is older than refreshInterval milliseconds by then. Users that do
+ * not list images for IDLE_REFRESHES refresh intervals are forgotten.
+ */
+public class ImageCatalog {
+    private static final Logger LOGGER = Logger.getLogger(ImageCatalog.class);
+
+    private static final String REFRESHER_THREAD_NAME = "image-catalog-refresher";
+    private static final String PUBLIC_IMAGES_OWNER = "public";
+    @VisibleForTesting
+    static final int IDLE_REFRESHES = 12;
+
+    private static ScheduledExecutorService refresher;
+
+    private final String cloudName;
+    private final ImagePlugin imagePlugin;
+    private final long refreshInterval;
+    private final Listing publicImages;
+    private final Map<String, Listing> usersImages;
+    private final Map<ImageSummary, ImageSummary> sharedImages;
+    private ScheduledFuture<?> refreshTask;
+
+    public ImageCatalog(String cloudName, ImagePlugin imagePlugin) {
+        this(cloudName, imagePlugin, Long.parseLong(PropertiesHolder.getInstance().getProperty(
+                ConfigurationPropertyKeys.IMAGE_CATALOG_REFRESH_INTERVAL_KEY,
+                ConfigurationPropertyDefaults.IMAGE_CATALOG_REFRESH_INTERVAL)));
+    }
+
+    @VisibleForTesting
+    ImageCatalog(String cloudName, ImagePlugin imagePlugin, long refreshInterval) {
+        this.cloudName = cloudName;
+        this.imagePlugin = imagePlugin;
+        this.refreshInterval = refreshInterval;
+        this.publicImages = new Listing(PUBLIC_IMAGES_OWNER, true);
+        this.usersImages = new ConcurrentHashMap<>();
+        this.sharedImages = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @return The images available to the cloud user, as listed by the image plugin at most refreshInterval
+     * milliseconds ago, unless the cloud could not be reached since; the list must not be modified.
+     */
+    public List<ImageSummary> getImages(CloudUser cloudUser) throws FogbowException {
+        long now = getCurrentTimeMillis();
+        List<ImageSummary> publicImages = this.publicImages.get(cloudUser, now);
+
+        Listing userImages = this.usersImages.get(cloudUser.getId());
+        if (userImages == null) {
+            userImages = new Listing(cloudUser.getId(), false);
+            Listing existingUserImages = this.usersImages.putIfAbsent(cloudUser.getId(), userImages);
+            if (existingUserImages != null) {
+                userImages = existingUserImages;
+            }
+            scheduleRefresh();
+        }
+        List<ImageSummary> privateImages = userImages.get(cloudUser, now);
+        return userImages.merge(publicImages, privateImages);
+    }
+
+    public synchronized void close() {
+        if (this.refreshTask != null) {
+            this.refreshTask.cancel(false);
+            this.refreshTask = null;
+        }
+    }
+
+    @VisibleForTesting
+    void refresh() {
+        long now = getCurrentTimeMillis();
+        for (Map.Entry<String, Listing> entry : this.usersImages.entrySet()) {
+            if (now - entry.getValue().lastAccessTime > this.refreshInterval * IDLE_REFRESHES) {
+                this.usersImages.remove(entry.getKey());
+            }
+        }
+        this.publicImages.refreshIfUsed();
+        for (Listing userImages : this.usersImages.values()) {
+            userImages.refreshIfUsed();
+        }
+        releaseUnlistedImages();
+    }
+
+    @VisibleForTesting
+    int getSharedImagesCount() {
+        return this.sharedImages.size();
+    }
+
+    @VisibleForTesting
+    long getCurrentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    private List<ImageSummary> load(CloudUser cloudUser, boolean isPublic) throws FogbowException {
+        if (isPublic && !this.imagePlugin.listsPublicImagesSeparately()) {
+            return Collections.emptyList();
+        }
+        List<ImageSummary> listedImages = isPublic ? this.imagePlugin.getPublicImages(cloudUser)
+                : this.imagePlugin.getPrivateImages(cloudUser);
+        List<ImageSummary> images = new ArrayList<>();
+        for (ImageSummary image : listedImages) {
+            ImageSummary sharedImage = this.sharedImages.putIfAbsent(image, image);
+            images.add(sharedImage == null ? image : sharedImage);
+        }
+        return Collections.unmodifiableList(images);
+    }
+
+    private void releaseUnlistedImages() {
+        Set<ImageSummary> listedImages = new HashSet<>(this.publicImages.images);
+        for (Listing userImages : this.usersImages.values()) {
+            listedImages.addAll(userImages.images);
+        }
+        this.sharedImages.keySet().retainAll(listedImages);
+    }
+
+    private synchronized void scheduleRefresh() {
+        if (this.refreshTask == null) {
+            this.refreshTask = getRefresher().scheduleWithFixedDelay(() -> {
+                try {
+                    refresh();
+                } catch (Throwable e) {
+                    // An exception would cancel the next refreshes
+                    LOGGER.error(Messages.Log.UNEXPECTED_ERROR, e);
+                }
+            }, this.refreshInterval, this.refreshInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static synchronized ScheduledExecutorService getRefresher() {
+        if (refresher == null) {
+            refresher = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                    .setNameFormat(REFRESHER_THREAD_NAME)
+                    .setDaemon(true)
+                    .build());
+        }
+        return refresher;
+    }
+
+    /**
+     * The images listed with the credentials of a cloud user: either the public images of the cloud or the
+     * private images of the user.
+     */
+    private class Listing {
+        private final String owner;
+        private final boolean isPublic;
+        // The most recent credentials used to get the listing are the ones used to refresh it
+        private volatile CloudUser cloudUser;
+        private volatile List<ImageSummary> images = Collections.emptyList();
+        private volatile long loadTime;
+        private volatile long lastAccessTime;
+        // The public and private images of a user, joined when either of them changes
+        private List<ImageSummary> mergedPublicImages;
+        private List<ImageSummary> mergedPrivateImages;
+        private List<ImageSummary> mergedImages;
+
+        private Listing(String owner, boolean isPublic) {
+            this.owner = owner;
+            this.isPublic = isPublic;
+        }
+
+        private List<ImageSummary> get(CloudUser cloudUser, long now) throws FogbowException {
+            this.cloudUser = cloudUser;
+            this.lastAccessTime = now;
+            if (this.loadTime == 0) {
+                synchronized (this) {
+                    if (this.loadTime == 0) {
+                        update(load(cloudUser, this.isPublic));
+                    }
+                }
+            } else if (isStale(now)) {
+                // Not refreshed in background because it was not used for a while
+                synchronized (this) {
+                    if (isStale(now)) {
+                        reload();
+                    }
+                }
+            }
+            return this.images;
+        }
+
+        private void refreshIfUsed() {
+            if (this.loadTime != 0 && this.lastAccessTime > this.loadTime) {
+                reload();
+            }
+        }
+
+        private boolean isStale(long now) {
+            return now - this.loadTime > ImageCatalog.this.refreshInterval;
+        }
+
+        private synchronized List<ImageSummary> merge(List<ImageSummary> publicImages,
+                                                      List<ImageSummary> privateImages) {
+            if (publicImages.isEmpty()) {
+                return privateImages;
+            }
+            if (publicImages != this.mergedPublicImages || privateImages != this.mergedPrivateImages) {
+                List<ImageSummary> images = new ArrayList<>(publicImages.size() + privateImages.size());
+                images.addAll(publicImages);
+                images.addAll(privateImages);
+                this.mergedImages = Collections.unmodifiableList(images);
+                this.mergedPublicImages = publicImages;
+                this.mergedPrivateImages = privateImages;
+            }
+            return this.mergedImages;
+        }
+
+        private synchronized void reload() {
+            try {
+                update(load(this.cloudUser, this.isPublic));
+            } catch (Throwable e) {
+                // The images loaded before are kept
+                LOGGER.warn(String.format(Messages.Log.UNABLE_TO_REFRESH_IMAGE_CATALOG_S_S, this.owner,
+                        ImageCatalog.this.cloudName), e);
+            }
+        }
+
+        private void update(List<ImageSummary> images) {
+            this.images = images;
+            this.loadTime = getCurrentTimeMillis();
+        }
+    }
+}
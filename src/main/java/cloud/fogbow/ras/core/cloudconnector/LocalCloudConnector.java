@@ -1,7 +1,12 @@
 package cloud.fogbow.ras.core.cloudconnector;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
 import cloud.fogbow.ras.api.http.response.*;
@@ -10,6 +15,7 @@ import org.apache.log4j.Logger;
 
 import cloud.fogbow.common.exceptions.FogbowException;
 import cloud.fogbow.common.exceptions.InstanceNotFoundException;
+import cloud.fogbow.common.exceptions.UnauthenticatedUserException;
 import cloud.fogbow.common.models.CloudUser;
 import cloud.fogbow.common.models.SystemUser;
 import cloud.fogbow.ras.api.http.response.quotas.Quota;
@@ -44,6 +50,7 @@ public class LocalCloudConnector implements CloudConnector {
     private static final String GET_QUOTA_OPERATION = "getQuota";
     private static final String REQUEST_INSTANCE_OPERATION = "requestInstance";
     private static final String REQUEST_SECURITY_RULES_OPERATION = "requestSecurityRules";
+    private static final String BULK_GROUP_KEY_SEPARATOR = "/";
 
     private SystemToCloudMapperPlugin mapperPlugin;
     private PublicIpPlugin publicIpPlugin;
@@ -54,19 +61,27 @@ public class LocalCloudConnector implements CloudConnector {
     private ImagePlugin imagePlugin;
     private SecurityRulePlugin securityRulePlugin;
     private QuotaPlugin quotaPlugin;
+    private ImageCatalog imageCatalog;
+    private String cloudName;
 
     private boolean auditRequestsOn = true;
 
     public LocalCloudConnector(InteroperabilityPluginInstantiator instantiator, String cloudName) {
-        this.attachmentPlugin = instantiator.getAttachmentPlugin(cloudName);
-        this.computePlugin = instantiator.getComputePlugin(cloudName);
-        this.networkPlugin = instantiator.getNetworkPlugin(cloudName);
-        this.volumePlugin = instantiator.getVolumePlugin(cloudName);
-        this.imagePlugin = instantiator.getImagePlugin(cloudName);
-        this.publicIpPlugin = instantiator.getPublicIpPlugin(cloudName);
-        this.securityRulePlugin = instantiator.getSecurityRulePlugin(cloudName);
-        this.mapperPlugin = instantiator.getSystemToCloudMapperPlugin(cloudName);
-        this.quotaPlugin = instantiator.getQuotaPlugin(cloudName);
+        this(new CloudPlugins(instantiator, cloudName));
+    }
+
+    public LocalCloudConnector(CloudPlugins cloudPlugins) {
+        this.attachmentPlugin = cloudPlugins.getAttachmentPlugin();
+        this.computePlugin = cloudPlugins.getComputePlugin();
+        this.networkPlugin = cloudPlugins.getNetworkPlugin();
+        this.volumePlugin = cloudPlugins.getVolumePlugin();
+        this.imagePlugin = cloudPlugins.getImagePlugin();
+        this.publicIpPlugin = cloudPlugins.getPublicIpPlugin();
+        this.securityRulePlugin = cloudPlugins.getSecurityRulePlugin();
+        this.mapperPlugin = cloudPlugins.getMapperPlugin();
+        this.quotaPlugin = cloudPlugins.getQuotaPlugin();
+        this.imageCatalog = cloudPlugins.getImageCatalog();
+        this.cloudName = cloudPlugins.getCloudName();
     }
 
     @Override
@@ -81,6 +96,7 @@ public class LocalCloudConnector implements CloudConnector {
             LOGGER.debug(String.format(Messages.Log.RESPONSE_RECEIVED_S, response));
         } catch (Throwable e) {
             LOGGER.debug(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e + e.getMessage()));
+            invalidateRejectedCloudUser(e, cloudUser);
             response = e.getClass().getName();
             throw e;
         } finally {
@@ -102,6 +118,7 @@ public class LocalCloudConnector implements CloudConnector {
             LOGGER.debug(Messages.Log.SUCCESS);
         } catch (Throwable e) {
             LOGGER.debug(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e + e.getMessage()));
+            invalidateRejectedCloudUser(e, cloudUser);
             response = e.getClass().getName();
             throw e;
         } finally {
@@ -125,6 +142,7 @@ public class LocalCloudConnector implements CloudConnector {
             auditableResponse = instance.toString();
         } catch (Throwable e) {
             LOGGER.debug(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e + e.getMessage()));
+            invalidateRejectedCloudUser(e, cloudUser);
             auditableResponse = e.getClass().getName();
             throw e;
         } finally {
@@ -134,6 +152,80 @@ public class LocalCloudConnector implements CloudConnector {
         return instance;
     }
 
+    /**
+     * Gets the instances of several orders of this cloud at once. The orders are grouped by resource type
+     * and cloud user, and the instances of each group are obtained with a single call to the plugin, thus
+     * clouds that are able to list many resources in a single request are reached only a few times. The
+     * system user of the orders is mapped once, and a failure to map it or to get the instances of a group
+     * only affects the orders of that user or group.
+     *
+     * @return The instances found, keyed by order id. Orders that have no instance id, or whose instance was
+     * not returned by the plugin, are absent from the map and must be checked through getInstance().
+     */
+    public Map<String, OrderInstance> getInstances(Collection<Order> orders) throws FogbowException {
+        LOGGER.debug(String.format(Messages.Log.GETTING_INSTANCES_OF_D_ORDERS, orders.size()));
+        Map<String, CloudUser> cloudUserPerSystemUser = new HashMap<>();
+        Map<String, CloudUser> cloudUserPerGroup = new HashMap<>();
+        Map<String, List<Order>> ordersPerGroup = new LinkedHashMap<>();
+        for (Order order : orders) {
+            if (order.getInstanceId() != null) {
+                CloudUser cloudUser = mapCloudUser(order.getSystemUser(), cloudUserPerSystemUser);
+                if (cloudUser == null) {
+                    continue;
+                }
+                String groupKey = order.getType() + BULK_GROUP_KEY_SEPARATOR + cloudUser.getId();
+                cloudUserPerGroup.putIfAbsent(groupKey, cloudUser);
+                ordersPerGroup.computeIfAbsent(groupKey, key -> new ArrayList<>()).add(order);
+            }
+        }
+
+        Map<String, OrderInstance> instances = new HashMap<>();
+        for (Map.Entry<String, List<Order>> group : ordersPerGroup.entrySet()) {
+            List<Order> groupOrders = group.getValue();
+            CloudUser cloudUser = cloudUserPerGroup.get(group.getKey());
+            OrderPlugin plugin;
+            Map<String, OrderInstance> groupInstances;
+            try {
+                plugin = getBulkPlugin(groupOrders);
+                groupInstances = plugin.getInstances(groupOrders, cloudUser);
+            } catch (Exception e) {
+                // The orders of this group are left out, so that they are checked one at a time
+                LOGGER.warn(String.format(Messages.Log.UNABLE_TO_GET_S_INSTANCES_OF_USER_S,
+                        groupOrders.get(0).getType(), cloudUser.getId()), e);
+                invalidateRejectedCloudUser(e, cloudUser);
+                continue;
+            }
+            for (Order order : groupOrders) {
+                OrderInstance instance = groupInstances.get(order.getInstanceId());
+                if (instance != null) {
+                    if (plugin.hasFailed(instance.getCloudState())) instance.setHasFailed();
+                    if (plugin.isReady(instance.getCloudState())) instance.setReady();
+                    instance.setState(InstanceStatus.mapInstanceStateFromOrderState(order.getOrderState(),
+                            true, instance.isReady(), instance.hasFailed()));
+                    auditRequest(Operation.GET, order.getType(), order.getSystemUser(), instance.toString());
+                    instances.put(order.getId(), instance);
+                }
+            }
+        }
+        return instances;
+    }
+
+    // Returns null if the system user could not be mapped; its orders are then checked one at a time
+    private CloudUser mapCloudUser(SystemUser systemUser, Map<String, CloudUser> cloudUserPerSystemUser) {
+        String systemUserId = systemUser.getId();
+        if (cloudUserPerSystemUser.containsKey(systemUserId)) {
+            return cloudUserPerSystemUser.get(systemUserId);
+        }
+        CloudUser cloudUser = null;
+        try {
+            cloudUser = this.mapperPlugin.map(systemUser);
+        } catch (Exception e) {
+            LOGGER.warn(String.format(Messages.Log.GENERIC_EXCEPTION_S, e.getMessage()), e);
+        }
+        cloudUserPerSystemUser.put(systemUserId, cloudUser);
+        return cloudUser;
+    }
+
     @Override
     public Quota getUserQuota(SystemUser systemUser) throws FogbowException {
         LOGGER.debug(String.format(Messages.Log.MAPPING_USER_OP_S, GET_QUOTA_OPERATION, systemUser));
@@ -143,11 +235,13 @@ public class LocalCloudConnector implements CloudConnector {
         String auditableResponse = null;
         Quota quota = null;
         try {
-            quota = this.quotaPlugin.getUserQuota(cloudUser);
+            quota = QuotaCache.getInstance().getUserQuota(this.cloudName, systemUser,
+                    () -> this.quotaPlugin.getUserQuota(cloudUser));
             LOGGER.debug(String.format(Messages.Log.RESPONSE_RECEIVED_S, quota));
             auditableResponse = quota.toString();
         } catch (Throwable e) {
             LOGGER.debug(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e + e.getMessage()));
+            invalidateRejectedCloudUser(e, cloudUser);
             auditableResponse = e.getClass().getName();
             throw e;
         } finally {
@@ -171,6 +265,7 @@ public class LocalCloudConnector implements CloudConnector {
             auditableResponse = images.toString();
         } catch (Throwable e) {
             LOGGER.debug(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e + e.getMessage()));
+            invalidateRejectedCloudUser(e, cloudUser);
             auditableResponse = e.getClass().getName();
             throw e;
         } finally {
@@ -194,6 +289,7 @@ public class LocalCloudConnector implements CloudConnector {
             auditableResponse = imageInstance.toString();
         } catch (Throwable e) {
             LOGGER.debug(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e + e.getMessage()));
+            invalidateRejectedCloudUser(e, cloudUser);
             auditableResponse = e.getClass().getName();
             throw e;
         } finally {
@@ -217,6 +313,7 @@ public class LocalCloudConnector implements CloudConnector {
             auditableResponse = securityRuleInstances.toString();
         } catch (Throwable e) {
             LOGGER.debug(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e + e.getMessage()));
+            invalidateRejectedCloudUser(e, cloudUser);
             auditableResponse = e.getClass().getName();
             throw e;
         } finally {
@@ -238,6 +335,7 @@ public class LocalCloudConnector implements CloudConnector {
             LOGGER.debug(String.format(Messages.Log.RESPONSE_RECEIVED_S, response));
         } catch (Throwable e) {
             LOGGER.debug(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e + e.getMessage()));
+            invalidateRejectedCloudUser(e, cloudUser);
             response = e.getClass().getName();
             throw e;
         } finally {
@@ -265,6 +363,16 @@ public class LocalCloudConnector implements CloudConnector {
         }
     }
 
+    /**
+     * A cloud user the cloud no longer accepts, for instance because its token expired or was revoked, must not
+     * be handed out again by the mapper.
+     */
+    private void invalidateRejectedCloudUser(Throwable e, CloudUser cloudUser) {
+        if (e instanceof UnauthenticatedUserException) {
+            this.mapperPlugin.invalidate(cloudUser);
+        }
+    }
+
     protected String doRequestInstance(Order order, CloudUser cloudUser) throws FogbowException {
         String instanceId;
         OrderPlugin plugin = checkOrderCastingAndSetPlugin(order, order.getType());
@@ -322,8 +430,16 @@ public class LocalCloudConnector implements CloudConnector {
         }
     }
 
+    private OrderPlugin getBulkPlugin(List<Order> orders) throws InternalServerErrorException {
+        OrderPlugin plugin = null;
+        for (Order order : orders) {
+            plugin = checkOrderCastingAndSetPlugin(order, order.getType());
+        }
+        return plugin;
+    }
+
     protected List<ImageSummary> doGetAllImages(CloudUser token) throws FogbowException {
-        return this.imagePlugin.getAllImages(token);
+        return this.imageCatalog.getImages(token);
     }
 
     protected ImageInstance doGetImage(String imageId, CloudUser token) throws FogbowException {
@@ -0,0 +1,94 @@
+package cloud.fogbow.ras.core.cloudconnector;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.common.models.SystemUser;
+import cloud.fogbow.ras.api.http.response.quotas.Quota;
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
+import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
+import cloud.fogbow.ras.core.PropertiesHolder;
+import cloud.fogbow.ras.core.models.orders.Order;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the quota of each user in each local cloud for ttl milliseconds, so that the dashboards and the other
+ * providers can query it often without reaching the cloud every time. The quota of a user is discarded whenever
+ * one of the local orders of the user changes state.
+ */
+public class QuotaCache {
+
+    private static final String QUOTA_KEY_FORMAT = "%s/%s@%s";
+    private static final long MAXIMUM_SIZE = 10000;
+
+    private static QuotaCache instance;
+
+    public interface Loader {
+        Quota load() throws FogbowException;
+    }
+
+    private final String localProviderId;
+    private final Cache<String, Quota> quotas;
+
+    @VisibleForTesting
+    QuotaCache(String localProviderId, long ttl) {
+        this.localProviderId = localProviderId;
+        this.quotas = CacheBuilder.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(ttl, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    public static synchronized QuotaCache getInstance() {
+        if (instance == null) {
+            PropertiesHolder properties = PropertiesHolder.getInstance();
+            String localProviderId = properties.getProperty(ConfigurationPropertyKeys.PROVIDER_ID_KEY);
+            long ttl = Long.parseLong(properties.getProperty(ConfigurationPropertyKeys.QUOTA_CACHE_TTL_KEY,
+                    ConfigurationPropertyDefaults.QUOTA_CACHE_TTL));
+            instance = new QuotaCache(localProviderId, ttl);
+        }
+        return instance;
+    }
+
+    public Quota getUserQuota(String cloudName, SystemUser systemUser, Loader loader) throws FogbowException {
+        String key = getKey(cloudName, systemUser);
+        try {
+            return this.quotas.get(key, loader::load);
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof FogbowException) {
+                throw (FogbowException) e.getCause();
+            }
+            throw new InternalServerErrorException(e.getCause().getMessage());
+        }
+    }
+
+    /**
+     * Discards the quota of the user of a local order whose state has just changed, so that it is obtained
+     * again from the cloud. The used quota is not adjusted with the allocation of the order, since the quota
+     * may have been loaded at any point of the life of the order (e.g. already including the instance of a
+     * SPAWNING order) and an order may enter the same state more than once (e.g. FULFILLED again after
+     * UNABLE_TO_CHECK_STATUS).
+     */
+    public void invalidateUserQuota(Order order) {
+        // The quotas of the orders of other providers are kept by them
+        if (order.getSystemUser() == null || !Objects.equals(order.getProvider(), this.localProviderId)) {
+            return;
+        }
+        this.quotas.invalidate(getKey(order.getCloudName(), order.getSystemUser()));
+    }
+
+    @VisibleForTesting
+    void clear() {
+        this.quotas.invalidateAll();
+    }
+
+    private String getKey(String cloudName, SystemUser systemUser) {
+        return String.format(QUOTA_KEY_FORMAT, cloudName, systemUser.getId(), systemUser.getIdentityProviderId());
+    }
+}
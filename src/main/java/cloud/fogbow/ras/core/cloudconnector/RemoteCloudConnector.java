@@ -12,9 +12,12 @@ import cloud.fogbow.ras.api.parameters.SecurityRule;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.intercomponent.xmpp.requesters.*;
 import cloud.fogbow.ras.core.models.orders.Order;
+import cloud.fogbow.ras.core.models.orders.OrderStateDelta;
 import org.apache.log4j.Logger;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class RemoteCloudConnector implements CloudConnector {
     private static final Logger LOGGER = Logger.getLogger(RemoteCloudConnector.class);
@@ -38,6 +41,27 @@ public class RemoteCloudConnector implements CloudConnector {
         }
     }
 
+    public List<OrderStateDelta> getRemoteOrderStates(Collection<Order> localOrders) throws FogbowException {
+        try {
+            RemoteGetOrderStatesRequest remoteGetOrderStatesRequest =
+                    new RemoteGetOrderStatesRequest(this.destinationProvider, localOrders);
+            return remoteGetOrderStatesRequest.send();
+        } catch (Exception e) {
+            LOGGER.error(e.toString(), e);
+            throw new FogbowException(e.getMessage());
+        }
+    }
+
+    /**
+     * Same as getRemoteOrderStates, but returns as soon as the request is sent, so that requests to several
+     * providers can be outstanding at the same time.
+     */
+    public CompletableFuture<List<OrderStateDelta>> getRemoteOrderStatesAsync(Collection<Order> localOrders) {
+        RemoteGetOrderStatesRequest remoteGetOrderStatesRequest =
+                new RemoteGetOrderStatesRequest(this.destinationProvider, localOrders);
+        return remoteGetOrderStatesRequest.sendAsync();
+    }
+
     @Override
     public String requestInstance(Order order) throws FogbowException {
         try {
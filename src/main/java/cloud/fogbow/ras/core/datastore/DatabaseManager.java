@@ -18,6 +18,7 @@ public class DatabaseManager implements StableStorage {
     private RecoveryService recoveryService;
     private AuditableOrderStateChangeService auditableOrderStateChangeService;
     private AuditableRequestService auditableRequestService;
+    private volatile OrderStorageWriter orderStorageWriter;
 
     private DatabaseManager() {
     }
@@ -31,12 +32,29 @@ public class DatabaseManager implements StableStorage {
 
     @Override
     public void add(Order order) throws InternalServerErrorException {
+        OrderStorageWriter writer = this.orderStorageWriter;
+        if (writer != null) {
+            // New orders are only acknowledged after they are stored
+            order.serializeSystemUser();
+            if (writer.add(order)) {
+                return;
+            }
+        }
         this.recoveryService.save(order);
         this.auditableOrderStateChangeService.registerStateChange(order);
     }
 
     @Override
     public void update(Order order, boolean orderStateChanged) throws InternalServerErrorException {
+        OrderStorageWriter writer = this.orderStorageWriter;
+        if (writer != null) {
+            // The instance of a SELECTED order is only requested after the order is known to be SELECTED
+            // in the stable storage, thus this change cannot be left pending
+            boolean durable = orderStateChanged && order.getOrderState().equals(OrderState.SELECTED);
+            if (writer.write(order, orderStateChanged, durable)) {
+                return;
+            }
+        }
         this.recoveryService.update(order);
         if (orderStateChanged) {
             this.auditableOrderStateChangeService.registerStateChange(order);
@@ -62,6 +80,28 @@ public class DatabaseManager implements StableStorage {
         this.auditableRequestService.registerSyncRequest(request);
     }
 
+    /**
+     * Switches to write-behind mode: from now on, order changes are written to the stable storage in batches,
+     * by a background writer.
+     */
+    public void enableWriteBehind(int queueCapacity, long groupCommitInterval, int maxBatchSize) {
+        OrderStorageWriter writer = new OrderStorageWriter(this.recoveryService,
+                this.auditableOrderStateChangeService, queueCapacity, groupCommitInterval, maxBatchSize);
+        writer.start();
+        this.orderStorageWriter = writer;
+    }
+
+    /**
+     * Writes the pending order changes and switches back to synchronous mode.
+     */
+    public void disableWriteBehind() {
+        OrderStorageWriter writer = this.orderStorageWriter;
+        this.orderStorageWriter = null;
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+
     public void setRecoveryService(RecoveryService recoveryService) {
         this.recoveryService = recoveryService;
     }
@@ -0,0 +1,380 @@
+package cloud.fogbow.ras.core.datastore;
+
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.common.util.GsonHolder;
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.datastore.orderstorage.AuditableOrderStateChange;
+import cloud.fogbow.ras.core.datastore.services.AuditableOrderStateChangeService;
+import cloud.fogbow.ras.core.datastore.services.RecoveryService;
+import cloud.fogbow.ras.core.models.orders.Order;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+import org.apache.log4j.Logger;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes order changes to the stable storage in the background, so that the threads changing the orders
+ * (usually while holding the order monitor) do not wait for a database round trip at every change.
+ *
+ * Pending changes are grouped and committed at every group commit interval, or as soon as maxBatchSize
+ * changes are pending. Several changes of the same order pending at the same time result in a single
+ * write of the order, while every state change is still registered. The number of pending changes is
+ * bounded by queueCapacity; when the queue is full, the threads changing orders block until the writer
+ * catches up.
+ *
+ * The writer stores a snapshot of the order taken when the change is made, since the order may keep changing
+ * before it is written. New orders are only added if they are not stored yet, and the other orders are only
+ * updated if they are already stored, as in the synchronous mode. When a batch cannot be written, its changes
+ * are queued again, behind the newer changes of the same orders, and retried after an increasing interval.
+ *
+ * Changes may be written as durable: the calling thread is then only released after the batch containing
+ * the change is committed, and an exception is thrown if the batch could not be written. This is used to
+ * keep the guarantees that depend on the stable storage, e.g. an order must be known to be SELECTED before
+ * its instance is requested to the cloud.
+ */
+public class OrderStorageWriter implements Runnable {
+    private static final Logger LOGGER = Logger.getLogger(OrderStorageWriter.class);
+
+    private static final String WRITER_THREAD_NAME = "order-storage-writer";
+    private static final long MAX_RETRY_INTERVAL = 60000;
+
+    private final RecoveryService recoveryService;
+    private final AuditableOrderStateChangeService auditableOrderStateChangeService;
+    private final int queueCapacity;
+    private final long groupCommitInterval;
+    private final int maxBatchSize;
+
+    private final Map<String, PendingOrder> pendingOrders;
+    private final List<AuditableOrderStateChange> pendingStateChanges;
+    private final List<DurableWrite> pendingDurableWrites;
+    private Thread writerThread;
+    private boolean stopped;
+
+    public OrderStorageWriter(RecoveryService recoveryService,
+                              AuditableOrderStateChangeService auditableOrderStateChangeService,
+                              int queueCapacity, long groupCommitInterval, int maxBatchSize) {
+        this.recoveryService = recoveryService;
+        this.auditableOrderStateChangeService = auditableOrderStateChangeService;
+        this.queueCapacity = Math.max(queueCapacity, 1);
+        this.groupCommitInterval = groupCommitInterval;
+        this.maxBatchSize = Math.max(maxBatchSize, 1);
+        this.pendingOrders = new LinkedHashMap<>();
+        this.pendingStateChanges = new ArrayList<>();
+        this.pendingDurableWrites = new ArrayList<>();
+    }
+
+    public synchronized void start() {
+        if (this.writerThread == null) {
+            this.writerThread = new Thread(this, WRITER_THREAD_NAME);
+            this.writerThread.setDaemon(true);
+            this.writerThread.start();
+        }
+    }
+
+    /**
+     * Stops the writer thread, after all pending changes are written.
+     */
+    public void shutdown() {
+        Thread thread;
+        synchronized (this) {
+            this.stopped = true;
+            thread = this.writerThread;
+            notifyAll();
+        }
+        if (thread != null) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * @return false if the writer has been stopped, in which case the change must be written synchronously.
+     */
+    public boolean write(Order order, boolean orderStateChanged, boolean durable) throws InternalServerErrorException {
+        return write(order, false, orderStateChanged, durable);
+    }
+
+    /**
+     * Writes a new order; the write fails if the order is already stored.
+     *
+     * @return false if the writer has been stopped, in which case the order must be added synchronously.
+     */
+    public boolean add(Order order) throws InternalServerErrorException {
+        return write(order, true, true, true);
+    }
+
+    private boolean write(Order order, boolean newOrder, boolean orderStateChanged, boolean durable)
+            throws InternalServerErrorException {
+        // The caller usually holds the order monitor, which keeps the order from changing while it is copied
+        Order snapshot = snapshot(order);
+        try {
+            synchronized (this) {
+                while (getPendingCount() >= this.queueCapacity && !this.stopped) {
+                    wait();
+                }
+                if (this.stopped) {
+                    return false;
+                }
+                PendingOrder pendingOrder = this.pendingOrders.get(snapshot.getId());
+                boolean pendingAdd = pendingOrder != null && pendingOrder.newOrder;
+                this.pendingOrders.put(snapshot.getId(), new PendingOrder(snapshot, newOrder || pendingAdd));
+                if (orderStateChanged) {
+                    Timestamp currentTimestamp = new Timestamp(System.currentTimeMillis());
+                    this.pendingStateChanges.add(new AuditableOrderStateChange(currentTimestamp, snapshot,
+                            snapshot.getOrderState()));
+                }
+                notifyAll();
+                if (!durable) {
+                    return true;
+                }
+
+                DurableWrite durableWrite = new DurableWrite(snapshot.getId());
+                this.pendingDurableWrites.add(durableWrite);
+                while (!durableWrite.committed) {
+                    wait();
+                }
+                if (durableWrite.failed) {
+                    throw new InternalServerErrorException(String.format(Messages.Exception.UNABLE_TO_WRITE_ORDER_S,
+                            order.getId()));
+                }
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalServerErrorException(String.format(Messages.Exception.UNABLE_TO_WRITE_ORDER_S,
+                    order.getId()));
+        }
+    }
+
+    @Override
+    public void run() {
+        Batch batch;
+        int failedCommits = 0;
+        try {
+            while ((batch = awaitBatch()) != null) {
+                if (commit(batch)) {
+                    failedCommits = 0;
+                } else {
+                    failedCommits++;
+                    awaitRetry(batch.size(), failedCommits);
+                }
+            }
+        } catch (InterruptedException e) {
+            LOGGER.error(Messages.Log.THREAD_HAS_BEEN_INTERRUPTED, e);
+            // Writing what is still pending before stopping
+            commit(takeBatch());
+        }
+    }
+
+    /**
+     * @return The next batch to be committed, or null if the writer has been stopped and there is nothing
+     * left to write.
+     */
+    @VisibleForTesting
+    synchronized Batch awaitBatch() throws InterruptedException {
+        long deadline = 0;
+        while (true) {
+            int pendingCount = getPendingCount();
+            if (this.stopped) {
+                // Writing what is still pending before stopping
+                return pendingCount == 0 ? null : takeBatch();
+            }
+            if (pendingCount == 0) {
+                deadline = 0;
+                wait();
+                continue;
+            }
+            long now = System.currentTimeMillis();
+            if (deadline == 0) {
+                deadline = now + this.groupCommitInterval;
+            }
+            if (pendingCount >= this.maxBatchSize || !this.pendingDurableWrites.isEmpty() || now >= deadline) {
+                return takeBatch();
+            }
+            wait(deadline - now);
+        }
+    }
+
+    private synchronized void awaitRetry(int changes, int failedCommits) throws InterruptedException {
+        long retryInterval = Math.min(this.groupCommitInterval << Math.min(failedCommits - 1, 16), MAX_RETRY_INTERVAL);
+        LOGGER.info(String.format(Messages.Log.RETRYING_D_ORDER_CHANGES_IN_D_MS, changes, retryInterval));
+        long deadline = System.currentTimeMillis() + retryInterval;
+        long now;
+        while (!this.stopped && (now = System.currentTimeMillis()) < deadline) {
+            wait(deadline - now);
+        }
+    }
+
+    @VisibleForTesting
+    synchronized Batch takeBatch() {
+        Batch batch = new Batch(new ArrayList<>(this.pendingOrders.values()),
+                new ArrayList<>(this.pendingStateChanges), new ArrayList<>(this.pendingDurableWrites));
+        this.pendingOrders.clear();
+        this.pendingStateChanges.clear();
+        this.pendingDurableWrites.clear();
+        // Waking up the threads waiting for room in the queue
+        notifyAll();
+        return batch;
+    }
+
+    /**
+     * @return false if the batch could not be written, in which case its changes were queued again, unless
+     * the writer has been stopped.
+     */
+    @VisibleForTesting
+    boolean commit(Batch batch) {
+        if (batch.isEmpty()) {
+            return true;
+        }
+
+        boolean failed = false;
+        Set<String> rejectedIds = new HashSet<>();
+        try {
+            // Orders are written first, since the state changes refer to them
+            for (List<PendingOrder> pendingOrders : Lists.partition(batch.orders, this.maxBatchSize)) {
+                List<Order> newOrders = new ArrayList<>();
+                List<Order> updatedOrders = new ArrayList<>();
+                for (PendingOrder pendingOrder : pendingOrders) {
+                    (pendingOrder.newOrder ? newOrders : updatedOrders).add(pendingOrder.order);
+                }
+                for (Order rejectedOrder : this.recoveryService.saveAll(newOrders, updatedOrders)) {
+                    rejectedIds.add(rejectedOrder.getId());
+                }
+            }
+            List<AuditableOrderStateChange> acceptedStateChanges = new ArrayList<>();
+            for (AuditableOrderStateChange stateChange : batch.stateChanges) {
+                if (!rejectedIds.contains(stateChange.getOrder().getId())) {
+                    acceptedStateChanges.add(stateChange);
+                }
+            }
+            for (List<AuditableOrderStateChange> stateChanges : Lists.partition(acceptedStateChanges, this.maxBatchSize)) {
+                this.auditableOrderStateChangeService.registerStateChanges(stateChanges);
+            }
+        } catch (Throwable e) {
+            LOGGER.error(String.format(Messages.Log.UNABLE_TO_WRITE_D_ORDER_CHANGES, batch.size()), e);
+            failed = true;
+        }
+
+        synchronized (this) {
+            if (failed && !this.stopped) {
+                requeue(batch);
+            }
+            for (DurableWrite durableWrite : batch.durableWrites) {
+                durableWrite.failed = failed || rejectedIds.contains(durableWrite.orderId);
+                durableWrite.committed = true;
+            }
+            // Waking up the threads waiting for their durable writes
+            notifyAll();
+        }
+        return !failed;
+    }
+
+    /**
+     * Queues the changes of a batch that could not be written again, behind the changes made since the batch
+     * was taken. New orders whose durable write fails are not queued again, since their callers are told that
+     * they were not added.
+     */
+    private synchronized void requeue(Batch batch) {
+        Set<String> durablyWrittenIds = new HashSet<>();
+        for (DurableWrite durableWrite : batch.durableWrites) {
+            durablyWrittenIds.add(durableWrite.orderId);
+        }
+        Set<String> droppedIds = new HashSet<>();
+        for (PendingOrder pendingOrder : batch.orders) {
+            String orderId = pendingOrder.order.getId();
+            if (pendingOrder.newOrder && durablyWrittenIds.contains(orderId)) {
+                droppedIds.add(orderId);
+                continue;
+            }
+            PendingOrder newerPendingOrder = this.pendingOrders.get(orderId);
+            if (newerPendingOrder == null) {
+                this.pendingOrders.put(orderId, pendingOrder);
+            } else if (pendingOrder.newOrder) {
+                this.pendingOrders.put(orderId, new PendingOrder(newerPendingOrder.order, true));
+            }
+        }
+        List<AuditableOrderStateChange> stateChanges = new ArrayList<>();
+        for (AuditableOrderStateChange stateChange : batch.stateChanges) {
+            if (!droppedIds.contains(stateChange.getOrder().getId())) {
+                stateChanges.add(stateChange);
+            }
+        }
+        this.pendingStateChanges.addAll(0, stateChanges);
+    }
+
+    /**
+     * Copies the order, so that the changes made after this point are not written with this change.
+     */
+    private Order snapshot(Order order) {
+        return GsonHolder.getInstance().fromJson(GsonHolder.getInstance().toJson(order), order.getClass());
+    }
+
+    @VisibleForTesting
+    synchronized int getPendingCount() {
+        return this.pendingOrders.size() + this.pendingStateChanges.size();
+    }
+
+    @VisibleForTesting
+    static class Batch {
+        private final List<PendingOrder> orders;
+        private final List<AuditableOrderStateChange> stateChanges;
+        private final List<DurableWrite> durableWrites;
+
+        private Batch(List<PendingOrder> orders, List<AuditableOrderStateChange> stateChanges,
+                      List<DurableWrite> durableWrites) {
+            this.orders = orders;
+            this.stateChanges = stateChanges;
+            this.durableWrites = durableWrites;
+        }
+
+        boolean isEmpty() {
+            return this.orders.isEmpty() && this.stateChanges.isEmpty();
+        }
+
+        int size() {
+            return this.orders.size() + this.stateChanges.size();
+        }
+
+        List<Order> getOrders() {
+            List<Order> orders = new ArrayList<>();
+            for (PendingOrder pendingOrder : this.orders) {
+                orders.add(pendingOrder.order);
+            }
+            return orders;
+        }
+
+        List<AuditableOrderStateChange> getStateChanges() {
+            return this.stateChanges;
+        }
+    }
+
+    private static class PendingOrder {
+        private final Order order;
+        private final boolean newOrder;
+
+        private PendingOrder(Order order, boolean newOrder) {
+            this.order = order;
+            this.newOrder = newOrder;
+        }
+    }
+
+    private static class DurableWrite {
+        private final String orderId;
+        private boolean committed;
+        private boolean failed;
+
+        private DurableWrite(String orderId) {
+            this.orderId = orderId;
+        }
+    }
+}
@@ -3,13 +3,18 @@ package cloud.fogbow.ras.core.datastore.orderstorage;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import javax.transaction.Transactional;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 @Transactional
 public interface OrderRepository extends JpaRepository<Order, String> {
     List<Order> findByOrderState(OrderState Orderstate);
+
+    @Query("select o.id from Order o where o.id in ?1")
+    List<String> findStoredIds(Collection<String> ids);
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.sql.Timestamp;
+import java.util.List;
 
 @Service
 public class AuditableOrderStateChangeService extends FogbowDatabaseService<AuditableOrderStateChange> {
@@ -18,7 +19,18 @@ public class AuditableOrderStateChangeService extends FogbowDatabaseService<Audi
     public void registerStateChange(Order order) throws InternalServerErrorException {
         Timestamp currentTimestamp = new Timestamp(System.currentTimeMillis());
         AuditableOrderStateChange auditableOrderStateChange = new AuditableOrderStateChange(currentTimestamp, order, order.getOrderState());
-        this.orderTimestampRepository.save(auditableOrderStateChange);
         safeSave(auditableOrderStateChange, this.orderTimestampRepository);
     }
+
+    public void registerStateChanges(List<AuditableOrderStateChange> auditableOrderStateChanges)
+            throws InternalServerErrorException {
+        try {
+            this.orderTimestampRepository.save(auditableOrderStateChanges);
+        } catch (RuntimeException e) {
+            // Saving the state changes one at a time isolates the ones that could not be saved
+            for (AuditableOrderStateChange auditableOrderStateChange : auditableOrderStateChanges) {
+                safeSave(auditableOrderStateChange, this.orderTimestampRepository);
+            }
+        }
+    }
 }
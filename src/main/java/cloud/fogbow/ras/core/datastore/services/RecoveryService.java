@@ -10,7 +10,10 @@ import org.apache.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 public class RecoveryService extends FogbowDatabaseService<Order> {
@@ -38,4 +41,67 @@ public class RecoveryService extends FogbowDatabaseService<Order> {
         safeSave(order, this.orderRepository);
     }
 
+    /**
+     * Saves several orders with the same checks as save() and update(): new orders must not be stored yet and
+     * updated orders must already be stored. The system user of the new orders must have been serialized by the
+     * caller. Orders failing the checks are not saved.
+     *
+     * @return The orders that failed the checks.
+     */
+    public List<Order> saveAll(List<Order> newOrders, List<Order> updatedOrders) throws InternalServerErrorException {
+        List<String> ids = new ArrayList<>();
+        for (Order order : newOrders) {
+            ids.add(order.getId());
+        }
+        for (Order order : updatedOrders) {
+            ids.add(order.getId());
+        }
+        Set<String> storedIds = ids.isEmpty() ? new HashSet<>() : new HashSet<>(this.orderRepository.findStoredIds(ids));
+
+        List<Order> orders = new ArrayList<>();
+        List<Order> rejectedOrders = new ArrayList<>();
+        for (Order order : newOrders) {
+            if (storedIds.contains(order.getId())) {
+                LOGGER.warn(String.format(Messages.Log.ORDER_S_ALREADY_STORED, order.getId()));
+                rejectedOrders.add(order);
+            } else {
+                orders.add(order);
+            }
+        }
+        for (Order order : updatedOrders) {
+            if (storedIds.contains(order.getId())) {
+                orders.add(order);
+            } else {
+                LOGGER.warn(String.format(Messages.Log.ORDER_S_NOT_STORED, order.getId()));
+                rejectedOrders.add(order);
+            }
+        }
+        if (!orders.isEmpty()) {
+            saveAll(orders);
+        }
+        return rejectedOrders;
+    }
+
+    /**
+     * Saves several orders, new or already existing, in a single transaction. If the transaction fails, the
+     * orders are saved one at a time, so that a single invalid order does not prevent the others from being saved.
+     */
+    public void saveAll(List<Order> orders) throws InternalServerErrorException {
+        try {
+            this.orderRepository.save(orders);
+        } catch (RuntimeException e) {
+            LOGGER.warn(String.format(Messages.Log.UNABLE_TO_SAVE_BATCH_OF_D_ORDERS, orders.size()), e);
+            InternalServerErrorException failure = null;
+            for (Order order : orders) {
+                try {
+                    safeSave(order, this.orderRepository);
+                } catch (InternalServerErrorException orderFailure) {
+                    failure = orderFailure;
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,173 @@
+package cloud.fogbow.ras.core.intercomponent;
+
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
+import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.PropertiesHolder;
+import cloud.fogbow.ras.core.intercomponent.xmpp.requesters.RemoteNotifyOrderStatesRequest;
+import cloud.fogbow.ras.core.models.orders.Order;
+import cloud.fogbow.ras.core.models.orders.OrderStateDelta;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pushes the state changes of the orders provided by this member to the members that requested them, so that
+ * they do not have to wait for their next remote orders state synchronization, which remains as a safety net.
+ * Notifications are scheduled by a single background thread, which hands them over to the XmppRequestDispatcher
+ * without waiting for the replies, so that a requester that is slow to answer does not hold up the notifications
+ * to the others. The changes of the orders of the same requester made within delay milliseconds are sent together,
+ * and only the last state of each order is sent. A notification that fails is retried up to maxRetries times, at
+ * increasing intervals.
+ */
+public class OrderStateNotifier {
+    private static final Logger LOGGER = Logger.getLogger(OrderStateNotifier.class);
+
+    private static final String NOTIFIER_THREAD_NAME = "order-state-notifier";
+    @VisibleForTesting
+    static final long INITIAL_RETRY_INTERVAL = TimeUnit.SECONDS.toMillis(1);
+
+    private static OrderStateNotifier instance;
+
+    private final String localProviderId;
+    private final long delay;
+    private final int maxRetries;
+    private final ScheduledExecutorService executor;
+    // Notifications not sent yet, keyed by requester
+    private final Map<String, Notification> pendingNotifications;
+
+    @VisibleForTesting
+    OrderStateNotifier(String localProviderId, long delay, int maxRetries, ScheduledExecutorService executor) {
+        this.localProviderId = localProviderId;
+        this.delay = delay;
+        this.maxRetries = maxRetries;
+        this.executor = executor;
+        this.pendingNotifications = new HashMap<>();
+    }
+
+    public static synchronized OrderStateNotifier getInstance() {
+        if (instance == null) {
+            PropertiesHolder properties = PropertiesHolder.getInstance();
+            String localProviderId = properties.getProperty(ConfigurationPropertyKeys.PROVIDER_ID_KEY);
+            long delay = Long.parseLong(properties.getProperty(ConfigurationPropertyKeys.ORDER_STATE_NOTIFICATION_DELAY_KEY,
+                    ConfigurationPropertyDefaults.ORDER_STATE_NOTIFICATION_DELAY));
+            int maxRetries = Integer.parseInt(properties.getProperty(
+                    ConfigurationPropertyKeys.ORDER_STATE_NOTIFICATION_MAX_RETRIES_KEY,
+                    ConfigurationPropertyDefaults.ORDER_STATE_NOTIFICATION_MAX_RETRIES));
+            ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                    .setNameFormat(NOTIFIER_THREAD_NAME)
+                    .setDaemon(true)
+                    .build());
+            instance = new OrderStateNotifier(localProviderId, delay, maxRetries, executor);
+        }
+        return instance;
+    }
+
+    /**
+     * Schedules the notification of the new state of the order to its requester, if the order was requested by
+     * another member.
+     */
+    public void notifyStateChange(Order order) {
+        if (!order.isProviderLocal(this.localProviderId) || !order.isRequesterRemote(this.localProviderId)) {
+            return;
+        }
+        synchronized (this) {
+            Notification notification = this.pendingNotifications.get(order.getRequester());
+            if (notification == null) {
+                notification = new Notification(order.getRequester());
+                this.pendingNotifications.put(order.getRequester(), notification);
+                schedule(notification, this.delay);
+            }
+            notification.orders.put(order.getId(), order);
+        }
+    }
+
+    @VisibleForTesting
+    void send(Notification notification) {
+        synchronized (this) {
+            // The changes made from now on go in a new notification
+            this.pendingNotifications.remove(notification.requester, notification);
+        }
+
+        List<OrderStateDelta> orderStateDeltas = new ArrayList<>();
+        for (Order order : notification.orders.values()) {
+            synchronized (order) {
+                // The state sent is the one of the order at this moment, not at the moment it was changed
+                orderStateDeltas.add(new OrderStateDelta(order));
+            }
+        }
+
+        CompletableFuture<Void> reply;
+        try {
+            reply = new RemoteNotifyOrderStatesRequest(notification.requester, orderStateDeltas).sendAsync();
+        } catch (Exception e) {
+            retry(notification, e);
+            return;
+        }
+        reply.whenComplete((result, e) -> {
+            if (e != null) {
+                retry(notification, e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+            }
+        });
+    }
+
+    @VisibleForTesting
+    synchronized int getPendingOrdersCount(String requester) {
+        Notification notification = this.pendingNotifications.get(requester);
+        return notification == null ? 0 : notification.orders.size();
+    }
+
+    private synchronized void retry(Notification notification, Throwable e) {
+        Notification pendingNotification = this.pendingNotifications.get(notification.requester);
+        if (pendingNotification != null) {
+            // A new notification to the same requester is already scheduled; it takes the failed orders along
+            for (Map.Entry<String, Order> order : notification.orders.entrySet()) {
+                pendingNotification.orders.putIfAbsent(order.getKey(), order.getValue());
+            }
+            return;
+        }
+        if (notification.attempts > this.maxRetries) {
+            LOGGER.warn(String.format(Messages.Log.GIVING_UP_NOTIFYING_ORDER_STATES_S, notification.requester), e);
+            return;
+        }
+        long retryInterval = INITIAL_RETRY_INTERVAL << (notification.attempts - 1);
+        LOGGER.warn(String.format(Messages.Log.UNABLE_TO_NOTIFY_ORDER_STATES_S_S, notification.requester,
+                retryInterval), e);
+        this.pendingNotifications.put(notification.requester, notification);
+        schedule(notification, retryInterval);
+    }
+
+    private void schedule(Notification notification, long delay) {
+        notification.attempts++;
+        this.executor.schedule(() -> {
+            try {
+                send(notification);
+            } catch (Throwable e) {
+                LOGGER.error(Messages.Log.UNEXPECTED_ERROR, e);
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    @VisibleForTesting
+    static class Notification {
+        private final String requester;
+        private final Map<String, Order> orders;
+        private int attempts;
+
+        private Notification(String requester) {
+            this.requester = requester;
+            this.orders = new LinkedHashMap<>();
+        }
+    }
+}
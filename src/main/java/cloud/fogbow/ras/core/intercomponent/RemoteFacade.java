@@ -23,8 +23,11 @@ import cloud.fogbow.ras.core.models.Operation;
 import cloud.fogbow.ras.core.models.RasOperation;
 import cloud.fogbow.ras.core.models.ResourceType;
 import cloud.fogbow.ras.core.models.orders.Order;
+import cloud.fogbow.ras.core.models.orders.OrderState;
+import cloud.fogbow.ras.core.models.orders.OrderStateDelta;
 import org.apache.log4j.Logger;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class RemoteFacade {
@@ -64,6 +67,26 @@ public class RemoteFacade {
         return order;
     }
 
+    /**
+     * @return The state of each of the orders that is known and was requested by requestingProvider; the other
+     * orders are left out.
+     */
+    public List<OrderStateDelta> getOrderStates(String requestingProvider, List<String> orderIds) {
+        List<OrderStateDelta> orderStateDeltas = new ArrayList<>();
+        for (String orderId : orderIds) {
+            try {
+                Order order = this.orderController.getOrder(orderId);
+                checkOrderConsistency(requestingProvider, order);
+                synchronized (order) {
+                    orderStateDeltas.add(new OrderStateDelta(order));
+                }
+            } catch (FogbowException e) {
+                LOGGER.warn(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e.getMessage()));
+            }
+        }
+        return orderStateDeltas;
+    }
+
     public Instance getResourceInstance(String requestingProvider, String orderId, SystemUser systemUser,
                                         ResourceType resourceType) throws FogbowException {
         Order order = this.orderController.getOrder(orderId);
@@ -165,6 +188,40 @@ public class RemoteFacade {
         }
     }
 
+    /**
+     * Updates the local counterparts of the orders whose state changed at signallingProvider, as the remote orders
+     * state synchronization processor would. Orders that are unknown, or that are not provided by
+     * signallingProvider, are ignored.
+     */
+    public void updateOrderStates(String signallingProvider, List<OrderStateDelta> orderStateDeltas) {
+        for (OrderStateDelta orderStateDelta : orderStateDeltas) {
+            String orderId = orderStateDelta.getOrderId();
+            try {
+                Order localOrder = this.orderController.getOrder(orderId);
+                synchronized (localOrder) {
+                    if (!localOrder.getProvider().equals(signallingProvider)) {
+                        throw new InvalidParameterException(String.format(
+                                Messages.Exception.SIGNALING_PROVIDER_DIFFERENT_OF_PROVIDER_S_S,
+                                signallingProvider, localOrder.getProvider()));
+                    }
+                    // Closed orders are signalled by closeOrderAtRemoteRequester; FAILED_ON_REQUEST and
+                    // ASSIGNED_FOR_DELETION orders do not follow the state of the remote order
+                    OrderState localState = localOrder.getOrderState();
+                    if (orderStateDelta.getOrderState() == OrderState.CLOSED
+                            || localState == OrderState.FAILED_ON_REQUEST
+                            || localState == OrderState.ASSIGNED_FOR_DELETION) {
+                        continue;
+                    }
+                    orderStateDelta.applyTo(localOrder);
+                    localOrder.setOrderState(orderStateDelta.getOrderState());
+                }
+            } catch (FogbowException e) {
+                LOGGER.warn(String.format(Messages.Log.UNABLE_TO_UPDATE_ORDER_S_NOTIFIED_BY_S, orderId,
+                        signallingProvider), e);
+            }
+        }
+    }
+
     public void setAuthorizationPlugin(AuthorizationPlugin<RasOperation> authorizationPlugin) {
         this.authorizationPlugin = authorizationPlugin;
     }
@@ -4,10 +4,12 @@ public enum IqElement {
     QUERY("query"),
     ORDER("order"),
     ORDER_ID("orderId"),
+    ORDER_STATE_DELTAS("orderStateDeltas"),
     SYSTEM_USER("systemUser"),
     INSTANCE("instance"),
     INSTANCE_TYPE("instanceType"),
     ORDER_CLASS_NAME("orderClassName"),
+    ORDER_CODECS("orderCodecs"),
     INSTANCE_CLASS_NAME("instanceClassName"),
     USER_QUOTA("userQuota"),
     USER_QUOTA_CLASS_NAME("userQuotaClassName"),
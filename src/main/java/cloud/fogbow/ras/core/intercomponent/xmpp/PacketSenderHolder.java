@@ -12,7 +12,7 @@ import org.xmpp.component.ComponentException;
 public class PacketSenderHolder {
     private final static Logger LOGGER = Logger.getLogger(PacketSenderHolder.class);
 
-    private static PacketSender packetSender = null;
+    private static volatile PacketSender packetSender = null;
 
     public static void init() {
         if (packetSender == null) {
@@ -44,8 +44,13 @@ public class PacketSenderHolder {
         }
     }
 
-    public static synchronized PacketSender getPacketSender() {
-        init();
+    public static PacketSender getPacketSender() {
+        // Only the first calls take the lock, so that threads sending requests do not wait for each other
+        if (packetSender == null) {
+            synchronized (PacketSenderHolder.class) {
+                init();
+            }
+        }
         return packetSender;
     }
 
@@ -7,9 +7,11 @@ public enum RemoteMethod {
     REMOTE_GET_CLOUD_NAMES("remoteGetCloudNames"),
     REMOTE_GET_IMAGE("remoteGetImage"),
     REMOTE_GET_ORDER("remoteGetOrder"),
+    REMOTE_GET_ORDER_STATES("remoteGetOrderStates"),
     REMOTE_GET_INSTANCE("remoteGetInstance"),
     REMOTE_GET_USER_QUOTA("remoteGetUserQuota"),
     REMOTE_NOTIFY_EVENT("remoteNotifyEvent"),
+    REMOTE_NOTIFY_ORDER_STATES("remoteNotifyOrderStates"),
     REMOTE_CREATE_SECURITY_RULE("remoteCreateSecurityRule"),
     REMOTE_GET_ALL_SECURITY_RULES("remoteGetAllSecurityRules"),
     REMOTE_DELETE_SECURITY_RULE("remoteDeleteSecurityRule");
@@ -14,6 +14,7 @@ public class XmppComponentManager extends XMPPComponent {
         addSetHandler(new RemoteCreateOrderRequestHandler());
         addSetHandler(new RemoteDeleteOrderRequestHandler());
         addSetHandler(new CloseOrderAtRemoteRequesterHandler());
+        addSetHandler(new RemoteNotifyOrderStatesRequestHandler());
         addSetHandler(new RemoteCreateSecurityRuleRequestHandler());
         addSetHandler(new RemoteDeleteSecurityRuleRequestHandler());
         // instantiate get handlers here
@@ -22,6 +23,7 @@ public class XmppComponentManager extends XMPPComponent {
         addGetHandler(new RemoteGetCloudNamesRequestHandler());
         addGetHandler(new RemoteGetInstanceRequestHandler());
         addGetHandler(new RemoteGetOrderRequestHandler());
+        addGetHandler(new RemoteGetOrderStatesRequestHandler());
         addGetHandler(new RemoteGetUserQuotaRequestHandler());
         addGetHandler(new RemoteGetAllSecurityRuleHandler());
         LOGGER.info(Messages.Log.XMPP_HANDLERS_SET);
@@ -0,0 +1,262 @@
+package cloud.fogbow.ras.core.intercomponent.xmpp;
+
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
+import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.PropertiesHolder;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.log4j.Logger;
+import org.jamppa.component.PacketSender;
+import org.xmpp.packet.IQ;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Sends IQ requests without blocking the calling thread, so that several requests can be outstanding on the XMPP
+ * stream at the same time. Replies are matched to their requests by the IQ packet id and handed over through
+ * futures. At most maxInFlightPerProvider requests to the same provider are outstanding at a time; the others
+ * wait in line, so that an unresponsive provider does not take up the stream. A request that is not answered
+ * within timeout milliseconds of being sent, the time spent waiting in line included, completes with a null
+ * response, exactly as PacketSender.syncSendPacket does when it times out; it is taken out of the line or, if
+ * it is already on the stream, its reply callback is removed.
+ * <p>
+ * Every request to other providers goes through the dispatcher, so that the limit holds for all of them; the
+ * callers that need the reply before going on use sendAndWait.
+ */
+public class XmppRequestDispatcher {
+    private static final Logger LOGGER = Logger.getLogger(XmppRequestDispatcher.class);
+
+    private static final String DEADLINES_THREAD_NAME = "xmpp-request-deadlines";
+
+    private static XmppRequestDispatcher instance;
+
+    private final int maxInFlightPerProvider;
+    private final long timeout;
+    private final ScheduledExecutorService deadlineExecutor;
+    // Requests sent and not answered yet, keyed by IQ id
+    private final Map<String, PendingRequest> inFlightRequests;
+    // Requests waiting for one of the outstanding requests to the same provider to finish, keyed by provider
+    private final Map<String, Queue<PendingRequest>> queuedRequests;
+    private final Map<String, Integer> inFlightCounts;
+    // Ids of the requests sent or waiting in line; replies are matched by id, so they must not repeat
+    private final Set<String> pendingIds;
+
+    @VisibleForTesting
+    XmppRequestDispatcher(int maxInFlightPerProvider, long timeout, ScheduledExecutorService deadlineExecutor) {
+        this.maxInFlightPerProvider = maxInFlightPerProvider;
+        this.timeout = timeout;
+        this.deadlineExecutor = deadlineExecutor;
+        this.inFlightRequests = new HashMap<>();
+        this.queuedRequests = new HashMap<>();
+        this.inFlightCounts = new HashMap<>();
+        this.pendingIds = new HashSet<>();
+    }
+
+    public static synchronized XmppRequestDispatcher getInstance() {
+        if (instance == null) {
+            PropertiesHolder properties = PropertiesHolder.getInstance();
+            int maxInFlightPerProvider = Integer.parseInt(properties.getProperty(
+                    ConfigurationPropertyKeys.XMPP_MAX_IN_FLIGHT_REQUESTS_PER_PROVIDER_KEY,
+                    ConfigurationPropertyDefaults.XMPP_MAX_IN_FLIGHT_REQUESTS_PER_PROVIDER));
+            long timeout = Long.parseLong(properties.getProperty(ConfigurationPropertyKeys.XMPP_TIMEOUT_KEY,
+                    ConfigurationPropertyDefaults.XMPP_TIMEOUT));
+            ScheduledExecutorService deadlineExecutor = Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder()
+                            .setNameFormat(DEADLINES_THREAD_NAME)
+                            .setDaemon(true)
+                            .build());
+            instance = new XmppRequestDispatcher(maxInFlightPerProvider, timeout, deadlineExecutor);
+        }
+        return instance;
+    }
+
+    /**
+     * @return A future that completes with the reply to the request, or with null if no reply arrived in time.
+     */
+    public CompletableFuture<IQ> send(String provider, IQ iq) {
+        PendingRequest request = new PendingRequest(provider, iq);
+        boolean dispatchNow;
+        synchronized (this) {
+            // Some requests are identified by the id of their order, which may have other requests going on
+            if (!this.pendingIds.add(iq.getID())) {
+                iq.setID(UUID.randomUUID().toString());
+                this.pendingIds.add(iq.getID());
+            }
+            int inFlightCount = this.inFlightCounts.getOrDefault(provider, 0);
+            dispatchNow = inFlightCount < this.maxInFlightPerProvider;
+            if (dispatchNow) {
+                this.inFlightCounts.put(provider, inFlightCount + 1);
+                this.inFlightRequests.put(iq.getID(), request);
+            } else {
+                this.queuedRequests.computeIfAbsent(provider, key -> new ArrayDeque<>()).add(request);
+            }
+            // The time to answer is counted from now, so that requests waiting in line also expire
+            request.deadline = this.deadlineExecutor.schedule(() -> expire(request), this.timeout,
+                    TimeUnit.MILLISECONDS);
+        }
+        if (dispatchNow) {
+            dispatch(request);
+        }
+        return request.future;
+    }
+
+    /**
+     * Sends the request and waits for its reply.
+     *
+     * @return The reply to the request, or null if no reply arrived in time.
+     */
+    public IQ sendAndWait(String provider, IQ iq) throws InterruptedException {
+        try {
+            return send(provider, iq).get(this.timeout, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            // The futures of the requests are only completed with a reply or with null, and the deadline of
+            // the request completes it with null shortly after the timeout
+            return null;
+        }
+    }
+
+    @VisibleForTesting
+    synchronized int getInFlightCount(String provider) {
+        return this.inFlightCounts.getOrDefault(provider, 0);
+    }
+
+    @VisibleForTesting
+    synchronized int getQueuedCount(String provider) {
+        Queue<PendingRequest> queue = this.queuedRequests.get(provider);
+        return queue == null ? 0 : queue.size();
+    }
+
+    private void dispatch(PendingRequest request) {
+        String id = request.iq.getID();
+        try {
+            PacketSender packetSender = PacketSenderHolder.getPacketSender();
+            if (packetSender == null) {
+                complete(id, null);
+                return;
+            }
+            packetSender.addPacketCallback(request.iq, response -> complete(id, (IQ) response));
+            if (request.future.isDone()) {
+                // The request expired while it was being taken out of the line
+                packetSender.removePacketCallback(request.iq);
+                return;
+            }
+            packetSender.sendPacket(request.iq);
+        } catch (Exception e) {
+            LOGGER.warn(String.format(Messages.Log.UNABLE_TO_SEND_REQUEST_S_TO_PROVIDER_S, id, request.provider), e);
+            complete(id, null);
+        }
+    }
+
+    private void complete(String id, IQ response) {
+        PendingRequest request;
+        PendingRequest next;
+        synchronized (this) {
+            request = this.inFlightRequests.remove(id);
+            if (request == null) {
+                // The reply came after the deadline
+                return;
+            }
+            this.pendingIds.remove(id);
+            next = releaseSlot(request.provider);
+        }
+        if (request.deadline != null) {
+            request.deadline.cancel(false);
+        }
+        request.future.complete(response);
+        if (next != null) {
+            dispatch(next);
+        }
+    }
+
+    private void expire(PendingRequest request) {
+        PendingRequest next;
+        boolean inFlight;
+        String id = request.iq.getID();
+        synchronized (this) {
+            inFlight = this.inFlightRequests.remove(id) != null;
+            if (inFlight) {
+                next = releaseSlot(request.provider);
+            } else if (removeFromLine(request)) {
+                next = null;
+            } else {
+                // Already answered
+                return;
+            }
+            this.pendingIds.remove(id);
+        }
+        if (inFlight) {
+            removeCallback(request);
+        }
+        LOGGER.warn(String.format(Messages.Log.REQUEST_S_TO_PROVIDER_S_TIMED_OUT, request.iq.getID(), request.provider));
+        request.future.complete(null);
+        if (next != null) {
+            dispatch(next);
+        }
+    }
+
+    private void removeCallback(PendingRequest request) {
+        PacketSender packetSender = PacketSenderHolder.getPacketSender();
+        if (packetSender != null) {
+            packetSender.removePacketCallback(request.iq);
+        }
+    }
+
+    // Must be called holding the lock
+    private boolean removeFromLine(PendingRequest request) {
+        Queue<PendingRequest> queue = this.queuedRequests.get(request.provider);
+        if (queue == null || !queue.remove(request)) {
+            return false;
+        }
+        if (queue.isEmpty()) {
+            this.queuedRequests.remove(request.provider);
+        }
+        return true;
+    }
+
+    // Must be called holding the lock; returns the request that takes the released slot, if any
+    private PendingRequest releaseSlot(String provider) {
+        Queue<PendingRequest> queue = this.queuedRequests.get(provider);
+        PendingRequest next = queue == null ? null : queue.poll();
+        if (next != null) {
+            this.inFlightRequests.put(next.iq.getID(), next);
+        } else {
+            if (queue != null) {
+                this.queuedRequests.remove(provider);
+            }
+            int inFlightCount = this.inFlightCounts.get(provider) - 1;
+            if (inFlightCount == 0) {
+                this.inFlightCounts.remove(provider);
+            } else {
+                this.inFlightCounts.put(provider, inFlightCount);
+            }
+        }
+        return next;
+    }
+
+    private static class PendingRequest {
+        private final String provider;
+        private final IQ iq;
+        private final CompletableFuture<IQ> future;
+        private volatile ScheduledFuture<?> deadline;
+
+        private PendingRequest(String provider, IQ iq) {
+            this.provider = provider;
+            this.iq = iq;
+            this.future = new CompletableFuture<>();
+        }
+    }
+}
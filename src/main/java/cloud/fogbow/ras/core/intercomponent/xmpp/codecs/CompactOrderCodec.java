@@ -0,0 +1,114 @@
+package cloud.fogbow.ras.core.intercomponent.xmpp.codecs;
+
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.models.ResourceType;
+import cloud.fogbow.ras.core.models.orders.Order;
+import com.google.common.collect.ImmutableSet;
+import com.google.gson.ExclusionStrategy;
+import com.google.gson.FieldAttributes;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encodes an order as base64 of a small header (format version, flags and order type) followed by its JSON
+ * representation, gzipped when it is larger than COMPRESSION_THRESHOLD bytes. The class of the order is taken from
+ * the order type in the header rather than from the class name sent alongside, and the STATE scope leaves out the
+ * fields a requesting member never reads back, such as the user data of compute orders and the credentials of the
+ * user.
+ */
+public class CompactOrderCodec implements OrderCodec {
+    public static final String NAME = "compact-v1";
+
+    private static final byte VERSION = 1;
+    private static final byte COMPRESSED = 0x01;
+    private static final int COMPRESSION_THRESHOLD = 512;
+    private static final Set<String> STATE_EXCLUDED_FIELDS = ImmutableSet.of(
+            "systemUser", "serializedSystemUser", "requirements", "userData", "publicKey");
+
+    private final Gson fullGson;
+    private final Gson stateGson;
+
+    public CompactOrderCodec() {
+        this.fullGson = new Gson();
+        this.stateGson = new GsonBuilder()
+                .setExclusionStrategies(new ExclusionStrategy() {
+                    @Override
+                    public boolean shouldSkipField(FieldAttributes field) {
+                        return Order.class.isAssignableFrom(field.getDeclaringClass())
+                                && STATE_EXCLUDED_FIELDS.contains(field.getName());
+                    }
+
+                    @Override
+                    public boolean shouldSkipClass(Class<?> clazz) {
+                        return false;
+                    }
+                })
+                .create();
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public String encode(Order order, Scope scope) throws InternalServerErrorException {
+        Gson gson = scope == Scope.STATE ? this.stateGson : this.fullGson;
+        byte[] json = gson.toJson(order).getBytes(StandardCharsets.UTF_8);
+        boolean compressed = json.length > COMPRESSION_THRESHOLD;
+
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        try (DataOutputStream header = new DataOutputStream(payload)) {
+            header.writeByte(VERSION);
+            header.writeByte(compressed ? COMPRESSED : 0);
+            header.writeUTF(order.getType().name());
+            if (compressed) {
+                try (OutputStream body = new GZIPOutputStream(header)) {
+                    body.write(json);
+                }
+            } else {
+                header.write(json);
+            }
+        } catch (IOException e) {
+            throw new InternalServerErrorException(e.getMessage());
+        }
+        return Base64.getEncoder().encodeToString(payload.toByteArray());
+    }
+
+    @Override
+    public Order decode(String payload, String orderClassName) throws InternalServerErrorException {
+        try (DataInputStream header = new DataInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(payload)))) {
+            byte version = header.readByte();
+            if (version != VERSION) {
+                throw new InternalServerErrorException(
+                        String.format(Messages.Exception.UNSUPPORTED_ORDER_PAYLOAD_VERSION_S, version));
+            }
+            boolean compressed = (header.readByte() & COMPRESSED) != 0;
+            Class<? extends Order> orderClass = OrderCodecs.getOrderClass(ResourceType.valueOf(header.readUTF()));
+            InputStream body = compressed ? new GZIPInputStream(header) : header;
+            try (Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8)) {
+                return this.fullGson.fromJson(reader, orderClass);
+            }
+        } catch (InternalServerErrorException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new InternalServerErrorException(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package cloud.fogbow.ras.core.intercomponent.xmpp.codecs;
+
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.ras.core.models.orders.Order;
+import com.google.gson.Gson;
+
+/**
+ * The format every member understands: the whole order as JSON text, with its class name sent alongside. The
+ * scope is ignored, since members that only know this format may read any field of the order.
+ */
+public class JsonOrderCodec implements OrderCodec {
+    public static final String NAME = "json";
+
+    // Gson instances are thread-safe and cache the type adapters they build
+    private static final Gson GSON = new Gson();
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public String encode(Order order, Scope scope) {
+        return GSON.toJson(order);
+    }
+
+    @Override
+    public Order decode(String payload, String orderClassName) throws InternalServerErrorException {
+        Class<? extends Order> orderClass = OrderCodecs.getOrderClass(orderClassName);
+        try {
+            return GSON.fromJson(payload, orderClass);
+        } catch (Exception e) {
+            throw new InternalServerErrorException(e.getMessage());
+        }
+    }
+}
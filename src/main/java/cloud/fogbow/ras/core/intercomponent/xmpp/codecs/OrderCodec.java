@@ -0,0 +1,26 @@
+package cloud.fogbow.ras.core.intercomponent.xmpp.codecs;
+
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.ras.core.models.orders.Order;
+
+/**
+ * Turns orders into the text carried by the order element of the IQs exchanged with other members, and back.
+ */
+public interface OrderCodec {
+
+    enum Scope {
+        // Every field of the order, as needed to create it at the providing member
+        FULL,
+        // Only what the requesting member reads back from a remote order: state, allocation, fault message
+        STATE
+    }
+
+    String getName();
+
+    String encode(Order order, Scope scope) throws InternalServerErrorException;
+
+    /**
+     * @param orderClassName The class name sent along with the payload, for the codecs that need it.
+     */
+    Order decode(String payload, String orderClassName) throws InternalServerErrorException;
+}
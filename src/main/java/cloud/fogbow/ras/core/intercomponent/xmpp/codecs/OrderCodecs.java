@@ -0,0 +1,190 @@
+package cloud.fogbow.ras.core.intercomponent.xmpp.codecs;
+
+import cloud.fogbow.common.exceptions.FatalErrorException;
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
+import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.PropertiesHolder;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.models.ResourceType;
+import cloud.fogbow.ras.core.models.orders.AttachmentOrder;
+import cloud.fogbow.ras.core.models.orders.ComputeOrder;
+import cloud.fogbow.ras.core.models.orders.NetworkOrder;
+import cloud.fogbow.ras.core.models.orders.Order;
+import cloud.fogbow.ras.core.models.orders.PublicIpOrder;
+import cloud.fogbow.ras.core.models.orders.VolumeOrder;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+import org.dom4j.Element;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Chooses the codec of the orders sent to each member and writes and reads the order elements of the IQs.
+ * <p>
+ * Members advertise the codecs they accept, in order of preference, in the orderCodecs element of the order
+ * requests they send and of the orders they return. The codec used with a member is the first of the local
+ * codecs it advertised; members that advertised nothing, such as the ones running older versions, get the JSON
+ * format, so that members with and without the compact codec can be mixed during a rollout. The order element
+ * carries the name of its codec in the codec attribute, which is absent for the JSON format, and the class name of
+ * the order is always sent alongside, so that a member that only knows the JSON format can still tell what it
+ * received. A member that was rolled back after advertising the compact codec answers the orders written with it
+ * with an error; the requesters then forget the codec learned from it, so the retries go in JSON.
+ */
+public class OrderCodecs {
+    public static final String CODEC_ATTRIBUTE = "codec";
+
+    private static final String SEPARATOR = ",";
+    private static final OrderCodec JSON_CODEC = new JsonOrderCodec();
+    private static final Map<ResourceType, Class<? extends Order>> ORDER_CLASSES_BY_TYPE =
+            ImmutableMap.<ResourceType, Class<? extends Order>>builder()
+                    .put(ResourceType.COMPUTE, ComputeOrder.class)
+                    .put(ResourceType.NETWORK, NetworkOrder.class)
+                    .put(ResourceType.VOLUME, VolumeOrder.class)
+                    .put(ResourceType.ATTACHMENT, AttachmentOrder.class)
+                    .put(ResourceType.PUBLIC_IP, PublicIpOrder.class)
+                    .build();
+    private static final Map<String, Class<? extends Order>> ORDER_CLASSES_BY_NAME = new HashMap<>();
+
+    static {
+        for (Class<? extends Order> orderClass : ORDER_CLASSES_BY_TYPE.values()) {
+            ORDER_CLASSES_BY_NAME.put(orderClass.getName(), orderClass);
+        }
+    }
+
+    private static OrderCodecs instance;
+
+    // The codecs this member accepts, in order of preference; the JSON format is always the last one
+    private final List<OrderCodec> codecs;
+    private final String advertisedCodecs;
+    private final Map<String, OrderCodec> providerCodecs;
+
+    @VisibleForTesting
+    public OrderCodecs(List<String> codecNames) {
+        Map<String, OrderCodec> knownCodecs = ImmutableMap.of(
+                CompactOrderCodec.NAME, new CompactOrderCodec(),
+                JsonOrderCodec.NAME, JSON_CODEC);
+
+        this.codecs = new ArrayList<>();
+        for (String codecName : codecNames) {
+            OrderCodec codec = knownCodecs.get(codecName.trim());
+            if (codec == null) {
+                throw new FatalErrorException(String.format(Messages.Exception.UNKNOWN_ORDER_CODEC_S, codecName));
+            }
+            if (codec != JSON_CODEC) {
+                this.codecs.add(codec);
+            }
+        }
+        this.codecs.add(JSON_CODEC);
+
+        List<String> names = new ArrayList<>();
+        for (OrderCodec codec : this.codecs) {
+            names.add(codec.getName());
+        }
+        this.advertisedCodecs = String.join(SEPARATOR, names);
+        this.providerCodecs = new ConcurrentHashMap<>();
+    }
+
+    public static synchronized OrderCodecs getInstance() {
+        if (instance == null) {
+            String codecNames = PropertiesHolder.getInstance().getProperty(ConfigurationPropertyKeys.ORDER_CODECS_KEY,
+                    ConfigurationPropertyDefaults.ORDER_CODECS);
+            instance = new OrderCodecs(Arrays.asList(codecNames.split(SEPARATOR)));
+        }
+        return instance;
+    }
+
+    public static Class<? extends Order> getOrderClass(String orderClassName) throws InternalServerErrorException {
+        Class<? extends Order> orderClass = ORDER_CLASSES_BY_NAME.get(orderClassName);
+        if (orderClass == null) {
+            throw new InternalServerErrorException(String.format(Messages.Exception.UNKNOWN_ORDER_TYPE_S, orderClassName));
+        }
+        return orderClass;
+    }
+
+    public static Class<? extends Order> getOrderClass(ResourceType type) throws InternalServerErrorException {
+        Class<? extends Order> orderClass = ORDER_CLASSES_BY_TYPE.get(type);
+        if (orderClass == null) {
+            throw new InternalServerErrorException(String.format(Messages.Exception.UNKNOWN_ORDER_TYPE_S, type));
+        }
+        return orderClass;
+    }
+
+    /**
+     * Adds the codecs this member accepts to the query element of an IQ.
+     */
+    public void advertise(Element queryElement) {
+        queryElement.addElement(IqElement.ORDER_CODECS.toString()).setText(this.advertisedCodecs);
+    }
+
+    /**
+     * Records the codecs the provider advertised in the query element of an IQ it sent; a provider that
+     * advertised nothing (for instance, because it was rolled back to an older version) gets the JSON format.
+     */
+    public void learn(String provider, Element queryElement) {
+        Element codecsElement = queryElement == null ? null : queryElement.element(IqElement.ORDER_CODECS.toString());
+        if (codecsElement != null) {
+            this.providerCodecs.put(provider, negotiate(codecsElement.getText()));
+        } else {
+            this.providerCodecs.remove(provider);
+        }
+    }
+
+    /**
+     * Goes back to the JSON format for the provider, until it advertises its codecs again.
+     */
+    public void forget(String provider) {
+        this.providerCodecs.remove(provider);
+    }
+
+    /**
+     * @return The codec to use to send orders to the provider.
+     */
+    public OrderCodec getCodec(String provider) {
+        return this.providerCodecs.getOrDefault(provider, JSON_CODEC);
+    }
+
+    public void writeOrder(Element queryElement, Order order, OrderCodec codec, OrderCodec.Scope scope)
+            throws InternalServerErrorException {
+        Element orderElement = queryElement.addElement(IqElement.ORDER.toString());
+        queryElement.addElement(IqElement.ORDER_CLASS_NAME.toString()).setText(order.getClass().getName());
+        if (codec != JSON_CODEC) {
+            orderElement.addAttribute(CODEC_ATTRIBUTE, codec.getName());
+        }
+        orderElement.setText(codec.encode(order, scope));
+    }
+
+    public Order readOrder(Element queryElement) throws InternalServerErrorException {
+        Element orderElement = queryElement.element(IqElement.ORDER.toString());
+        String codecName = orderElement.attributeValue(CODEC_ATTRIBUTE, JsonOrderCodec.NAME);
+        OrderCodec codec = null;
+        for (OrderCodec acceptedCodec : this.codecs) {
+            if (acceptedCodec.getName().equals(codecName)) {
+                codec = acceptedCodec;
+                break;
+            }
+        }
+        if (codec == null) {
+            throw new InternalServerErrorException(String.format(Messages.Exception.UNKNOWN_ORDER_CODEC_S, codecName));
+        }
+        Element orderClassNameElement = queryElement.element(IqElement.ORDER_CLASS_NAME.toString());
+        String orderClassName = orderClassNameElement == null ? null : orderClassNameElement.getText();
+        return codec.decode(orderElement.getText(), orderClassName);
+    }
+
+    private OrderCodec negotiate(String advertisedCodecs) {
+        List<String> names = Arrays.asList(advertisedCodecs.split(SEPARATOR));
+        for (OrderCodec codec : this.codecs) {
+            if (names.contains(codec.getName())) {
+                return codec;
+            }
+        }
+        return JSON_CODEC;
+    }
+}
@@ -7,8 +7,8 @@ import cloud.fogbow.ras.core.intercomponent.RemoteFacade;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppExceptionToErrorConditionTranslator;
+import cloud.fogbow.ras.core.intercomponent.xmpp.codecs.OrderCodecs;
 import cloud.fogbow.ras.core.models.orders.Order;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.jamppa.component.handler.AbstractQueryHandler;
@@ -26,33 +26,18 @@ public class RemoteCreateOrderRequestHandler extends AbstractQueryHandler {
     @Override
     public IQ handle(IQ iq) {
         LOGGER.debug(String.format(Messages.Log.RECEIVING_REMOTE_REQUEST_S, iq.getID()));
-        String orderJsonStr = unmarshalOrder(iq);
-        String className = unmarshalClassName(iq);
+        Element queryElement = iq.getElement().element(IqElement.QUERY.toString());
 
         IQ response = IQ.createResultIQ(iq);
-        Gson gson = new Gson();
-        Order order = null;
         try {
-            order = (Order) gson.fromJson(orderJsonStr, Class.forName(className));
             String senderId = IntercomponentUtil.getSender(iq.getFrom().toBareJID(), SystemConstants.XMPP_SERVER_NAME_PREFIX);
+            OrderCodecs orderCodecs = OrderCodecs.getInstance();
+            orderCodecs.learn(senderId, queryElement);
+            Order order = orderCodecs.readOrder(queryElement);
             RemoteFacade.getInstance().activateOrder(senderId, order);
         } catch (Throwable e) {
             XmppExceptionToErrorConditionTranslator.updateErrorCondition(response, e);
         }
         return response;
     }
-
-    private String unmarshalOrder(IQ iq) {
-        Element queryElement = iq.getElement().element(IqElement.QUERY.toString());
-        Element orderElement = queryElement.element(IqElement.ORDER.toString());
-        String orderJsonStr = orderElement.getText();
-        return orderJsonStr;
-    }
-
-    private String unmarshalClassName(IQ iq) {
-        Element queryElement = iq.getElement().element(IqElement.QUERY.toString());
-        Element orderClassNameElement = queryElement.element(IqElement.ORDER_CLASS_NAME.toString());
-        String className = orderClassNameElement.getText();
-        return className;
-    }
 }
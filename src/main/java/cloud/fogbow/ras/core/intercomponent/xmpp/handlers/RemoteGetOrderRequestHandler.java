@@ -1,5 +1,6 @@
 package cloud.fogbow.ras.core.intercomponent.xmpp.handlers;
 
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
 import cloud.fogbow.common.util.IntercomponentUtil;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
@@ -7,8 +8,9 @@ import cloud.fogbow.ras.core.intercomponent.RemoteFacade;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppExceptionToErrorConditionTranslator;
+import cloud.fogbow.ras.core.intercomponent.xmpp.codecs.OrderCodec;
+import cloud.fogbow.ras.core.intercomponent.xmpp.codecs.OrderCodecs;
 import cloud.fogbow.ras.core.models.orders.Order;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.jamppa.component.handler.AbstractQueryHandler;
@@ -32,8 +34,10 @@ public class RemoteGetOrderRequestHandler extends AbstractQueryHandler {
         try {
             String senderId = IntercomponentUtil.getSender(iq.getFrom().toBareJID(), SystemConstants.XMPP_SERVER_NAME_PREFIX);
             Order order = RemoteFacade.getInstance().getOrder(senderId, orderId);
+            OrderCodecs orderCodecs = OrderCodecs.getInstance();
+            orderCodecs.learn(senderId, iq.getElement().element(IqElement.QUERY.toString()));
             //on success, update response with order data
-            updateResponse(response, order);
+            updateResponse(response, order, orderCodecs.getCodec(senderId));
         } catch (Exception e) {
             //on error, update response with exception data
             XmppExceptionToErrorConditionTranslator.updateErrorCondition(response, e);
@@ -41,17 +45,14 @@ public class RemoteGetOrderRequestHandler extends AbstractQueryHandler {
         return response;
     }
 
-    private void updateResponse(IQ response, Order order) {
+    private void updateResponse(IQ response, Order order, OrderCodec codec) throws InternalServerErrorException {
         Element queryElement =
                 response.getElement().addElement(IqElement.QUERY.toString(), REMOTE_GET_ORDER);
 
-        Element orderElement = queryElement.addElement(IqElement.ORDER.toString());
-
-        Element orderClassNameElement = queryElement.addElement(IqElement.ORDER_CLASS_NAME.toString());
-
-        orderClassNameElement.setText(order.getClass().getName());
-
-        orderElement.setText(new Gson().toJson(order));
+        // The requester only reads the state of the order back
+        OrderCodecs orderCodecs = OrderCodecs.getInstance();
+        orderCodecs.writeOrder(queryElement, order, codec, OrderCodec.Scope.STATE);
+        orderCodecs.advertise(queryElement);
     }
 
     private String unmarshalOrderId(IQ iq) {
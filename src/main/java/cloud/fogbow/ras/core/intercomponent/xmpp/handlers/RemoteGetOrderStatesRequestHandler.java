@@ -0,0 +1,63 @@
+package cloud.fogbow.ras.core.intercomponent.xmpp.handlers;
+
+import cloud.fogbow.common.util.IntercomponentUtil;
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.constants.SystemConstants;
+import cloud.fogbow.ras.core.intercomponent.RemoteFacade;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
+import cloud.fogbow.ras.core.intercomponent.xmpp.XmppExceptionToErrorConditionTranslator;
+import cloud.fogbow.ras.core.models.orders.OrderStateDelta;
+import com.google.gson.Gson;
+import org.apache.log4j.Logger;
+import org.dom4j.Element;
+import org.jamppa.component.handler.AbstractQueryHandler;
+import org.xmpp.packet.IQ;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class RemoteGetOrderStatesRequestHandler extends AbstractQueryHandler {
+    private static final Logger LOGGER = Logger.getLogger(RemoteGetOrderStatesRequestHandler.class);
+
+    private static final String REMOTE_GET_ORDER_STATES = RemoteMethod.REMOTE_GET_ORDER_STATES.toString();
+
+    public RemoteGetOrderStatesRequestHandler() {
+        super(REMOTE_GET_ORDER_STATES);
+    }
+
+    @Override
+    public IQ handle(IQ iq) {
+        LOGGER.debug(String.format(Messages.Log.RECEIVING_REMOTE_REQUEST_S, iq.getID()));
+        List<String> orderIds = unmarshalOrderIds(iq);
+
+        IQ response = IQ.createResultIQ(iq);
+        try {
+            String senderId = IntercomponentUtil.getSender(iq.getFrom().toBareJID(), SystemConstants.XMPP_SERVER_NAME_PREFIX);
+            List<OrderStateDelta> orderStateDeltas = RemoteFacade.getInstance().getOrderStates(senderId, orderIds);
+            //on success, update response with the states of the orders
+            updateResponse(response, orderStateDeltas);
+        } catch (Exception e) {
+            //on error, update response with exception data
+            XmppExceptionToErrorConditionTranslator.updateErrorCondition(response, e);
+        }
+        return response;
+    }
+
+    private void updateResponse(IQ response, List<OrderStateDelta> orderStateDeltas) {
+        Element queryElement =
+                response.getElement().addElement(IqElement.QUERY.toString(), REMOTE_GET_ORDER_STATES);
+
+        Element orderStateDeltasElement = queryElement.addElement(IqElement.ORDER_STATE_DELTAS.toString());
+        orderStateDeltasElement.setText(new Gson().toJson(orderStateDeltas));
+    }
+
+    private List<String> unmarshalOrderIds(IQ iq) {
+        Element queryElement = iq.getElement().element(IqElement.QUERY.toString());
+        List<String> orderIds = new ArrayList<>();
+        for (Object orderIdElement : queryElement.elements(IqElement.ORDER_ID.toString())) {
+            orderIds.add(((Element) orderIdElement).getText());
+        }
+        return orderIds;
+    }
+}
@@ -0,0 +1,51 @@
+package cloud.fogbow.ras.core.intercomponent.xmpp.handlers;
+
+import cloud.fogbow.common.util.IntercomponentUtil;
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.constants.SystemConstants;
+import cloud.fogbow.ras.core.intercomponent.RemoteFacade;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
+import cloud.fogbow.ras.core.intercomponent.xmpp.XmppExceptionToErrorConditionTranslator;
+import cloud.fogbow.ras.core.models.orders.OrderStateDelta;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import org.apache.log4j.Logger;
+import org.dom4j.Element;
+import org.jamppa.component.handler.AbstractQueryHandler;
+import org.xmpp.packet.IQ;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+public class RemoteNotifyOrderStatesRequestHandler extends AbstractQueryHandler {
+    private static final Logger LOGGER = Logger.getLogger(RemoteNotifyOrderStatesRequestHandler.class);
+
+    private static final String REMOTE_NOTIFY_ORDER_STATES = RemoteMethod.REMOTE_NOTIFY_ORDER_STATES.toString();
+    private static final Type ORDER_STATE_DELTAS_TYPE = new TypeToken<List<OrderStateDelta>>(){}.getType();
+
+    public RemoteNotifyOrderStatesRequestHandler() {
+        super(REMOTE_NOTIFY_ORDER_STATES);
+    }
+
+    @Override
+    public IQ handle(IQ iq) {
+        LOGGER.debug(String.format(Messages.Log.RECEIVING_REMOTE_REQUEST_S, iq.getID()));
+        IQ response = IQ.createResultIQ(iq);
+
+        try {
+            List<OrderStateDelta> orderStateDeltas = unmarshalOrderStateDeltas(iq);
+            String senderId = IntercomponentUtil.getSender(iq.getFrom().toBareJID(), SystemConstants.XMPP_SERVER_NAME_PREFIX);
+            RemoteFacade.getInstance().updateOrderStates(senderId, orderStateDeltas);
+        } catch (Exception e) {
+            XmppExceptionToErrorConditionTranslator.updateErrorCondition(response, e);
+        }
+        return response;
+    }
+
+    private List<OrderStateDelta> unmarshalOrderStateDeltas(IQ iq) {
+        Element queryElement = iq.getElement().element(IqElement.QUERY.toString());
+        String orderStateDeltasStr = queryElement.element(IqElement.ORDER_STATE_DELTAS.toString()).getText();
+        return new Gson().fromJson(orderStateDeltasStr, ORDER_STATE_DELTAS_TYPE);
+    }
+}
@@ -21,7 +21,7 @@ public class CloseOrderAtRemoteProviderRequest implements RemoteRequest<Void> {
     public Void send() throws Exception {
         IQ iq = CloseOrderAtRemoteProviderRequest.marshall(this.order);
         LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
-        IQ response = (IQ) PacketSenderHolder.getPacketSender().syncSendPacket(iq);
+        IQ response = XmppRequestDispatcher.getInstance().sendAndWait(this.order.getRequester(), iq);
 
         XmppErrorConditionToExceptionTranslator.handleError(response, this.order.getRequester());
         LOGGER.debug(Messages.Log.SUCCESS);
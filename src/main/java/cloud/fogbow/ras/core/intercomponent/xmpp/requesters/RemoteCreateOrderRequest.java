@@ -1,13 +1,15 @@
 package cloud.fogbow.ras.core.intercomponent.xmpp.requesters;
 
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
-import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppErrorConditionToExceptionTranslator;
+import cloud.fogbow.ras.core.intercomponent.xmpp.XmppRequestDispatcher;
+import cloud.fogbow.ras.core.intercomponent.xmpp.codecs.OrderCodec;
+import cloud.fogbow.ras.core.intercomponent.xmpp.codecs.OrderCodecs;
 import cloud.fogbow.ras.core.models.orders.Order;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.xmpp.packet.IQ;
@@ -25,14 +27,18 @@ public class RemoteCreateOrderRequest implements RemoteRequest<Void> {
     public Void send() throws Exception {
         IQ iq = RemoteCreateOrderRequest.marshal(this.order);
         LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
-        IQ response = (IQ) PacketSenderHolder.getPacketSender().syncSendPacket(iq);
+        IQ response = XmppRequestDispatcher.getInstance().sendAndWait(this.order.getProvider(), iq);
+        if (response != null && response.getError() != null) {
+            // The provider may have been rolled back to a version that does not read the codec it advertised
+            OrderCodecs.getInstance().forget(this.order.getProvider());
+        }
 
         XmppErrorConditionToExceptionTranslator.handleError(response, this.order.getProvider());
         LOGGER.debug(Messages.Log.SUCCESS);
         return null;
     }
 
-    public static IQ marshal(Order order) {
+    public static IQ marshal(Order order) throws InternalServerErrorException {
         IQ iq = new IQ(IQ.Type.set);
         iq.setTo(SystemConstants.JID_SERVICE_NAME + SystemConstants.JID_CONNECTOR + SystemConstants.XMPP_SERVER_NAME_PREFIX + order.getProvider());
         iq.setID(order.getId());
@@ -41,14 +47,9 @@ public class RemoteCreateOrderRequest implements RemoteRequest<Void> {
         Element queryElement = iq.getElement().addElement(IqElement.QUERY.toString(),
                 RemoteMethod.REMOTE_CREATE_ORDER.toString());
 
-        Element orderElement = queryElement.addElement(IqElement.ORDER.toString());
-
-        Element orderClassNameElement =
-                queryElement.addElement(IqElement.ORDER_CLASS_NAME.toString());
-        orderClassNameElement.setText(order.getClass().getName());
-
-        String orderJson = new Gson().toJson(order);
-        orderElement.setText(orderJson);
+        OrderCodecs orderCodecs = OrderCodecs.getInstance();
+        orderCodecs.writeOrder(queryElement, order, orderCodecs.getCodec(order.getProvider()), OrderCodec.Scope.FULL);
+        orderCodecs.advertise(queryElement);
 
         return iq;
     }
@@ -6,9 +6,9 @@ import cloud.fogbow.ras.api.parameters.SecurityRule;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
-import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppErrorConditionToExceptionTranslator;
+import cloud.fogbow.ras.core.intercomponent.xmpp.XmppRequestDispatcher;
 import cloud.fogbow.ras.core.models.orders.Order;
 import com.google.gson.Gson;
 import org.apache.log4j.Logger;
@@ -36,7 +36,7 @@ public class RemoteCreateSecurityRuleRequest implements RemoteRequest<Void> {
         IQ iq = marshal();
 
         LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
-        IQ response = (IQ) PacketSenderHolder.getPacketSender().syncSendPacket(iq);
+        IQ response = XmppRequestDispatcher.getInstance().sendAndWait(this.provider, iq);
         XmppErrorConditionToExceptionTranslator.handleError(response, this.provider);
         LOGGER.debug(Messages.Log.SUCCESS);
         return null;
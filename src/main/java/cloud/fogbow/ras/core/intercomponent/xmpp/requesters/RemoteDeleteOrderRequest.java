@@ -3,9 +3,9 @@ package cloud.fogbow.ras.core.intercomponent.xmpp.requesters;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
-import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppErrorConditionToExceptionTranslator;
+import cloud.fogbow.ras.core.intercomponent.xmpp.XmppRequestDispatcher;
 import cloud.fogbow.ras.core.models.orders.Order;
 import com.google.gson.Gson;
 import org.apache.log4j.Logger;
@@ -25,7 +25,7 @@ public class RemoteDeleteOrderRequest implements RemoteRequest<Void> {
     public Void send() throws Exception {
         IQ iq = RemoteDeleteOrderRequest.marshal(this.order);
         LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
-        IQ response = (IQ) PacketSenderHolder.getPacketSender().syncSendPacket(iq);
+        IQ response = XmppRequestDispatcher.getInstance().sendAndWait(this.order.getProvider(), iq);
 
         XmppErrorConditionToExceptionTranslator.handleError(response, this.order.getProvider());
         LOGGER.debug(Messages.Log.SUCCESS);
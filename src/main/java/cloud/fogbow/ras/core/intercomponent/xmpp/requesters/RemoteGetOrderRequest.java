@@ -4,11 +4,11 @@ import cloud.fogbow.common.exceptions.InternalServerErrorException;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
-import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppErrorConditionToExceptionTranslator;
+import cloud.fogbow.ras.core.intercomponent.xmpp.XmppRequestDispatcher;
+import cloud.fogbow.ras.core.intercomponent.xmpp.codecs.OrderCodecs;
 import cloud.fogbow.ras.core.models.orders.Order;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.xmpp.packet.IQ;
@@ -27,7 +27,7 @@ public class RemoteGetOrderRequest implements RemoteRequest<Order> {
 
         IQ iq = marshal(this.order);
         LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
-        IQ response = (IQ) PacketSenderHolder.getPacketSender().syncSendPacket(iq);
+        IQ response = XmppRequestDispatcher.getInstance().sendAndWait(this.order.getProvider(), iq);
 
         XmppErrorConditionToExceptionTranslator.handleError(response, this.order.getProvider());
         Order order = unmarshalOrder(response);
@@ -46,23 +46,15 @@ public class RemoteGetOrderRequest implements RemoteRequest<Order> {
         Element orderIdElement = queryElement.addElement(IqElement.ORDER_ID.toString());
         orderIdElement.setText(order.getId());
 
+        OrderCodecs.getInstance().advertise(queryElement);
+
         return iq;
     }
 
     private Order unmarshalOrder(IQ response) throws InternalServerErrorException {
-
         Element queryElement = response.getElement().element(IqElement.QUERY.toString());
-        String orderStr = queryElement.element(IqElement.ORDER.toString()).getText();
-
-        String orderClassName = queryElement.element(IqElement.ORDER_CLASS_NAME.toString()).getText();
-
-        Order order = null;
-        try {
-            order = (Order) new Gson().fromJson(orderStr, Class.forName(orderClassName));
-        } catch (Exception e) {
-            throw new InternalServerErrorException(e.getMessage());
-        }
-
-        return order;
+        OrderCodecs orderCodecs = OrderCodecs.getInstance();
+        orderCodecs.learn(this.order.getProvider(), queryElement);
+        return orderCodecs.readOrder(queryElement);
     }
 }
@@ -0,0 +1,96 @@
+package cloud.fogbow.ras.core.intercomponent.xmpp.requesters;
+
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.constants.SystemConstants;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
+import cloud.fogbow.ras.core.intercomponent.xmpp.XmppErrorConditionToExceptionTranslator;
+import cloud.fogbow.ras.core.intercomponent.xmpp.XmppRequestDispatcher;
+import cloud.fogbow.ras.core.models.orders.Order;
+import cloud.fogbow.ras.core.models.orders.OrderStateDelta;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import org.apache.log4j.Logger;
+import org.dom4j.Element;
+import org.xmpp.packet.IQ;
+
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Asks a provider for the state of several of its orders at once. The orders the provider does not know (or
+ * that were not requested by this member) are left out of the reply.
+ */
+public class RemoteGetOrderStatesRequest implements RemoteRequest<List<OrderStateDelta>> {
+    private static final Logger LOGGER = Logger.getLogger(RemoteGetOrderStatesRequest.class);
+
+    private static final Type ORDER_STATE_DELTAS_TYPE = new TypeToken<List<OrderStateDelta>>(){}.getType();
+
+    private String provider;
+    private Collection<Order> orders;
+
+    public RemoteGetOrderStatesRequest(String provider, Collection<Order> orders) {
+        this.provider = provider;
+        this.orders = orders;
+    }
+
+    @Override
+    public List<OrderStateDelta> send() throws Exception {
+        IQ iq = marshal(this.provider, this.orders);
+        LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
+        IQ response = XmppRequestDispatcher.getInstance().sendAndWait(this.provider, iq);
+
+        XmppErrorConditionToExceptionTranslator.handleError(response, this.provider);
+        List<OrderStateDelta> orderStateDeltas = unmarshalOrderStateDeltas(response);
+        LOGGER.debug(Messages.Log.SUCCESS);
+        return orderStateDeltas;
+    }
+
+    /**
+     * Sends the request through the XmppRequestDispatcher, without waiting for the reply.
+     */
+    public CompletableFuture<List<OrderStateDelta>> sendAsync() {
+        IQ iq = marshal(this.provider, this.orders);
+        LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
+        return XmppRequestDispatcher.getInstance().send(this.provider, iq).thenApply(response -> {
+            try {
+                XmppErrorConditionToExceptionTranslator.handleError(response, this.provider);
+                List<OrderStateDelta> orderStateDeltas = unmarshalOrderStateDeltas(response);
+                LOGGER.debug(Messages.Log.SUCCESS);
+                return orderStateDeltas;
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    public static IQ marshal(String provider, Collection<Order> orders) {
+        IQ iq = new IQ(IQ.Type.get);
+        iq.setTo(SystemConstants.JID_SERVICE_NAME + SystemConstants.JID_CONNECTOR + SystemConstants.XMPP_SERVER_NAME_PREFIX + provider);
+
+        Element queryElement = iq.getElement().addElement(IqElement.QUERY.toString(),
+                RemoteMethod.REMOTE_GET_ORDER_STATES.toString());
+
+        for (Order order : orders) {
+            Element orderIdElement = queryElement.addElement(IqElement.ORDER_ID.toString());
+            orderIdElement.setText(order.getId());
+        }
+
+        return iq;
+    }
+
+    public static List<OrderStateDelta> unmarshalOrderStateDeltas(IQ response) throws InternalServerErrorException {
+        Element queryElement = response.getElement().element(IqElement.QUERY.toString());
+        String orderStateDeltasStr = queryElement.element(IqElement.ORDER_STATE_DELTAS.toString()).getText();
+
+        try {
+            return new Gson().fromJson(orderStateDeltasStr, ORDER_STATE_DELTAS_TYPE);
+        } catch (Exception e) {
+            throw new InternalServerErrorException(e.getMessage());
+        }
+    }
+}
@@ -5,9 +5,9 @@ import cloud.fogbow.common.models.SystemUser;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
-import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppErrorConditionToExceptionTranslator;
+import cloud.fogbow.ras.core.intercomponent.xmpp.XmppRequestDispatcher;
 import cloud.fogbow.ras.api.http.response.quotas.Quota;
 import com.google.gson.Gson;
 import org.apache.log4j.Logger;
@@ -31,7 +31,7 @@ public class RemoteGetUserQuotaRequest implements RemoteRequest<Quota> {
     public Quota send() throws Exception {
         IQ iq = marshal(this.provider, this.cloudName, this.systemUser);
         LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
-        IQ response = (IQ) PacketSenderHolder.getPacketSender().syncSendPacket(iq);
+        IQ response = XmppRequestDispatcher.getInstance().sendAndWait(this.provider, iq);
 
         XmppErrorConditionToExceptionTranslator.handleError(response, this.provider);
         Quota quota = unmarshalUserQuota(response);
@@ -0,0 +1,76 @@
+package cloud.fogbow.ras.core.intercomponent.xmpp.requesters;
+
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.constants.SystemConstants;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
+import cloud.fogbow.ras.core.intercomponent.xmpp.XmppErrorConditionToExceptionTranslator;
+import cloud.fogbow.ras.core.intercomponent.xmpp.XmppRequestDispatcher;
+import cloud.fogbow.ras.core.models.orders.OrderStateDelta;
+import com.google.gson.Gson;
+import org.apache.log4j.Logger;
+import org.dom4j.Element;
+import org.xmpp.packet.IQ;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Tells the provider that requested several orders of this provider about their new states.
+ */
+public class RemoteNotifyOrderStatesRequest implements RemoteRequest<Void> {
+    private static final Logger LOGGER = Logger.getLogger(RemoteNotifyOrderStatesRequest.class);
+
+    private String requester;
+    private List<OrderStateDelta> orderStateDeltas;
+
+    public RemoteNotifyOrderStatesRequest(String requester, List<OrderStateDelta> orderStateDeltas) {
+        this.requester = requester;
+        this.orderStateDeltas = orderStateDeltas;
+    }
+
+    @Override
+    public Void send() throws Exception {
+        IQ iq = marshal(this.requester, this.orderStateDeltas);
+        LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
+        IQ response = XmppRequestDispatcher.getInstance().sendAndWait(this.requester, iq);
+
+        XmppErrorConditionToExceptionTranslator.handleError(response, this.requester);
+        LOGGER.debug(Messages.Log.SUCCESS);
+        return null;
+    }
+
+    /**
+     * Sends the notification without waiting for the reply.
+     *
+     * @return A future that completes when the requester acknowledges the notification, or exceptionally if it
+     * does not answer in time or answers with an error.
+     */
+    public CompletableFuture<Void> sendAsync() {
+        IQ iq = marshal(this.requester, this.orderStateDeltas);
+        LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
+        return XmppRequestDispatcher.getInstance().send(this.requester, iq).thenApply(response -> {
+            try {
+                XmppErrorConditionToExceptionTranslator.handleError(response, this.requester);
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+            LOGGER.debug(Messages.Log.SUCCESS);
+            return null;
+        });
+    }
+
+    public static IQ marshal(String requester, List<OrderStateDelta> orderStateDeltas) {
+        IQ iq = new IQ(IQ.Type.set);
+        iq.setTo(SystemConstants.JID_SERVICE_NAME + SystemConstants.JID_CONNECTOR + SystemConstants.XMPP_SERVER_NAME_PREFIX + requester);
+
+        Element queryElement = iq.getElement().addElement(IqElement.QUERY.toString(),
+                RemoteMethod.REMOTE_NOTIFY_ORDER_STATES.toString());
+
+        Element orderStateDeltasElement = queryElement.addElement(IqElement.ORDER_STATE_DELTAS.toString());
+        orderStateDeltasElement.setText(new Gson().toJson(orderStateDeltas));
+
+        return iq;
+    }
+}
@@ -27,6 +27,7 @@ public abstract class Order<T extends Order> implements Serializable {
 
     public static final int FIELDS_MAX_SIZE = 255;
     public static final int ID_FIXED_SIZE = 36; // UUID size
+    public static final long CHECK_IMMEDIATELY = 0;
 
     @Transient
     private transient final org.apache.log4j.Logger LOGGER = org.apache.log4j.Logger.getLogger(Order.class);
@@ -38,7 +39,7 @@ public abstract class Order<T extends Order> implements Serializable {
 
     @Column
     @Enumerated(EnumType.STRING)
-    private OrderState orderState;
+    private volatile OrderState orderState;
 
     @Column(name = REQUESTER_COLUMN_NAME)
     @Size(max = FIELDS_MAX_SIZE)
@@ -82,6 +83,13 @@ public abstract class Order<T extends Order> implements Serializable {
     @Size(max = FIELDS_MAX_SIZE)
     private String faultMessage;
 
+    // Runtime information used by the processors; it is neither persisted nor sent to other providers
+    @Transient
+    private transient long nextCheckTime = CHECK_IMMEDIATELY;
+
+    @Transient
+    private transient int checksInCurrentState;
+
     public Order() {
     }
 
@@ -120,6 +128,20 @@ public abstract class Order<T extends Order> implements Serializable {
     public void setOrderState(OrderState state) throws InternalServerErrorException {
         LOGGER.debug(String.format(Messages.Log.ORDER_S_CHANGED_STATE_TO_S, this.getId(), state));
         this.orderState = state;
+        saveOrderState();
+    }
+
+    /**
+     * Changes the state of the order without writing it to the stable storage; this is done by
+     * saveOrderState(). Callers must hold the monitor of the order.
+     */
+    public void setOrderStateInMemory(OrderState state) {
+        LOGGER.debug(String.format(Messages.Log.ORDER_S_CHANGED_STATE_TO_S, this.getId(), state));
+        this.orderState = state;
+    }
+
+    public void saveOrderState() throws InternalServerErrorException {
+        OrderState state = this.orderState;
         DatabaseManager databaseManager = DatabaseManager.getInstance();
         if (state.equals(OrderState.OPEN)) {
             // Adding in stable storage newly created order
@@ -194,6 +216,28 @@ public abstract class Order<T extends Order> implements Serializable {
         if (this.faultMessage == null) this.faultMessage = faultMessage;
     }
 
+    public long getNextCheckTime() {
+        return this.nextCheckTime;
+    }
+
+    public void setNextCheckTime(long nextCheckTime) {
+        this.nextCheckTime = nextCheckTime;
+    }
+
+    public int getChecksInCurrentState() {
+        return this.checksInCurrentState;
+    }
+
+    public void incrementChecksInCurrentState() {
+        this.checksInCurrentState++;
+    }
+
+    // Must be called whenever the order changes state, so that it is checked right away in the new state
+    public void resetCheckSchedule() {
+        this.nextCheckTime = CHECK_IMMEDIATELY;
+        this.checksInCurrentState = 0;
+    }
+
     private void setSerializedSystemUser(String serializedSystemUser) {
         this.serializedSystemUser = serializedSystemUser;
     }
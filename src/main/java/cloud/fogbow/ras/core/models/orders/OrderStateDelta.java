@@ -0,0 +1,65 @@
+package cloud.fogbow.ras.core.models.orders;
+
+import cloud.fogbow.ras.api.http.response.quotas.allocation.ComputeAllocation;
+import cloud.fogbow.ras.api.http.response.quotas.allocation.VolumeAllocation;
+
+/**
+ * The part of an order that a providing member may change and that the requesting member must follow: its
+ * state, fault message and actual allocation. It is what the remote orders state synchronization exchanges,
+ * instead of the whole order.
+ */
+public class OrderStateDelta {
+
+    private String orderId;
+    private OrderState orderState;
+    private String faultMessage;
+    private ComputeAllocation computeAllocation;
+    private VolumeAllocation volumeAllocation;
+
+    public OrderStateDelta() {
+    }
+
+    public OrderStateDelta(Order order) {
+        this.orderId = order.getId();
+        this.orderState = order.getOrderState();
+        this.faultMessage = order.getFaultMessage();
+        if (order instanceof ComputeOrder) {
+            this.computeAllocation = ((ComputeOrder) order).getActualAllocation();
+        } else if (order instanceof VolumeOrder) {
+            this.volumeAllocation = ((VolumeOrder) order).getActualAllocation();
+        }
+    }
+
+    /**
+     * Updates the local counterpart of the remote order, in the same way as {@link Order#updateFromRemote}; the
+     * state of the order is left to the caller.
+     */
+    public void applyTo(Order order) {
+        if (order instanceof ComputeOrder) {
+            ((ComputeOrder) order).setActualAllocation(this.computeAllocation);
+        } else if (order instanceof VolumeOrder) {
+            ((VolumeOrder) order).setActualAllocation(this.volumeAllocation);
+        }
+        order.setOnceFaultMessage(this.faultMessage);
+    }
+
+    public String getOrderId() {
+        return orderId;
+    }
+
+    public OrderState getOrderState() {
+        return orderState;
+    }
+
+    public String getFaultMessage() {
+        return faultMessage;
+    }
+
+    public ComputeAllocation getComputeAllocation() {
+        return computeAllocation;
+    }
+
+    public VolumeAllocation getVolumeAllocation() {
+        return volumeAllocation;
+    }
+}
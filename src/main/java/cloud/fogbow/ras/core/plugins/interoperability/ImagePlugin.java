@@ -5,6 +5,7 @@ import cloud.fogbow.common.models.CloudUser;
 import cloud.fogbow.ras.api.http.response.ImageInstance;
 import cloud.fogbow.ras.api.http.response.ImageSummary;
 
+import java.util.Collections;
 import java.util.List;
 
 public interface ImagePlugin<T extends CloudUser> {
@@ -12,4 +13,21 @@ public interface ImagePlugin<T extends CloudUser> {
     List<ImageSummary> getAllImages(T cloudUser) throws FogbowException;
 
     ImageInstance getImage(String imageId, T cloudUser) throws FogbowException;
+
+    /**
+     * Plugins of clouds that tell the public images, which every user lists, from the private images of each
+     * user override this method, getPublicImages() and getPrivateImages(), so that the public images are listed
+     * once for the whole cloud rather than once for each user.
+     */
+    default boolean listsPublicImagesSeparately() {
+        return false;
+    }
+
+    default List<ImageSummary> getPublicImages(T cloudUser) throws FogbowException {
+        return Collections.emptyList();
+    }
+
+    default List<ImageSummary> getPrivateImages(T cloudUser) throws FogbowException {
+        return getAllImages(cloudUser);
+    }
 }
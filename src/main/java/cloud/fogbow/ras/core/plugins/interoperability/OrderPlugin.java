@@ -5,6 +5,10 @@ import cloud.fogbow.common.models.CloudUser;
 import cloud.fogbow.ras.api.http.response.OrderInstance;
 import cloud.fogbow.ras.core.models.orders.Order;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 public interface OrderPlugin<R extends OrderInstance, T extends Order, S extends CloudUser> {
     public String requestInstance(T Order, S cloudUser) throws FogbowException;
 
@@ -12,6 +16,21 @@ public interface OrderPlugin<R extends OrderInstance, T extends Order, S extends
 
     public R getInstance(T Order, S cloudUser) throws FogbowException;
 
+    /**
+     * Gets the instances of several orders with as few requests to the cloud as possible. This is an
+     * optional capability: plugins of clouds that are able to list many resources in a single request
+     * should override this method; the default implementation returns an empty map.
+     *
+     * @param orders    Orders whose instances are wanted; all of them must have an instance id.
+     * @param cloudUser
+     * @return The instances found, keyed by instance id. The instances of the orders that are not in
+     * the map must be obtained through getInstance().
+     * @throws FogbowException {@link FogbowException} When request fails.
+     */
+    public default Map<String, R> getInstances(Collection<T> orders, S cloudUser) throws FogbowException {
+        return new HashMap<>();
+    }
+
     public boolean isReady(String instanceState);
 
     public boolean hasFailed(String instanceState);
@@ -1,6 +1,23 @@
 package cloud.fogbow.ras.core.plugins.interoperability.aws;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
+import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
+import cloud.fogbow.ras.core.PropertiesHolder;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import org.apache.log4j.Logger;
 
 import cloud.fogbow.common.constants.AwsConstants;
@@ -8,37 +25,44 @@ import cloud.fogbow.common.exceptions.InvalidParameterException;
 import cloud.fogbow.ras.constants.Messages;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.ec2.Ec2Client;
 
+/**
+ * Provides the EC2 clients used by the AWS plugins. Each client keeps its own pool of HTTP connections,
+ * so clients are shared by all the calls made with the same credentials to the same region, instead of
+ * being built (and left open) at every call. At most aws_client_cache_max_size clients are kept, and a
+ * client that is not used for aws_client_idle_timeout milliseconds is evicted. The clients are keyed by a
+ * digest of the credentials, so the credentials are not kept in the cache keys.
+ * <p>
+ * The callers do not release the clients they obtain, so an evicted client may still be in use: it is only
+ * closed aws_client_idle_timeout milliseconds after its eviction, which is longer than the calls made with
+ * it are allowed to take. The callers must not close the clients they obtain.
+ */
 public class AwsV2ClientUtil {
 
 	private static final Logger LOGGER = Logger.getLogger(AwsV2ClientUtil.class);
 	private static final int ACCESS_KEY_ID_TOKEN_INDEX = 0;
 	private static final int SECRET_KEY_ID_TOKEN_INDEX = 1;
+	private static final String CLIENT_KEY_SEPARATOR = "@";
+	private static final String CLOSER_THREAD_NAME = "aws-client-closer";
+
+	private static Cache<String, Ec2Client> clients;
+	private static ScheduledExecutorService closer;
+	private static long closeGracePeriod;
 
 	public static Ec2Client createEc2Client(String tokenValue, String regionName)
 			throws InvalidParameterException, InternalServerErrorException {
 
-		String[] token = tokenValue.split(AwsConstants.TOKEN_VALUE_SEPARATOR);
-		String accessKeyId = token[ACCESS_KEY_ID_TOKEN_INDEX];
-		String secretKeyId = token[SECRET_KEY_ID_TOKEN_INDEX];
-    
 		Region region = parseRegion(regionName);
-
-		Ec2Client client;
+		String clientKey = getClientKey(tokenValue, region);
 		try {
-			AwsBasicCredentials awsCredentials = AwsBasicCredentials.create(accessKeyId, secretKeyId);
-			StaticCredentialsProvider credentialsProvider = StaticCredentialsProvider.create(awsCredentials);
-			client = Ec2Client.builder()
-					.credentialsProvider(credentialsProvider)
-					.region(region)
-					.build();
-
-			return client;
-		} catch (Throwable e) {
-			LOGGER.error(Messages.Log.ERROR_WHILE_CREATING_CLIENT, e);
-			throw new InternalServerErrorException(e.getMessage());
+			return getClients().get(clientKey, () -> buildEc2Client(tokenValue, region));
+		} catch (ExecutionException | UncheckedExecutionException e) {
+			LOGGER.error(Messages.Log.ERROR_WHILE_CREATING_CLIENT, e.getCause());
+			throw new InternalServerErrorException(e.getCause().getMessage());
 		}
 	}
 
@@ -53,4 +77,108 @@ public class AwsV2ClientUtil {
 		throw new InvalidParameterException(String.format(Messages.Exception.INVALID_PARAMETER_S, regionName));
 	}
 
+	protected static String getClientKey(String tokenValue, Region region) {
+		String credentialsDigest = Hashing.sha256().hashString(tokenValue, StandardCharsets.UTF_8).toString();
+		return credentialsDigest + CLIENT_KEY_SEPARATOR + region.id();
+	}
+
+	public static synchronized void closeClients() {
+		if (clients != null) {
+			clients.invalidateAll();
+			clients.cleanUp();
+		}
+		if (closer != null) {
+			// The clients evicted before the shutdown are closed right away as well
+			for (Runnable pendingClose : closer.shutdownNow()) {
+				pendingClose.run();
+			}
+			closer = null;
+		}
+	}
+
+	private static Ec2Client buildEc2Client(String tokenValue, Region region) {
+		String[] token = tokenValue.split(AwsConstants.TOKEN_VALUE_SEPARATOR);
+		String accessKeyId = token[ACCESS_KEY_ID_TOKEN_INDEX];
+		String secretKeyId = token[SECRET_KEY_ID_TOKEN_INDEX];
+
+		AwsBasicCredentials awsCredentials = AwsBasicCredentials.create(accessKeyId, secretKeyId);
+		StaticCredentialsProvider credentialsProvider = StaticCredentialsProvider.create(awsCredentials);
+		return Ec2Client.builder()
+				.credentialsProvider(credentialsProvider)
+				.region(region)
+				.overrideConfiguration(buildOverrideConfiguration())
+				.build();
+	}
+
+	private static ClientOverrideConfiguration buildOverrideConfiguration() {
+		PropertiesHolder properties = PropertiesHolder.getInstance();
+		long apiCallTimeout = Long.parseLong(properties.getProperty(
+				ConfigurationPropertyKeys.AWS_CLIENT_API_CALL_TIMEOUT_KEY,
+				ConfigurationPropertyDefaults.AWS_CLIENT_API_CALL_TIMEOUT));
+		long apiCallAttemptTimeout = Long.parseLong(properties.getProperty(
+				ConfigurationPropertyKeys.AWS_CLIENT_API_CALL_ATTEMPT_TIMEOUT_KEY,
+				ConfigurationPropertyDefaults.AWS_CLIENT_API_CALL_ATTEMPT_TIMEOUT));
+		int maxRetries = Integer.parseInt(properties.getProperty(
+				ConfigurationPropertyKeys.AWS_CLIENT_MAX_RETRIES_KEY,
+				ConfigurationPropertyDefaults.AWS_CLIENT_MAX_RETRIES));
+
+		return ClientOverrideConfiguration.builder()
+				.apiCallTimeout(Duration.ofMillis(apiCallTimeout))
+				.apiCallAttemptTimeout(Duration.ofMillis(apiCallAttemptTimeout))
+				.retryPolicy(RetryPolicy.builder().numRetries(maxRetries).build())
+				.build();
+	}
+
+	private static synchronized Cache<String, Ec2Client> getClients() {
+		if (clients == null) {
+			PropertiesHolder properties = PropertiesHolder.getInstance();
+			long maxSize = Long.parseLong(properties.getProperty(
+					ConfigurationPropertyKeys.AWS_CLIENT_CACHE_MAX_SIZE_KEY,
+					ConfigurationPropertyDefaults.AWS_CLIENT_CACHE_MAX_SIZE));
+			long idleTimeout = Long.parseLong(properties.getProperty(
+					ConfigurationPropertyKeys.AWS_CLIENT_IDLE_TIMEOUT_KEY,
+					ConfigurationPropertyDefaults.AWS_CLIENT_IDLE_TIMEOUT));
+
+			closeGracePeriod = idleTimeout;
+			clients = CacheBuilder.newBuilder()
+					.maximumSize(maxSize)
+					.expireAfterAccess(idleTimeout, TimeUnit.MILLISECONDS)
+					.<String, Ec2Client>removalListener(AwsV2ClientUtil::closeClient)
+					.build();
+		}
+		return clients;
+	}
+
+	private static synchronized ScheduledExecutorService getCloser() {
+		if (closer == null) {
+			closer = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+					.setNameFormat(CLOSER_THREAD_NAME)
+					.setDaemon(true)
+					.build());
+		}
+		return closer;
+	}
+
+	private static void closeClient(RemovalNotification<String, Ec2Client> notification) {
+		Ec2Client client = notification.getValue();
+		if (client == null) {
+			return;
+		}
+		String regionId = notification.getKey().substring(notification.getKey().lastIndexOf(CLIENT_KEY_SEPARATOR) + 1);
+		if (notification.getCause() == RemovalCause.EXPLICIT) {
+			// Only closeClients invalidates entries, at shutdown
+			closeClient(client, regionId);
+		} else {
+			getCloser().schedule(() -> closeClient(client, regionId), closeGracePeriod, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private static void closeClient(Ec2Client client, String regionId) {
+		try {
+			client.close();
+		} catch (Throwable e) {
+			LOGGER.warn(String.format(Messages.Log.UNABLE_TO_CLOSE_EC2_CLIENT_S, regionId), e);
+		}
+	}
+
 }
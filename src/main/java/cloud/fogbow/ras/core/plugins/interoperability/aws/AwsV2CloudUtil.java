@@ -1,6 +1,7 @@
 package cloud.fogbow.ras.core.plugins.interoperability.aws;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import cloud.fogbow.common.exceptions.FogbowException;
@@ -25,6 +26,7 @@ import software.amazon.awssdk.services.ec2.model.DescribeSubnetsRequest;
 import software.amazon.awssdk.services.ec2.model.DescribeSubnetsResponse;
 import software.amazon.awssdk.services.ec2.model.DescribeVolumesRequest;
 import software.amazon.awssdk.services.ec2.model.DescribeVolumesResponse;
+import software.amazon.awssdk.services.ec2.model.Filter;
 import software.amazon.awssdk.services.ec2.model.Image;
 import software.amazon.awssdk.services.ec2.model.Instance;
 import software.amazon.awssdk.services.ec2.model.Reservation;
@@ -37,6 +39,11 @@ public class AwsV2CloudUtil {
     public static final String AWS_TAG_GROUP_ID = "groupId";
     public static final String AWS_TAG_NAME = "Name";
     public static final String SECURITY_GROUP_RESOURCE = "Security Groups";
+
+    private static final String INSTANCE_ID_FILTER = "instance-id";
+    private static final String VOLUME_ID_FILTER = "volume-id";
+    // Maximum number of values accepted by the EC2 API in a single filter
+    private static final int MAX_FILTER_VALUES = 200;
     
     public static Image getImagesFrom(DescribeImagesResponse response) throws FogbowException {
         if (response != null && !response.images().isEmpty()) {
@@ -147,6 +154,90 @@ public class AwsV2CloudUtil {
         }
     }
 
+    /**
+     * Describes the instances with the given ids, using as few requests as possible. Unlike a request
+     * by instance ids, a request filtered by instance ids does not fail when some of them do not exist.
+     */
+    public static List<Instance> doDescribeInstancesByIds(Collection<String> instanceIds, Ec2Client client)
+            throws FogbowException {
+
+        List<Instance> instances = new ArrayList<>();
+        for (List<String> ids : partition(instanceIds)) {
+            Filter filter = Filter.builder()
+                    .name(INSTANCE_ID_FILTER)
+                    .values(ids)
+                    .build();
+
+            String nextToken = null;
+            do {
+                DescribeInstancesRequest request = DescribeInstancesRequest.builder()
+                        .filters(filter)
+                        .nextToken(nextToken)
+                        .build();
+                DescribeInstancesResponse response;
+                try {
+                    response = client.describeInstances(request);
+                } catch (SdkException e) {
+                    throw new InternalServerErrorException(e.getMessage());
+                }
+                for (Reservation reservation : response.reservations()) {
+                    instances.addAll(reservation.instances());
+                }
+                nextToken = response.nextToken();
+            } while (nextToken != null);
+        }
+        return instances;
+    }
+
+    /**
+     * Describes the volumes with the given ids, using as few requests as possible. Volumes that
+     * do not exist are ignored.
+     */
+    public static List<Volume> doDescribeVolumesByIds(Collection<String> volumeIds, Ec2Client client)
+            throws FogbowException {
+
+        List<Volume> volumes = new ArrayList<>();
+        for (List<String> ids : partition(volumeIds)) {
+            Filter filter = Filter.builder()
+                    .name(VOLUME_ID_FILTER)
+                    .values(ids)
+                    .build();
+
+            String nextToken = null;
+            do {
+                DescribeVolumesRequest request = DescribeVolumesRequest.builder()
+                        .filters(filter)
+                        .nextToken(nextToken)
+                        .build();
+                DescribeVolumesResponse response;
+                try {
+                    response = client.describeVolumes(request);
+                } catch (SdkException e) {
+                    throw new InternalServerErrorException(e.getMessage());
+                }
+                volumes.addAll(response.volumes());
+                nextToken = response.nextToken();
+            } while (nextToken != null);
+        }
+        return volumes;
+    }
+
+    private static List<List<String>> partition(Collection<String> ids) {
+        List<List<String>> partitions = new ArrayList<>();
+        List<String> partition = new ArrayList<>();
+        for (String id : ids) {
+            if (partition.size() == MAX_FILTER_VALUES) {
+                partitions.add(partition);
+                partition = new ArrayList<>();
+            }
+            partition.add(id);
+        }
+        if (!partition.isEmpty()) {
+            partitions.add(partition);
+        }
+        return partitions;
+    }
+
     public static Instance getInstanceFrom(DescribeInstancesResponse response) throws FogbowException {
         if (!response.reservations().isEmpty()) {
             Reservation reservation = response.reservations().listIterator().next();
@@ -5,6 +5,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -12,12 +14,20 @@ import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import cloud.fogbow.common.exceptions.*;
 import cloud.fogbow.common.util.BinaryUnit;
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
+import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
+import cloud.fogbow.ras.core.PropertiesHolder;
 import cloud.fogbow.ras.core.plugins.interoperability.aws.sdk.v2.compute.model.AwsHardwareRequirements;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import org.apache.log4j.Logger;
 
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
@@ -88,7 +98,10 @@ public class AwsComputePlugin implements ComputePlugin<AwsV2User> {
     private String defaultSubnetId;
     private String flavorsFilePath;
     private String region;
-    private TreeSet<AwsHardwareRequirements> flavors;
+    private volatile InstanceTypes instanceTypes;
+    // The images sizes and the flavor indexes are kept by cloud user id
+    private Cache<String, Map<String, Integer>> imagesSizes;
+    private Cache<String, FlavorIndex> flavorIndexes;
     private LaunchCommandGenerator launchCommandGenerator;
 
     public AwsComputePlugin(String confFilePath) {
@@ -97,7 +110,16 @@ public class AwsComputePlugin implements ComputePlugin<AwsV2User> {
         this.defaultSubnetId = properties.getProperty(AwsV2ConfigurationPropertyKeys.AWS_DEFAULT_SUBNET_ID_KEY);
         this.flavorsFilePath = properties.getProperty(AwsV2ConfigurationPropertyKeys.AWS_FLAVORS_TYPES_FILE_PATH_KEY);
         this.launchCommandGenerator = new DefaultLaunchCommandGenerator();
-        this.flavors = new TreeSet<AwsHardwareRequirements>();
+
+        long imagesSizeCacheTtl = Long.parseLong(PropertiesHolder.getInstance().getProperty(
+                ConfigurationPropertyKeys.AWS_IMAGES_SIZE_CACHE_TTL_KEY,
+                ConfigurationPropertyDefaults.AWS_IMAGES_SIZE_CACHE_TTL));
+        this.imagesSizes = CacheBuilder.newBuilder()
+                .expireAfterWrite(imagesSizeCacheTtl, TimeUnit.MILLISECONDS)
+                .build();
+        this.flavorIndexes = CacheBuilder.newBuilder()
+                .expireAfterAccess(imagesSizeCacheTtl, TimeUnit.MILLISECONDS)
+                .build();
     }
 
     @Override
@@ -114,11 +136,23 @@ public class AwsComputePlugin implements ComputePlugin<AwsV2User> {
     public ComputeInstance getInstance(ComputeOrder computeOrder, AwsV2User cloudUser) throws FogbowException {
         LOGGER.info(String.format(Messages.Log.GETTING_INSTANCE_S, computeOrder.getInstanceId()));
         Ec2Client client = AwsV2ClientUtil.createEc2Client(cloudUser.getToken(), this.region);
-        updateHardwareRequirements(cloudUser);
+        loadInstanceTypes();
         String instanceId = computeOrder.getInstanceId();
         return doGetInstance(instanceId, client);
     }
 
+    @Override
+    public Map<String, ComputeInstance> getInstances(Collection<ComputeOrder> computeOrders, AwsV2User cloudUser)
+            throws FogbowException {
+        LOGGER.info(String.format(Messages.Log.GETTING_INSTANCES_OF_D_ORDERS, computeOrders.size()));
+        Ec2Client client = AwsV2ClientUtil.createEc2Client(cloudUser.getToken(), this.region);
+        loadInstanceTypes();
+        List<String> instanceIds = computeOrders.stream()
+                .map(ComputeOrder::getInstanceId)
+                .collect(Collectors.toList());
+        return doGetInstances(instanceIds, client);
+    }
+
     @Override
     public void deleteInstance(ComputeOrder computeOrder, AwsV2User cloudUser) throws FogbowException {
         LOGGER.info(String.format(Messages.Log.DELETING_INSTANCE_S, computeOrder.getInstanceId()));
@@ -159,6 +193,36 @@ public class AwsComputePlugin implements ComputePlugin<AwsV2User> {
         return buildComputeInstance(instance, volumes);
     }
 	
+    @VisibleForTesting
+    Map<String, ComputeInstance> doGetInstances(List<String> instanceIds, Ec2Client client) throws FogbowException {
+        List<Instance> instances = AwsV2CloudUtil.doDescribeInstancesByIds(instanceIds, client);
+
+        List<String> volumeIds = new ArrayList<>();
+        for (Instance instance : instances) {
+            volumeIds.addAll(AwsV2CloudUtil.getVolumeIds(instance));
+        }
+        Map<String, Volume> volumesById = new HashMap<>();
+        for (Volume volume : AwsV2CloudUtil.doDescribeVolumesByIds(volumeIds, client)) {
+            volumesById.put(volume.volumeId(), volume);
+        }
+
+        Map<String, ComputeInstance> computeInstances = new HashMap<>();
+        for (Instance instance : instances) {
+            // Terminated instances are left out, so that they are reported as not found by getInstance()
+            if (instance.state().nameAsString().equals(AwsV2StateMapper.TERMINATED_STATE)) {
+                continue;
+            }
+            List<Volume> volumes = new ArrayList<>();
+            for (String volumeId : AwsV2CloudUtil.getVolumeIds(instance)) {
+                if (volumesById.containsKey(volumeId)) {
+                    volumes.add(volumesById.get(volumeId));
+                }
+            }
+            computeInstances.put(instance.instanceId(), buildComputeInstance(instance, volumes));
+        }
+        return computeInstances;
+    }
+
     @VisibleForTesting
     ComputeInstance buildComputeInstance(Instance instance, List<Volume> volumes) {
         String id = instance.instanceId();
@@ -235,12 +299,11 @@ public class AwsComputePlugin implements ComputePlugin<AwsV2User> {
 
     @VisibleForTesting
     int getMemoryValueFrom(InstanceType instanceType) {
-        for (AwsHardwareRequirements flavor : getFlavors()) {
-            if (flavor.getName().equals(instanceType.toString())) {
-                return flavor.getRam();
-            }
+        InstanceTypes instanceTypes = getInstanceTypes();
+        if (instanceTypes == null) {
+            return 0;
         }
-        return 0;
+        return instanceTypes.memoryByName.getOrDefault(instanceType.toString(), 0);
     }
 
     @VisibleForTesting
@@ -365,91 +428,84 @@ public class AwsComputePlugin implements ComputePlugin<AwsV2User> {
     AwsHardwareRequirements findSmallestFlavor(ComputeOrder computeOrder, AwsV2User cloudUser)
             throws FogbowException {
 
-        updateHardwareRequirements(cloudUser);
-        TreeSet<AwsHardwareRequirements> resultset = getFlavorsByRequirements(computeOrder.getRequirements());
-        for (AwsHardwareRequirements hardwareRequirements : resultset) {
-            if (hardwareRequirements.getCpu() >= computeOrder.getvCPU()
-                    && hardwareRequirements.getRam() >= computeOrder.getRam()
-                    && hardwareRequirements.getDisk() >= computeOrder.getDisk()) {
-                return hardwareRequirements;
-            }
+        FlavorIndex flavorIndex = getFlavorIndex(cloudUser);
+        AwsHardwareRequirements flavor = flavorIndex.findSmallestFlavor(computeOrder.getvCPU(),
+                computeOrder.getRam(), computeOrder.getDisk(), computeOrder.getRequirements());
+        if (flavor == null) {
+            throw new UnacceptableOperationException(Messages.Exception.NO_MATCHING_FLAVOR);
         }
-        throw new UnacceptableOperationException(Messages.Exception.NO_MATCHING_FLAVOR);
+        return flavor;
     }
 
     /**
-     * this method attempts to filter the set of flavors available from a
-     * requirements map passed by parameter. If there are valid requirements on the
-     * map, it will filter these insights, returning only the common flavors to the
-     * requested order. Otherwise returns the complete flavor set without changes.
+     * This method returns the flavors available to the user, one for each image
+     * of the user and instance type of the flavors file. The flavors are only
+     * assembled again when the flavors file changes or when the sizes of the
+     * images of the user expire.
      * 
-     * @param orderRequirements: a map of requirements in the compute order request.
-     * @return a set of requirements-filtered flavors or the current set of flavors.
+     * @param cloudUser: the user of the AWS cloud.
+     * @return the index of the flavors available to the user.
+     * @throws FogbowException: if any error occurs.
      */
     @VisibleForTesting
-    TreeSet<AwsHardwareRequirements> getFlavorsByRequirements(Map<String, String> orderRequirements) {
-        TreeSet<AwsHardwareRequirements> resultSet = getFlavors();
-        List<AwsHardwareRequirements> resultList = null;
-        if (orderRequirements != null && !orderRequirements.isEmpty()) {
-            for (Entry<String, String> requirements : orderRequirements.entrySet()) {
-                resultList = filterFlavors(resultSet, requirements);
-                if (resultList.size() < resultSet.size()) {
-                    resultSet = parseToTreeSet(resultList);
-                }
-            }
+    FlavorIndex getFlavorIndex(AwsV2User cloudUser) throws FogbowException {
+        InstanceTypes instanceTypes = loadInstanceTypes();
+        Map<String, Integer> imagesSizes = getImagesSizes(cloudUser);
+        FlavorIndex flavorIndex = this.flavorIndexes.getIfPresent(cloudUser.getId());
+        if (flavorIndex == null || !flavorIndex.isBuiltFrom(instanceTypes, imagesSizes)) {
+            flavorIndex = buildFlavorIndex(instanceTypes, imagesSizes);
+            this.flavorIndexes.put(cloudUser.getId(), flavorIndex);
         }
-        return resultSet;
+        return flavorIndex;
     }
 
     @VisibleForTesting
-    TreeSet<AwsHardwareRequirements> parseToTreeSet(List<AwsHardwareRequirements> list) {
-        TreeSet<AwsHardwareRequirements> resultSet = new TreeSet<AwsHardwareRequirements>();
-        resultSet.addAll(list);
-        return resultSet;
-    }
-
-    @VisibleForTesting
-    List<AwsHardwareRequirements> filterFlavors(TreeSet<AwsHardwareRequirements> flavors,
-            Entry<String, String> requirements) {
-
-        String key = requirements.getKey().trim();
-        String value = requirements.getValue().trim();
-        return flavors.stream()
-                .filter(flavor -> value.equalsIgnoreCase(flavor.getRequirements().get(key)))
-                .collect(Collectors.toList());
+    FlavorIndex buildFlavorIndex(InstanceTypes instanceTypes, Map<String, Integer> imagesSizes) {
+        FlavorIndex flavorIndex = new FlavorIndex(instanceTypes, imagesSizes);
+        for (Entry<String, Integer> imageEntry : imagesSizes.entrySet()) {
+            for (String[] requirements : instanceTypes.requirements) {
+                flavorIndex.add(buildHardwareRequirements(imageEntry, requirements));
+            }
+        }
+        return flavorIndex;
     }
 
     @VisibleForTesting
-    TreeSet<AwsHardwareRequirements> getFlavors() {
-        synchronized (this.flavors) {
-            return this.flavors;
+    Map<String, Integer> getImagesSizes(AwsV2User cloudUser) throws FogbowException {
+        try {
+            return this.imagesSizes.get(cloudUser.getId(), () -> generateImagesSizeMap(cloudUser));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof FogbowException) {
+                throw (FogbowException) e.getCause();
+            }
+            throw new InternalServerErrorException(e.getCause().getMessage());
         }
     }
 
     /**
-     * This method loads all of the flavor file lines containing the hardware
-     * requirements by instance type AWS, and a map of available images in the
-     * cloud, to assemble a set of flavors ordered by the simplest requirements.
+     * This method loads the hardware requirements by instance type AWS from the
+     * flavors file, which is only read again when it is modified.
      * 
-     * @param cloudUser: the user of the AWS cloud.
-     * @throws FogbowException: if any error occurs.
+     * @return the instance types of the flavors file.
+     * @throws ConfigurationErrorException: if the file cannot be read.
      */
     @VisibleForTesting
-    void updateHardwareRequirements(AwsV2User cloudUser) throws FogbowException {
-        List<String> lines = loadLinesFromFlavorFile();
-        String[] requirements = null;
-        AwsHardwareRequirements flavor = null;
-
-        Map<String, Integer> imagesMap = generateImagesSizeMap(cloudUser);
-        for (Entry<String, Integer> imageEntry : imagesMap.entrySet()) {
-            for (String line : lines) {
+    InstanceTypes loadInstanceTypes() throws ConfigurationErrorException {
+        long lastModified = getFlavorsFileLastModified();
+        InstanceTypes instanceTypes = this.instanceTypes;
+        if (instanceTypes == null || instanceTypes.lastModified != lastModified) {
+            instanceTypes = new InstanceTypes(lastModified);
+            for (String line : loadLinesFromFlavorFile()) {
                 if (!line.startsWith(COMMENTED_LINE_PREFIX)) {
-                    requirements = line.split(CSV_COLUMN_SEPARATOR);
-                    flavor = buildHardwareRequirements(imageEntry, requirements);
-                    this.flavors.add(flavor);
+                    String[] requirements = line.split(CSV_COLUMN_SEPARATOR);
+                    instanceTypes.requirements.add(requirements);
+                    instanceTypes.memoryByName.put(requirements[INSTANCE_TYPE_COLUMN],
+                            getMemoryValueFrom(requirements));
                 }
             }
+            this.instanceTypes = instanceTypes;
         }
+        return instanceTypes;
     }
 
     @VisibleForTesting
@@ -471,17 +527,20 @@ public class AwsComputePlugin implements ComputePlugin<AwsV2User> {
         String name = requirements[INSTANCE_TYPE_COLUMN];
         String flavorId = generateFlavorId();
         int cpu = Integer.parseInt(requirements[VCPU_COLUMN]);
-
-        double memoryInGB = Double.parseDouble(requirements[MEMORY_COLUMN]);
-        double memoryInMB = BinaryUnit.gigabytes(memoryInGB).asMegabytes();
-        int memory = Double.valueOf(memoryInMB).intValue();
-
+        int memory = getMemoryValueFrom(requirements);
         int disk = imageEntry.getValue();
         String imageId = imageEntry.getKey();
         Map<String, String> requirementsMap = loadRequirementsMap(requirements);
         return new AwsHardwareRequirements(name, flavorId, cpu, memory, disk, imageId, requirementsMap);
     }
 
+    @VisibleForTesting
+    int getMemoryValueFrom(String[] requirements) {
+        double memoryInGB = Double.parseDouble(requirements[MEMORY_COLUMN]);
+        double memoryInMB = BinaryUnit.gigabytes(memoryInGB).asMegabytes();
+        return Double.valueOf(memoryInMB).intValue();
+    }
+
     @VisibleForTesting
     Map<String, String> loadRequirementsMap(String[] requirements) {
         Map<String, String> requirementsMap = new HashMap<String, String>();
@@ -536,10 +595,119 @@ public class AwsComputePlugin implements ComputePlugin<AwsV2User> {
     String getFlavorsFilePath() {
         return flavorsFilePath;
     }
+
+    @VisibleForTesting
+    long getFlavorsFileLastModified() {
+        return Paths.get(getFlavorsFilePath()).toFile().lastModified();
+    }
+
+    @VisibleForTesting
+    InstanceTypes getInstanceTypes() {
+        return this.instanceTypes;
+    }
 	
     @VisibleForTesting
     void setLaunchCommandGenerator(LaunchCommandGenerator launchCommandGenerator) {
         this.launchCommandGenerator = launchCommandGenerator;
     }
 
-}
\ No newline at end of file
+    @VisibleForTesting
+    static class InstanceTypes {
+        private final long lastModified;
+        private final List<String[]> requirements = new ArrayList<>();
+        private final Map<String, Integer> memoryByName = new HashMap<>();
+
+        @VisibleForTesting
+        InstanceTypes(long lastModified) {
+            this.lastModified = lastModified;
+        }
+    }
+
+    /**
+     * The flavors available to a user, ordered by the simplest requirements and
+     * also grouped by the value of each requirement, so that finding a flavor for
+     * an order with requirements only looks at the flavors having the least
+     * common of its requirement values.
+     */
+    @VisibleForTesting
+    static class FlavorIndex {
+        private final InstanceTypes instanceTypes;
+        private final Map<String, Integer> imagesSizes;
+        private final TreeSet<AwsHardwareRequirements> flavors = new TreeSet<>();
+        private final Map<String, Map<String, TreeSet<AwsHardwareRequirements>>> flavorsByRequirement = new HashMap<>();
+
+        @VisibleForTesting
+        FlavorIndex(InstanceTypes instanceTypes, Map<String, Integer> imagesSizes) {
+            this.instanceTypes = instanceTypes;
+            this.imagesSizes = imagesSizes;
+        }
+
+        @VisibleForTesting
+        void add(AwsHardwareRequirements flavor) {
+            this.flavors.add(flavor);
+            if (flavor.getRequirements() != null) {
+                for (Entry<String, String> requirement : flavor.getRequirements().entrySet()) {
+                    this.flavorsByRequirement.computeIfAbsent(requirement.getKey(), key -> new HashMap<>())
+                            .computeIfAbsent(normalize(requirement.getValue()), value -> new TreeSet<>())
+                            .add(flavor);
+                }
+            }
+        }
+
+        @VisibleForTesting
+        boolean isBuiltFrom(InstanceTypes instanceTypes, Map<String, Integer> imagesSizes) {
+            return this.instanceTypes == instanceTypes && this.imagesSizes == imagesSizes;
+        }
+
+        /**
+         * @return the smallest flavor with at least the given resources and all
+         * the order requirements, or null if there is none.
+         */
+        @VisibleForTesting
+        AwsHardwareRequirements findSmallestFlavor(int vCPU, int ram, int disk,
+                Map<String, String> orderRequirements) {
+
+            TreeSet<AwsHardwareRequirements> candidates = this.flavors;
+            if (orderRequirements != null) {
+                for (Entry<String, String> requirement : orderRequirements.entrySet()) {
+                    TreeSet<AwsHardwareRequirements> flavorsWithRequirement = this.flavorsByRequirement
+                            .getOrDefault(requirement.getKey().trim(), Collections.emptyMap())
+                            .get(normalize(requirement.getValue().trim()));
+                    if (flavorsWithRequirement == null) {
+                        return null;
+                    }
+                    if (flavorsWithRequirement.size() < candidates.size()) {
+                        candidates = flavorsWithRequirement;
+                    }
+                }
+            }
+            for (AwsHardwareRequirements flavor : candidates) {
+                if (flavor.getCpu() >= vCPU
+                        && flavor.getRam() >= ram
+                        && flavor.getDisk() >= disk
+                        && hasRequirements(flavor, orderRequirements)) {
+                    return flavor;
+                }
+            }
+            return null;
+        }
+
+        private boolean hasRequirements(AwsHardwareRequirements flavor, Map<String, String> orderRequirements) {
+            if (orderRequirements == null) {
+                return true;
+            }
+            for (Entry<String, String> requirement : orderRequirements.entrySet()) {
+                String value = flavor.getRequirements().get(requirement.getKey().trim());
+                if (!requirement.getValue().trim().equalsIgnoreCase(value)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static String normalize(String requirementValue) {
+            return requirementValue == null ? null : requirementValue.toLowerCase();
+        }
+    }
+
+}
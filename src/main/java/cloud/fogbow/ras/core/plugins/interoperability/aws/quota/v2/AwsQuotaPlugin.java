@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 import cloud.fogbow.common.constants.FogbowConstants;
 import cloud.fogbow.common.util.BinaryUnit;
@@ -59,7 +60,6 @@ public class AwsQuotaPlugin implements QuotaPlugin<AwsV2User> {
     public static int maximumPublicIpAddresses;
 
     private Map<String, ComputeAllocation> totalComputeAllocationMap;
-    private Map<String, ComputeAllocation> computeAllocationMap;
     private String flavorsFilePath;
     private String region;
 
@@ -70,25 +70,27 @@ public class AwsQuotaPlugin implements QuotaPlugin<AwsV2User> {
         maximumPublicIpAddresses = Integer.parseInt(properties.getProperty(AwsV2ConfigurationPropertyKeys.AWS_ELASTIC_IP_ADDRESSES_QUOTA_KEY));
         this.region = properties.getProperty(AwsV2ConfigurationPropertyKeys.AWS_REGION_SELECTION_KEY);
         this.flavorsFilePath = properties.getProperty(AwsV2ConfigurationPropertyKeys.AWS_FLAVORS_TYPES_FILE_PATH_KEY);
-        this.totalComputeAllocationMap = new HashMap<>();
-        this.computeAllocationMap = new HashMap<>();
+        this.totalComputeAllocationMap = new ConcurrentHashMap<>();
     }
 
+    // The plugin is shared by all the requests to the cloud, so the instances of the user whose quota is being
+    // calculated are kept in a map of the request, not in the plugin
     @Override
     public ResourceQuota getUserQuota(AwsV2User cloudUser) throws FogbowException {
         Ec2Client client = AwsV2ClientUtil.createEc2Client(cloudUser.getToken(), this.region);
 
         loadAvailableAllocations();
-        loadInstancesAllocated(client);
+        Map<String, ComputeAllocation> computeAllocationMap = loadInstancesAllocated(client);
 
         ResourceAllocation totalQuota = calculateTotalQuota();
-        ResourceAllocation usedQuota = calculateUsedQuota(client);
+        ResourceAllocation usedQuota = calculateUsedQuota(client, computeAllocationMap);
         return new ResourceQuota(totalQuota, usedQuota);
     }
 
     @VisibleForTesting
-    ResourceAllocation calculateUsedQuota(Ec2Client client) throws FogbowException {
-        ComputeAllocation computeAllocation = this.calculateComputeUsedQuota();
+    ResourceAllocation calculateUsedQuota(Ec2Client client, Map<String, ComputeAllocation> computeAllocationMap)
+            throws FogbowException {
+        ComputeAllocation computeAllocation = this.calculateComputeUsedQuota(computeAllocationMap);
         int storage = this.calculateUsedStorage(client);
         int elasticIps = this.calculateUsedElasticIp(client);
         int networks = this.calculateUsedNetworks(client);
@@ -151,12 +153,12 @@ public class AwsQuotaPlugin implements QuotaPlugin<AwsV2User> {
     }
 
     @VisibleForTesting
-    ComputeAllocation calculateComputeUsedQuota() {
+    ComputeAllocation calculateComputeUsedQuota(Map<String, ComputeAllocation> computeAllocationMap) {
         int usedInstances = 0;
         int usedRam = 0;
         int usedVCPU = 0;
 
-        for (Entry<String, ComputeAllocation> instanceAllocated : getComputeAllocationMap().entrySet()) {
+        for (Entry<String, ComputeAllocation> instanceAllocated : computeAllocationMap.entrySet()) {
             usedInstances += instanceAllocated.getValue().getInstances();
             usedVCPU += instanceAllocated.getValue().getvCPU();
             usedRam += instanceAllocated.getValue().getRam();
@@ -179,23 +181,25 @@ public class AwsQuotaPlugin implements QuotaPlugin<AwsV2User> {
     }
 
     @VisibleForTesting
-    void loadInstancesAllocated(Ec2Client client) throws FogbowException {
+    Map<String, ComputeAllocation> loadInstancesAllocated(Ec2Client client) throws FogbowException {
         List<Instance> instances = getInstanceReservations(client);
+        Map<String, ComputeAllocation> computeAllocationMap = new HashMap<>();
         ComputeAllocation allocation;
         if (!instances.isEmpty()) {
             for (Instance instance : instances) {
                 String instanceType = instance.instanceTypeAsString();
-                allocation = buildAllocatedInstance(instance);
-                this.computeAllocationMap.put(instanceType, allocation);
+                allocation = buildAllocatedInstance(instance, computeAllocationMap);
+                computeAllocationMap.put(instanceType, allocation);
             }
         }
+        return computeAllocationMap;
     }
 
     @VisibleForTesting
-    ComputeAllocation buildAllocatedInstance(Instance instance) {
+    ComputeAllocation buildAllocatedInstance(Instance instance, Map<String, ComputeAllocation> computeAllocationMap) {
         String instanceType = instance.instanceTypeAsString();
         ComputeAllocation totalAllocation = getTotalComputeAllocationMap().get(instanceType);
-        ComputeAllocation allocatedInstance = getComputeAllocationMap().get(instanceType);
+        ComputeAllocation allocatedInstance = computeAllocationMap.get(instanceType);
         int instances = allocatedInstance != null ? allocatedInstance.getInstances() + 1 : 1;
         int vCPU = totalAllocation.getvCPU() * instances;
         int ram = totalAllocation.getRam() * instances;
@@ -264,11 +268,6 @@ public class AwsQuotaPlugin implements QuotaPlugin<AwsV2User> {
         return totalComputeAllocationMap;
     }
 
-    @VisibleForTesting
-    Map<String, ComputeAllocation> getComputeAllocationMap() {
-        return computeAllocationMap;
-    }
-
     @VisibleForTesting
     String getFlavorsFilePath() {
         return flavorsFilePath;
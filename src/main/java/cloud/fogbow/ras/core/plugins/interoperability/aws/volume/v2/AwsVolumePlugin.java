@@ -1,6 +1,11 @@
 package cloud.fogbow.ras.core.plugins.interoperability.aws.volume.v2;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.stream.Collectors;
 
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
 import com.google.common.annotations.VisibleForTesting;
@@ -74,6 +79,17 @@ public class AwsVolumePlugin implements VolumePlugin<AwsV2User> {
 		return doGetInstance(volumeId, client);
 	}
 
+	@Override
+	public Map<String, VolumeInstance> getInstances(Collection<VolumeOrder> volumeOrders, AwsV2User cloudUser)
+			throws FogbowException {
+		LOGGER.info(String.format(Messages.Log.GETTING_INSTANCES_OF_D_ORDERS, volumeOrders.size()));
+		Ec2Client client = AwsV2ClientUtil.createEc2Client(cloudUser.getToken(), this.region);
+		List<String> volumeIds = volumeOrders.stream()
+				.map(VolumeOrder::getInstanceId)
+				.collect(Collectors.toList());
+		return doGetInstances(volumeIds, client);
+	}
+
 	@Override
 	public void deleteInstance(VolumeOrder volumeOrder, AwsV2User cloudUser) throws FogbowException {
 		LOGGER.info(String.format(Messages.Log.DELETING_INSTANCE_S, volumeOrder.getInstanceId()));
@@ -105,9 +121,23 @@ public class AwsVolumePlugin implements VolumePlugin<AwsV2User> {
         return buildVolumeInstance(response);
     }
 
+    @VisibleForTesting
+    Map<String, VolumeInstance> doGetInstances(List<String> volumeIds, Ec2Client client) throws FogbowException {
+        Map<String, VolumeInstance> volumeInstances = new HashMap<>();
+        for (Volume volume : AwsV2CloudUtil.doDescribeVolumesByIds(volumeIds, client)) {
+            volumeInstances.put(volume.volumeId(), buildVolumeInstance(volume));
+        }
+        return volumeInstances;
+    }
+
     @VisibleForTesting
     VolumeInstance buildVolumeInstance(DescribeVolumesResponse response) throws FogbowException {
         Volume volume = AwsV2CloudUtil.getVolumeFrom(response);
+        return buildVolumeInstance(volume);
+    }
+
+    @VisibleForTesting
+    VolumeInstance buildVolumeInstance(Volume volume) {
         String id = volume.volumeId();
         String cloudState = volume.stateAsString();
         String name = volume.tags().listIterator().next().value();
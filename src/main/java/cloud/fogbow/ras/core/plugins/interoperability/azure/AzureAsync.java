@@ -3,7 +3,10 @@ package cloud.fogbow.ras.core.plugins.interoperability.azure;
 import cloud.fogbow.common.exceptions.FogbowException;
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
 import cloud.fogbow.ras.api.http.response.OrderInstance;
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
+import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
 import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.PropertiesHolder;
 import cloud.fogbow.ras.core.plugins.interoperability.azure.util.AsyncInstanceCreationManager;
 import cloud.fogbow.ras.core.plugins.interoperability.azure.util.AzureStateMapper;
 import org.apache.log4j.Logger;
@@ -18,7 +21,6 @@ public interface AzureAsync<T extends OrderInstance> {
     Logger LOGGER = Logger.getLogger(AzureAsync.class);
 
     AsyncInstanceCreationManager asyncInstanceCreation = new AsyncInstanceCreationManager();
-    int SLEEP_TIME = 1000; // 1 second
 
     /*
     It must be used in the requestInstance method context before asynchronous Azure SDK request;
@@ -64,23 +66,36 @@ public interface AzureAsync<T extends OrderInstance> {
 
     /*
     It must be used in the requestInstance method context after asynchronous Azure SDK request;
-    It waits and checks whether asynchronous Azure SDK request had an error in the request.
+    It waits until the asynchronous Azure SDK request finishes or a short timeout expires, and checks
+    whether the request had an error. The creation going on after the timeout is not an error.
      */
     default void waitAndCheckForInstanceCreationFailed(String instanceId) throws FogbowException {
+        boolean isInstanceCreationFinished = false;
         try {
-            Thread.sleep(SLEEP_TIME);
+            isInstanceCreationFinished = this.asyncInstanceCreation.awaitCreation(instanceId,
+                    getInstanceCreationCheckTimeout());
         } catch (InterruptedException e) {
-            LOGGER.warn(Messages.Log.SLEEP_THREAD_INTERRUPTED);
+            LOGGER.warn(Messages.Log.THREAD_HAS_BEEN_INTERRUPTED);
+            Thread.currentThread().interrupt();
         } finally {
             Status status = this.asyncInstanceCreation.getStatus(instanceId);
             if (status == null) {
-                throw new InternalServerErrorException(Messages.Exception.UNEXPECTED_ERROR);
+                // The status is removed when the creation finishes successfully
+                if (!isInstanceCreationFinished) {
+                    throw new InternalServerErrorException(Messages.Exception.UNEXPECTED_ERROR);
+                }
             } else if (status.getValue() == StatusValue.FAILED) {
                 throw new FogbowException(Messages.Log.ERROR_ON_REQUEST_ASYNC_PLUGIN);
             }
         }
     }
 
+    default long getInstanceCreationCheckTimeout() {
+        return Long.parseLong(PropertiesHolder.getInstance().getProperty(
+                ConfigurationPropertyKeys.AZURE_INSTANCE_CREATION_CHECK_TIMEOUT_KEY,
+                ConfigurationPropertyDefaults.AZURE_INSTANCE_CREATION_CHECK_TIMEOUT));
+    }
+
     /*
     It must return a specific OrderInstance(T).
      */
@@ -24,7 +24,8 @@ public class AzureImagePlugin implements ImagePlugin<AzureUser> {
     private final String defaultRegionName;
     private final List<String> publishers;
     private AzureImageOperation operation;
-    private static Map<String, ImageSummary> images = new HashMap<>();
+    // Shared by all the plugin instances and requests; replaced, never modified
+    private static volatile Map<String, ImageSummary> images = new HashMap<>();
     static final int NO_VALUE_FLAG = -1;
     public static final String ACTIVE_STATE = "active";
 
@@ -95,7 +96,12 @@ public class AzureImagePlugin implements ImagePlugin<AzureUser> {
     @VisibleForTesting
     Map<String, ImageSummary> getImageMap(Azure azure) throws InternalServerErrorException {
         if (images.isEmpty()) {
-            images = this.operation.getImages(azure, this.publishers);
+            synchronized (AzureImagePlugin.class) {
+                // Another request may have loaded the images while this one was waiting
+                if (images.isEmpty()) {
+                    images = this.operation.getImages(azure, this.publishers);
+                }
+            }
         }
 
         return images;
@@ -10,24 +10,23 @@ import rx.Observable;
 import rx.Scheduler;
 import rx.schedulers.Schedulers;
 
-import java.util.concurrent.ExecutorService;
-
 public class AzureAttachmentOperationSDK {
 
     private static final Logger LOGGER = Logger.getLogger(AzureAttachmentOperationSDK.class);
 
     private Scheduler scheduler;
     
-    public AzureAttachmentOperationSDK() {
-        ExecutorService executor = AzureSchedulerManager.getVolumeExecutor();
-        this.scheduler = Schedulers.from(executor);
-    }
-    
     public void subscribeAttachDiskFrom(Observable<VirtualMachine> observable,
                                         AsyncInstanceCreationManager.Callbacks finishCreationCallbacks) {
-        setAttachDiskBehaviour(observable, finishCreationCallbacks)
-        .subscribeOn(this.scheduler)
-        .subscribe();
+        try {
+            setAttachDiskBehaviour(observable, finishCreationCallbacks)
+            .subscribeOn(getScheduler())
+            .subscribe();
+        } catch (RuntimeException e) {
+            // The operation was rejected, so the creation would never finish on its own
+            LOGGER.error(Messages.Log.AZURE_OPERATION_NOT_STARTED, e);
+            finishCreationCallbacks.runOnError(e.getMessage());
+        }
     }
 
     @VisibleForTesting
@@ -45,7 +44,7 @@ public class AzureAttachmentOperationSDK {
     
     public void subscribeDetachDiskFrom(Observable<VirtualMachine> observable) {
         setDetachDiskBehaviour(observable)
-        .subscribeOn(this.scheduler)
+        .subscribeOn(getScheduler())
         .subscribe();
     }
 
@@ -59,6 +58,11 @@ public class AzureAttachmentOperationSDK {
         });
     }
 
+    // The executor is looked up at each operation, since it is created again after a shutdown
+    private Scheduler getScheduler() {
+        return this.scheduler != null ? this.scheduler : Schedulers.from(AzureSchedulerManager.getVolumeExecutor());
+    }
+
     @VisibleForTesting
     void setScheduler(Scheduler scheduler) {
         this.scheduler = scheduler;
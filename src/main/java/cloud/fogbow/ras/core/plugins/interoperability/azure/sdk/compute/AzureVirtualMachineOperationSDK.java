@@ -28,7 +28,6 @@ import rx.Scheduler;
 import rx.schedulers.Schedulers;
 
 import java.util.*;
-import java.util.concurrent.ExecutorService;
 
 public class AzureVirtualMachineOperationSDK {
 
@@ -39,8 +38,6 @@ public class AzureVirtualMachineOperationSDK {
     private Scheduler scheduler;
 
     public AzureVirtualMachineOperationSDK(String regionName, String defaultResourceGroupName) {
-        ExecutorService virtualMachineExecutor = AzureSchedulerManager.getVirtualMachineExecutor();
-        this.scheduler = Schedulers.from(virtualMachineExecutor);
         this.regionName = regionName;
         this.defaultResourceGroupName = defaultResourceGroupName;
     }
@@ -101,9 +98,15 @@ public class AzureVirtualMachineOperationSDK {
     void subscribeCreateVirtualMachine(Observable<Indexable> virtualMachineObservable,
                                        AsyncInstanceCreationManager.Callbacks finishCreationCallbacks) {
 
-        setCreateVirtualMachineBehaviour(virtualMachineObservable, finishCreationCallbacks)
-                .subscribeOn(this.scheduler)
-                .subscribe();
+        try {
+            setCreateVirtualMachineBehaviour(virtualMachineObservable, finishCreationCallbacks)
+                    .subscribeOn(getScheduler())
+                    .subscribe();
+        } catch (RuntimeException e) {
+            // The operation was rejected, so the creation would never finish on its own
+            LOGGER.error(Messages.Log.AZURE_OPERATION_NOT_STARTED, e);
+            finishCreationCallbacks.runOnError(e.getMessage());
+        }
     }
 
     private Observable<Indexable> setCreateVirtualMachineBehaviour(Observable<Indexable> virtualMachineObservable,
@@ -250,7 +253,7 @@ public class AzureVirtualMachineOperationSDK {
         Completable deleteVirtualMachineNic = buildDeleteNicCompletable(azure, virtualMachine);
 
         Completable.concat(deleteVirtualMachine, deleteVirtualMachineDisk, deleteVirtualMachineNic)
-                .subscribeOn(this.scheduler)
+                .subscribeOn(getScheduler())
                 .subscribe();
     }
 
@@ -265,7 +268,7 @@ public class AzureVirtualMachineOperationSDK {
     @VisibleForTesting
     void subscribeDeleteVirtualMachine(Completable completable) {
         setDeleteVirtualMachineBehaviour(completable)
-                .subscribeOn(this.scheduler)
+                .subscribeOn(getScheduler())
                 .subscribe();
     }
 
@@ -326,6 +329,12 @@ public class AzureVirtualMachineOperationSDK {
                 });
     }
 
+    // The executor is looked up at each operation, since it is created again after a shutdown
+    private Scheduler getScheduler() {
+        return this.scheduler != null ? this.scheduler
+                : Schedulers.from(AzureSchedulerManager.getVirtualMachineExecutor());
+    }
+
     @VisibleForTesting
     void setScheduler(Scheduler scheduler) {
         this.scheduler = scheduler;
@@ -29,7 +29,6 @@ import javax.annotation.Nullable;
 
 import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.concurrent.ExecutorService;
 
 public class AzureVirtualNetworkOperationSDK {
 
@@ -40,9 +39,6 @@ public class AzureVirtualNetworkOperationSDK {
     private final String regionName;
 
     public AzureVirtualNetworkOperationSDK(String regionName, String defaultResourceGroupName) {
-        ExecutorService virtualMachineExecutor = AzureSchedulerManager.getVirtualNetworkExecutor();
-        this.scheduler = Schedulers.from(virtualMachineExecutor);
-
         this.regionName = regionName;
         this.defaultResourceGroupName = defaultResourceGroupName;
     }
@@ -118,7 +114,7 @@ public class AzureVirtualNetworkOperationSDK {
     @VisibleForTesting
     void subscribeVirtualNetworkCreation(Observable<Indexable> virtualNetworkObservable) {
         virtualNetworkObservable
-                .subscribeOn(this.scheduler)
+                .subscribeOn(getScheduler())
                 .subscribe();
     }
 
@@ -174,7 +170,7 @@ public class AzureVirtualNetworkOperationSDK {
                     .deleteResourceGroupAsync(azure, resourceName);
 
             setDeleteVirtualNetworkBehaviour(deleteResourceGroupCompletable)
-                    .subscribeOn(this.scheduler)
+                    .subscribeOn(getScheduler())
                     .subscribe();
         } else {
             String subscriptionId = azureUser.getSubscriptionId();
@@ -188,7 +184,7 @@ public class AzureVirtualNetworkOperationSDK {
             Completable secondDeleteSecurityGroup = buildDeleteSecurityGroupCompletable(azure, azureSecurityGroupId);
 
             Completable.concat(firstDeleteVirtualNetwork, secondDeleteSecurityGroup)
-                    .subscribeOn(this.scheduler)
+                    .subscribeOn(getScheduler())
                     .subscribe();
         }
     }
@@ -247,6 +243,12 @@ public class AzureVirtualNetworkOperationSDK {
                 .build();
     }
 
+    // The executor is looked up at each operation, since it is created again after a shutdown
+    private Scheduler getScheduler() {
+        return this.scheduler != null ? this.scheduler
+                : Schedulers.from(AzureSchedulerManager.getVirtualNetworkExecutor());
+    }
+
     @VisibleForTesting
     void setScheduler(Scheduler scheduler) {
         this.scheduler = scheduler;
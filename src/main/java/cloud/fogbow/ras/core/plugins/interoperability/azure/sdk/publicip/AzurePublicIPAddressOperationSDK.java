@@ -1,7 +1,5 @@
 package cloud.fogbow.ras.core.plugins.interoperability.azure.sdk.publicip;
 
-import java.util.concurrent.ExecutorService;
-
 import cloud.fogbow.ras.core.plugins.interoperability.azure.util.AsyncInstanceCreationManager;
 import org.apache.log4j.Logger;
 
@@ -31,17 +29,21 @@ public class AzurePublicIPAddressOperationSDK {
     private Scheduler scheduler;
 
     public AzurePublicIPAddressOperationSDK(String defaultResourceGroupName) {
-        ExecutorService executor = AzureSchedulerManager.getPublicIPAddressExecutor();
-        this.scheduler = Schedulers.from(executor);
         this.defaultResourceGroupName = defaultResourceGroupName;
     }
 
     public void subscribeAssociatePublicIPAddress(Azure azure, String resourceName,
             Observable<NetworkInterface> observable, AsyncInstanceCreationManager.Callbacks finishCreationCallbacks) {
         
-        setAssociatePublicIPAddressBehaviour(azure, resourceName, observable, finishCreationCallbacks)
-            .subscribeOn(this.scheduler)
-            .subscribe();
+        try {
+            setAssociatePublicIPAddressBehaviour(azure, resourceName, observable, finishCreationCallbacks)
+                .subscribeOn(getScheduler())
+                .subscribe();
+        } catch (RuntimeException e) {
+            // The operation was rejected, so the creation would never finish on its own
+            LOGGER.error(Messages.Log.AZURE_OPERATION_NOT_STARTED, e);
+            finishCreationCallbacks.runOnError(e.getMessage());
+        }
     }
 
     @VisibleForTesting
@@ -79,7 +81,7 @@ public class AzurePublicIPAddressOperationSDK {
             NetworkInterface nic, Observable<NetworkInterface> observable) {
 
         setUpdateNetworkInterfaceBehaviour(azure, resourceName, nic, observable)
-                .subscribeOn(this.scheduler)
+                .subscribeOn(getScheduler())
                 .subscribe();
     }
 
@@ -130,7 +132,7 @@ public class AzurePublicIPAddressOperationSDK {
             Observable<NetworkInterface> observable, Completable completable) {
 
         setDisassociateAndDeletePublicIPAddress(observable, completable)
-                .subscribeOn(this.scheduler)
+                .subscribeOn(getScheduler())
                 .subscribe();
     }
 
@@ -151,7 +153,7 @@ public class AzurePublicIPAddressOperationSDK {
 
     public void subscribeDeletePublicIPAddressAsync(Completable completable) {
         setDeletePublicIPAddressBehaviour(completable)
-                .subscribeOn(this.scheduler)
+                .subscribeOn(getScheduler())
                 .subscribe();
     }
 
@@ -166,7 +168,7 @@ public class AzurePublicIPAddressOperationSDK {
 
     public void subscribeDisassociateAndDeleteResources(Observable observable, Completable completable) {
         setDisassociateAndDeleteResourcesBehaviour(observable, completable)
-            .subscribeOn(this.scheduler)
+            .subscribeOn(getScheduler())
             .subscribe();
     }
 
@@ -186,7 +188,7 @@ public class AzurePublicIPAddressOperationSDK {
     @VisibleForTesting
     void subscribeDeleteResources(Completable completable) {
         setDeleteResourcesBehaviour(completable)
-            .subscribeOn(this.scheduler)
+            .subscribeOn(getScheduler())
             .subscribe();
     }
 
@@ -199,6 +201,12 @@ public class AzurePublicIPAddressOperationSDK {
         });
     }
 
+    // The executor is looked up at each operation, since it is created again after a shutdown
+    private Scheduler getScheduler() {
+        return this.scheduler != null ? this.scheduler
+                : Schedulers.from(AzureSchedulerManager.getPublicIPAddressExecutor());
+    }
+
     @VisibleForTesting
     void setScheduler(Scheduler scheduler) {
         this.scheduler = scheduler;
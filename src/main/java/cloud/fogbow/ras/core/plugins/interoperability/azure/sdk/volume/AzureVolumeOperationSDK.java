@@ -1,7 +1,5 @@
 package cloud.fogbow.ras.core.plugins.interoperability.azure.sdk.volume;
 
-import java.util.concurrent.ExecutorService;
-
 import cloud.fogbow.ras.core.plugins.interoperability.azure.util.AsyncInstanceCreationManager;
 import org.apache.log4j.Logger;
 
@@ -21,17 +19,18 @@ public class AzureVolumeOperationSDK {
 
     private Scheduler scheduler;
     
-    public AzureVolumeOperationSDK() {
-        ExecutorService executor = AzureSchedulerManager.getVolumeExecutor();
-        this.scheduler = Schedulers.from(executor);
-    }
-    
     public void subscribeCreateDisk(Observable<Indexable> observable,
                                     AsyncInstanceCreationManager.Callbacks finishCreationCallback) {
 
-        setCreateDiskBehaviour(observable, finishCreationCallback)
-        .subscribeOn(this.scheduler)
-        .subscribe();
+        try {
+            setCreateDiskBehaviour(observable, finishCreationCallback)
+            .subscribeOn(getScheduler())
+            .subscribe();
+        } catch (RuntimeException e) {
+            // The operation was rejected, so the creation would never finish on its own
+            LOGGER.error(Messages.Log.AZURE_OPERATION_NOT_STARTED, e);
+            finishCreationCallback.runOnError(e.getMessage());
+        }
     }
 
     @VisibleForTesting
@@ -50,7 +49,7 @@ public class AzureVolumeOperationSDK {
     
     public void subscribeDeleteDisk(Completable completable) {
         setDeleteDiskBehaviour(completable)
-        .subscribeOn(this.scheduler)
+        .subscribeOn(getScheduler())
         .subscribe();
     }
 
@@ -63,6 +62,11 @@ public class AzureVolumeOperationSDK {
         });
     }
 	
+    // The executor is looked up at each operation, since it is created again after a shutdown
+    private Scheduler getScheduler() {
+        return this.scheduler != null ? this.scheduler : Schedulers.from(AzureSchedulerManager.getVolumeExecutor());
+    }
+
     @VisibleForTesting
     void setScheduler(Scheduler scheduler) {
         this.scheduler = scheduler;
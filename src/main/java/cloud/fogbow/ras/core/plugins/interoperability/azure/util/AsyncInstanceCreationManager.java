@@ -1,10 +1,16 @@
 package cloud.fogbow.ras.core.plugins.interoperability.azure.util;
 
 import cloud.fogbow.ras.constants.Messages;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.apache.log4j.Logger;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 /*
@@ -22,8 +28,30 @@ public class AsyncInstanceCreationManager {
 
     private static final Logger LOGGER = Logger.getLogger(AsyncInstanceCreationManager.class);
 
+    // Far longer than any wait for a creation, which only lasts the instance creation check timeout
+    @VisibleForTesting
+    static final long COMPLETION_EXPIRATION_TIME = TimeUnit.MINUTES.toMillis(10);
+
     private final static Map<String, Status> creating = new ConcurrentHashMap<>();
 
+    /*
+    The completions of the creations that nobody awaited, for instance because the plugin failed between
+    starting the creation and awaiting it, expire after COMPLETION_EXPIRATION_TIME.
+    */
+    private final Cache<String, CountDownLatch> completions;
+
+    public AsyncInstanceCreationManager() {
+        this(Ticker.systemTicker());
+    }
+
+    @VisibleForTesting
+    AsyncInstanceCreationManager(Ticker ticker) {
+        this.completions = CacheBuilder.newBuilder()
+                .expireAfterWrite(COMPLETION_EXPIRATION_TIME, TimeUnit.MILLISECONDS)
+                .ticker(ticker)
+                .build();
+    }
+
     /*
     It must be used soon before the plugin makes asynchronous creation operation in the cloud.
 
@@ -33,18 +61,40 @@ public class AsyncInstanceCreationManager {
     */
     public Callbacks startCreation(String instanceId) {
         LOGGER.debug(String.format(Messages.Log.START_ASYNC_INSTANCE_CREATION_S, instanceId));
+        CountDownLatch completion = new CountDownLatch(1);
+        this.completions.put(instanceId, completion);
         defineAsCreating(instanceId);
         return new Callbacks().builder()
                 .doOnComplete(() -> {
                     defineAsCreated(instanceId);
+                    completion.countDown();
                     LOGGER.debug(String.format(Messages.Log.END_ASYNC_INSTANCE_CREATION_S, instanceId));
                 })
                 .doOnError((faultMessage) -> {
                     defineAsFailed(instanceId, faultMessage);
+                    completion.countDown();
                     LOGGER.debug(String.format(Messages.Log.ERROR_ASYNC_INSTANCE_CREATION_S, instanceId));
                 }).build();
     }
 
+    /*
+    It must wait until the asynchronous creation finishes (successfully or not) or the timeout expires.
+    It is meant to be used once per creation, soon after the asynchronous creation operation is requested.
+
+    @return true if the creation has finished.
+    */
+    public boolean awaitCreation(String instanceId, long timeout) throws InterruptedException {
+        CountDownLatch completion = this.completions.getIfPresent(instanceId);
+        if (completion == null) {
+            return false;
+        }
+        try {
+            return completion.await(timeout, TimeUnit.MILLISECONDS);
+        } finally {
+            this.completions.asMap().remove(instanceId, completion);
+        }
+    }
+
     /*
     It must remove the instance of the map.
     */
@@ -52,6 +102,13 @@ public class AsyncInstanceCreationManager {
         if (this.creating.get(instanceId) != null) {
             this.creating.remove(instanceId);
         }
+        this.completions.invalidate(instanceId);
+    }
+
+    @VisibleForTesting
+    long getPendingCompletionsCount() {
+        this.completions.cleanUp();
+        return this.completions.size();
     }
 
     /*
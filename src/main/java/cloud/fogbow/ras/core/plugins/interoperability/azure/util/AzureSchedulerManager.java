@@ -1,34 +1,131 @@
 package cloud.fogbow.ras.core.plugins.interoperability.azure.util;
 
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
+import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.PropertiesHolder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.log4j.Logger;
+
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Provides the executors on which the Azure SDK operations run. There is a single executor per operation
+ * type, shared by all the Azure plugins of the process, so re-instantiating the plugins does not create new
+ * threads. The pool sizes and the queue capacity are read from the configuration. When the queue of an
+ * executor is full, further operations are rejected with a RejectedExecutionException thrown to the
+ * submitter, so that the request fails instead of blocking the thread that serves it.
+ * <p>
+ * The executors are created on demand and again after a shutdown, so the callers must get the executor
+ * each time they submit an operation rather than keeping it.
+ */
 public class AzureSchedulerManager {
+    private static final Logger LOGGER = Logger.getLogger(AzureSchedulerManager.class);
+
+    public static final String ATTACHMENT_EXECUTOR_NAME = "azure-attachment";
+    public static final String VIRTUAL_MACHINE_EXECUTOR_NAME = "azure-virtual-machine";
+    public static final String VOLUME_EXECUTOR_NAME = "azure-volume";
+    public static final String VIRTUAL_NETWORK_EXECUTOR_NAME = "azure-virtual-network";
+    public static final String PUBLIC_IP_ADDRESS_EXECUTOR_NAME = "azure-public-ip-address";
 
-    private static final int ATTACHMENT_POOL_SIZE = 2;
-    private static final int VIRTUAL_MACHINE_POOL_SIZE = 2;
-    private static final int VOLUME_POOL_SIZE = 2;
-    private static final int VIRTUAL_NETWORK_POOL_SIZE = 3;
-    private static final int PUBLIC_IP_ADDRESS_POOL_SIZE = 3;
+    private static final long SHUTDOWN_TIMEOUT = TimeUnit.SECONDS.toMillis(30);
+    private static final String THREAD_NAME_FORMAT = "%s-%%d";
+
+    private static final Map<String, ThreadPoolExecutor> executors = new HashMap<>();
 
     public static ExecutorService getAttachmentExecutor() {
-        return Executors.newFixedThreadPool(ATTACHMENT_POOL_SIZE);
+        return getExecutor(ATTACHMENT_EXECUTOR_NAME, ConfigurationPropertyKeys.AZURE_ATTACHMENT_POOL_SIZE_KEY,
+                ConfigurationPropertyDefaults.AZURE_ATTACHMENT_POOL_SIZE);
     }
-    
+
     public static ExecutorService getVirtualMachineExecutor() {
-        return Executors.newFixedThreadPool(VIRTUAL_MACHINE_POOL_SIZE);
+        return getExecutor(VIRTUAL_MACHINE_EXECUTOR_NAME, ConfigurationPropertyKeys.AZURE_VIRTUAL_MACHINE_POOL_SIZE_KEY,
+                ConfigurationPropertyDefaults.AZURE_VIRTUAL_MACHINE_POOL_SIZE);
     }
 
     public static ExecutorService getVolumeExecutor() {
-        return Executors.newFixedThreadPool(VOLUME_POOL_SIZE);
+        return getExecutor(VOLUME_EXECUTOR_NAME, ConfigurationPropertyKeys.AZURE_VOLUME_POOL_SIZE_KEY,
+                ConfigurationPropertyDefaults.AZURE_VOLUME_POOL_SIZE);
     }
 
     public static ExecutorService getVirtualNetworkExecutor() {
-        return Executors.newFixedThreadPool(VIRTUAL_NETWORK_POOL_SIZE);
+        return getExecutor(VIRTUAL_NETWORK_EXECUTOR_NAME, ConfigurationPropertyKeys.AZURE_VIRTUAL_NETWORK_POOL_SIZE_KEY,
+                ConfigurationPropertyDefaults.AZURE_VIRTUAL_NETWORK_POOL_SIZE);
     }
-    
+
     public static ExecutorService getPublicIPAddressExecutor() {
-        return Executors.newFixedThreadPool(PUBLIC_IP_ADDRESS_POOL_SIZE);
+        return getExecutor(PUBLIC_IP_ADDRESS_EXECUTOR_NAME,
+                ConfigurationPropertyKeys.AZURE_PUBLIC_IP_ADDRESS_POOL_SIZE_KEY,
+                ConfigurationPropertyDefaults.AZURE_PUBLIC_IP_ADDRESS_POOL_SIZE);
+    }
+
+    /**
+     * Stops accepting operations and waits for the ones already submitted to finish. Executors requested
+     * afterwards are created again.
+     */
+    public static synchronized void shutdown() {
+        for (ThreadPoolExecutor executor : executors.values()) {
+            executor.shutdown();
+        }
+        long deadline = System.currentTimeMillis() + SHUTDOWN_TIMEOUT;
+        for (Map.Entry<String, ThreadPoolExecutor> entry : executors.entrySet()) {
+            try {
+                long timeout = Math.max(deadline - System.currentTimeMillis(), 0);
+                if (!entry.getValue().awaitTermination(timeout, TimeUnit.MILLISECONDS)) {
+                    LOGGER.warn(String.format(Messages.Log.UNABLE_TO_FINISH_OPERATIONS_OF_EXECUTOR_S, entry.getKey()));
+                    entry.getValue().shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                entry.getValue().shutdownNow();
+            }
+        }
+        executors.clear();
     }
-    
+
+    private static synchronized ExecutorService getExecutor(String executorName, String poolSizeKey,
+                                                            String defaultPoolSize) {
+        ThreadPoolExecutor executor = executors.get(executorName);
+        if (executor == null) {
+            PropertiesHolder properties = PropertiesHolder.getInstance();
+            int poolSize = Integer.parseInt(properties.getProperty(poolSizeKey, defaultPoolSize));
+            int queueCapacity = Integer.parseInt(properties.getProperty(
+                    ConfigurationPropertyKeys.AZURE_OPERATION_QUEUE_CAPACITY_KEY,
+                    ConfigurationPropertyDefaults.AZURE_OPERATION_QUEUE_CAPACITY));
+
+            executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(queueCapacity),
+                    new ThreadFactoryBuilder()
+                            .setNameFormat(String.format(THREAD_NAME_FORMAT, executorName))
+                            .setDaemon(true)
+                            .build(),
+                    new RejectOperationPolicy(executorName));
+            executors.put(executorName, executor);
+        }
+        return executor;
+    }
+
+    private static class RejectOperationPolicy implements RejectedExecutionHandler {
+        private final String executorName;
+
+        RejectOperationPolicy(String executorName) {
+            this.executorName = executorName;
+        }
+
+        @Override
+        public void rejectedExecution(Runnable operation, ThreadPoolExecutor executor) {
+            LOGGER.warn(String.format(Messages.Log.AZURE_OPERATION_REJECTED_S_S_S, this.executorName,
+                    executor.getActiveCount(), executor.getQueue().size()));
+            throw new RejectedExecutionException(
+                    String.format(Messages.Exception.AZURE_OPERATION_QUEUE_FULL_S, this.executorName));
+        }
+    }
+
 }
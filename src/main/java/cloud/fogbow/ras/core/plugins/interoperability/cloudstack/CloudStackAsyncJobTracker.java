@@ -0,0 +1,283 @@
+package cloud.fogbow.ras.core.plugins.interoperability.cloudstack;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.UnavailableProviderException;
+import cloud.fogbow.common.models.CloudStackUser;
+import cloud.fogbow.common.util.connectivity.cloud.cloudstack.CloudStackHttpClient;
+import cloud.fogbow.common.util.connectivity.cloud.cloudstack.CloudStackQueryAsyncJobResponse;
+import cloud.fogbow.common.util.connectivity.cloud.cloudstack.CloudStackQueryJobResult;
+import cloud.fogbow.common.util.connectivity.cloud.cloudstack.CloudStackUrlUtil;
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.sdk.v4_9.job.model.ListAsyncJobsRequest;
+import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.sdk.v4_9.job.model.ListAsyncJobsResponse;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.http.client.utils.URIBuilder;
+import org.apache.log4j.Logger;
+
+import javax.validation.constraints.NotNull;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks the CloudStack asynchronous jobs until they finish, so that the callers do not need to poll them
+ * themselves. A single thread polls all the pending jobs at every polling interval: the jobs of the same user
+ * in the same cloud are obtained with listAsyncJobs, restricted to the jobs started since the day before the
+ * oldest pending one and read PAGE_SIZE jobs at a time, until all the pending jobs are found; only the jobs
+ * missing from the listing are queried individually. The future returned for a job is completed with its result
+ * when the job finishes, or with an UnavailableProviderException when it is still processing after maxPolls
+ * polls. Nothing waits on these futures: they hand the results over to the flows that do not block, such as
+ * the asynchronous public IP requests.
+ */
+public class CloudStackAsyncJobTracker {
+    private static final Logger LOGGER = Logger.getLogger(CloudStackAsyncJobTracker.class);
+
+    private static final String POLLER_THREAD_NAME = "cloudstack-async-job-tracker";
+    private static final String ACCOUNT_KEY_SEPARATOR = "@";
+    private static final String START_DATE_FORMAT = "yyyy-MM-dd";
+    private static final String UTC_TIME_ZONE = "UTC";
+    @VisibleForTesting
+    static final int PAGE_SIZE = 100;
+
+    private static CloudStackAsyncJobTracker instance;
+
+    private final long pollingInterval;
+    private final int maxPolls;
+    private final Map<String, AccountJobs> pendingJobs;
+    private ScheduledExecutorService poller;
+
+    @VisibleForTesting
+    CloudStackAsyncJobTracker(long pollingInterval, int maxPolls) {
+        this.pollingInterval = pollingInterval;
+        this.maxPolls = maxPolls;
+        this.pendingJobs = new HashMap<>();
+    }
+
+    public static synchronized CloudStackAsyncJobTracker getInstance() {
+        if (instance == null) {
+            instance = new CloudStackAsyncJobTracker(CloudStackCloudUtils.ONE_SECOND_IN_MILIS,
+                    CloudStackCloudUtils.MAX_TRIES);
+        }
+        return instance;
+    }
+
+    /**
+     * Starts tracking the job, which is polled with the credentials of cloudStackUser.
+     */
+    @NotNull
+    public synchronized CompletableFuture<JobResult> track(@NotNull CloudStackHttpClient client,
+                                                           String cloudStackUrl,
+                                                           String jobId,
+                                                           @NotNull CloudStackUser cloudStackUser) {
+
+        String accountKey = cloudStackUrl + ACCOUNT_KEY_SEPARATOR + cloudStackUser.getId();
+        AccountJobs accountJobs = this.pendingJobs.get(accountKey);
+        if (accountJobs == null) {
+            accountJobs = new AccountJobs(client, cloudStackUrl, cloudStackUser);
+            this.pendingJobs.put(accountKey, accountJobs);
+        }
+        // The most recent credentials of the user are the ones used to poll its jobs
+        accountJobs.cloudStackUser = cloudStackUser;
+
+        PendingJob pendingJob = accountJobs.jobs.computeIfAbsent(jobId, id -> new PendingJob());
+        startPoller();
+        return pendingJob.future;
+    }
+
+    /**
+     * Stops polling; the jobs tracked afterwards start the poller again.
+     */
+    public synchronized void shutdown() {
+        if (this.poller != null) {
+            this.poller.shutdownNow();
+            this.poller = null;
+        }
+    }
+
+    public synchronized int getPendingJobsCount() {
+        int count = 0;
+        for (AccountJobs accountJobs : this.pendingJobs.values()) {
+            count += accountJobs.jobs.size();
+        }
+        return count;
+    }
+
+    @VisibleForTesting
+    synchronized boolean isPolling() {
+        return this.poller != null;
+    }
+
+    @VisibleForTesting
+    void poll() {
+        List<AccountJobs> accountsJobs;
+        synchronized (this) {
+            accountsJobs = new ArrayList<>(this.pendingJobs.values());
+        }
+
+        for (AccountJobs accountJobs : accountsJobs) {
+            pollAccountJobs(accountJobs);
+        }
+
+        synchronized (this) {
+            this.pendingJobs.values().removeIf(accountJobs -> accountJobs.jobs.isEmpty());
+        }
+    }
+
+    @VisibleForTesting
+    Map<String, JobResult> listAsyncJobs(@NotNull AccountJobs accountJobs) throws FogbowException {
+        String startDate = getStartDate(accountJobs);
+        Map<String, JobResult> jobResults = new HashMap<>();
+        int foundJobs = 0;
+        int page = 1;
+        List<ListAsyncJobsResponse.AsyncJob> asyncJobs;
+        do {
+            asyncJobs = listAsyncJobs(accountJobs, startDate, page++);
+            for (ListAsyncJobsResponse.AsyncJob asyncJob : asyncJobs) {
+                if (accountJobs.jobs.containsKey(asyncJob.getJobId())) {
+                    jobResults.put(asyncJob.getJobId(),
+                            new JobResult(asyncJob.getJobStatus(), asyncJob.getJobInstanceId()));
+                    foundJobs++;
+                }
+            }
+        } while (asyncJobs.size() >= PAGE_SIZE && foundJobs < accountJobs.jobs.size());
+        return jobResults;
+    }
+
+    @VisibleForTesting
+    List<ListAsyncJobsResponse.AsyncJob> listAsyncJobs(@NotNull AccountJobs accountJobs, String startDate, int page)
+            throws FogbowException {
+
+        ListAsyncJobsRequest request = new ListAsyncJobsRequest.Builder()
+                .startDate(startDate)
+                .page(page)
+                .pageSize(PAGE_SIZE)
+                .build(accountJobs.cloudStackUrl);
+
+        URIBuilder uriRequest = request.getUriBuilder();
+        CloudStackUrlUtil.sign(uriRequest, accountJobs.cloudStackUser.getToken());
+
+        String jsonResponse = CloudStackCloudUtils.doRequest(accountJobs.client, uriRequest.toString(),
+                accountJobs.cloudStackUser);
+        return ListAsyncJobsResponse.fromJson(jsonResponse).getAsyncJobs();
+    }
+
+    // The day before the oldest pending job was tracked, which covers the time zone of the cloud
+    private String getStartDate(AccountJobs accountJobs) {
+        long oldestTrackTime = System.currentTimeMillis();
+        for (PendingJob pendingJob : accountJobs.jobs.values()) {
+            oldestTrackTime = Math.min(oldestTrackTime, pendingJob.trackTime);
+        }
+        SimpleDateFormat dateFormat = new SimpleDateFormat(START_DATE_FORMAT);
+        dateFormat.setTimeZone(TimeZone.getTimeZone(UTC_TIME_ZONE));
+        return dateFormat.format(new Date(oldestTrackTime - TimeUnit.DAYS.toMillis(1)));
+    }
+
+    @VisibleForTesting
+    JobResult queryAsyncJob(@NotNull AccountJobs accountJobs, String jobId) throws FogbowException {
+        CloudStackQueryAsyncJobResponse response = CloudStackCloudUtils.getAsyncJobResponse(
+                accountJobs.client, accountJobs.cloudStackUrl, jobId, accountJobs.cloudStackUser);
+        return new JobResult(response.getJobStatus(), response.getJobInstanceId());
+    }
+
+    private void pollAccountJobs(AccountJobs accountJobs) {
+        Map<String, JobResult> listedJobs = new HashMap<>();
+        try {
+            listedJobs = listAsyncJobs(accountJobs);
+        } catch (Throwable e) {
+            // The jobs are queried individually
+            LOGGER.warn(String.format(Messages.Log.UNABLE_TO_LIST_ASYNC_JOBS_S, accountJobs.cloudStackUrl), e);
+        }
+
+        for (Map.Entry<String, PendingJob> entry : accountJobs.jobs.entrySet()) {
+            String jobId = entry.getKey();
+            PendingJob pendingJob = entry.getValue();
+            try {
+                JobResult jobResult = listedJobs.get(jobId);
+                if (jobResult == null) {
+                    jobResult = queryAsyncJob(accountJobs, jobId);
+                }
+                if (jobResult.getJobStatus() != CloudStackQueryJobResult.PROCESSING) {
+                    accountJobs.jobs.remove(jobId);
+                    pendingJob.future.complete(jobResult);
+                    continue;
+                }
+            } catch (Throwable e) {
+                accountJobs.jobs.remove(jobId);
+                pendingJob.future.completeExceptionally(e);
+                continue;
+            }
+
+            if (++pendingJob.polls >= this.maxPolls) {
+                accountJobs.jobs.remove(jobId);
+                pendingJob.future.completeExceptionally(new UnavailableProviderException(
+                        String.format(Messages.Exception.JOB_TIMEOUT, jobId)));
+            }
+        }
+    }
+
+    private synchronized void startPoller() {
+        if (this.poller == null) {
+            this.poller = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                    .setNameFormat(POLLER_THREAD_NAME)
+                    .setDaemon(true)
+                    .build());
+            this.poller.scheduleWithFixedDelay(() -> {
+                try {
+                    poll();
+                } catch (Throwable e) {
+                    // An exception would cancel the next polls
+                    LOGGER.error(Messages.Log.UNEXPECTED_ERROR, e);
+                }
+            }, this.pollingInterval, this.pollingInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public static class JobResult {
+        private final int jobStatus;
+        private final String jobInstanceId;
+
+        public JobResult(int jobStatus, String jobInstanceId) {
+            this.jobStatus = jobStatus;
+            this.jobInstanceId = jobInstanceId;
+        }
+
+        public int getJobStatus() {
+            return this.jobStatus;
+        }
+
+        public String getJobInstanceId() {
+            return this.jobInstanceId;
+        }
+    }
+
+    @VisibleForTesting
+    static class AccountJobs {
+        private final CloudStackHttpClient client;
+        private final String cloudStackUrl;
+        private volatile CloudStackUser cloudStackUser;
+        private final Map<String, PendingJob> jobs;
+
+        private AccountJobs(CloudStackHttpClient client, String cloudStackUrl, CloudStackUser cloudStackUser) {
+            this.client = client;
+            this.cloudStackUrl = cloudStackUrl;
+            this.cloudStackUser = cloudStackUser;
+            this.jobs = new ConcurrentHashMap<>();
+        }
+    }
+
+    private static class PendingJob {
+        private final CompletableFuture<JobResult> future = new CompletableFuture<>();
+        private final long trackTime = System.currentTimeMillis();
+        private int polls;
+    }
+}
@@ -81,6 +81,8 @@ public class CloudStackCloudUtils {
 
     /**
      * Wait and process the Cloudstack asynchronous response in its asynchronous life cycle.
+     * The callers need the result before answering, so the job is polled here rather than by the
+     * CloudStackAsyncJobTracker, whose single poller thread serves the flows that do not wait.
      * @throws FogbowException
      */
     @NotNull
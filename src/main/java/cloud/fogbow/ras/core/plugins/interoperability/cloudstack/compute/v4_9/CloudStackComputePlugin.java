@@ -25,6 +25,7 @@ import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.sdk.v4_9.volume
 import cloud.fogbow.ras.core.plugins.interoperability.util.DefaultLaunchCommandGenerator;
 import cloud.fogbow.ras.core.plugins.interoperability.util.LaunchCommandGenerator;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
 import org.apache.commons.lang.StringUtils;
 import org.apache.http.client.utils.URIBuilder;
 import org.apache.log4j.Logger;
@@ -54,6 +55,12 @@ public class CloudStackComputePlugin implements ComputePlugin<CloudStackUser> {
     static final double GIGABYTE_IN_BYTES = Math.pow(1024, 3);
     @VisibleForTesting
     static final int AMOUNT_INSTANCE = 1;
+    @VisibleForTesting
+    static final String IDS_SEPARATOR = ",";
+    @VisibleForTesting
+    static final int MAX_IDS_PER_REQUEST = 100;
+    @VisibleForTesting
+    static final int ROOT_VOLUMES_PAGE_SIZE = 500;
 
     private LaunchCommandGenerator launchCommandGenerator;
     private CloudStackHttpClient client;
@@ -123,6 +130,27 @@ public class CloudStackComputePlugin implements ComputePlugin<CloudStackUser> {
         return doGetInstance(request, cloudUser);
     }
 
+    @Override
+    public Map<String, ComputeInstance> getInstances(Collection<ComputeOrder> orders,
+                                                     CloudStackUser cloudUser)
+            throws FogbowException {
+        LOGGER.info(String.format(Messages.Log.GETTING_INSTANCES_OF_D_ORDERS, orders.size()));
+
+        // Long id lists would not fit in the query string of a single request
+        Map<String, ComputeInstance> computeInstances = new HashMap<>();
+        for (List<ComputeOrder> ordersChunk : Lists.partition(new ArrayList<>(orders), MAX_IDS_PER_REQUEST)) {
+            String instanceIds = ordersChunk.stream()
+                    .map(ComputeOrder::getInstanceId)
+                    .collect(Collectors.joining(IDS_SEPARATOR));
+            GetVirtualMachineRequest request = new GetVirtualMachineRequest.Builder()
+                    .ids(instanceIds)
+                    .build(this.cloudStackUrl);
+
+            computeInstances.putAll(doGetInstances(request, cloudUser));
+        }
+        return computeInstances;
+    }
+
     @Override
     public void deleteInstance(ComputeOrder order, CloudStackUser cloudUser)
             throws FogbowException {
@@ -145,6 +173,29 @@ public class CloudStackComputePlugin implements ComputePlugin<CloudStackUser> {
         return buildComputeInstance(response, cloudStackUser);
     }
 
+    @VisibleForTesting
+    Map<String, ComputeInstance> doGetInstances(GetVirtualMachineRequest request,
+                                                CloudStackUser cloudStackUser) throws FogbowException {
+
+        GetVirtualMachineResponse response = requestGetVirtualMachine(request, cloudStackUser);
+        Map<String, ComputeInstance> computeInstances = new HashMap<>();
+        List<GetVirtualMachineResponse.VirtualMachine> virtualMachines = response.getVirtualMachines();
+        if (virtualMachines != null) {
+            Set<String> virtualMachineIds = virtualMachines.stream()
+                    .map(GetVirtualMachineResponse.VirtualMachine::getId)
+                    .collect(Collectors.toSet());
+            Map<String, Integer> diskSizes = getVirtualMachinesDiskSizes(virtualMachineIds, cloudStackUser);
+            for (GetVirtualMachineResponse.VirtualMachine virtualMachine : virtualMachines) {
+                Integer disk = diskSizes.get(virtualMachine.getId());
+                if (disk == null) {
+                    disk = getVirtualMachineDiskSize(virtualMachine.getId(), cloudStackUser);
+                }
+                computeInstances.put(virtualMachine.getId(), createComputeInstance(virtualMachine, disk));
+            }
+        }
+        return computeInstances;
+    }
+
     @VisibleForTesting
     String doRequestInstance(DeployVirtualMachineRequest request,
                              GetAllServiceOfferingsResponse.ServiceOffering serviceOffering,
@@ -324,6 +375,44 @@ public class CloudStackComputePlugin implements ComputePlugin<CloudStackUser> {
         return UNKNOWN_DISK_VALUE;
     }
 
+    /**
+     * Gets the sizes of the root volumes of the virtual machines from the root volumes of the user, listed
+     * ROOT_VOLUMES_PAGE_SIZE at a time until all of them are found; the virtual machines whose root volumes
+     * were not found are left out of the map.
+     */
+    @VisibleForTesting
+    Map<String, Integer> getVirtualMachinesDiskSizes(Set<String> virtualMachineIds, CloudStackUser cloudUser) {
+        Map<String, Integer> diskSizes = new HashMap<>();
+        try {
+            int page = 1;
+            List<GetVolumeResponse.Volume> volumes;
+            do {
+                GetVolumeRequest request = new GetVolumeRequest.Builder()
+                        .type(DEFAULT_VOLUME_TYPE_VALUE)
+                        .page(page++)
+                        .pageSize(ROOT_VOLUMES_PAGE_SIZE)
+                        .build(this.cloudStackUrl);
+
+                URIBuilder uriRequest = request.getUriBuilder();
+                CloudStackUrlUtil.sign(uriRequest, cloudUser.getToken());
+                String jsonResponse = doGet(uriRequest.toString(), cloudUser);
+                volumes = GetVolumeResponse.fromJson(jsonResponse).getVolumes();
+                if (volumes == null) {
+                    break;
+                }
+                for (GetVolumeResponse.Volume volume : volumes) {
+                    if (virtualMachineIds.contains(volume.getVirtualMachineId())) {
+                        diskSizes.put(volume.getVirtualMachineId(),
+                                (int) BinaryUnit.bytes(volume.getSize()).asGigabytes());
+                    }
+                }
+            } while (volumes.size() >= ROOT_VOLUMES_PAGE_SIZE && diskSizes.size() < virtualMachineIds.size());
+        } catch (Exception e) {
+            LOGGER.debug(Messages.Log.ERROR_WHILE_GETTING_DISK_SIZE, e);
+        }
+        return diskSizes;
+    }
+
     @VisibleForTesting
     String doGet(String url, CloudStackUser cloudUser) throws FogbowException {
         return this.client.doGetRequest(url, cloudUser);
@@ -10,22 +10,31 @@ import cloud.fogbow.ras.api.http.response.InstanceState;
 import cloud.fogbow.ras.api.http.response.PublicIpInstance;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.models.ResourceType;
+import cloud.fogbow.ras.core.models.orders.OrderState;
 import cloud.fogbow.ras.core.models.orders.PublicIpOrder;
 import cloud.fogbow.ras.core.plugins.interoperability.PublicIpPlugin;
+import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.CloudStackAsyncJobTracker;
 import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.CloudStackCloudUtils;
 import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.CloudStackStateMapper;
 import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.sdk.v4_9.publicip.model.*;
 import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.sdk.v4_9.quota.model.ListPublicIpAddressRequest;
 import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.sdk.v4_9.quota.model.ListPublicIpAddressResponse;
+import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.sdk.v4_9.securityrule.model.ListFirewallRulesRequest;
+import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.sdk.v4_9.securityrule.model.ListFirewallRulesResponse;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import org.apache.http.client.utils.URIBuilder;
 import org.apache.log4j.Logger;
 
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 public class CloudStackPublicIpPlugin implements PublicIpPlugin<CloudStackUser> {
     private static final Logger LOGGER = Logger.getLogger(CloudStackPublicIpPlugin.class);
@@ -34,9 +43,21 @@ public class CloudStackPublicIpPlugin implements PublicIpPlugin<CloudStackUser>
     static final String DEFAULT_PROTOCOL = "TCP";
     static final String PUBLIC_IP_RESOURCE = "Public ip";
 
+    private static final String STEP_EXECUTOR_NAME = "cloudstack-public-ip-step";
+    private static final String STEP_THREAD_NAME_FORMAT = STEP_EXECUTOR_NAME + "-%d";
+    private static final int STEP_POOL_SIZE = 2;
+    private static final int PUBLIC_IP_ADDRESSES_PAGE_SIZE = 500;
+    private static final long STEP_EXECUTOR_SHUTDOWN_TIMEOUT = TimeUnit.SECONDS.toMillis(10);
+
     // Since the ip creation and association involves multiple asynchronous requests instance,
     // we need to keep track of where we are in the process in order to fulfill the operation.
-    private static Map<String, AsyncRequestInstanceState> asyncRequestInstanceStateMap = new HashMap<>();
+    // Each state is only changed while holding its own lock. The state of a deleted instance is kept
+    // until its ip address is gone from the cloud, so that getInstance can report it as not found.
+    private static Map<String, AsyncRequestInstanceState> asyncRequestInstanceStateMap = new ConcurrentHashMap<>();
+
+    // The steps are taken as soon as the job of the previous step finishes, out of the thread
+    // that polls the jobs, so that their requests to the cloud do not delay the other polls.
+    private static ExecutorService stepExecutor;
 
     private final String defaultNetworkId;
     private CloudStackHttpClient client;
@@ -96,26 +117,62 @@ public class CloudStackPublicIpPlugin implements PublicIpPlugin<CloudStackUser>
                 .build(this.cloudStackUrl);
 
         String jobId = requestIpAddressAssociation(request, cloudStackUser);
-        setAsyncRequestInstanceFirstStep(jobId, publicIpOrder);
+        AsyncRequestInstanceState asyncRequestInstanceState = setAsyncRequestInstanceFirstStep(jobId, publicIpOrder);
+        trackCurrentJob(asyncRequestInstanceState, cloudStackUser);
         return getInstanceId(publicIpOrder);
     }
 
+    /**
+     * Delete the ip address of the order. If a step of the asynchronous request instance is still
+     * running, the instance is only marked as deleted, and the ip address is released when the job
+     * of the step finishes, since it may not be associated yet.
+     */
     @VisibleForTesting
     void doDeleteInstance(PublicIpOrder publicIpOrder, CloudStackUser cloudStackUser)
             throws FogbowException {
 
         String instanceId = getInstanceId(publicIpOrder);
         AsyncRequestInstanceState asyncRequestInstanceState = this.asyncRequestInstanceStateMap.get(instanceId);
+        if (asyncRequestInstanceState == null) {
+            asyncRequestInstanceState = recoverAsyncRequestInstanceState(publicIpOrder, cloudStackUser);
+        }
         if (asyncRequestInstanceState == null) {
             throw new InstanceNotFoundException();
         }
+
+        synchronized (asyncRequestInstanceState) {
+            asyncRequestInstanceState.setDeleted(true);
+            switch (asyncRequestInstanceState.getState()) {
+                case ASSOCIATING_IP_ADDRESS:
+                case CREATING_FIREWALL_RULE:
+                    trackCurrentJobIfUntracked(asyncRequestInstanceState, cloudStackUser);
+                    return;
+                default:
+                    releaseIpAddress(asyncRequestInstanceState, cloudStackUser);
+            }
+        }
+    }
+
+    /**
+     * Disassociate the ip address of the asynchronous request instance, if it has one that was not
+     * released yet.
+     */
+    @VisibleForTesting
+    void releaseIpAddress(AsyncRequestInstanceState asyncRequestInstanceState, CloudStackUser cloudStackUser)
+            throws FogbowException {
+
         String ipAddressId = asyncRequestInstanceState.getIpInstanceId();
+        if (ipAddressId == null) {
+            return;
+        }
 
         DisassociateIpAddressRequest request = new DisassociateIpAddressRequest.Builder()
                 .id(ipAddressId)
                 .build(this.cloudStackUrl);
 
         requestDisassociateIpAddress(request, cloudStackUser);
+        asyncRequestInstanceState.setReleasedIpInstanceId(ipAddressId);
+        asyncRequestInstanceState.setIpInstanceId(null);
     }
 
     @VisibleForTesting
@@ -136,87 +193,354 @@ public class CloudStackPublicIpPlugin implements PublicIpPlugin<CloudStackUser>
 
         String instanceId = getInstanceId(publicIpOrder);
         AsyncRequestInstanceState asyncRequestInstanceState = this.asyncRequestInstanceStateMap.get(instanceId);
+        if (asyncRequestInstanceState == null) {
+            asyncRequestInstanceState = recoverAsyncRequestInstanceState(publicIpOrder, cloudStackUser);
+        }
+
+        if (asyncRequestInstanceState == null && isBeingDeleted(publicIpOrder)) {
+            // The ip address was released and is no longer in the cloud
+            throw new InstanceNotFoundException(Messages.Exception.INSTANCE_NOT_FOUND);
+        }
 
         boolean isAOperationalFailure = asyncRequestInstanceState == null;
         if (isAOperationalFailure) {
-            // This may happen due to a failure in the RAS while this operation was being carried out; since the
-            // order was still spawning, the spawning processor will start monitoring this order after the RAS
-            // is restarted. Unfortunately, even if the operation succeeded, we cannot retrieve this information
-            // and will have to signal that the order has failed.
-            LOGGER.error(Messages.Log.INSTANCE_S_OPERATIONAL_LOST_MEMORY_FAILURE);
+            // This may happen due to a failure in the RAS while this operation was being carried out, before
+            // the static NAT of the ip address was enabled; since the order was still spawning, the spawning
+            // processor will start monitoring this order after the RAS is restarted, but there is nothing in
+            // the cloud from which the operation can be resumed, so we have to signal that the order has failed.
+            LOGGER.error(String.format(Messages.Log.INSTANCE_S_OPERATIONAL_LOST_MEMORY_FAILURE, instanceId));
             return createFailedPublicIpInstance();
         }
 
-        if (asyncRequestInstanceState.isReady()) {
+        if (asyncRequestInstanceState.isDeleted()) {
+            return createDeletedPublicIpInstance(asyncRequestInstanceState, cloudStackUser);
+        } else if (asyncRequestInstanceState.isReady()) {
             return createReadyPublicIpInstance(asyncRequestInstanceState, cloudStackUser);
         } else {
-            return createCurrentPublicIpInstance(asyncRequestInstanceState, publicIpOrder, cloudStackUser);
+            return createCurrentPublicIpInstance(asyncRequestInstanceState, cloudStackUser);
         }
     }
 
     /**
-     * Retrieve the current Cloudstack asynchronous job and treat the next operation of the
-     * asynchronous request instance flow.
+     * Build the public ip instance of a deleted asynchronous request instance. The disassociation of
+     * the ip address is an asynchronous job of the cloud, thus the instance is only reported as not
+     * found, and its state forgotten, once its ip address is gone from the cloud.
      */
     @VisibleForTesting
-    PublicIpInstance createCurrentPublicIpInstance(AsyncRequestInstanceState asyncRequestInstanceState,
-                                                  PublicIpOrder publicIpOrder,
+    PublicIpInstance createDeletedPublicIpInstance(AsyncRequestInstanceState asyncRequestInstanceState,
                                                   CloudStackUser cloudStackUser)
             throws FogbowException {
 
-        String currentJobId = asyncRequestInstanceState.getCurrentJobId();
-        String jsonResponse = CloudStackQueryJobResult.getQueryJobResult(
-                this.client, this.cloudStackUrl, currentJobId, cloudStackUser);
-        CloudStackQueryAsyncJobResponse response = CloudStackQueryAsyncJobResponse.fromJson(jsonResponse);
-
-        switch (response.getJobStatus()) {
-            case CloudStackQueryJobResult.PROCESSING:
-                return createProcessingPublicIpInstance();
-            case CloudStackQueryJobResult.SUCCESS:
-                try {
-                    return createNextOperationPublicIpInstance(
-                            asyncRequestInstanceState, cloudStackUser, jsonResponse);
-                } catch (FogbowException e) {
-                    LOGGER.error(Messages.Log.ERROR_WHILE_PROCESSING_ASYNCHRONOUS_REQUEST_INSTANCE_STEP, e);
+        synchronized (asyncRequestInstanceState) {
+            switch (asyncRequestInstanceState.getState()) {
+                case ASSOCIATING_IP_ADDRESS:
+                case CREATING_FIREWALL_RULE:
+                    // The ip address is released when the job of the current step finishes
+                    trackCurrentJobIfUntracked(asyncRequestInstanceState, cloudStackUser);
+                    return createProcessingPublicIpInstance();
+                default:
+                    String ipAddressId = asyncRequestInstanceState.getIpInstanceId() != null
+                            ? asyncRequestInstanceState.getIpInstanceId()
+                            : asyncRequestInstanceState.getReleasedIpInstanceId();
+                    if (ipAddressId != null && ipAddressExists(ipAddressId, cloudStackUser)) {
+                        return createProcessingPublicIpInstance();
+                    }
+                    this.asyncRequestInstanceStateMap.remove(asyncRequestInstanceState.getOrderInstanceId(),
+                            asyncRequestInstanceState);
+                    throw new InstanceNotFoundException(Messages.Exception.INSTANCE_NOT_FOUND);
+            }
+        }
+    }
+
+    /**
+     * Build the public ip instance of an asynchronous request instance that is not ready yet. Its
+     * steps are taken in background, so this only tracks the current job again if its tracking failed.
+     */
+    @VisibleForTesting
+    PublicIpInstance createCurrentPublicIpInstance(AsyncRequestInstanceState asyncRequestInstanceState,
+                                                  CloudStackUser cloudStackUser) {
+
+        synchronized (asyncRequestInstanceState) {
+            switch (asyncRequestInstanceState.getState()) {
+                case ASSOCIATING_IP_ADDRESS:
+                    trackCurrentJobIfUntracked(asyncRequestInstanceState, cloudStackUser);
+                    return createProcessingPublicIpInstance();
+                case CREATING_FIREWALL_RULE:
+                    trackCurrentJobIfUntracked(asyncRequestInstanceState, cloudStackUser);
+                    return createPublicIpInstance(asyncRequestInstanceState,
+                            CloudStackStateMapper.CREATING_FIREWALL_RULE_STATUS);
+                case READY:
+                    return createPublicIpInstance(asyncRequestInstanceState, CloudStackStateMapper.READY_STATUS);
+                default:
                     return createFailedPublicIpInstance();
-                }
-            case CloudStackQueryJobResult.FAILURE:
-                try {
-                    doDeleteInstance(publicIpOrder, cloudStackUser);
-                } catch (FogbowException e) {
-                    LOGGER.error(String.format(Messages.Log.ERROR_WHILE_REMOVING_RESOURCE_S_S,
-                                                PUBLIC_IP_RESOURCE, publicIpOrder.getInstanceId()));
-                }
-                return createFailedPublicIpInstance();
-            default:
-                LOGGER.error(Messages.Log.UNEXPECTED_JOB_STATUS);
-                return null;
+            }
+        }
+    }
+
+    /**
+     * Track the current Cloudstack asynchronous job of the asynchronous request instance, taking
+     * the next step of its flow when the job finishes.
+     */
+    @VisibleForTesting
+    void trackCurrentJob(AsyncRequestInstanceState asyncRequestInstanceState, CloudStackUser cloudStackUser) {
+        synchronized (asyncRequestInstanceState) {
+            String jobId = asyncRequestInstanceState.getCurrentJobId();
+            asyncRequestInstanceState.setCurrentJobTracked(true);
+            CloudStackAsyncJobTracker.getInstance()
+                    .track(this.client, this.cloudStackUrl, jobId, cloudStackUser)
+                    .whenCompleteAsync((jobResult, error) -> takeNextStep(
+                            asyncRequestInstanceState, cloudStackUser, jobId, jobResult, error), getStepExecutor());
+        }
+    }
+
+    private void trackCurrentJobIfUntracked(AsyncRequestInstanceState asyncRequestInstanceState,
+                                            CloudStackUser cloudStackUser) {
+
+        if (!asyncRequestInstanceState.isCurrentJobTracked()) {
+            trackCurrentJob(asyncRequestInstanceState, cloudStackUser);
+        }
+    }
+
+    /**
+     * Treat the result of the job of the current step of the asynchronous request instance flow.
+     */
+    @VisibleForTesting
+    void takeNextStep(AsyncRequestInstanceState asyncRequestInstanceState,
+                      CloudStackUser cloudStackUser,
+                      String jobId,
+                      CloudStackAsyncJobTracker.JobResult jobResult,
+                      Throwable error) {
+
+        synchronized (asyncRequestInstanceState) {
+            boolean isCurrentStepJob = jobId.equals(asyncRequestInstanceState.getCurrentJobId())
+                    && asyncRequestInstanceState.isCurrentJobTracked();
+            if (!isCurrentStepJob) {
+                return;
+            }
+            asyncRequestInstanceState.setCurrentJobTracked(false);
+
+            if (error != null) {
+                LOGGER.warn(String.format(Messages.Log.UNABLE_TO_TRACK_JOB_OF_ASYNCHRONOUS_PUBLIC_IP_S,
+                        asyncRequestInstanceState.getOrderInstanceId()), error);
+            }
+            if (asyncRequestInstanceState.isDeleted()) {
+                // Without the result of the job, only an ip address already known can be released
+                finishDeletedAsyncRequestInstance(asyncRequestInstanceState, cloudStackUser, jobId,
+                        error == null ? jobResult : null);
+                return;
+            }
+            if (error != null) {
+                return;
+            }
+
+            switch (jobResult.getJobStatus()) {
+                case CloudStackQueryJobResult.SUCCESS:
+                    try {
+                        doNextOperation(asyncRequestInstanceState, cloudStackUser, jobId);
+                    } catch (FogbowException e) {
+                        LOGGER.error(Messages.Log.ERROR_WHILE_PROCESSING_ASYNCHRONOUS_REQUEST_INSTANCE_STEP, e);
+                        failAsyncRequestInstanceSteps(asyncRequestInstanceState, cloudStackUser);
+                    }
+                    break;
+                case CloudStackQueryJobResult.FAILURE:
+                    failAsyncRequestInstanceSteps(asyncRequestInstanceState, cloudStackUser);
+                    break;
+                default:
+                    LOGGER.error(Messages.Log.UNEXPECTED_JOB_STATUS);
+            }
+        }
+    }
+
+    /**
+     * Release the ip address of an asynchronous request instance deleted while the job of one of its
+     * steps was running, now that the job has finished. The state is kept as the one of a deleted
+     * instance until getInstance finds its ip address gone.
+     */
+    @VisibleForTesting
+    void finishDeletedAsyncRequestInstance(AsyncRequestInstanceState asyncRequestInstanceState,
+                                           CloudStackUser cloudStackUser,
+                                           String jobId,
+                                           CloudStackAsyncJobTracker.JobResult jobResult) {
+
+        String instanceId = asyncRequestInstanceState.getOrderInstanceId();
+        try {
+            boolean isAssociatedNow = asyncRequestInstanceState.getState()
+                    == AsyncRequestInstanceState.StateType.ASSOCIATING_IP_ADDRESS
+                    && jobResult != null && jobResult.getJobStatus() == CloudStackQueryJobResult.SUCCESS;
+            if (isAssociatedNow) {
+                String jsonResponse = CloudStackQueryJobResult.getQueryJobResult(
+                        this.client, this.cloudStackUrl, jobId, cloudStackUser);
+                SuccessfulAssociateIpAddressResponse response =
+                        SuccessfulAssociateIpAddressResponse.fromJson(jsonResponse);
+                asyncRequestInstanceState.setIpInstanceId(response.getIpAddress().getId());
+            }
+            releaseIpAddress(asyncRequestInstanceState, cloudStackUser);
+        } catch (FogbowException e) {
+            LOGGER.error(String.format(Messages.Log.ERROR_WHILE_REMOVING_RESOURCE_S_S, PUBLIC_IP_RESOURCE,
+                    instanceId), e);
         }
+        asyncRequestInstanceState.setState(AsyncRequestInstanceState.StateType.FAILED);
     }
 
     /**
      * Execute the next operation of the asynchronous request instance flow.
      */
     @VisibleForTesting
-    PublicIpInstance createNextOperationPublicIpInstance(AsyncRequestInstanceState asyncRequestInstanceState,
-                                                        CloudStackUser cloudStackUser,
-                                                        String jsonResponse)
+    void doNextOperation(AsyncRequestInstanceState asyncRequestInstanceState,
+                         CloudStackUser cloudStackUser,
+                         String jobId)
             throws FogbowException {
 
-        AsyncRequestInstanceState.StateType currentInstanceState = asyncRequestInstanceState.getState();
-        switch (currentInstanceState) {
+        switch (asyncRequestInstanceState.getState()) {
             case ASSOCIATING_IP_ADDRESS:
+                String jsonResponse = CloudStackQueryJobResult.getQueryJobResult(
+                        this.client, this.cloudStackUrl, jobId, cloudStackUser);
                 doCreatingFirewallOperation(asyncRequestInstanceState, cloudStackUser, jsonResponse);
-                return createPublicIpInstance(asyncRequestInstanceState, CloudStackStateMapper.CREATING_FIREWALL_RULE_STATUS);
+                trackCurrentJob(asyncRequestInstanceState, cloudStackUser);
+                break;
             case CREATING_FIREWALL_RULE:
                 finishAsyncRequestInstanceSteps(asyncRequestInstanceState);
-                return createPublicIpInstance(asyncRequestInstanceState, CloudStackStateMapper.READY_STATUS);
+                break;
             default:
                 LOGGER.error(Messages.Log.UNEXPECTED_ERROR);
+        }
+    }
+
+    /**
+     * Set the asynchronous request instance as failed, releasing the ip address if it was
+     * already associated.
+     */
+    @VisibleForTesting
+    void failAsyncRequestInstanceSteps(AsyncRequestInstanceState asyncRequestInstanceState,
+                                       CloudStackUser cloudStackUser) {
+
+        try {
+            // The released ip address is forgotten, so that it is not disassociated again when the order is deleted
+            releaseIpAddress(asyncRequestInstanceState, cloudStackUser);
+        } catch (FogbowException e) {
+            LOGGER.error(String.format(Messages.Log.ERROR_WHILE_REMOVING_RESOURCE_S_S,
+                    PUBLIC_IP_RESOURCE, asyncRequestInstanceState.getOrderInstanceId()), e);
+        }
+        asyncRequestInstanceState.setState(AsyncRequestInstanceState.StateType.FAILED);
+        LOGGER.info(String.format(Messages.Log.ASYNCHRONOUS_PUBLIC_IP_STATE_S,
+                asyncRequestInstanceState.getOrderInstanceId(), AsyncRequestInstanceState.StateType.FAILED));
+    }
+
+    /**
+     * Rebuild from the cloud the asynchronous request instance lost in a restart of the RAS. The ip
+     * address whose static NAT points to the compute of the order has already been associated; the
+     * instance is ready if the ip address has its firewall rule, otherwise the rule is created again,
+     * since the RAS may have stopped between both operations. The instance of an order being deleted
+     * is recovered as deleted, without creating the rule, since its ip address is about to be released.
+     *
+     * @return The recovered asynchronous request instance, or null if there is no such ip address.
+     */
+    @VisibleForTesting
+    AsyncRequestInstanceState recoverAsyncRequestInstanceState(PublicIpOrder publicIpOrder,
+                                                               CloudStackUser cloudStackUser)
+            throws FogbowException {
+
+        String computeId = publicIpOrder.getComputeId();
+        if (computeId == null) {
+            return null;
+        }
+
+        ListPublicIpAddressResponse.PublicIpAddress publicIpAddress = findStaticNatIpAddress(computeId, cloudStackUser);
+        if (publicIpAddress == null) {
+            return null;
+        }
+
+        String instanceId = getInstanceId(publicIpOrder);
+        AsyncRequestInstanceState asyncRequestInstanceState = new AsyncRequestInstanceState(
+                AsyncRequestInstanceState.StateType.READY, null, computeId);
+        asyncRequestInstanceState.setOrderInstanceId(instanceId);
+        asyncRequestInstanceState.setIpInstanceId(publicIpAddress.getId());
+        asyncRequestInstanceState.setIp(publicIpAddress.getIpAddress());
+        if (isBeingDeleted(publicIpOrder)) {
+            asyncRequestInstanceState.setDeleted(true);
+        } else if (!hasFirewallRule(publicIpAddress.getId(), cloudStackUser)) {
+            String createFirewallRuleJobId = doCreateFirewallRule(publicIpAddress.getId(), cloudStackUser);
+            asyncRequestInstanceState.setCurrentJobId(createFirewallRuleJobId);
+            asyncRequestInstanceState.setState(AsyncRequestInstanceState.StateType.CREATING_FIREWALL_RULE);
+        }
+
+        AsyncRequestInstanceState currentState = this.asyncRequestInstanceStateMap.putIfAbsent(
+                instanceId, asyncRequestInstanceState);
+        if (currentState != null) {
+            return currentState;
+        }
+        LOGGER.info(String.format(Messages.Log.RECOVERED_ASYNCHRONOUS_PUBLIC_IP_STATE_S, instanceId));
+        if (!asyncRequestInstanceState.isReady()) {
+            trackCurrentJob(asyncRequestInstanceState, cloudStackUser);
+        }
+        return asyncRequestInstanceState;
+    }
+
+    /**
+     * Look for the ip address of the default network whose static NAT points to the compute, going
+     * through all the pages of ip addresses.
+     */
+    @VisibleForTesting
+    ListPublicIpAddressResponse.PublicIpAddress findStaticNatIpAddress(String computeId,
+                                                                       CloudStackUser cloudStackUser)
+            throws FogbowException {
+
+        for (int page = 1; ; page++) {
+            ListPublicIpAddressRequest request = new ListPublicIpAddressRequest.Builder()
+                    .isStaticNat(true)
+                    .associatedNetworkId(this.defaultNetworkId)
+                    .page(page)
+                    .pageSize(PUBLIC_IP_ADDRESSES_PAGE_SIZE)
+                    .build(this.cloudStackUrl);
+
+            URIBuilder uriRequest = request.getUriBuilder();
+            CloudStackUrlUtil.sign(uriRequest, cloudStackUser.getToken());
+
+            String jsonResponse = CloudStackCloudUtils.doRequest(this.client, uriRequest.toString(), cloudStackUser);
+            ListPublicIpAddressResponse response = ListPublicIpAddressResponse.fromJson(jsonResponse);
+            List<ListPublicIpAddressResponse.PublicIpAddress> publicIpAddresses = response.getPublicIpAddresses();
+            if (publicIpAddresses == null) {
+                return null;
+            }
+            for (ListPublicIpAddressResponse.PublicIpAddress publicIpAddress : publicIpAddresses) {
+                if (computeId.equals(publicIpAddress.getVirtualMachineId())) {
+                    return publicIpAddress;
+                }
+            }
+            if (publicIpAddresses.size() < PUBLIC_IP_ADDRESSES_PAGE_SIZE) {
                 return null;
+            }
         }
     }
 
+    /**
+     * Check whether the ip address has the firewall rule created by this plugin.
+     */
+    @VisibleForTesting
+    boolean hasFirewallRule(String ipAddressId, CloudStackUser cloudStackUser) throws FogbowException {
+        ListFirewallRulesRequest request = new ListFirewallRulesRequest.Builder()
+                .ipAddressId(ipAddressId)
+                .build(this.cloudStackUrl);
+
+        URIBuilder uriRequest = request.getUriBuilder();
+        CloudStackUrlUtil.sign(uriRequest, cloudStackUser.getToken());
+
+        String jsonResponse = CloudStackCloudUtils.doRequest(this.client, uriRequest.toString(), cloudStackUser);
+        ListFirewallRulesResponse response = ListFirewallRulesResponse.fromJson(jsonResponse);
+        List<ListFirewallRulesResponse.SecurityRuleResponse> rules = response.getSecurityRulesResponse();
+        if (rules == null) {
+            return false;
+        }
+        int sshPort = Integer.parseInt(DEFAULT_SSH_PORT);
+        for (ListFirewallRulesResponse.SecurityRuleResponse rule : rules) {
+            if (DEFAULT_PROTOCOL.equalsIgnoreCase(rule.getProtocol())
+                    && rule.getPortFrom() == sshPort && rule.getPortTo() == sshPort) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @VisibleForTesting
     void doCreatingFirewallOperation(AsyncRequestInstanceState asyncRequestInstanceState,
                                      CloudStackUser cloudStackUser,
@@ -237,7 +561,7 @@ public class CloudStackPublicIpPlugin implements PublicIpPlugin<CloudStackUser>
      * wait the asynchronous Associating Ip Address Operation finishes in the Cloudstack.
      */
     @VisibleForTesting
-    void setAsyncRequestInstanceFirstStep(String jobId, PublicIpOrder publicIpOrder) {
+    AsyncRequestInstanceState setAsyncRequestInstanceFirstStep(String jobId, PublicIpOrder publicIpOrder) {
         String computeId = publicIpOrder.getComputeId();
         String instanceId = getInstanceId(publicIpOrder);
         AsyncRequestInstanceState asyncRequestInstanceState = new AsyncRequestInstanceState(
@@ -246,6 +570,7 @@ public class CloudStackPublicIpPlugin implements PublicIpPlugin<CloudStackUser>
         this.asyncRequestInstanceStateMap.put(instanceId, asyncRequestInstanceState);
         LOGGER.info(String.format(Messages.Log.ASYNCHRONOUS_PUBLIC_IP_STATE_S,
                 instanceId, AsyncRequestInstanceState.StateType.ASSOCIATING_IP_ADDRESS));
+        return asyncRequestInstanceState;
     }
 
     /**
@@ -284,7 +609,11 @@ public class CloudStackPublicIpPlugin implements PublicIpPlugin<CloudStackUser>
     String doCreateFirewallRule(SuccessfulAssociateIpAddressResponse response,
                                 CloudStackUser cloudStackUser) throws FogbowException {
 
-        String ipAddressId = response.getIpAddress().getId();
+        return doCreateFirewallRule(response.getIpAddress().getId(), cloudStackUser);
+    }
+
+    @VisibleForTesting
+    String doCreateFirewallRule(String ipAddressId, CloudStackUser cloudStackUser) throws FogbowException {
         CreateFirewallRuleRequest request = new CreateFirewallRuleRequest.Builder()
                 .protocol(DEFAULT_PROTOCOL)
                 .startPort(DEFAULT_SSH_PORT)
@@ -332,7 +661,13 @@ public class CloudStackPublicIpPlugin implements PublicIpPlugin<CloudStackUser>
             AsyncRequestInstanceState asyncRequestInstanceState,
             CloudStackUser cloudStackUser) throws FogbowException {
 
-        String publicIpAddressId = asyncRequestInstanceState.getIpInstanceId();
+        if (!ipAddressExists(asyncRequestInstanceState.getIpInstanceId(), cloudStackUser)) {
+            throw new InstanceNotFoundException(Messages.Exception.INSTANCE_NOT_FOUND);
+        }
+    }
+
+    @VisibleForTesting
+    boolean ipAddressExists(String publicIpAddressId, CloudStackUser cloudStackUser) throws FogbowException {
         ListPublicIpAddressRequest request = buildPublicIpAddressRequest(publicIpAddressId);
 
         URIBuilder uriRequest = request.getUriBuilder();
@@ -340,9 +675,7 @@ public class CloudStackPublicIpPlugin implements PublicIpPlugin<CloudStackUser>
 
         String jsonResponse = CloudStackCloudUtils.doRequest(this.client, uriRequest.toString(), cloudStackUser);
         ListPublicIpAddressResponse response = ListPublicIpAddressResponse.fromJson(jsonResponse);
-        if (response.getPublicIpAddresses() == null) {
-            throw new InstanceNotFoundException(Messages.Exception.INSTANCE_NOT_FOUND);
-        }
+        return response.getPublicIpAddresses() != null;
     }
 
     @VisibleForTesting
@@ -378,6 +711,11 @@ public class CloudStackPublicIpPlugin implements PublicIpPlugin<CloudStackUser>
         return new PublicIpInstance(id, state, ip);
     }
 
+    private boolean isBeingDeleted(PublicIpOrder publicIpOrder) {
+        OrderState orderState = publicIpOrder.getOrderState();
+        return orderState == OrderState.ASSIGNED_FOR_DELETION || orderState == OrderState.CHECKING_DELETION;
+    }
+
     /**
      * We don't have the id of the ip address yet, but since the instance id is only used
      * by the plugin, we can return an orderId as an instanceId in the plugin
@@ -423,6 +761,35 @@ public class CloudStackPublicIpPlugin implements PublicIpPlugin<CloudStackUser>
         return response.getJobId();
     }
 
+    /**
+     * Stops taking the steps of the asynchronous request instances, waiting for the ones already started
+     * to finish; the executor is created again if a step is taken afterwards.
+     */
+    public static synchronized void shutdownStepExecutor() {
+        if (stepExecutor == null) {
+            return;
+        }
+        stepExecutor.shutdown();
+        try {
+            if (!stepExecutor.awaitTermination(STEP_EXECUTOR_SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                LOGGER.warn(String.format(Messages.Log.UNABLE_TO_FINISH_OPERATIONS_OF_EXECUTOR_S, STEP_EXECUTOR_NAME));
+                stepExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stepExecutor.shutdownNow();
+        }
+        stepExecutor = null;
+    }
+
+    private static synchronized ExecutorService getStepExecutor() {
+        if (stepExecutor == null) {
+            stepExecutor = Executors.newFixedThreadPool(STEP_POOL_SIZE,
+                    new ThreadFactoryBuilder().setNameFormat(STEP_THREAD_NAME_FORMAT).setDaemon(true).build());
+        }
+        return stepExecutor;
+    }
+
     @VisibleForTesting
     void setClient(CloudStackHttpClient client) {
         this.client = client;
@@ -6,10 +6,12 @@ import cloud.fogbow.common.util.connectivity.cloud.cloudstack.CloudStackRequest;
 public class GetVirtualMachineRequest extends CloudStackRequest {
     public static final String LIST_VMS_COMMAND = "listVirtualMachines";
     public static final String VIRTUAL_MACHINE_ID_KEY = "id";
+    public static final String VIRTUAL_MACHINE_IDS_KEY = "ids";
 
     private GetVirtualMachineRequest(Builder builder) throws InternalServerErrorException {
         super(builder.cloudStackUrl);
         addParameter(VIRTUAL_MACHINE_ID_KEY, builder.id);
+        addParameter(VIRTUAL_MACHINE_IDS_KEY, builder.ids);
     }
 
     @Override
@@ -26,12 +28,18 @@ public class GetVirtualMachineRequest extends CloudStackRequest {
 
         private String cloudStackUrl;
         private String id;
+        private String ids;
 
         public Builder id(String id) {
             this.id = id;
             return this;
         }
 
+        public Builder ids(String ids) {
+            this.ids = ids;
+            return this;
+        }
+
         public GetVirtualMachineRequest build(String cloudStackUrl) throws InternalServerErrorException {
             this.cloudStackUrl = cloudStackUrl;
             return new GetVirtualMachineRequest(this);
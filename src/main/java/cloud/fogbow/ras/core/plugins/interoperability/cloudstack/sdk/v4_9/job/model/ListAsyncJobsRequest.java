@@ -0,0 +1,59 @@
+package cloud.fogbow.ras.core.plugins.interoperability.cloudstack.sdk.v4_9.job.model;
+
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.common.util.connectivity.cloud.cloudstack.CloudStackRequest;
+
+/**
+ * Documentation: https://cloudstack.apache.org/api/apidocs-4.9/apis/listAsyncJobs.html
+ */
+public class ListAsyncJobsRequest extends CloudStackRequest {
+    public static final String LIST_ASYNC_JOBS_COMMAND = "listAsyncJobs";
+    private static final String START_DATE_KEY = "startdate";
+    private static final String PAGE_KEY = "page";
+    private static final String PAGE_SIZE_KEY = "pagesize";
+
+    private ListAsyncJobsRequest(Builder builder) throws InternalServerErrorException {
+        super(builder.cloudStackUrl);
+        addParameter(START_DATE_KEY, builder.startDate);
+        addParameter(PAGE_KEY, builder.page);
+        addParameter(PAGE_SIZE_KEY, builder.pageSize);
+    }
+
+    @Override
+    public String getCommand() {
+        return LIST_ASYNC_JOBS_COMMAND;
+    }
+
+    @Override
+    public String toString() {
+        return super.toString();
+    }
+
+    public static class Builder {
+        private String cloudStackUrl;
+        private String startDate;
+        private String page;
+        private String pageSize;
+
+        // Format: yyyy-MM-dd
+        public Builder startDate(String startDate) {
+            this.startDate = startDate;
+            return this;
+        }
+
+        public Builder page(int page) {
+            this.page = String.valueOf(page);
+            return this;
+        }
+
+        public Builder pageSize(int pageSize) {
+            this.pageSize = String.valueOf(pageSize);
+            return this;
+        }
+
+        public ListAsyncJobsRequest build(String cloudStackUrl) throws InternalServerErrorException {
+            this.cloudStackUrl = cloudStackUrl;
+            return new ListAsyncJobsRequest(this);
+        }
+    }
+}
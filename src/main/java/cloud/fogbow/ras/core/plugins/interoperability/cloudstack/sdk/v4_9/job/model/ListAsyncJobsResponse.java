@@ -0,0 +1,79 @@
+package cloud.fogbow.ras.core.plugins.interoperability.cloudstack.sdk.v4_9.job.model;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.util.GsonHolder;
+import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.CloudStackErrorResponse;
+import com.google.gson.annotations.SerializedName;
+
+import javax.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Documentation: https://cloudstack.apache.org/api/apidocs-4.9/apis/listAsyncJobs.html
+ * <p>
+ * Response example:
+ * {
+ *   "listasyncjobsresponse": {
+ *     "count": 1,
+ *     "asyncjobs": [{
+ *       "jobid": "a0e403db-0342-45f1-b9e0-8ff94cc1652f",
+ *       "jobstatus": 1,
+ *       "jobinstanceid": "0fd664ce-4acf-4b86-8e16-a43886b6996e"
+ *     }]
+ *   }
+ * }
+ * <p>
+ * We use the @SerializedName annotation to specify that the request parameter is not equal to the class field.
+ */
+public class ListAsyncJobsResponse {
+    protected static final String LIST_ASYNC_JOBS_KEY_JSON = "listasyncjobsresponse";
+    protected static final String ASYNC_JOBS_KEY_JSON = "asyncjobs";
+    protected static final String JOB_ID_KEY_JSON = "jobid";
+    protected static final String JOB_STATUS_KEY_JSON = "jobstatus";
+    protected static final String JOB_INSTANCE_ID_KEY_JSON = "jobinstanceid";
+
+    @SerializedName(LIST_ASYNC_JOBS_KEY_JSON)
+    private AsyncJobsResponse asyncJobsResponse;
+
+    @NotNull
+    public List<AsyncJob> getAsyncJobs() {
+        List<AsyncJob> asyncJobs = this.asyncJobsResponse.asyncJobs;
+        // CloudStack omits the list when there is no job
+        return asyncJobs == null ? new ArrayList<>() : asyncJobs;
+    }
+
+    public static ListAsyncJobsResponse fromJson(String json) throws FogbowException {
+        ListAsyncJobsResponse listAsyncJobsResponse = GsonHolder.getInstance().
+                fromJson(json, ListAsyncJobsResponse.class);
+        listAsyncJobsResponse.asyncJobsResponse.checkErrorExistence();
+        return listAsyncJobsResponse;
+    }
+
+    public class AsyncJobsResponse extends CloudStackErrorResponse {
+        @SerializedName(ASYNC_JOBS_KEY_JSON)
+        private List<AsyncJob> asyncJobs;
+    }
+
+    public class AsyncJob {
+        @SerializedName(JOB_ID_KEY_JSON)
+        private String jobId;
+        // jobStatus: 0 PENDING, 1 COMPLETE, 2 FAILURE
+        @SerializedName(JOB_STATUS_KEY_JSON)
+        private int jobStatus;
+        @SerializedName(JOB_INSTANCE_ID_KEY_JSON)
+        private String jobInstanceId;
+
+        public String getJobId() {
+            return this.jobId;
+        }
+
+        public int getJobStatus() {
+            return this.jobStatus;
+        }
+
+        public String getJobInstanceId() {
+            return this.jobInstanceId;
+        }
+    }
+}
@@ -7,7 +7,10 @@ public class AsyncRequestInstanceState {
     private String currentJobId;
     private String ip;
     private String ipInstanceId;
+    private String releasedIpInstanceId;
     private String computeInstanceId;
+    private boolean currentJobTracked;
+    private boolean deleted;
 
     public AsyncRequestInstanceState(StateType state, String currentJobId, String computeInstanceId) {
         this.state = state;
@@ -19,6 +22,10 @@ public class AsyncRequestInstanceState {
         return this.state.equals(StateType.READY);
     }
 
+    public boolean isFailed() {
+        return this.state.equals(StateType.FAILED);
+    }
+
     public StateType getState() {
         return state;
     }
@@ -55,6 +62,14 @@ public class AsyncRequestInstanceState {
         this.ipInstanceId = ipInstanceId;
     }
 
+    public String getReleasedIpInstanceId() {
+        return releasedIpInstanceId;
+    }
+
+    public void setReleasedIpInstanceId(String releasedIpInstanceId) {
+        this.releasedIpInstanceId = releasedIpInstanceId;
+    }
+
     public void setOrderInstanceId(String orderInstanceId) {
         this.orderInstanceId = orderInstanceId;
     }
@@ -63,8 +78,24 @@ public class AsyncRequestInstanceState {
         return orderInstanceId;
     }
 
+    public boolean isCurrentJobTracked() {
+        return currentJobTracked;
+    }
+
+    public void setCurrentJobTracked(boolean currentJobTracked) {
+        this.currentJobTracked = currentJobTracked;
+    }
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(boolean deleted) {
+        this.deleted = deleted;
+    }
+
     public enum StateType {
-        ASSOCIATING_IP_ADDRESS, CREATING_FIREWALL_RULE, READY
+        ASSOCIATING_IP_ADDRESS, CREATING_FIREWALL_RULE, READY, FAILED
     }
 
 }
@@ -6,10 +6,18 @@ import static cloud.fogbow.common.constants.CloudStackConstants.Network.ID_KEY_J
 
 public class ListPublicIpAddressRequest extends CloudStackRequest {
     private static final String LIST_PUBLIC_IP_ADDRESSES_COMMAND = "listPublicIpAddresses";
+    private static final String IS_STATIC_NAT_KEY = "isstaticnat";
+    private static final String ASSOCIATED_NETWORK_ID_KEY = "associatednetworkid";
+    private static final String PAGE_KEY = "page";
+    private static final String PAGE_SIZE_KEY = "pagesize";
 
     private ListPublicIpAddressRequest(Builder builder) throws InternalServerErrorException {
         super(builder.cloudStackUrl);
         addParameter(ID_KEY_JSON, builder.id);
+        addParameter(IS_STATIC_NAT_KEY, builder.isStaticNat);
+        addParameter(ASSOCIATED_NETWORK_ID_KEY, builder.associatedNetworkId);
+        addParameter(PAGE_KEY, builder.page);
+        addParameter(PAGE_SIZE_KEY, builder.pageSize);
     }
 
     @Override
@@ -20,12 +28,36 @@ public class ListPublicIpAddressRequest extends CloudStackRequest {
     public static class Builder {
         private String cloudStackUrl;
         private String id;
+        private String isStaticNat;
+        private String associatedNetworkId;
+        private String page;
+        private String pageSize;
 
         public Builder id(String id) {
             this.id = id;
             return this;
         }
 
+        public Builder isStaticNat(boolean isStaticNat) {
+            this.isStaticNat = String.valueOf(isStaticNat);
+            return this;
+        }
+
+        public Builder associatedNetworkId(String associatedNetworkId) {
+            this.associatedNetworkId = associatedNetworkId;
+            return this;
+        }
+
+        public Builder page(int page) {
+            this.page = String.valueOf(page);
+            return this;
+        }
+
+        public Builder pageSize(int pageSize) {
+            this.pageSize = String.valueOf(pageSize);
+            return this;
+        }
+
         public ListPublicIpAddressRequest build(String cloudStackUrl) throws InternalServerErrorException {
             this.cloudStackUrl = cloudStackUrl;
             return new ListPublicIpAddressRequest(this);
@@ -7,6 +7,9 @@ import com.google.gson.annotations.SerializedName;
 
 import java.util.List;
 
+import static cloud.fogbow.common.constants.CloudStackConstants.PublicIp.IP_ADDRESS_KEY_JSON;
+import static cloud.fogbow.common.constants.CloudStackConstants.PublicIp.VM_ID_KEY_JSON;
+
 /**
  * Documentation: https://cloudstack.apache.org/api/apidocs-4.9/apis/listPublicIpAddresses.html
  *
@@ -17,7 +20,8 @@ import java.util.List;
  *       "publicipaddress":[
  *          {
  *             "id":"d23b97e7-e476-421a-a622-49f8ad213c2a",
- *             "ipaddress":"200.139.35.14"
+ *             "ipaddress":"200.139.35.14",
+ *             "virtualmachineid":"b1d5c26a-2c5e-4f3a-9e4b-8a6e2f1d0c7b"
  *          }
 *       ]
  * }
@@ -46,7 +50,10 @@ public class ListPublicIpAddressResponse {
 
     public class PublicIpAddress {
         private String id;
+        @SerializedName(IP_ADDRESS_KEY_JSON)
         private String ipAddress;
+        @SerializedName(VM_ID_KEY_JSON)
+        private String virtualMachineId;
 
         public String getId() {
             return id;
@@ -55,5 +62,9 @@ public class ListPublicIpAddressResponse {
         public String getIpAddress() {
             return ipAddress;
         }
+
+        public String getVirtualMachineId() {
+            return virtualMachineId;
+        }
     }
 }
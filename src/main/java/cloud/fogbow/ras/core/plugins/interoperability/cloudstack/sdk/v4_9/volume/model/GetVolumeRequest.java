@@ -6,14 +6,20 @@ import cloud.fogbow.common.util.connectivity.cloud.cloudstack.CloudStackRequest;
 public class GetVolumeRequest extends CloudStackRequest {
     public static final String LIST_VOLUMES_COMMAND = "listVolumes";
     public static final String VOLUME_ID_KEY = "id";
+    public static final String VOLUME_IDS_KEY = "ids";
     public static final String VIRTUAL_MACHINE_ID_KEY = "virtualmachineid";
     public static final String TYPE_KEY = "type";
+    public static final String PAGE_KEY = "page";
+    public static final String PAGE_SIZE_KEY = "pagesize";
 
     protected GetVolumeRequest(Builder builder) throws InternalServerErrorException {
         super(builder.cloudStackUrl);
         addParameter(VOLUME_ID_KEY, builder.id);
+        addParameter(VOLUME_IDS_KEY, builder.ids);
         addParameter(VIRTUAL_MACHINE_ID_KEY, builder.virtualMachineId);
         addParameter(TYPE_KEY, builder.type);
+        addParameter(PAGE_KEY, builder.page);
+        addParameter(PAGE_SIZE_KEY, builder.pageSize);
     }
 
     @Override
@@ -29,14 +35,22 @@ public class GetVolumeRequest extends CloudStackRequest {
     public static class Builder {
         private String cloudStackUrl;
         private String id;
+        private String ids;
         private String virtualMachineId;
         private String type;
+        private String page;
+        private String pageSize;
 
         public Builder id(String id) {
             this.id = id;
             return this;
         }
 
+        public Builder ids(String ids) {
+            this.ids = ids;
+            return this;
+        }
+
         public Builder virtualMachineId(String virtualMachineId) {
             this.virtualMachineId = virtualMachineId;
             return this;
@@ -47,6 +61,16 @@ public class GetVolumeRequest extends CloudStackRequest {
             return this;
         }
 
+        public Builder page(int page) {
+            this.page = String.valueOf(page);
+            return this;
+        }
+
+        public Builder pageSize(int pageSize) {
+            this.pageSize = String.valueOf(pageSize);
+            return this;
+        }
+
         public GetVolumeRequest build(String cloudStackUrl) throws InternalServerErrorException {
             this.cloudStackUrl = cloudStackUrl;
             return new GetVolumeRequest(this);
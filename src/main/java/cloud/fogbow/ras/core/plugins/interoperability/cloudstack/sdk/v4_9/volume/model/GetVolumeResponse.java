@@ -21,6 +21,7 @@ import static cloud.fogbow.common.constants.CloudStackConstants.Volume.*;
  * "name": "ca43bccc-21a6-4f88-8fac-c88ea386a451",
  * "size": 1073741824,
  * "state": "Ready",
+ * "virtualmachineid": "0fd664ce-4acf-4b86-8e16-a43886b6996e"
  * }]
  * }
  * }
@@ -28,6 +29,8 @@ import static cloud.fogbow.common.constants.CloudStackConstants.Volume.*;
  * We use the @SerializedName annotation to specify that the request parameter is not equal to the class field.
  */
 public class GetVolumeResponse {
+    private static final String VIRTUAL_MACHINE_ID_KEY_JSON = "virtualmachineid";
+
     @SerializedName(VOLUMES_KEY_JSON)
     private ListVolumesResponse listVolumesResponse;
 
@@ -56,6 +59,8 @@ public class GetVolumeResponse {
         private long size;
         @SerializedName(STATE_KEY_JSON)
         private String state;
+        @SerializedName(VIRTUAL_MACHINE_ID_KEY_JSON)
+        private String virtualMachineId;
 
         public String getId() {
             return this.id;
@@ -72,5 +77,9 @@ public class GetVolumeResponse {
         public String getState() {
             return this.state;
         }
+
+        public String getVirtualMachineId() {
+            return this.virtualMachineId;
+        }
     }
 }
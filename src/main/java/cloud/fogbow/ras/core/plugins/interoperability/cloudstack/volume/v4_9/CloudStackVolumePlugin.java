@@ -20,10 +20,14 @@ import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.CloudStackState
 
 import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.sdk.v4_9.volume.model.*;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
 
 import org.apache.http.client.utils.URIBuilder;
 import org.apache.log4j.Logger;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -34,6 +38,10 @@ public class CloudStackVolumePlugin implements VolumePlugin<CloudStackUser> {
 
     @VisibleForTesting
     static final int CUSTOMIZED_DISK_SIZE_EXPECTED = 0;
+    @VisibleForTesting
+    static final String IDS_SEPARATOR = ",";
+    @VisibleForTesting
+    static final int MAX_IDS_PER_REQUEST = 100;
 
     private CloudStackHttpClient client;
     private String zoneId;
@@ -79,6 +87,27 @@ public class CloudStackVolumePlugin implements VolumePlugin<CloudStackUser> {
         return doGetInstance(request, cloudStackUser);
     }
 
+    @Override
+    public Map<String, VolumeInstance> getInstances(Collection<VolumeOrder> volumeOrders,
+                                                    CloudStackUser cloudStackUser)
+            throws FogbowException {
+
+        LOGGER.info(String.format(Messages.Log.GETTING_INSTANCES_OF_D_ORDERS, volumeOrders.size()));
+        // Long id lists would not fit in the query string of a single request
+        Map<String, VolumeInstance> volumeInstances = new HashMap<>();
+        for (List<VolumeOrder> ordersChunk : Lists.partition(new ArrayList<>(volumeOrders), MAX_IDS_PER_REQUEST)) {
+            String instanceIds = ordersChunk.stream()
+                    .map(VolumeOrder::getInstanceId)
+                    .collect(Collectors.joining(IDS_SEPARATOR));
+            GetVolumeRequest request = new GetVolumeRequest.Builder()
+                    .ids(instanceIds)
+                    .build(this.cloudStackUrl);
+
+            volumeInstances.putAll(doGetInstances(request, cloudStackUser));
+        }
+        return volumeInstances;
+    }
+
     @Override
     public void deleteInstance(VolumeOrder volumeOrder, CloudStackUser cloudStackUser)
             throws FogbowException {
@@ -127,6 +156,26 @@ public class CloudStackVolumePlugin implements VolumePlugin<CloudStackUser> {
     }
 
     
+    @VisibleForTesting
+    Map<String, VolumeInstance> doGetInstances(GetVolumeRequest request, CloudStackUser cloudStackUser)
+            throws FogbowException {
+
+        URIBuilder uriRequest = request.getUriBuilder();
+        CloudStackUrlUtil.sign(uriRequest, cloudStackUser.getToken());
+
+        String jsonResponse = CloudStackCloudUtils.doRequest(this.client, uriRequest.toString(), cloudStackUser);
+        GetVolumeResponse response = GetVolumeResponse.fromJson(jsonResponse);
+        Map<String, VolumeInstance> volumeInstances = new HashMap<>();
+        List<GetVolumeResponse.Volume> volumes = response.getVolumes();
+        if (volumes != null) {
+            for (GetVolumeResponse.Volume volume : volumes) {
+                volumeInstances.put(volume.getId(), buildVolumeInstance(volume));
+            }
+        }
+        return volumeInstances;
+    }
+
+    
     @VisibleForTesting
     CreateVolumeRequest buildCreateVolumeRequest(VolumeOrder volumeOrder,
                                                  CloudStackUser cloudStackUser)
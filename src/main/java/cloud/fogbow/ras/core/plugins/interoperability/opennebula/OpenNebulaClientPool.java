@@ -0,0 +1,129 @@
+package cloud.fogbow.ras.core.plugins.interoperability.opennebula;
+
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
+import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.PropertiesHolder;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.log4j.Logger;
+import org.opennebula.client.Client;
+import org.opennebula.client.ClientConfigurationException;
+import org.opennebula.client.OneResponse;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps one OpenNebula client for each endpoint and token, so that several clouds and users can be served by the
+ * same RAS. The clients of the same endpoint (frontend) share maxConnections permits, and each XML-RPC call holds
+ * one of them, which bounds the concurrent calls made to a frontend; a call that waits longer than timeout
+ * milliseconds for a permit fails, and the same timeout is given to the client for connecting and replying.
+ * Clients that are not used for idleTimeout milliseconds are discarded.
+ */
+public class OpenNebulaClientPool {
+	private static final Logger LOGGER = Logger.getLogger(OpenNebulaClientPool.class);
+
+	private static final String CLIENT_KEY_SEPARATOR = "@";
+	private static final long MAXIMUM_CLIENTS = 1000;
+
+	private static OpenNebulaClientPool instance;
+
+	private final int maxConnections;
+	private final long timeout;
+	private final Cache<String, Client> clients;
+	private final ConcurrentMap<String, Semaphore> connections;
+
+	@VisibleForTesting
+	OpenNebulaClientPool(int maxConnections, long timeout, long idleTimeout) {
+		this.maxConnections = maxConnections;
+		this.timeout = timeout;
+		this.clients = CacheBuilder.newBuilder()
+				.maximumSize(MAXIMUM_CLIENTS)
+				.expireAfterAccess(idleTimeout, TimeUnit.MILLISECONDS)
+				.build();
+		this.connections = new ConcurrentHashMap<>();
+	}
+
+	public static synchronized OpenNebulaClientPool getInstance() {
+		if (instance == null) {
+			PropertiesHolder properties = PropertiesHolder.getInstance();
+			int maxConnections = Integer.parseInt(properties.getProperty(
+					ConfigurationPropertyKeys.OPENNEBULA_RPC_MAX_CONNECTIONS_KEY,
+					ConfigurationPropertyDefaults.OPENNEBULA_RPC_MAX_CONNECTIONS));
+			long timeout = Long.parseLong(properties.getProperty(
+					ConfigurationPropertyKeys.OPENNEBULA_RPC_TIMEOUT_KEY,
+					ConfigurationPropertyDefaults.OPENNEBULA_RPC_TIMEOUT));
+			long idleTimeout = Long.parseLong(properties.getProperty(
+					ConfigurationPropertyKeys.OPENNEBULA_CLIENT_IDLE_TIMEOUT_KEY,
+					ConfigurationPropertyDefaults.OPENNEBULA_CLIENT_IDLE_TIMEOUT));
+			instance = new OpenNebulaClientPool(maxConnections, timeout, idleTimeout);
+		}
+		return instance;
+	}
+
+	public Client getClient(String endpoint, String tokenValue) throws ClientConfigurationException {
+		String key = endpoint + CLIENT_KEY_SEPARATOR + tokenValue;
+		try {
+			return this.clients.get(key, () -> createClient(endpoint, tokenValue));
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof ClientConfigurationException) {
+				throw (ClientConfigurationException) e.getCause();
+			}
+			throw new ClientConfigurationException(e.getCause().getMessage());
+		}
+	}
+
+	@VisibleForTesting
+	int getAvailableConnections(String endpoint) {
+		return getConnections(endpoint).availablePermits();
+	}
+
+	@VisibleForTesting
+	Client createClient(String endpoint, String tokenValue) throws ClientConfigurationException {
+		// The client takes its timeout in seconds
+		int timeoutInSeconds = (int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(this.timeout));
+		return new PooledClient(tokenValue, endpoint, timeoutInSeconds, getConnections(endpoint));
+	}
+
+	private Semaphore getConnections(String endpoint) {
+		return this.connections.computeIfAbsent(endpoint, frontend -> new Semaphore(this.maxConnections, true));
+	}
+
+	private class PooledClient extends Client {
+		private final String endpoint;
+		private final Semaphore connections;
+
+		private PooledClient(String secret, String endpoint, int timeout, Semaphore connections)
+				throws ClientConfigurationException {
+
+			super(secret, endpoint, timeout);
+			this.endpoint = endpoint;
+			this.connections = connections;
+		}
+
+		@Override
+		public OneResponse call(String action, Object... args) {
+			String message = String.format(Messages.Exception.UNABLE_TO_ACQUIRE_RPC_CONNECTION_S, this.endpoint);
+			try {
+				if (!this.connections.tryAcquire(OpenNebulaClientPool.this.timeout, TimeUnit.MILLISECONDS)) {
+					LOGGER.warn(message);
+					return new OneResponse(false, message);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return new OneResponse(false, message);
+			}
+
+			try {
+				return super.call(action, args);
+			} finally {
+				this.connections.release();
+			}
+		}
+	}
+}
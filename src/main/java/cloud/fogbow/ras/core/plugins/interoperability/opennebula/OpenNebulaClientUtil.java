@@ -17,6 +17,7 @@ import org.opennebula.client.template.TemplatePool;
 import org.opennebula.client.user.User;
 import org.opennebula.client.user.UserPool;
 import org.opennebula.client.vm.VirtualMachine;
+import org.opennebula.client.vm.VirtualMachinePool;
 import org.opennebula.client.vnet.VirtualNetwork;
 import org.opennebula.client.vnet.VirtualNetworkPool;
 
@@ -35,18 +36,11 @@ public class OpenNebulaClientUtil {
 	protected static final String RESPONSE_NO_SPACE_LEFT_ON_DEVICE = "No space left on device";
 	private static final int RESOURCE_BELONGS_TO_USER_FILTER = -3;
 
-	public static Client instance;
-	
 	private static final int CHMOD_PERMISSION_744 = 744;
 	
 	public static Client createClient(String endpoint, String tokenValue) throws InternalServerErrorException {
 		try {
-			synchronized (Client.class) {
-				if (instance == null) {
-					instance = new Client(tokenValue, endpoint);
-				}
-				return instance;
-			}
+			return OpenNebulaClientPool.getInstance().getClient(endpoint, tokenValue);
 		} catch (ClientConfigurationException e) {
 			LOGGER.error(Messages.Log.ERROR_WHILE_CREATING_CLIENT, e);
 			throw new InternalServerErrorException();
@@ -118,6 +112,17 @@ public class OpenNebulaClientUtil {
 		return datastorePool;
 	}
 
+	public static VirtualMachinePool getVirtualMachinePoolByUser(Client client) throws InternalServerErrorException {
+		// The virtual machines already done are left out
+		VirtualMachinePool virtualMachinePool = new VirtualMachinePool(client, RESOURCE_BELONGS_TO_USER_FILTER);
+		OneResponse response = virtualMachinePool.info();
+		if (response.isError()) {
+			LOGGER.error(response.getErrorMessage());
+			throw new InternalServerErrorException(response.getErrorMessage());
+		}
+		return virtualMachinePool;
+	}
+
 	public static VirtualMachine getVirtualMachine(Client client, String virtualMachineId)
 			throws UnauthorizedRequestException, InstanceNotFoundException, InvalidParameterException {
 
@@ -177,6 +182,22 @@ public class OpenNebulaClientUtil {
 		return userpool;
 	}
 
+	public static String getUserId(UserPool userPool, String userName) throws UnauthorizedRequestException {
+		return findUserByName(userPool, userName).getId();
+	}
+
+	public static User getUser(Client client, String userId)
+			throws UnauthorizedRequestException, InternalServerErrorException, InvalidParameterException {
+
+		User user = (User) generateOnePoolElement(client, userId, User.class);
+		OneResponse response = user.info();
+		if (response.isError()) {
+			LOGGER.error(String.format(Messages.Log.ERROR_WHILE_GETTING_USER_S_S, userId, response.getErrorMessage()));
+			throw new InternalServerErrorException(response.getErrorMessage());
+		}
+		return user;
+	}
+
 	public static User getUser(UserPool userPool, String userName)
 			throws UnauthorizedRequestException, InternalServerErrorException {
 
@@ -314,6 +335,8 @@ public class OpenNebulaClientUtil {
 			return new VirtualMachine(id, client);
 		} else if (classType.isAssignableFrom(VirtualNetwork.class)) {
 			return new VirtualNetwork(id, client);
+		} else if (classType.isAssignableFrom(User.class)) {
+			return new User(id, client);
 		}
 		return null;
 	}
@@ -0,0 +1,124 @@
+package cloud.fogbow.ras.core.plugins.interoperability.opennebula;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.ras.api.http.response.ImageSummary;
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
+import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
+import cloud.fogbow.ras.core.PropertiesHolder;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the metadata read from the pools of an OpenNebula cloud, so that the plugins do not need to dump a whole
+ * pool (or get every element of a list) to find a single value. The entries expire ttl milliseconds after being
+ * loaded, and the plugins invalidate the entries of the resources they delete themselves. The metadata of resources
+ * that may not be visible to every user, such as images, is kept per cloud user.
+ */
+public class OpenNebulaMetadataCache {
+
+	private static final long MAXIMUM_SIZE = 10000;
+	private static final String KEY_SEPARATOR = "/";
+
+	private static final Map<String, OpenNebulaMetadataCache> caches = new HashMap<>();
+
+	public interface Loader<T> {
+		T load() throws FogbowException;
+	}
+
+	// Image sizes by cloud user id and image id
+	private final Cache<String, String> imagesSizes;
+	// Operating system images by cloud user id
+	private final Cache<String, List<ImageSummary>> imageSummaries;
+	// OpenNebula user ids by user name
+	private final Cache<String, String> userIds;
+	// Security group names by security group id
+	private final Cache<String, String> securityGroupNames;
+
+	public OpenNebulaMetadataCache(long ttl) {
+		this.imagesSizes = buildCache(ttl);
+		this.imageSummaries = buildCache(ttl);
+		this.userIds = buildCache(ttl);
+		this.securityGroupNames = buildCache(ttl);
+	}
+
+	public static synchronized OpenNebulaMetadataCache getInstance(String endpoint) {
+		OpenNebulaMetadataCache cache = caches.get(endpoint);
+		if (cache == null) {
+			long ttl = Long.parseLong(PropertiesHolder.getInstance().getProperty(
+					ConfigurationPropertyKeys.OPENNEBULA_METADATA_CACHE_TTL_KEY,
+					ConfigurationPropertyDefaults.OPENNEBULA_METADATA_CACHE_TTL));
+			cache = new OpenNebulaMetadataCache(ttl);
+			caches.put(endpoint, cache);
+		}
+		return cache;
+	}
+
+	public String getImageSize(String cloudUserId, String imageId, Loader<String> loader) throws FogbowException {
+		return get(this.imagesSizes, cloudUserId + KEY_SEPARATOR + imageId, loader);
+	}
+
+	public List<ImageSummary> getImageSummaries(String cloudUserId, Loader<List<ImageSummary>> loader)
+			throws FogbowException {
+
+		return new ArrayList<>(get(this.imageSummaries, cloudUserId, loader));
+	}
+
+	public String getUserId(String userName, Loader<String> loader) throws FogbowException {
+		return get(this.userIds, userName, loader);
+	}
+
+	public String getSecurityGroupName(String securityGroupId, Loader<String> loader) throws FogbowException {
+		return get(this.securityGroupNames, securityGroupId, loader);
+	}
+
+	public void invalidateUser(String userName) {
+		invalidate(this.userIds, userName);
+	}
+
+	public void invalidateSecurityGroup(String securityGroupId) {
+		invalidate(this.securityGroupNames, securityGroupId);
+	}
+
+	@VisibleForTesting
+	static synchronized void clear() {
+		caches.clear();
+	}
+
+	private static <T> T get(Cache<String, T> cache, String key, Loader<T> loader) throws FogbowException {
+		try {
+			return cache.get(key, loader::load);
+		} catch (CacheLoader.InvalidCacheLoadException e) {
+			// The loader found no value, which is not kept
+			return null;
+		} catch (ExecutionException | UncheckedExecutionException e) {
+			if (e.getCause() instanceof FogbowException) {
+				throw (FogbowException) e.getCause();
+			}
+			throw new InternalServerErrorException(e.getCause().getMessage());
+		}
+	}
+
+	private static void invalidate(Cache<String, ?> cache, String key) {
+		if (key != null) {
+			cache.invalidate(key);
+		}
+	}
+
+	private static <T> Cache<String, T> buildCache(long ttl) {
+		return CacheBuilder.newBuilder()
+				.maximumSize(MAXIMUM_SIZE)
+				.expireAfterWrite(ttl, TimeUnit.MILLISECONDS)
+				.build();
+	}
+}
@@ -25,11 +25,11 @@ import com.google.common.annotations.VisibleForTesting;
 import org.apache.log4j.Logger;
 import org.opennebula.client.Client;
 import org.opennebula.client.OneResponse;
-import org.opennebula.client.image.Image;
-import org.opennebula.client.image.ImagePool;
 import org.opennebula.client.vm.VirtualMachine;
+import org.opennebula.client.vm.VirtualMachinePool;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 public class OpenNebulaComputePlugin implements ComputePlugin<CloudUser> {
 
@@ -50,6 +50,10 @@ public class OpenNebulaComputePlugin implements ComputePlugin<CloudUser> {
     static final String NETWORK_CONFIRMATION_CONTEXT = "YES";
 	@VisibleForTesting
     static final String NIC_IP_EXPRESSION = "//NIC/IP";
+	@VisibleForTesting
+    static final String NIC_COUNT_EXPRESSION = "count(TEMPLATE/NIC)";
+	@VisibleForTesting
+    static final String NIC_IP_BY_POSITION_EXPRESSION = "TEMPLATE/NIC[%d]/IP";
 
 	@VisibleForTesting
     static final boolean SHUTS_DOWN_HARD = true;
@@ -70,15 +74,18 @@ public class OpenNebulaComputePlugin implements ComputePlugin<CloudUser> {
     static final String TEMPLATE_MEMORY_PATH = "TEMPLATE/MEMORY";
 
 	private String endpoint;
-	private TreeSet<HardwareRequirements> flavors;
+	// The plugin is shared by all the requests to the cloud
+	private volatile NavigableSet<HardwareRequirements> flavors;
 	private LaunchCommandGenerator launchCommandGenerator;
+	private OpenNebulaMetadataCache metadataCache;
 	private Properties properties;
 
 	public OpenNebulaComputePlugin(String confFilePath) throws FatalErrorException {
 		this.properties = PropertiesUtil.readProperties(confFilePath);
 		this.endpoint = this.properties.getProperty(OpenNebulaConfigurationPropertyKeys.OPENNEBULA_RPC_ENDPOINT_KEY);
-		this.flavors = new TreeSet<>();
+		this.flavors = new ConcurrentSkipListSet<>();
 		this.launchCommandGenerator = new OpenNebulaLaunchCommandGenerator();
+		this.metadataCache = OpenNebulaMetadataCache.getInstance(this.endpoint);
 	}
 
 	@Override
@@ -95,7 +102,7 @@ public class OpenNebulaComputePlugin implements ComputePlugin<CloudUser> {
 	public String requestInstance(ComputeOrder computeOrder, CloudUser cloudUser) throws FogbowException {
 		LOGGER.info(String.format(Messages.Log.REQUESTING_INSTANCE_FROM_PROVIDER));
 		Client client = OpenNebulaClientUtil.createClient(this.endpoint, cloudUser.getToken());
-		CreateComputeRequest request = this.getCreateComputeRequest(client, computeOrder);
+		CreateComputeRequest request = this.getCreateComputeRequest(client, cloudUser.getId(), computeOrder);
 		VirtualMachineTemplate virtualMachine = request.getVirtualMachine();
 
 		String instanceId = this.doRequestInstance(client, request);
@@ -113,6 +120,15 @@ public class OpenNebulaComputePlugin implements ComputePlugin<CloudUser> {
 		return this.doGetInstance(virtualMachine);
 	}
 
+	@Override
+	public Map<String, ComputeInstance> getInstances(Collection<ComputeOrder> computeOrders, CloudUser cloudUser)
+			throws FogbowException {
+		LOGGER.info(String.format(Messages.Log.GETTING_INSTANCES_OF_D_ORDERS, computeOrders.size()));
+		Client client = OpenNebulaClientUtil.createClient(this.endpoint, cloudUser.getToken());
+		VirtualMachinePool virtualMachinePool = OpenNebulaClientUtil.getVirtualMachinePoolByUser(client);
+		return this.doGetInstances(virtualMachinePool, computeOrders);
+	}
+
 	@Override
 	public void deleteInstance(ComputeOrder computeOrder, CloudUser cloudUser) throws FogbowException {
 		String instanceId = computeOrder.getInstanceId();
@@ -140,6 +156,14 @@ public class OpenNebulaComputePlugin implements ComputePlugin<CloudUser> {
     ComputeInstance doGetInstance(VirtualMachine virtualMachine) {
 		OneResponse response = virtualMachine.info();
 
+		String xml = response.getMessage();
+		XmlUnmarshaller xmlUnmarshaller = new XmlUnmarshaller(xml);
+		List<String> ipAddresses = xmlUnmarshaller.getContextListOf(NIC_IP_EXPRESSION);
+
+		return this.createComputeInstance(virtualMachine, ipAddresses);
+	}
+
+	private ComputeInstance createComputeInstance(VirtualMachine virtualMachine, List<String> ipAddresses) {
 		String id = virtualMachine.getId();
 		String name = virtualMachine.getName();
 		String state = virtualMachine.lcmStateStr();
@@ -148,18 +172,47 @@ public class OpenNebulaComputePlugin implements ComputePlugin<CloudUser> {
 		int memoryRam = Integer.parseInt(virtualMachine.xpath(TEMPLATE_MEMORY_PATH));
 		int disk = Integer.parseInt(virtualMachine.xpath(TEMPLATE_DISK_SIZE_PATH)) / ONE_GIGABYTE_IN_MEGABYTES;
 
-		String xml = response.getMessage();
-		XmlUnmarshaller xmlUnmarshaller = new XmlUnmarshaller(xml);
-		List<String> ipAddresses = xmlUnmarshaller.getContextListOf(NIC_IP_EXPRESSION);
-
 		ComputeInstance computeInstance = new ComputeInstance(id, state, name, cpu, memoryRam, disk, ipAddresses);
 		this.setComputeInstanceNetworks(computeInstance);
 
 		return computeInstance;
 	}
 
+	/**
+	 * Builds the instances of the orders from the virtual machines of the user, listed at once along with
+	 * their templates; the orders whose virtual machines are not listed, such as the ones already done, are
+	 * left out of the map and checked one by one.
+	 */
+	@VisibleForTesting
+	Map<String, ComputeInstance> doGetInstances(VirtualMachinePool virtualMachinePool,
+												Collection<ComputeOrder> computeOrders) {
+		Map<String, ComputeInstance> computeInstances = new HashMap<>();
+		for (ComputeOrder computeOrder : computeOrders) {
+			String instanceId = computeOrder.getInstanceId();
+			VirtualMachine virtualMachine = virtualMachinePool.getById(Integer.parseInt(instanceId));
+			if (virtualMachine != null) {
+				computeInstances.put(instanceId, this.createComputeInstance(virtualMachine,
+						this.getIpAddresses(virtualMachine)));
+			}
+		}
+		return computeInstances;
+	}
+
 	@VisibleForTesting
-    CreateComputeRequest getCreateComputeRequest(Client client, ComputeOrder computeOrder)
+	List<String> getIpAddresses(VirtualMachine virtualMachine) {
+		List<String> ipAddresses = new ArrayList<>();
+		int nicCount = (int) Double.parseDouble(virtualMachine.xpath(NIC_COUNT_EXPRESSION));
+		for (int position = 1; position <= nicCount; position++) {
+			String ipAddress = virtualMachine.xpath(String.format(NIC_IP_BY_POSITION_EXPRESSION, position));
+			if (ipAddress != null && !ipAddress.isEmpty()) {
+				ipAddresses.add(ipAddress);
+			}
+		}
+		return ipAddresses;
+	}
+
+	@VisibleForTesting
+    CreateComputeRequest getCreateComputeRequest(Client client, String cloudUserId, ComputeOrder computeOrder)
 			throws InternalServerErrorException, UnacceptableOperationException {
 		String userName = PropertiesHolder.getInstance().getProperty(ConfigurationPropertyKeys.SSH_COMMON_USER_KEY,
 				ConfigurationPropertyDefaults.SSH_COMMON_USER);
@@ -176,7 +229,7 @@ public class OpenNebulaComputePlugin implements ComputePlugin<CloudUser> {
 		List<String> networks = this.getNetworkIds(computeOrder.getNetworkIds());
 		String startScriptBase64 = this.launchCommandGenerator.createLaunchCommand(computeOrder);
 
-		HardwareRequirements foundFlavor = this.getFlavor(client, computeOrder);
+		HardwareRequirements foundFlavor = this.getFlavor(client, cloudUserId, computeOrder);
 		String cpu = String.valueOf(foundFlavor.getCpu());
 		String memoryRam = String.valueOf(foundFlavor.getRam());
 		String disk = String.valueOf(foundFlavor.getDisk());
@@ -229,10 +282,10 @@ public class OpenNebulaComputePlugin implements ComputePlugin<CloudUser> {
 	}
 
 	@VisibleForTesting
-	HardwareRequirements getFlavor(Client client, ComputeOrder computeOrder)
+	HardwareRequirements getFlavor(Client client, String cloudUserId, ComputeOrder computeOrder)
 			throws UnacceptableOperationException, InternalServerErrorException {
 
-		int disk = getFlavorDisk(client, computeOrder);
+		int disk = getFlavorDisk(client, cloudUserId, computeOrder);
 		int cpu = getFlavorVcpu(computeOrder);
 		int ram = getFlavorRam(computeOrder);
 		return new HardwareRequirements.Opennebula(cpu, ram, disk);
@@ -251,9 +304,9 @@ public class OpenNebulaComputePlugin implements ComputePlugin<CloudUser> {
 	}
 
 	@VisibleForTesting
-	int getFlavorDisk(Client client, ComputeOrder computeOrder) throws InternalServerErrorException, UnacceptableOperationException {
+	int getFlavorDisk(Client client, String cloudUserId, ComputeOrder computeOrder) throws InternalServerErrorException, UnacceptableOperationException {
 		String imageId = computeOrder.getImageId();
-		int minimumImageSize = getMinimumImageSize(client, imageId);
+		int minimumImageSize = getMinimumImageSize(client, cloudUserId, imageId);
 		int diskInGb = computeOrder.getDisk();
 		if (diskInGb == VALUE_NOT_DEFINED_BY_USER) {
 			return minimumImageSize;
@@ -267,21 +320,18 @@ public class OpenNebulaComputePlugin implements ComputePlugin<CloudUser> {
 	}
 
 	@VisibleForTesting
-	int getMinimumImageSize(Client client, String imageId)
+	int getMinimumImageSize(Client client, String cloudUserId, String imageId)
 			throws InternalServerErrorException, UnacceptableOperationException {
 
-		Map<String, String> imagesSizeMap = this.getImagesSizes(client);
-		String minimumImageSizeStr = Optional.ofNullable(imagesSizeMap.get(imageId))
+		String minimumImageSizeStr = Optional.ofNullable(this.getImageSize(client, cloudUserId, imageId))
 				.orElseThrow(() -> new UnacceptableOperationException(Messages.Exception.IMAGE_NOT_FOUND));
 
 		return Integer.parseInt(minimumImageSizeStr);
 	}
 
 	@VisibleForTesting
-    TreeSet<HardwareRequirements> getFlavors() {
-		synchronized (this.flavors) {
-			return this.flavors;
-		}
+    NavigableSet<HardwareRequirements> getFlavors() {
+		return this.flavors;
 	}
 
 	@VisibleForTesting
@@ -290,14 +340,16 @@ public class OpenNebulaComputePlugin implements ComputePlugin<CloudUser> {
 	}
 
 	@VisibleForTesting
-    Map<String, String> getImagesSizes(Client client) throws InternalServerErrorException {
-		Map<String, String> imagesSizeMap = new HashMap<>();
-		ImagePool imagePool = OpenNebulaClientUtil.getImagePool(client);
-		for (Image image : imagePool) {
-			String imageSize = image.xpath(IMAGE_SIZE_PATH);
-			imagesSizeMap.put(image.getId(), imageSize);
+    String getImageSize(Client client, String cloudUserId, String imageId) throws InternalServerErrorException {
+		try {
+			return this.metadataCache.getImageSize(cloudUserId, imageId,
+					() -> OpenNebulaClientUtil.getImage(client, imageId).xpath(IMAGE_SIZE_PATH));
+		} catch (InternalServerErrorException e) {
+			throw e;
+		} catch (FogbowException e) {
+			// The image does not exist or is not visible to the user
+			return null;
 		}
-		return imagesSizeMap;
 	}
 
 	@VisibleForTesting
@@ -323,10 +375,8 @@ public class OpenNebulaComputePlugin implements ComputePlugin<CloudUser> {
 	}
 
 	@VisibleForTesting
-    void setFlavors(TreeSet<HardwareRequirements> flavors) {
-		synchronized (this.flavors) {
-			this.flavors = flavors;
-		}
+    void setFlavors(NavigableSet<HardwareRequirements> flavors) {
+		this.flavors = new ConcurrentSkipListSet<>(flavors);
 	}
 
 	@VisibleForTesting
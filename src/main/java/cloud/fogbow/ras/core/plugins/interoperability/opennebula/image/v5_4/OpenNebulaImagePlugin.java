@@ -20,6 +20,7 @@ import cloud.fogbow.ras.core.models.ResourceType;
 import cloud.fogbow.ras.core.plugins.interoperability.ImagePlugin;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaClientUtil;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaConfigurationPropertyKeys;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaMetadataCache;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaStateMapper;
 
 public class OpenNebulaImagePlugin implements ImagePlugin<CloudUser> {
@@ -36,18 +37,20 @@ public class OpenNebulaImagePlugin implements ImagePlugin<CloudUser> {
 	static final int NO_VALUE_FLAG = -1;
 
 	private String endpoint;
+	private OpenNebulaMetadataCache metadataCache;
 	
 	public OpenNebulaImagePlugin(String confFilePath) throws FatalErrorException {
 		Properties properties = PropertiesUtil.readProperties(confFilePath);
 		this.endpoint = properties.getProperty(OpenNebulaConfigurationPropertyKeys.OPENNEBULA_RPC_ENDPOINT_KEY);
+		this.metadataCache = OpenNebulaMetadataCache.getInstance(this.endpoint);
 	}
 	
 	@Override
 	public List<ImageSummary> getAllImages(CloudUser cloudUser) throws FogbowException {
 		LOGGER.info(Messages.Log.RECEIVING_GET_ALL_IMAGES_REQUEST);
 		Client client = OpenNebulaClientUtil.createClient(this.endpoint, cloudUser.getToken());
-		ImagePool imagePool = OpenNebulaClientUtil.getImagePool(client);
-		return getImageSummaryList(imagePool);
+		return this.metadataCache.getImageSummaries(cloudUser.getId(),
+				() -> getImageSummaryList(OpenNebulaClientUtil.getImagePool(client)));
 	}
 
 	@Override
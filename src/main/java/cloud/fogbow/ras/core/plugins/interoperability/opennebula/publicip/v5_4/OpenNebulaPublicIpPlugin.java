@@ -27,6 +27,7 @@ import cloud.fogbow.ras.core.models.orders.PublicIpOrder;
 import cloud.fogbow.ras.core.plugins.interoperability.PublicIpPlugin;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaClientUtil;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaConfigurationPropertyKeys;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaMetadataCache;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaStateMapper;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.network.model.CreateNetworkReserveRequest;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.network.model.CreateNetworkUpdateRequest;
@@ -65,11 +66,13 @@ public class OpenNebulaPublicIpPlugin implements PublicIpPlugin<CloudUser> {
 
 	private String endpoint;
 	private String defaultPublicNetwork;
+	private OpenNebulaMetadataCache metadataCache;
 
 	public OpenNebulaPublicIpPlugin(String confFilePath) throws FatalErrorException {
 		Properties properties = PropertiesUtil.readProperties(confFilePath);
 		this.endpoint = properties.getProperty(OpenNebulaConfigurationPropertyKeys.OPENNEBULA_RPC_ENDPOINT_KEY);
 		this.defaultPublicNetwork = properties.getProperty(OpenNebulaConfigurationPropertyKeys.DEFAULT_PUBLIC_NETWORK_ID_KEY);
+		this.metadataCache = OpenNebulaMetadataCache.getInstance(this.endpoint);
 	}
 
 	@Override
@@ -313,6 +316,7 @@ public class OpenNebulaPublicIpPlugin implements PublicIpPlugin<CloudUser> {
 		if (response.isError()) {
 			throw new InternalServerErrorException(response.getErrorMessage());
 		}
+		this.metadataCache.invalidateSecurityGroup(securityGroup.getId());
 	}
 
 	@Nullable
@@ -24,6 +24,7 @@ import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.plugins.interoperability.QuotaPlugin;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaClientUtil;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaConfigurationPropertyKeys;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaMetadataCache;
 
 public class OpenNebulaQuotaPlugin implements QuotaPlugin<CloudUser> {
 
@@ -45,20 +46,21 @@ public class OpenNebulaQuotaPlugin implements QuotaPlugin<CloudUser> {
     private String defaultDatastore;
     private String defaultPublicNetwork;
     private String endpoint;
+    private OpenNebulaMetadataCache metadataCache;
 
     public OpenNebulaQuotaPlugin(String confFilePath) {
         Properties properties = PropertiesUtil.readProperties(confFilePath);
         this.defaultDatastore = properties.getProperty(OpenNebulaConfigurationPropertyKeys.DEFAULT_DATASTORE_ID_KEY);
         this.defaultPublicNetwork = properties.getProperty(OpenNebulaConfigurationPropertyKeys.DEFAULT_PUBLIC_NETWORK_ID_KEY);
         this.endpoint = properties.getProperty(OpenNebulaConfigurationPropertyKeys.OPENNEBULA_RPC_ENDPOINT_KEY);
+        this.metadataCache = OpenNebulaMetadataCache.getInstance(this.endpoint);
     }
 
     @Override
     public ResourceQuota getUserQuota(CloudUser cloudUser) throws FogbowException {
         LOGGER.info(Messages.Log.GETTING_QUOTA);
         Client client = OpenNebulaClientUtil.createClient(this.endpoint, cloudUser.getToken());
-        UserPool userPool = OpenNebulaClientUtil.getUserPool(client);
-        User user = OpenNebulaClientUtil.getUser(userPool, cloudUser.getId());
+        User user = getUser(client, cloudUser.getId());
 
         ResourceAllocation totalAllocation = getTotalAllocation(user);
         ResourceAllocation usedAllocation = getUsedAllocation(user, client);
@@ -66,6 +68,25 @@ public class OpenNebulaQuotaPlugin implements QuotaPlugin<CloudUser> {
         return new ResourceQuota(totalAllocation, usedAllocation);
     }
 
+    /**
+     * Only the user pool is dumped to find the id of the user by its name, which is
+     * kept in the metadata cache; the user itself is always obtained from the cloud,
+     * since its quota usage changes.
+     */
+    @VisibleForTesting
+    User getUser(Client client, String userName) throws FogbowException {
+        String userId = this.metadataCache.getUserId(userName, () -> {
+            UserPool userPool = OpenNebulaClientUtil.getUserPool(client);
+            return OpenNebulaClientUtil.getUserId(userPool, userName);
+        });
+        try {
+            return OpenNebulaClientUtil.getUser(client, userId);
+        } catch (FogbowException e) {
+            this.metadataCache.invalidateUser(userName);
+            throw e;
+        }
+    }
+
     @VisibleForTesting
     ResourceAllocation getUsedAllocation(User user, Client client) throws FogbowException {
         String diskSizeQuotaUsedPath = String.format(FORMAT_QUOTA_DATASTORE_S_SIZE_USED_PATH, this.defaultDatastore);
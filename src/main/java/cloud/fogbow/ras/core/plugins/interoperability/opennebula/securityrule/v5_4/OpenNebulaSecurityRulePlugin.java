@@ -33,6 +33,7 @@ import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.plugins.interoperability.SecurityRulePlugin;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaClientUtil;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaConfigurationPropertyKeys;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaMetadataCache;
 
 public class OpenNebulaSecurityRulePlugin implements SecurityRulePlugin<CloudUser> {
 
@@ -71,10 +72,12 @@ public class OpenNebulaSecurityRulePlugin implements SecurityRulePlugin<CloudUse
     private static final int SIZE_POSITION = 1;
     
     private String endpoint;
+    private OpenNebulaMetadataCache metadataCache;
 
     public OpenNebulaSecurityRulePlugin(String confFilePath) throws FatalErrorException {
         Properties properties = PropertiesUtil.readProperties(confFilePath);
         this.endpoint = properties.getProperty(OpenNebulaConfigurationPropertyKeys.OPENNEBULA_RPC_ENDPOINT_KEY);
+        this.metadataCache = OpenNebulaMetadataCache.getInstance(this.endpoint);
     }
 
     @Override
@@ -356,11 +359,17 @@ public class OpenNebulaSecurityRulePlugin implements SecurityRulePlugin<CloudUse
     @VisibleForTesting
     SecurityGroup findSecurityGroupByName(Client client, String content, String name) throws FogbowException {
         String[] securityGroupIds = content.split(CONTENT_SEPARATOR);
-        SecurityGroup securityGroup = null;
         for (String securityGroupId : securityGroupIds) {
-            securityGroup = OpenNebulaClientUtil.getSecurityGroup(client, securityGroupId);
-            if (securityGroup.getName().equals(name)) {
-                return securityGroup;
+            // Only the security group with the wanted name is obtained from the cloud
+            String securityGroupName = this.metadataCache.getSecurityGroupName(securityGroupId,
+                    () -> OpenNebulaClientUtil.getSecurityGroup(client, securityGroupId).getName());
+            if (name.equals(securityGroupName)) {
+                try {
+                    return OpenNebulaClientUtil.getSecurityGroup(client, securityGroupId);
+                } catch (FogbowException e) {
+                    this.metadataCache.invalidateSecurityGroup(securityGroupId);
+                    throw e;
+                }
             }
         }
         throw new InstanceNotFoundException(Messages.Exception.INSTANCE_NOT_FOUND);
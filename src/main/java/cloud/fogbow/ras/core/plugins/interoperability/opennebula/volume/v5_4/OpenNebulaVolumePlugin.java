@@ -1,5 +1,8 @@
 package cloud.fogbow.ras.core.plugins.interoperability.opennebula.volume.v5_4;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 import cloud.fogbow.common.exceptions.*;
@@ -116,6 +119,27 @@ public class OpenNebulaVolumePlugin implements VolumePlugin<CloudUser> {
 		return new VolumeInstance(instanceId, image.stateString(), image.getName(), imageSize);
 	}
 
+	@Override
+	public Map<String, VolumeInstance> getInstances(Collection<VolumeOrder> volumeOrders, CloudUser cloudUser)
+			throws FogbowException {
+		LOGGER.info(String.format(Messages.Log.GETTING_INSTANCES_OF_D_ORDERS, volumeOrders.size()));
+		Client client = OpenNebulaClientUtil.createClient(this.endpoint, cloudUser.getToken());
+		ImagePool imagePool = OpenNebulaClientUtil.getImagePool(client);
+
+		// The images not listed are left out of the map and checked one by one
+		Map<String, VolumeInstance> volumeInstances = new HashMap<>();
+		for (VolumeOrder volumeOrder : volumeOrders) {
+			String instanceId = volumeOrder.getInstanceId();
+			Image image = imagePool.getById(Integer.parseInt(instanceId));
+			if (image != null) {
+				int imageSize = this.getImageSize(image.xpath(OpenNebulaConstants.SIZE));
+				volumeInstances.put(instanceId,
+						new VolumeInstance(instanceId, image.stateString(), image.getName(), imageSize));
+			}
+		}
+		return volumeInstances;
+	}
+
 	@Override
 	public void deleteInstance(VolumeOrder volumeOrder, CloudUser cloudUser) throws FogbowException {
 		String instanceId = volumeOrder.getInstanceId();
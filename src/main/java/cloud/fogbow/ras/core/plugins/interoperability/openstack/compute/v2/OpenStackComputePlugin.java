@@ -28,7 +28,12 @@ import java.util.*;
 public class OpenStackComputePlugin implements ComputePlugin<OpenStackV3User> {
     private static final Logger LOGGER = Logger.getLogger(OpenStackComputePlugin.class);
 
-    private TreeSet<HardwareRequirements> hardwareRequirementsList;
+    @VisibleForTesting
+    static final int SERVERS_PAGE_SIZE = 1000;
+    private static final String SERVERS_DETAIL_ENDPOINT = "/servers/detail";
+    private static final String PAGE_QUERY_FORMAT = "?limit=%s";
+    private static final String MARKER_QUERY_FORMAT = "&marker=%s";
+
     private Properties properties;
     private OpenStackHttpClient client;
     private LaunchCommandGenerator launchCommandGenerator;
@@ -93,6 +98,45 @@ public class OpenStackComputePlugin implements ComputePlugin<OpenStackV3User> {
         return computeInstance;
     }
 
+    /**
+     * Lists the servers of the project page by page, until the instances of all the orders are found or
+     * there are no more servers to list.
+     */
+    @Override
+    public Map<String, ComputeInstance> getInstances(Collection<ComputeOrder> computeOrders, OpenStackV3User cloudUser)
+            throws FogbowException {
+        Set<String> instanceIds = new HashSet<>();
+        for (ComputeOrder computeOrder : computeOrders) {
+            instanceIds.add(computeOrder.getInstanceId());
+        }
+        LOGGER.info(String.format(Messages.Log.GETTING_INSTANCES_OF_D_ORDERS, instanceIds.size()));
+        String projectId = OpenStackPluginUtils.getProjectIdFrom(cloudUser);
+
+        Map<String, ComputeInstance> computeInstances = new HashMap<>();
+        String marker = null;
+        List<GetAllComputesResponse.Server> servers;
+        do {
+            String query = String.format(PAGE_QUERY_FORMAT, SERVERS_PAGE_SIZE);
+            if (marker != null) {
+                query += String.format(MARKER_QUERY_FORMAT, marker);
+            }
+            String jsonResponse = doGetRequest(getComputeEndpoint(projectId, SERVERS_DETAIL_ENDPOINT + query), cloudUser);
+            servers = GetAllComputesResponse.fromJson(jsonResponse).getServers();
+            if (servers == null) {
+                break;
+            }
+            for (GetAllComputesResponse.Server server : servers) {
+                if (instanceIds.contains(server.getId())) {
+                    ComputeInstance computeInstance = buildComputeInstance(server);
+                    computeInstance.setNetworks(getComputeNetworks());
+                    computeInstances.put(server.getId(), computeInstance);
+                }
+                marker = server.getId();
+            }
+        } while (servers.size() == SERVERS_PAGE_SIZE && computeInstances.size() < instanceIds.size());
+        return computeInstances;
+    }
+
     @Override
     public void deleteInstance(ComputeOrder computeOrder, OpenStackV3User cloudUser) throws FogbowException {
         String instanceId = computeOrder.getInstanceId();
@@ -169,7 +213,6 @@ public class OpenStackComputePlugin implements ComputePlugin<OpenStackV3User> {
     }
 
     private void instantiateOtherAttributes() {
-        this.hardwareRequirementsList = new TreeSet<HardwareRequirements>();
         this.initClient();
     }
 
@@ -266,86 +309,62 @@ public class OpenStackComputePlugin implements ComputePlugin<OpenStackV3User> {
     @VisibleForTesting
     HardwareRequirements getBestFlavor(ComputeOrder computeOrder, OpenStackV3User cloudUser)
             throws FogbowException {
-        updateFlavors(computeOrder, cloudUser);
-        TreeSet<HardwareRequirements> hardwareRequirementsList = getHardwareRequirementsList();
-        for (HardwareRequirements hardwareRequirements : hardwareRequirementsList) {
-            if (hardwareRequirements.getCpu() >= computeOrder.getvCPU()
-                    && hardwareRequirements.getRam() >= computeOrder.getRam()
-                    && hardwareRequirements.getDisk() >= computeOrder.getDisk()) {
-                return hardwareRequirements;
-            }
-        }
-        return null;
+        String projectId = OpenStackPluginUtils.getProjectIdFrom(cloudUser);
+        String flavorsEndpoint = getComputeEndpoint(projectId, OpenStackConstants.FLAVORS_ENDPOINT);
+
+        OpenStackFlavorCatalog flavorCatalog = getFlavorCatalog(flavorsEndpoint);
+        return flavorCatalog.findSmallestFlavor(computeOrder.getvCPU(), computeOrder.getRam(),
+                computeOrder.getDisk(), computeOrder.getRequirements(), buildFlavorLoader(flavorsEndpoint, cloudUser));
     }
 
     @VisibleForTesting
-    void updateFlavors(ComputeOrder computeOrder, OpenStackV3User cloudUser) throws FogbowException {
-        String projectId = OpenStackPluginUtils.getProjectIdFrom(cloudUser);
-        String flavorsEndpoint = getComputeEndpoint(projectId, OpenStackConstants.FLAVORS_ENDPOINT);
+    OpenStackFlavorCatalog getFlavorCatalog(String flavorsEndpoint) {
+        return OpenStackFlavorCatalog.getInstance(flavorsEndpoint);
+    }
+
+    @VisibleForTesting
+    OpenStackFlavorCatalog.FlavorLoader buildFlavorLoader(String flavorsEndpoint, OpenStackV3User cloudUser) {
+        return new OpenStackFlavorCatalog.FlavorLoader() {
+            @Override
+            public List<String> listFlavorIds() throws FogbowException {
+                return OpenStackComputePlugin.this.listFlavorIds(flavorsEndpoint, cloudUser);
+            }
+
+            @Override
+            public HardwareRequirements fetchFlavor(String flavorId) throws FogbowException {
+                return fetchHardwareRequirements(flavorsEndpoint, flavorId, cloudUser);
+            }
 
+            @Override
+            public Map<String, String> fetchExtraSpecs(String flavorId) throws FogbowException {
+                return fetchFlavorExtraSpecs(flavorsEndpoint, flavorId, cloudUser);
+            }
+        };
+    }
+
+    @VisibleForTesting
+    List<String> listFlavorIds(String flavorsEndpoint, OpenStackV3User cloudUser) throws FogbowException {
         String jsonResponse = doGetRequest(flavorsEndpoint, cloudUser);
         GetAllFlavorsResponse getAllFlavorsResponse = GetAllFlavorsResponse.fromJson(jsonResponse);
 
         List<String> flavorsIds = new ArrayList<>();
         for (GetAllFlavorsResponse.Flavor flavor : getAllFlavorsResponse.getFlavors()) {
-            if (computeOrder != null && computeOrder.getRequirements() != null && computeOrder.getRequirements().size() > 0) {
-                if (!flavorHasRequirements(cloudUser, computeOrder.getRequirements(), flavor.getId())) {
-                    continue;
-                }
-            }
             flavorsIds.add(flavor.getId());
         }
-
-        TreeSet<HardwareRequirements> newHardwareRequirements =
-                detailFlavors(flavorsEndpoint, flavorsIds, cloudUser);
-        setHardwareRequirementsList(newHardwareRequirements);
+        return flavorsIds;
     }
 
     @VisibleForTesting
-    boolean flavorHasRequirements(OpenStackV3User cloudUser, Map<String, String> requirements,
-                                          String flavorId) throws FogbowException {
-        String projectId = OpenStackPluginUtils.getProjectIdFrom(cloudUser);
-        String specsEndpoint = getComputeEndpoint(projectId, OpenStackConstants.FLAVORS_ENDPOINT)
+    Map<String, String> fetchFlavorExtraSpecs(String flavorsEndpoint, String flavorId, OpenStackV3User cloudUser)
+            throws FogbowException {
+        String specsEndpoint = flavorsEndpoint
                 + OpenStackConstants.ENDPOINT_SEPARATOR
                 + flavorId
                 + OpenStackConstants.EXTRA_SPECS_ENDPOINT;
 
         String jsonResponse = doGetRequest(specsEndpoint, cloudUser);
         GetFlavorExtraSpecsResponse getFlavorExtraSpecsResponse = GetFlavorExtraSpecsResponse.fromJson(jsonResponse);
-        Map<String, String> flavorExtraSpecs = getFlavorExtraSpecsResponse.getFlavorExtraSpecs();
-
-        for (String tag : requirements.keySet()) {
-            if (!flavorExtraSpecs.containsKey(tag) || !flavorExtraSpecs.get(tag).equals(requirements.get(tag))) {
-                return false;
-            }
-        }
-
-        return true;
-    }
-
-    @VisibleForTesting
-    TreeSet<HardwareRequirements> detailFlavors(String endpoint, List<String> flavorsIds, OpenStackV3User cloudUser)
-            throws FogbowException {
-        TreeSet<HardwareRequirements> newHardwareRequirements = new TreeSet<>();
-        TreeSet<HardwareRequirements> flavorsCopy = getHardwareRequirementsList();
-
-        for (String flavorId : flavorsIds) {
-            boolean containsFlavorForCaching = false;
-
-            for (HardwareRequirements flavor : flavorsCopy) {
-                if (flavor.getFlavorId().equals(flavorId)) {
-                    containsFlavorForCaching = true;
-                    newHardwareRequirements.add(flavor);
-                    break;
-                }
-            }
-
-            if (!containsFlavorForCaching) {
-                HardwareRequirements requirements = fetchHardwareRequirements(endpoint, flavorId, cloudUser);
-                newHardwareRequirements.add(requirements);
-            }
-        }
-        return newHardwareRequirements;
+        return getFlavorExtraSpecsResponse.getFlavorExtraSpecs();
     }
 
     @VisibleForTesting
@@ -389,6 +408,21 @@ public class OpenStackComputePlugin implements ComputePlugin<OpenStackV3User> {
         return new ComputeInstance(instanceId, openStackState, hostName, ipAddresses, faultMessage);
     }
 
+    @VisibleForTesting
+    ComputeInstance buildComputeInstance(GetAllComputesResponse.Server server) {
+        List<String> ipAddresses = new ArrayList<>();
+        if (server.getAddresses() != null) {
+            for (GetAllComputesResponse.Address[] addresses : server.getAddresses().values()) {
+                for (GetAllComputesResponse.Address address : addresses) {
+                    ipAddresses.add(address.getAddress());
+                }
+            }
+        }
+
+        return new ComputeInstance(server.getId(), server.getStatus(), server.getName(), ipAddresses,
+                server.getFaultMessage());
+    }
+
     @VisibleForTesting
     String doGetRequest(String endpoint, OpenStackV3User clouUser) throws FogbowException {
         String responseStr = this.client.doGetRequest(endpoint, clouUser);
@@ -400,20 +434,6 @@ public class OpenStackComputePlugin implements ComputePlugin<OpenStackV3User> {
         this.client.doDeleteRequest(endpoint, cloudUser);
     }
 
-    @VisibleForTesting
-    TreeSet<HardwareRequirements> getHardwareRequirementsList() {
-        synchronized (this.hardwareRequirementsList) {
-            return new TreeSet<HardwareRequirements>(this.hardwareRequirementsList);
-        }
-    }
-
-    @VisibleForTesting
-    void setHardwareRequirementsList(TreeSet<HardwareRequirements> hardwareRequirementsList) {
-        synchronized (this.hardwareRequirementsList) {
-            this.hardwareRequirementsList = hardwareRequirementsList;
-        }
-    }
-
     private String getRandomUUID() {
         return UUID.randomUUID().toString();
     }
@@ -0,0 +1,234 @@
+package cloud.fogbow.ras.core.plugins.interoperability.openstack.compute.v2;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
+import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.PropertiesHolder;
+import cloud.fogbow.ras.core.models.HardwareRequirements;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the flavors of an OpenStack flavors endpoint (which is specific to a project), shared by all the compute
+ * requests made to it. The flavors are loaded on the first request and then refreshed in background every
+ * refreshInterval milliseconds with the loader of the most recent request; only the flavors that were not known
+ * are detailed. A catalog that is not used for IDLE_REFRESHES refresh intervals stops being refreshed and is
+ * discarded. The flavors are indexed by vCPU and by extra spec, so finding the smallest flavor that matches an
+ * order only looks at the flavors that have enough vCPUs and all the required extra specs.
+ * <p>
+ * A flavor is detailed, extra specs included, only once, when a refresh first sees it; its extra specs are never
+ * refreshed afterwards. Extra specs changed in the cloud on an existing flavor are only picked up once the catalog
+ * is discarded, or once the flavor is deleted and recreated with a new id.
+ */
+public class OpenStackFlavorCatalog {
+    private static final Logger LOGGER = Logger.getLogger(OpenStackFlavorCatalog.class);
+
+    private static final String REFRESHER_THREAD_NAME = "openstack-flavor-catalog-refresher";
+    @VisibleForTesting
+    static final int IDLE_REFRESHES = 12;
+
+    private static final Map<String, OpenStackFlavorCatalog> catalogs = new HashMap<>();
+    private static ScheduledExecutorService refresher;
+
+    public interface FlavorLoader {
+        List<String> listFlavorIds() throws FogbowException;
+
+        HardwareRequirements fetchFlavor(String flavorId) throws FogbowException;
+
+        Map<String, String> fetchExtraSpecs(String flavorId) throws FogbowException;
+    }
+
+    private final String flavorsEndpoint;
+    private final long refreshInterval;
+    private volatile FlavorIndex index;
+    private volatile FlavorLoader loader;
+    private volatile long lastAccessTime;
+    private ScheduledFuture<?> refreshTask;
+
+    @VisibleForTesting
+    OpenStackFlavorCatalog(String flavorsEndpoint, long refreshInterval) {
+        this.flavorsEndpoint = flavorsEndpoint;
+        this.refreshInterval = refreshInterval;
+    }
+
+    public static synchronized OpenStackFlavorCatalog getInstance(String flavorsEndpoint) {
+        OpenStackFlavorCatalog catalog = catalogs.get(flavorsEndpoint);
+        if (catalog == null) {
+            long refreshInterval = Long.parseLong(PropertiesHolder.getInstance().getProperty(
+                    ConfigurationPropertyKeys.OPENSTACK_FLAVOR_CATALOG_REFRESH_INTERVAL_KEY,
+                    ConfigurationPropertyDefaults.OPENSTACK_FLAVOR_CATALOG_REFRESH_INTERVAL));
+            catalog = new OpenStackFlavorCatalog(flavorsEndpoint, refreshInterval);
+            catalogs.put(flavorsEndpoint, catalog);
+        }
+        return catalog;
+    }
+
+    /**
+     * @return The smallest flavor with at least the given resources and all the required extra specs, or null
+     * if there is none.
+     */
+    public HardwareRequirements findSmallestFlavor(int vCPU, int ram, int disk, Map<String, String> requirements,
+                                                   FlavorLoader loader) throws FogbowException {
+
+        this.loader = loader;
+        this.lastAccessTime = getCurrentTimeMillis();
+
+        FlavorIndex index = this.index;
+        if (index == null) {
+            synchronized (this) {
+                // Another thread may have loaded the flavors while this one was waiting
+                if (this.index == null) {
+                    refresh(loader);
+                    scheduleRefresh();
+                }
+                index = this.index;
+            }
+        }
+        return index.findSmallestFlavor(vCPU, ram, disk, requirements);
+    }
+
+    @VisibleForTesting
+    synchronized void refresh(FlavorLoader loader) throws FogbowException {
+        FlavorIndex currentIndex = this.index;
+        FlavorIndex newIndex = new FlavorIndex();
+        for (String flavorId : loader.listFlavorIds()) {
+            Flavor flavor = currentIndex == null ? null : currentIndex.flavors.get(flavorId);
+            if (flavor == null) {
+                flavor = new Flavor(loader.fetchFlavor(flavorId), loader.fetchExtraSpecs(flavorId));
+            }
+            newIndex.add(flavor);
+        }
+        this.index = newIndex;
+    }
+
+    @VisibleForTesting
+    void refreshInBackground() {
+        if (getCurrentTimeMillis() - this.lastAccessTime > this.refreshInterval * IDLE_REFRESHES) {
+            discard();
+            return;
+        }
+        try {
+            refresh(this.loader);
+        } catch (Throwable e) {
+            LOGGER.warn(String.format(Messages.Log.UNABLE_TO_REFRESH_FLAVOR_CATALOG_S, this.flavorsEndpoint), e);
+        }
+    }
+
+    @VisibleForTesting
+    long getCurrentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    private synchronized void scheduleRefresh() {
+        if (this.refreshTask == null) {
+            this.refreshTask = getRefresher().scheduleWithFixedDelay(this::refreshInBackground,
+                    this.refreshInterval, this.refreshInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void discard() {
+        synchronized (OpenStackFlavorCatalog.class) {
+            if (catalogs.get(this.flavorsEndpoint) == this) {
+                catalogs.remove(this.flavorsEndpoint);
+            }
+        }
+        synchronized (this) {
+            if (this.refreshTask != null) {
+                this.refreshTask.cancel(false);
+            }
+        }
+    }
+
+    private static synchronized ScheduledExecutorService getRefresher() {
+        if (refresher == null) {
+            refresher = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                    .setNameFormat(REFRESHER_THREAD_NAME)
+                    .setDaemon(true)
+                    .build());
+        }
+        return refresher;
+    }
+
+    private static class Flavor {
+        private final HardwareRequirements hardwareRequirements;
+        private final Map<String, String> extraSpecs;
+
+        private Flavor(HardwareRequirements hardwareRequirements, Map<String, String> extraSpecs) {
+            this.hardwareRequirements = hardwareRequirements;
+            this.extraSpecs = extraSpecs == null ? Collections.emptyMap() : extraSpecs;
+        }
+    }
+
+    private static class FlavorIndex {
+        private final Map<String, Flavor> flavors = new HashMap<>();
+        private final TreeMap<Integer, List<Flavor>> flavorsByVCPU = new TreeMap<>();
+        private final Map<String, Map<String, Set<String>>> flavorIdsByExtraSpec = new HashMap<>();
+
+        private void add(Flavor flavor) {
+            String flavorId = flavor.hardwareRequirements.getFlavorId();
+            this.flavors.put(flavorId, flavor);
+            this.flavorsByVCPU.computeIfAbsent(flavor.hardwareRequirements.getCpu(), cpu -> new ArrayList<>())
+                    .add(flavor);
+            for (Map.Entry<String, String> extraSpec : flavor.extraSpecs.entrySet()) {
+                this.flavorIdsByExtraSpec.computeIfAbsent(extraSpec.getKey(), tag -> new HashMap<>())
+                        .computeIfAbsent(extraSpec.getValue(), value -> new HashSet<>())
+                        .add(flavorId);
+            }
+        }
+
+        private HardwareRequirements findSmallestFlavor(int vCPU, int ram, int disk,
+                                                        Map<String, String> requirements) {
+            Set<String> matchingFlavorIds = null;
+            if (requirements != null && !requirements.isEmpty()) {
+                matchingFlavorIds = findFlavorIdsWithExtraSpecs(requirements);
+                if (matchingFlavorIds.isEmpty()) {
+                    return null;
+                }
+            }
+
+            HardwareRequirements smallestFlavor = null;
+            for (List<Flavor> flavors : this.flavorsByVCPU.tailMap(vCPU, true).values()) {
+                for (Flavor flavor : flavors) {
+                    HardwareRequirements hardwareRequirements = flavor.hardwareRequirements;
+                    if (hardwareRequirements.getRam() >= ram
+                            && hardwareRequirements.getDisk() >= disk
+                            && (matchingFlavorIds == null || matchingFlavorIds.contains(hardwareRequirements.getFlavorId()))
+                            && (smallestFlavor == null || hardwareRequirements.compareTo(smallestFlavor) < 0)) {
+                        smallestFlavor = hardwareRequirements;
+                    }
+                }
+            }
+            return smallestFlavor;
+        }
+
+        private Set<String> findFlavorIdsWithExtraSpecs(Map<String, String> requirements) {
+            Set<String> flavorIds = null;
+            for (Map.Entry<String, String> requirement : requirements.entrySet()) {
+                Set<String> flavorIdsWithExtraSpec = this.flavorIdsByExtraSpec
+                        .getOrDefault(requirement.getKey(), Collections.emptyMap())
+                        .getOrDefault(requirement.getValue(), Collections.emptySet());
+                if (flavorIds == null) {
+                    flavorIds = new HashSet<>(flavorIdsWithExtraSpec);
+                } else {
+                    flavorIds.retainAll(flavorIdsWithExtraSpec);
+                }
+            }
+            return flavorIds;
+        }
+    }
+}
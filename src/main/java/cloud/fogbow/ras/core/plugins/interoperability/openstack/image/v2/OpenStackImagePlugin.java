@@ -22,6 +22,8 @@ import java.util.*;
 public class OpenStackImagePlugin implements ImagePlugin<OpenStackV3User> {
     private static final Logger LOGGER = Logger.getLogger(OpenStackImagePlugin.class);
 
+    private static final String VISIBILITY_QUERY_FORMAT = "&visibility=%s";
+
     private Properties properties;
     private OpenStackHttpClient client;
 
@@ -37,6 +39,26 @@ public class OpenStackImagePlugin implements ImagePlugin<OpenStackV3User> {
         return availableImages;
     }
 
+    @Override
+    public boolean listsPublicImagesSeparately() {
+        return true;
+    }
+
+    @Override
+    public List<ImageSummary> getPublicImages(OpenStackV3User cloudUser) throws FogbowException {
+        LOGGER.info(Messages.Log.REQUESTING_GET_ALL_FROM_PROVIDER);
+        List<GetImageResponse> imagesResponse = getImagesResponse(cloudUser, OpenStackConstants.PUBLIC_VISIBILITY);
+        return buildImageSummaries(getPublicImagesResponse(imagesResponse));
+    }
+
+    @Override
+    public List<ImageSummary> getPrivateImages(OpenStackV3User cloudUser) throws FogbowException {
+        LOGGER.info(Messages.Log.REQUESTING_GET_ALL_FROM_PROVIDER);
+        List<GetImageResponse> imagesResponse = getImagesResponse(cloudUser, OpenStackConstants.PRIVATE_VISIBILITY);
+        return buildImageSummaries(getPrivateImagesResponse(imagesResponse,
+                OpenStackPluginUtils.getProjectIdFrom(cloudUser)));
+    }
+
     @Override
     public ImageInstance getImage(String imageId, OpenStackV3User cloudUser) throws FogbowException {
         LOGGER.info(String.format(Messages.Log.RECEIVING_GET_IMAGE_REQUEST_S, imageId));
@@ -75,9 +97,20 @@ public class OpenStackImagePlugin implements ImagePlugin<OpenStackV3User> {
 
     @VisibleForTesting
     List<GetImageResponse> getImagesResponse(OpenStackV3User cloudUser) throws FogbowException {
+        return getImagesResponse(cloudUser, null);
+    }
+
+    /**
+     * @param visibility The visibility of the images to list, or null to list all of them.
+     */
+    @VisibleForTesting
+    List<GetImageResponse> getImagesResponse(OpenStackV3User cloudUser, String visibility) throws FogbowException {
         String endpoint = this.properties.getProperty(OpenStackPluginUtils.IMAGE_GLANCE_URL_KEY)
                     + OpenStackConstants.GLANCE_V2_API_ENDPOINT + OpenStackConstants.ENDPOINT_SEPARATOR +
                     OpenStackConstants.IMAGE_ENDPOINT + OpenStackConstants.QUERY_ACTIVE_IMAGES;
+        if (visibility != null) {
+            endpoint += String.format(VISIBILITY_QUERY_FORMAT, visibility);
+        }
         String jsonResponse = this.client.doGetRequest(endpoint, cloudUser);
         GetAllImagesResponse getAllImagesResponse = getAllImagesResponse(jsonResponse);
 
@@ -129,12 +162,17 @@ public class OpenStackImagePlugin implements ImagePlugin<OpenStackV3User> {
 
         List<GetImageResponse> allImagesResponse = getImagesResponse(cloudUser);
         List<GetImageResponse> filteredImagesResponse = filterImagesResponse(OpenStackPluginUtils.getProjectIdFrom(cloudUser), allImagesResponse);
+        availableImages.addAll(buildImageSummaries(filteredImagesResponse));
+        return availableImages;
+    }
 
-        for (GetImageResponse getImageResponse : filteredImagesResponse) {
+    private List<ImageSummary> buildImageSummaries(List<GetImageResponse> imagesResponse) {
+        List<ImageSummary> imageSummaries = new ArrayList<>();
+        for (GetImageResponse getImageResponse : imagesResponse) {
             ImageSummary imageSummary = new ImageSummary(getImageResponse.getId(), getImageResponse.getName());
-            availableImages.add(imageSummary);
+            imageSummaries.add(imageSummary);
         }
-        return availableImages;
+        return imageSummaries;
     }
 
     private List<GetImageResponse> filterImagesResponse(String tenantId, List<GetImageResponse> allImagesResponse) {
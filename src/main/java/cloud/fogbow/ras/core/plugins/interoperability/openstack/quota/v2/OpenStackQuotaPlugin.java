@@ -1,6 +1,10 @@
 package cloud.fogbow.ras.core.plugins.interoperability.openstack.quota.v2;
 
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import cloud.fogbow.common.constants.OpenStackConstants;
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.sdk.v2.quota.models.GetComputeQuotasResponse;
@@ -9,8 +13,10 @@ import cloud.fogbow.ras.core.plugins.interoperability.openstack.sdk.v2.quota.mod
 import org.apache.log4j.Logger;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
 import cloud.fogbow.common.models.OpenStackV3User;
 import cloud.fogbow.common.util.PropertiesUtil;
 import cloud.fogbow.common.util.connectivity.cloud.openstack.OpenStackHttpClient;
@@ -24,6 +30,14 @@ public class OpenStackQuotaPlugin implements QuotaPlugin<OpenStackV3User> {
 
     private static final Logger LOGGER = Logger.getLogger(OpenStackQuotaPlugin.class);
 
+    private static final String QUOTA_THREAD_NAME_FORMAT = "openstack-quota-%d";
+    private static final int QUOTA_POOL_SIZE = 8;
+
+    // The network and volume quotas are obtained by these threads while the compute quotas are
+    // obtained by the requesting thread, so that the three services are queried at the same time.
+    private static final ExecutorService quotaExecutor = Executors.newFixedThreadPool(QUOTA_POOL_SIZE,
+            new ThreadFactoryBuilder().setNameFormat(QUOTA_THREAD_NAME_FORMAT).setDaemon(true).build());
+
     private Properties properties;
     private OpenStackHttpClient client;
     
@@ -35,10 +49,31 @@ public class OpenStackQuotaPlugin implements QuotaPlugin<OpenStackV3User> {
     @Override
     public ResourceQuota getUserQuota(OpenStackV3User cloudUser) throws FogbowException {
         LOGGER.info(Messages.Log.GETTING_QUOTA);
-        GetComputeQuotasResponse computeQuotas = getComputeQuotas(cloudUser);
-        GetNetworkQuotasResponse networkQuotas = getNetworkQuotas(cloudUser);
-        GetVolumeQuotasResponse volumeQuotas = getVolumeQuotas(cloudUser);
-        return buildResourceQuota(computeQuotas, networkQuotas, volumeQuotas);
+        Future<GetNetworkQuotasResponse> networkQuotas = quotaExecutor.submit(() -> getNetworkQuotas(cloudUser));
+        Future<GetVolumeQuotasResponse> volumeQuotas = quotaExecutor.submit(() -> getVolumeQuotas(cloudUser));
+        try {
+            GetComputeQuotasResponse computeQuotas = getComputeQuotas(cloudUser);
+            return buildResourceQuota(computeQuotas, getResult(networkQuotas), getResult(volumeQuotas));
+        } finally {
+            // The requests still running are of no use when another one has failed
+            networkQuotas.cancel(true);
+            volumeQuotas.cancel(true);
+        }
+    }
+
+    @VisibleForTesting
+    <T> T getResult(Future<T> future) throws FogbowException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalServerErrorException(Messages.Exception.FAILED_TO_GET_QUOTA);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof FogbowException) {
+                throw (FogbowException) e.getCause();
+            }
+            throw new InternalServerErrorException(e.getCause().getMessage());
+        }
     }
 
     @VisibleForTesting
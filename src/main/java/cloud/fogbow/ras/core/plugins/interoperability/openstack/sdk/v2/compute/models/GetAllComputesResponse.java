@@ -0,0 +1,87 @@
+package cloud.fogbow.ras.core.plugins.interoperability.openstack.sdk.v2.compute.models;
+
+import cloud.fogbow.common.util.GsonHolder;
+import com.google.gson.annotations.SerializedName;
+
+import java.util.List;
+import java.util.Map;
+
+import static cloud.fogbow.common.constants.OpenStackConstants.Compute.*;
+
+/**
+ * Documentation: https://developer.openstack.org/api-ref/compute/#list-servers-detailed
+ * <p>
+ * Response Example:
+ * {
+ * "servers":[
+ * {
+ * "id":"9168b536-cd40-4630-b43f-b259807c6e87",
+ * "name":"new-server-test",
+ * "addresses":{
+ * "provider":[
+ * {
+ * "addr":"192.168.0.3"
+ * }
+ * ]
+ * },
+ * "status":"ACTIVE"
+ * }
+ * ]
+ * }
+ * <p>
+ * We use the @SerializedName annotation to specify that the request parameter is not equal to the class field.
+ */
+public class GetAllComputesResponse {
+    @SerializedName("servers")
+    private List<Server> servers;
+
+    public class Server {
+        @SerializedName(ID_KEY_JSON)
+        private String id;
+        @SerializedName(NAME_KEY_JSON)
+        private String name;
+        @SerializedName(ADDRESSES_KEY_JSON)
+        private Map<String, Address[]> addresses;
+        @SerializedName(STATUS_KEY_JSON)
+        private String status;
+        @SerializedName(FAULT_MSG_KEY_JSON)
+        private String faultMessage;
+
+        public String getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Map<String, Address[]> getAddresses() {
+            return addresses;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public String getFaultMessage() {
+            return faultMessage;
+        }
+    }
+
+    public class Address {
+        @SerializedName(ADDRESS_KEY_JSON)
+        private String address;
+
+        public String getAddress() {
+            return address;
+        }
+    }
+
+    public List<Server> getServers() {
+        return servers;
+    }
+
+    public static GetAllComputesResponse fromJson(String json) {
+        return GsonHolder.getInstance().fromJson(json, GetAllComputesResponse.class);
+    }
+}
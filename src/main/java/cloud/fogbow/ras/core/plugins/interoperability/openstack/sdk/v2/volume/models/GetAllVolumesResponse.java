@@ -0,0 +1,63 @@
+package cloud.fogbow.ras.core.plugins.interoperability.openstack.sdk.v2.volume.models;
+
+import cloud.fogbow.common.util.GsonHolder;
+import com.google.gson.annotations.SerializedName;
+
+import java.util.List;
+
+import static cloud.fogbow.common.constants.OpenStackConstants.Volume.*;
+
+/**
+ * Documentation: https://developer.openstack.org/api-ref/block-storage/v2/#list-volumes-with-details
+ * <p>
+ * Response example:
+ * {
+ * "volumes": [
+ * {
+ * "status": "available",
+ * "name": "test-volume-attachments",
+ * "id": "6edbc2f4-1507-44f8-ac0d-eed1d2608d38",
+ * "size": 2
+ * }
+ * ]
+ * }
+ */
+public class GetAllVolumesResponse {
+    @SerializedName("volumes")
+    private List<Volume> volumes;
+
+    public List<Volume> getVolumes() {
+        return this.volumes;
+    }
+
+    public static GetAllVolumesResponse fromJson(String json) {
+        return GsonHolder.getInstance().fromJson(json, GetAllVolumesResponse.class);
+    }
+
+    public class Volume {
+        @SerializedName(ID_KEY_JSON)
+        private String id;
+        @SerializedName(NAME_KEY_JSON)
+        private String name;
+        @SerializedName(SIZE_KEY_JSON)
+        private Integer size;
+        @SerializedName(STATUS_KEY_JSON)
+        private String status;
+
+        public String getId() {
+            return this.id;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public Integer getSize() {
+            return this.size;
+        }
+
+        public String getStatus() {
+            return this.status;
+        }
+    }
+}
@@ -1,12 +1,17 @@
 package cloud.fogbow.ras.core.plugins.interoperability.openstack.volume.v2;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 
 import cloud.fogbow.common.constants.OpenStackConstants;
 import cloud.fogbow.ras.api.http.response.quotas.allocation.VolumeAllocation;
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.sdk.v2.volume.models.CreateVolumeRequest;
+import cloud.fogbow.ras.core.plugins.interoperability.openstack.sdk.v2.volume.models.GetAllVolumesResponse;
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.sdk.v2.volume.models.GetAllTypesResponse;
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.sdk.v2.volume.models.GetVolumeResponse;
 import com.google.common.annotations.VisibleForTesting;
@@ -36,6 +41,12 @@ public class OpenStackVolumePlugin implements VolumePlugin<OpenStackV3User> {
     
     private static final Logger LOGGER = Logger.getLogger(OpenStackVolumePlugin.class);
 
+    @VisibleForTesting
+    static final int VOLUMES_PAGE_SIZE = 1000;
+    private static final String VOLUMES_DETAIL_ENDPOINT = "/volumes/detail";
+    private static final String PAGE_QUERY_FORMAT = "?limit=%s";
+    private static final String MARKER_QUERY_FORMAT = "&marker=%s";
+
     private Properties properties;
     private OpenStackHttpClient client;
 
@@ -91,6 +102,45 @@ public class OpenStackVolumePlugin implements VolumePlugin<OpenStackV3User> {
         return doGetInstance(endpoint, cloudUser);
     }
 
+    /**
+     * Lists the volumes of the project page by page, until the instances of all the orders are found or
+     * there are no more volumes to list.
+     */
+    @Override
+    public Map<String, VolumeInstance> getInstances(Collection<VolumeOrder> orders, OpenStackV3User cloudUser)
+            throws FogbowException {
+        Set<String> instanceIds = new HashSet<>();
+        for (VolumeOrder order : orders) {
+            instanceIds.add(order.getInstanceId());
+        }
+        LOGGER.info(String.format(Messages.Log.GETTING_INSTANCES_OF_D_ORDERS, instanceIds.size()));
+        String projectId = OpenStackPluginUtils.getProjectIdFrom(cloudUser);
+
+        Map<String, VolumeInstance> volumeInstances = new HashMap<>();
+        String marker = null;
+        List<GetAllVolumesResponse.Volume> volumes;
+        do {
+            String query = String.format(PAGE_QUERY_FORMAT, VOLUMES_PAGE_SIZE);
+            if (marker != null) {
+                query += String.format(MARKER_QUERY_FORMAT, marker);
+            }
+            String json = doGetResponseFromCloud(getPrefixEndpoint(projectId) + VOLUMES_DETAIL_ENDPOINT + query, cloudUser);
+            volumes = doGetAllVolumesResponseFrom(json).getVolumes();
+            if (volumes == null) {
+                break;
+            }
+            for (GetAllVolumesResponse.Volume volume : volumes) {
+                if (instanceIds.contains(volume.getId())) {
+                    int size = volume.getSize() == null ? 0 : volume.getSize();
+                    volumeInstances.put(volume.getId(),
+                            new VolumeInstance(volume.getId(), volume.getStatus(), volume.getName(), size));
+                }
+                marker = volume.getId();
+            }
+        } while (volumes.size() == VOLUMES_PAGE_SIZE && volumeInstances.size() < instanceIds.size());
+        return volumeInstances;
+    }
+
     @Override
     public void deleteInstance(VolumeOrder order, OpenStackV3User cloudUser) throws FogbowException {
         String instanceId = order.getInstanceId();
@@ -133,6 +183,16 @@ public class OpenStackVolumePlugin implements VolumePlugin<OpenStackV3User> {
         return doGetVolumeResponseFrom(jsonResponse);
     }
 
+    @VisibleForTesting
+    GetAllVolumesResponse doGetAllVolumesResponseFrom(String jsonResponse) throws InternalServerErrorException {
+        try {
+            return GetAllVolumesResponse.fromJson(jsonResponse);
+        } catch (JsonSyntaxException e) {
+            LOGGER.error(Messages.Log.ERROR_WHILE_GETTING_VOLUME_INSTANCE, e);
+            throw new InternalServerErrorException(Messages.Exception.ERROR_WHILE_GETTING_VOLUME_INSTANCE);
+        }
+    }
+
     @VisibleForTesting
     GetVolumeResponse doGetVolumeResponseFrom(String jsonResponse) throws InternalServerErrorException {
         try {
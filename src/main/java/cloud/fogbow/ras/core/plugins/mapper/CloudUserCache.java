@@ -0,0 +1,202 @@
+package cloud.fogbow.ras.core.plugins.mapper;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.models.CloudUser;
+import cloud.fogbow.ras.constants.Messages;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.log4j.Logger;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the cloud users obtained from a cloud identity provider, keyed by the credentials used to obtain them.
+ * An entry is valid for ttl milliseconds, or until the expiration time of its cloud user, as given by the
+ * ExpirationTimeReader, when that comes first. An entry is also dropped when the cloud rejects its cloud user
+ * (see invalidate()), so that a token revoked or expired ahead of time is not served until the end of the ttl.
+ * When a valid entry gets within refreshMargin milliseconds of its expiration, the first caller to notice it
+ * schedules a refresh of the entry on a background thread and, like every other caller, keeps receiving the
+ * cached cloud user; no caller waits for the identity provider until the entry actually expires. Concurrent
+ * misses on the same credentials result in a single call to the identity provider. The hit, miss and refresh
+ * counters are logged every STATISTICS_LOG_INTERVAL lookups.
+ */
+public class CloudUserCache<T extends CloudUser> {
+    private static final Logger LOGGER = Logger.getLogger(CloudUserCache.class);
+
+    private static final long STATISTICS_LOG_INTERVAL = 1000;
+    private static final String REFRESH_THREAD_NAME_FORMAT = "cloud-user-refresh-%d";
+
+    // Shared by the caches of all the clouds; each entry has at most one refresh going on at a time
+    private static final Executor REFRESH_EXECUTOR = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+            .setNameFormat(REFRESH_THREAD_NAME_FORMAT)
+            .setDaemon(true)
+            .build());
+
+    public interface CloudUserLoader<T extends CloudUser> {
+        T load(Map<String, String> credentials) throws FogbowException;
+    }
+
+    public interface ExpirationTimeReader<T extends CloudUser> {
+        /**
+         * @return The time, in milliseconds since the epoch, after which the cloud user is no longer accepted by
+         * the cloud, or UNKNOWN_EXPIRATION_TIME.
+         */
+        long getExpirationTime(T cloudUser);
+    }
+
+    public static final long UNKNOWN_EXPIRATION_TIME = Long.MAX_VALUE;
+
+    private final long ttl;
+    private final long refreshMargin;
+    private final ExpirationTimeReader<T> expirationTimeReader;
+    private final Executor refreshExecutor;
+    private final Map<Map<String, String>, Entry<T>> entries;
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+    private final AtomicLong refreshes;
+
+    public CloudUserCache(long ttl, long refreshMargin) {
+        this(ttl, refreshMargin, cloudUser -> UNKNOWN_EXPIRATION_TIME);
+    }
+
+    public CloudUserCache(long ttl, long refreshMargin, ExpirationTimeReader<T> expirationTimeReader) {
+        this(ttl, refreshMargin, expirationTimeReader, REFRESH_EXECUTOR);
+    }
+
+    @VisibleForTesting
+    CloudUserCache(long ttl, long refreshMargin, ExpirationTimeReader<T> expirationTimeReader,
+                   Executor refreshExecutor) {
+        this.ttl = ttl;
+        this.refreshMargin = Math.min(refreshMargin, ttl);
+        this.expirationTimeReader = expirationTimeReader;
+        this.refreshExecutor = refreshExecutor;
+        this.entries = new ConcurrentHashMap<>();
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+        this.refreshes = new AtomicLong();
+    }
+
+    public T get(Map<String, String> credentials, CloudUserLoader<T> loader) throws FogbowException {
+        if (this.ttl <= 0) {
+            // Caching is disabled
+            countMiss();
+            return loader.load(credentials);
+        }
+
+        Entry<T> entry = this.entries.computeIfAbsent(new HashMap<>(credentials), key -> new Entry<>());
+        long now = getCurrentTimeMillis();
+        T cloudUser = entry.cloudUser;
+        if (cloudUser != null && now < entry.expirationTime) {
+            countHit();
+            if (now >= entry.expirationTime - this.refreshMargin && entry.refreshing.compareAndSet(false, true)) {
+                Map<String, String> refreshCredentials = new HashMap<>(credentials);
+                this.refreshExecutor.execute(() -> refresh(entry, refreshCredentials, loader));
+            }
+            return cloudUser;
+        }
+
+        synchronized (entry) {
+            // Another thread may have loaded the cloud user while this one was waiting
+            now = getCurrentTimeMillis();
+            if (entry.cloudUser != null && now < entry.expirationTime) {
+                countHit();
+                return entry.cloudUser;
+            }
+            countMiss();
+            cloudUser = loader.load(credentials);
+            entry.update(cloudUser, getExpirationTime(cloudUser));
+            return cloudUser;
+        }
+    }
+
+    /**
+     * Drops the cloud user cached for the credentials, so that the next call to get() loads a new one. Nothing
+     * is dropped if the entry already holds a different cloud user, since that one was loaded after the
+     * rejected one was handed out.
+     */
+    public void invalidate(Map<String, String> credentials, T cloudUser) {
+        Entry<T> entry = this.entries.get(credentials);
+        if (entry != null) {
+            synchronized (entry) {
+                if (entry.cloudUser == cloudUser) {
+                    entry.update(null, 0);
+                    LOGGER.info(Messages.Log.CLOUD_USER_INVALIDATED);
+                }
+            }
+        }
+    }
+
+    @VisibleForTesting
+    long getHits() {
+        return this.hits.get();
+    }
+
+    @VisibleForTesting
+    long getMisses() {
+        return this.misses.get();
+    }
+
+    @VisibleForTesting
+    long getRefreshes() {
+        return this.refreshes.get();
+    }
+
+    @VisibleForTesting
+    long getCurrentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    private long getExpirationTime(T cloudUser) {
+        return Math.min(getCurrentTimeMillis() + this.ttl, this.expirationTimeReader.getExpirationTime(cloudUser));
+    }
+
+    private void countHit() {
+        this.hits.incrementAndGet();
+        logStatistics();
+    }
+
+    private void countMiss() {
+        this.misses.incrementAndGet();
+        logStatistics();
+    }
+
+    private void logStatistics() {
+        long hits = this.hits.get();
+        long misses = this.misses.get();
+        if ((hits + misses) % STATISTICS_LOG_INTERVAL == 0) {
+            LOGGER.info(String.format(Messages.Log.CLOUD_USER_CACHE_STATISTICS_S_S_S, hits, misses, this.refreshes.get()));
+        }
+    }
+
+    private void refresh(Entry<T> entry, Map<String, String> credentials, CloudUserLoader<T> loader) {
+        try {
+            synchronized (entry) {
+                T cloudUser = loader.load(credentials);
+                entry.update(cloudUser, getExpirationTime(cloudUser));
+                this.refreshes.incrementAndGet();
+            }
+        } catch (FogbowException e) {
+            // The cached cloud user is still valid; the refresh is retried on the next call
+            LOGGER.warn(String.format(Messages.Log.UNABLE_TO_REFRESH_CLOUD_USER_S, e.getMessage()), e);
+        } finally {
+            entry.refreshing.set(false);
+        }
+    }
+
+    private static class Entry<T extends CloudUser> {
+        private volatile T cloudUser;
+        private volatile long expirationTime;
+        private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+        private void update(T cloudUser, long expirationTime) {
+            this.cloudUser = cloudUser;
+            this.expirationTime = expirationTime;
+        }
+    }
+}
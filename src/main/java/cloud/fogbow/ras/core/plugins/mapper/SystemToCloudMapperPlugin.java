@@ -6,5 +6,12 @@ import cloud.fogbow.common.models.SystemUser;
 
 public interface SystemToCloudMapperPlugin<T extends CloudUser, S extends SystemUser> {
     public T map(S systemUser) throws FogbowException;
+
+    /**
+     * Tells the mapper that the cloud rejected the cloud user it returned, so that a mapper that caches cloud
+     * users obtains a new one on the next call to map().
+     */
+    public default void invalidate(T cloudUser) {
+    }
 }
 
@@ -5,8 +5,10 @@ import cloud.fogbow.common.exceptions.FogbowException;
 import cloud.fogbow.common.models.CloudUser;
 import cloud.fogbow.common.models.SystemUser;
 import cloud.fogbow.common.util.PropertiesUtil;
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
 import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
 import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.plugins.mapper.CloudUserCache;
 import cloud.fogbow.ras.core.plugins.mapper.SystemToCloudMapperPlugin;
 import org.apache.log4j.Logger;
 
@@ -20,24 +22,62 @@ public abstract class GenericAllToOneSystemToCloudMapper<T extends CloudUser, S
     private static final String CLOUD_USER_CREDENTIALS_PREFIX = "cloud_user_credentials_";
     private String idpUrl;
     private Map<String, String> credentials;
+    private CloudUserCache<T> cloudUserCache;
 
     public GenericAllToOneSystemToCloudMapper(String mapperConfFilePath) throws FatalErrorException {
         Properties properties = PropertiesUtil.readProperties(mapperConfFilePath);
         this.idpUrl = properties.getProperty(ConfigurationPropertyKeys.CLOUD_IDENTITY_PROVIDER_URL_KEY);
         this.credentials = getCloudUserCredentials(properties);
+        this.cloudUserCache = createCloudUserCache(properties);
     }
 
     public abstract T getCloudUser(Map<String, String> credentials) throws FogbowException;
 
+    /**
+     * All system users are mapped to the same cloud user, thus the cloud user is obtained from the cloud
+     * identity provider only when the one previously obtained is about to expire.
+     */
     @Override
     public T map(S systemUser) throws FogbowException {
-        return getCloudUser(this.credentials);
+        return this.cloudUserCache.get(this.credentials, this::getCloudUser);
+    }
+
+    @Override
+    public void invalidate(T cloudUser) {
+        this.cloudUserCache.invalidate(this.credentials, cloudUser);
+    }
+
+    /**
+     * Mappers whose cloud users carry an expiring token override this method, so that the cached cloud user is
+     * not kept past the expiration of its token.
+     *
+     * @return The time, in milliseconds since the epoch, at which the token of the cloud user expires.
+     */
+    protected long getCloudUserExpirationTime(T cloudUser) {
+        return CloudUserCache.UNKNOWN_EXPIRATION_TIME;
     }
 
     public String getIdpUrl() {
         return idpUrl;
     }
 
+    public CloudUserCache<T> getCloudUserCache() {
+        return this.cloudUserCache;
+    }
+
+    private CloudUserCache<T> createCloudUserCache(Properties properties) {
+        long ttl = Long.parseLong(getProperty(properties, ConfigurationPropertyKeys.CLOUD_USER_CACHE_TTL_KEY,
+                ConfigurationPropertyDefaults.CLOUD_USER_CACHE_TTL));
+        long refreshMargin = Long.parseLong(getProperty(properties, ConfigurationPropertyKeys.CLOUD_USER_CACHE_REFRESH_MARGIN_KEY,
+                ConfigurationPropertyDefaults.CLOUD_USER_CACHE_REFRESH_MARGIN));
+        return new CloudUserCache<>(ttl, refreshMargin, this::getCloudUserExpirationTime);
+    }
+
+    private String getProperty(Properties properties, String key, String defaultValue) {
+        String value = properties.getProperty(key);
+        return (value == null || value.trim().isEmpty()) ? defaultValue : value.trim();
+    }
+
     /**
      * Gets credentials with prefix in the properties (CLOUD_USER_CREDENTIALS_PREFIX).
      *
@@ -19,20 +19,35 @@ public class AssignedForDeletionProcessor implements Runnable {
     private String localProviderId;
     private ChainedList<Order> assignedForDeletionOrdersList;
     /**
-     * Attribute that represents the thread sleep time when there are no orders to be processed.
+     * Attribute that represents the time between two consecutive checks of the same order.
      */
     private Long sleepTime;
+    private OrderProcessorWorkerPool workerPool;
+    private OrderCheckScheduler checkScheduler;
 
     public AssignedForDeletionProcessor(String localProviderId, String sleepTimeStr) {
         this.localProviderId = localProviderId;
         SharedOrderHolders sharedOrderHolders = SharedOrderHolders.getInstance();
         this.assignedForDeletionOrdersList = sharedOrderHolders.getAssignedForDeletionOrdersList();
         this.sleepTime = Long.valueOf(sleepTimeStr);
+        this.checkScheduler = new OrderCheckScheduler(
+                sharedOrderHolders.getOrdersListSignal(OrderState.ASSIGNED_FOR_DELETION), this.sleepTime);
+        this.workerPool = OrderProcessorWorkerPool.sequential();
+    }
+
+    public void setWorkerPool(OrderProcessorWorkerPool workerPool) {
+        this.workerPool = workerPool;
+    }
+
+    @VisibleForTesting
+    void waitForOrders() throws InterruptedException {
+        this.checkScheduler.awaitNextCheck();
     }
 
     /**
-     * Iterates over the assignedForDeletion orders list and tries to process one order at a time. When the order
-     * is null, it indicates that the iteration ended. A new iteration is started after some time.
+     * Iterates over the assignedForDeletion orders list and hands one order at a time to the worker pool. When the order
+     * is null, it indicates that the iteration ended. A new iteration is started when
+     * some order is due to be checked again, or as soon as new orders are added to the list.
      */
     @Override
     public void run() {
@@ -52,10 +67,12 @@ public class AssignedForDeletionProcessor implements Runnable {
             Order order = this.assignedForDeletionOrdersList.getNext();
 
             if (order != null) {
-                processAssignedForDeletionOrder(order);
+                if (this.checkScheduler.isCheckDue(order)) {
+                    this.checkScheduler.dispatch(order, this.workerPool, this::processAssignedForDeletionOrder);
+                }
             } else {
                 this.assignedForDeletionOrdersList.resetPointer();
-                Thread.sleep(this.sleepTime);
+                waitForOrders();
             }
         } catch (InterruptedException e) {
             LOGGER.error(Messages.Log.THREAD_HAS_BEEN_INTERRUPTED, e);
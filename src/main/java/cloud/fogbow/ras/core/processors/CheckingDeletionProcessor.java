@@ -21,9 +21,11 @@ public class CheckingDeletionProcessor implements Runnable {
 
     private ChainedList<Order> checkingDeletionOrders;
     /**
-     * Attribute that represents the thread sleep time when there are no orders to be processed.
+     * Attribute that represents the time between two consecutive checks of the same order.
      */
     private Long sleepTime;
+    private OrderProcessorWorkerPool workerPool;
+    private OrderCheckScheduler checkScheduler;
     private OrderController orderController;
     private String localProviderId;
 
@@ -31,13 +33,26 @@ public class CheckingDeletionProcessor implements Runnable {
         SharedOrderHolders sharedOrdersHolder = SharedOrderHolders.getInstance();
         this.checkingDeletionOrders = sharedOrdersHolder.getCheckingDeletionOrdersList();
         this.sleepTime = Long.valueOf(sleepTimeStr);
+        this.checkScheduler = new OrderCheckScheduler(
+                sharedOrdersHolder.getOrdersListSignal(OrderState.CHECKING_DELETION), this.sleepTime);
+        this.workerPool = OrderProcessorWorkerPool.sequential();
         this.orderController = orderController;
         this.localProviderId = localProviderId;
     }
 
+    public void setWorkerPool(OrderProcessorWorkerPool workerPool) {
+        this.workerPool = workerPool;
+    }
+
+    @VisibleForTesting
+    void waitForOrders() throws InterruptedException {
+        this.checkScheduler.awaitNextCheck();
+    }
+
     /**
-     * Iterates over the checkingDeletion orders list and tries to process one order at a time. When the order
-     * is null, it indicates that the iteration ended. A new iteration is started after some time.
+     * Iterates over the checkingDeletion orders list and hands one order at a time to the worker pool. When the order
+     * is null, it indicates that the iteration ended. A new iteration is started when
+     * some order is due to be checked again, or as soon as new orders are added to the list.
      */
     @Override
     public void run() {
@@ -56,10 +71,12 @@ public class CheckingDeletionProcessor implements Runnable {
         try {
             Order order = this.checkingDeletionOrders.getNext();
             if (order != null) {
-                processCheckingDeletionOrder(order);
+                if (this.checkScheduler.isCheckDue(order)) {
+                    this.checkScheduler.dispatch(order, this.workerPool, this::processCheckingDeletionOrder);
+                }
             } else {
                 this.checkingDeletionOrders.resetPointer();
-                Thread.sleep(this.sleepTime);
+                waitForOrders();
             }
         } catch (InterruptedException e) {
             LOGGER.error(Messages.Log.THREAD_HAS_BEEN_INTERRUPTED, e);
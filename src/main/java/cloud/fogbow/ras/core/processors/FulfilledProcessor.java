@@ -12,28 +12,57 @@ import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
 import cloud.fogbow.ras.core.cloudconnector.LocalCloudConnector;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
+import com.google.common.annotations.VisibleForTesting;
 import org.apache.log4j.Logger;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 public class FulfilledProcessor implements Runnable {
     private static final Logger LOGGER = Logger.getLogger(FulfilledProcessor.class);
 
     private String localProviderId;
     private ChainedList<Order> fulfilledOrdersList;
     /**
-     * Attribute that represents the thread sleep time when there are no orders to be processed.
+     * Attribute that represents the time between two consecutive checks of the same order.
      */
     private Long sleepTime;
+    private OrderProcessorWorkerPool workerPool;
+    private OrderCheckScheduler checkScheduler;
+    private OrderInstancesFetcher instancesFetcher;
+    private List<Order> dueOrders;
 
     public FulfilledProcessor(String localProviderId, String sleepTimeStr) {
         this.localProviderId = localProviderId;
         SharedOrderHolders sharedOrderHolders = SharedOrderHolders.getInstance();
         this.fulfilledOrdersList = sharedOrderHolders.getFulfilledOrdersList();
         this.sleepTime = Long.valueOf(sleepTimeStr);
+        this.checkScheduler = new OrderCheckScheduler(
+                sharedOrderHolders.getOrdersListSignal(OrderState.FULFILLED), this.sleepTime);
+        this.workerPool = OrderProcessorWorkerPool.sequential();
+        this.instancesFetcher = new OrderInstancesFetcher(localProviderId);
+        this.dueOrders = new ArrayList<>();
+    }
+
+    public void setWorkerPool(OrderProcessorWorkerPool workerPool) {
+        this.workerPool = workerPool;
+    }
+
+    public void setCheckBackoffPolicy(OrderCheckBackoffPolicy backoffPolicy) {
+        this.checkScheduler.setBackoffPolicy(backoffPolicy);
+    }
+
+    @VisibleForTesting
+    void waitForOrders() throws InterruptedException {
+        this.checkScheduler.awaitNextCheck();
     }
 
     /**
-     * Iterates over the fulfilled orders list and tries to process one order at a time. When the order
-     * is null, it indicates that the iteration ended. A new iteration is started after some time.
+     * Iterates over the fulfilled orders list and collects the orders that are due to be checked. When the order
+     * is null, it indicates that the iteration ended: the instances of the collected orders are fetched in bulk,
+     * and the orders are handed one at a time to the worker pool. A new iteration is started when
+     * some order is due to be checked again, or as soon as new orders are added to the list.
      */
     @Override
     public void run() {
@@ -44,10 +73,13 @@ public class FulfilledProcessor implements Runnable {
                 Order order = this.fulfilledOrdersList.getNext();
 
                 if (order != null) {
-                    processFulfilledOrder(order);
+                    if (this.checkScheduler.isCheckDue(order)) {
+                        this.dueOrders.add(order);
+                    }
                 } else {
                     this.fulfilledOrdersList.resetPointer();
-                    Thread.sleep(this.sleepTime);
+                    checkDueOrders();
+                    waitForOrders();
                 }
             } catch (InterruptedException e) {
                 isActive = false;
@@ -60,6 +92,41 @@ public class FulfilledProcessor implements Runnable {
         }
     }
 
+    @VisibleForTesting
+    void checkDueOrders() throws InterruptedException {
+        try {
+            Map<String, OrderInstance> instances;
+            try {
+                instances = this.instancesFetcher.fetch(this.dueOrders);
+            } catch (RuntimeException e) {
+                // None of the orders was checked, thus they are tried again shortly rather than on every pass
+                for (Order order : this.dueOrders) {
+                    this.checkScheduler.postponeCheck(order);
+                }
+                throw e;
+            }
+            for (Order order : this.dueOrders) {
+                try {
+                    OrderInstance fetchedInstance = instances.get(order.getId());
+                    if (fetchedInstance == null) {
+                        this.checkScheduler.dispatch(order, this.workerPool, this::processFulfilledOrder);
+                    } else {
+                        this.checkScheduler.dispatch(order, this.workerPool,
+                                dueOrder -> processFulfilledOrder(dueOrder, fetchedInstance));
+                    }
+                } catch (InterruptedException e) {
+                    throw e;
+                } catch (FogbowException e) {
+                    LOGGER.error(e.getMessage(), e);
+                } catch (Throwable e) {
+                    LOGGER.error(Messages.Log.UNEXPECTED_ERROR, e);
+                }
+            }
+        } finally {
+            this.dueOrders.clear();
+        }
+    }
+
     /**
      * Gets an instance for a fulfilled order. If that instance is not reachable the order state is
      * set to UNABLE_TO_CHECK_STATUS. Otherwise, if the instance has failed, then the order state is
@@ -68,7 +135,15 @@ public class FulfilledProcessor implements Runnable {
      * @param order {@link Order}
      */
     protected void processFulfilledOrder(Order order) throws FogbowException {
-        OrderInstance instance = null;
+        processFulfilledOrder(order, null);
+    }
+
+    /**
+     * @param fetchedInstance Instance of the order already fetched in bulk, or null if the instance must be
+     *                        obtained from the cloud.
+     */
+    protected void processFulfilledOrder(Order order, OrderInstance fetchedInstance) throws FogbowException {
+        OrderInstance instance = fetchedInstance;
 
         // The order object synchronization is needed to prevent a race
         // condition on order access. For example: a user can delete a fulfilled
@@ -90,13 +165,15 @@ public class FulfilledProcessor implements Runnable {
                 return;
             }
             try {
-                // Here we know that the CloudConnector is local, but the use of CloudConnectFactory facilitates testing.
-                LocalCloudConnector localCloudConnector = (LocalCloudConnector)
-                        CloudConnectorFactory.getInstance().getCloudConnector(this.localProviderId, order.getCloudName());
-                // We don't audit requests we make
-                localCloudConnector.switchOffAuditing();
+                if (instance == null) {
+                    // Here we know that the CloudConnector is local, but the use of CloudConnectFactory facilitates testing.
+                    LocalCloudConnector localCloudConnector = (LocalCloudConnector)
+                            CloudConnectorFactory.getInstance().getCloudConnector(this.localProviderId, order.getCloudName());
+                    // We don't audit requests we make
+                    localCloudConnector.switchOffAuditing();
 
-                instance = localCloudConnector.getInstance(order);
+                    instance = localCloudConnector.getInstance(order);
+                }
                 if (instance.hasFailed()) {
                     LOGGER.info(String.format(Messages.Log.INSTANCE_S_HAS_FAILED, order.getId()));
                     OrderStateTransitioner.transition(order, OrderState.FAILED_AFTER_SUCCESSFUL_REQUEST);
@@ -10,6 +10,7 @@ import cloud.fogbow.ras.core.cloudconnector.CloudConnector;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
+import com.google.common.annotations.VisibleForTesting;
 import org.apache.log4j.Logger;
 
 public class OpenProcessor implements Runnable {
@@ -18,20 +19,35 @@ public class OpenProcessor implements Runnable {
     private String localProviderId;
     private ChainedList<Order> openOrdersList;
     /**
-     * Attribute that represents the thread sleep time when there are no orders to be processed.
+     * Attribute that represents the time between two consecutive checks of the same order.
      */
     private Long sleepTime;
+    private OrderProcessorWorkerPool workerPool;
+    private OrderCheckScheduler checkScheduler;
 
     public OpenProcessor(String localProviderId, String sleepTimeStr) {
         this.localProviderId = localProviderId;
         SharedOrderHolders sharedOrderHolders = SharedOrderHolders.getInstance();
         this.openOrdersList = sharedOrderHolders.getOpenOrdersList();
         this.sleepTime = Long.valueOf(sleepTimeStr);
+        this.checkScheduler = new OrderCheckScheduler(
+                sharedOrderHolders.getOrdersListSignal(OrderState.OPEN), this.sleepTime);
+        this.workerPool = OrderProcessorWorkerPool.sequential();
+    }
+
+    public void setWorkerPool(OrderProcessorWorkerPool workerPool) {
+        this.workerPool = workerPool;
+    }
+
+    @VisibleForTesting
+    void waitForOrders() throws InterruptedException {
+        this.checkScheduler.awaitNextCheck();
     }
 
     /**
-     * Iterates over the open orders list and tries to process one order at a time. When the order
-     * is null, it indicates that the iteration ended. A new iteration is started after some time.
+     * Iterates over the open orders list and hands one order at a time to the worker pool. When the order
+     * is null, it indicates that the iteration ended. A new iteration is started when
+     * some order is due to be checked again, or as soon as new orders are added to the list.
      */
     @Override
     public void run() {
@@ -40,10 +56,12 @@ public class OpenProcessor implements Runnable {
             try {
                 Order order = this.openOrdersList.getNext();
                 if (order != null) {
-                    processOpenOrder(order);
+                    if (this.checkScheduler.isCheckDue(order)) {
+                        this.checkScheduler.dispatch(order, this.workerPool, this::processOpenOrder);
+                    }
                 } else {
                     this.openOrdersList.resetPointer();
-                    Thread.sleep(this.sleepTime);
+                    waitForOrders();
                 }
             } catch (InterruptedException e) {
                 isActive = false;
@@ -0,0 +1,62 @@
+package cloud.fogbow.ras.core.processors;
+
+import cloud.fogbow.ras.core.models.ResourceType;
+import cloud.fogbow.ras.core.models.orders.Order;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Computes the time to wait before checking an order again. Right after a state change an order is checked
+ * every initialInterval milliseconds; the interval then doubles at each check, up to a maximum that may be
+ * set per resource type. A random jitter is added to the interval, so that orders created together do not
+ * keep hitting the cloud at the same time.
+ */
+public class OrderCheckBackoffPolicy {
+    private static final double BACKOFF_MULTIPLIER = 2;
+    private static final double JITTER_FACTOR = 0.1;
+
+    private final long initialInterval;
+    private final long maxInterval;
+    private final Map<ResourceType, Long> maxIntervalsPerResourceType;
+    private final double jitterFactor;
+
+    public OrderCheckBackoffPolicy(long initialInterval, long maxInterval,
+                                   Map<ResourceType, Long> maxIntervalsPerResourceType) {
+        this(initialInterval, maxInterval, maxIntervalsPerResourceType, JITTER_FACTOR);
+    }
+
+    private OrderCheckBackoffPolicy(long initialInterval, long maxInterval,
+                                    Map<ResourceType, Long> maxIntervalsPerResourceType, double jitterFactor) {
+        this.initialInterval = initialInterval;
+        this.maxInterval = Math.max(maxInterval, initialInterval);
+        this.maxIntervalsPerResourceType = new EnumMap<>(ResourceType.class);
+        this.maxIntervalsPerResourceType.putAll(maxIntervalsPerResourceType);
+        this.jitterFactor = jitterFactor;
+    }
+
+    /**
+     * Returns a policy that always checks orders every interval milliseconds.
+     */
+    public static OrderCheckBackoffPolicy fixed(long interval) {
+        return new OrderCheckBackoffPolicy(interval, interval, Collections.emptyMap(), 0);
+    }
+
+    public long getCheckInterval(Order order) {
+        long maxInterval = getMaxInterval(order.getType());
+        double interval = Math.min(this.initialInterval * Math.pow(BACKOFF_MULTIPLIER,
+                order.getChecksInCurrentState()), maxInterval);
+        if (this.jitterFactor > 0) {
+            double jitter = ThreadLocalRandom.current().nextDouble(-this.jitterFactor, this.jitterFactor);
+            interval += interval * jitter;
+        }
+        return Math.round(interval);
+    }
+
+    public long getMaxInterval(ResourceType resourceType) {
+        Long maxInterval = resourceType == null ? null : this.maxIntervalsPerResourceType.get(resourceType);
+        return maxInterval == null ? this.maxInterval : Math.max(maxInterval, this.initialInterval);
+    }
+}
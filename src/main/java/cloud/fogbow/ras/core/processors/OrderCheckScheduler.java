@@ -0,0 +1,120 @@
+package cloud.fogbow.ras.core.processors;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.ras.core.OrderListSignal;
+import cloud.fogbow.ras.core.models.orders.Order;
+import com.google.common.annotations.VisibleForTesting;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides when each order of a list must be checked by the processor of that list, and how long the processor
+ * must wait once it reaches the end of the list. An order is checked as soon as it enters the list, and then
+ * again after the interval given by the backoff policy, which by default is checkPeriod milliseconds. The next
+ * check of an order is only scheduled once the order was handed to a worker; a due order that the worker pool
+ * skipped (because it is busy with the order or with its cloud) is tried again SKIPPED_CHECK_RETRY_DELAY
+ * milliseconds later, without counting as a check. After a full pass over the list, the processor waits until
+ * the earliest next check time, unless new orders are added to the list in the meantime.
+ */
+public class OrderCheckScheduler {
+    // Safety net for lists that are idle for a long time
+    @VisibleForTesting
+    static final long MAX_WAIT_TIME = TimeUnit.MINUTES.toMillis(1);
+    @VisibleForTesting
+    static final long SKIPPED_CHECK_RETRY_DELAY = TimeUnit.SECONDS.toMillis(1);
+
+    private static final long NO_CHECK_SCHEDULED = Long.MAX_VALUE;
+
+    private final OrderListSignal ordersListSignal;
+    private OrderCheckBackoffPolicy backoffPolicy;
+    private final AtomicLong earliestNextCheckTime;
+
+    public OrderCheckScheduler(OrderListSignal ordersListSignal, long checkPeriod) {
+        this.ordersListSignal = ordersListSignal;
+        this.backoffPolicy = OrderCheckBackoffPolicy.fixed(checkPeriod);
+        this.earliestNextCheckTime = new AtomicLong(NO_CHECK_SCHEDULED);
+    }
+
+    public void setBackoffPolicy(OrderCheckBackoffPolicy backoffPolicy) {
+        this.backoffPolicy = backoffPolicy;
+    }
+
+    /**
+     * Tells whether the order must be checked now. The next check of a due order is not scheduled here, but
+     * when the order is dispatched.
+     */
+    public boolean isCheckDue(Order order) {
+        long nextCheckTime = order.getNextCheckTime();
+        boolean isCheckDue = nextCheckTime <= getCurrentTimeMillis();
+        if (!isCheckDue) {
+            trackNextCheckTime(nextCheckTime);
+        }
+        return isCheckDue;
+    }
+
+    /**
+     * Hands a due order to the worker pool. The next check of the order is scheduled by the worker, according
+     * to the backoff policy, right before it processes the order, thus before the processing can move the order
+     * to another list. An order the pool skipped is postponed instead.
+     */
+    public void dispatch(Order order, OrderProcessorWorkerPool workerPool,
+                         OrderProcessorWorkerPool.OrderProcessingTask task)
+            throws FogbowException, InterruptedException {
+        // Estimated here, since the worker may only schedule the check after the processor started waiting
+        long estimatedNextCheckTime = getCurrentTimeMillis() + this.backoffPolicy.getCheckInterval(order);
+        boolean dispatched = workerPool.dispatch(order, dueOrder -> {
+            scheduleNextCheck(dueOrder);
+            task.process(dueOrder);
+        });
+        if (dispatched) {
+            trackNextCheckTime(estimatedNextCheckTime);
+        } else {
+            postponeCheck(order);
+        }
+    }
+
+    /**
+     * Schedules the next check of an order that is being checked now, according to the backoff policy.
+     */
+    private void scheduleNextCheck(Order order) {
+        long nextCheckTime = getCurrentTimeMillis() + this.backoffPolicy.getCheckInterval(order);
+        order.setNextCheckTime(nextCheckTime);
+        order.incrementChecksInCurrentState();
+        trackNextCheckTime(nextCheckTime);
+    }
+
+    /**
+     * Tries a due order again shortly, for instance because the worker pool skipped it, without counting it as
+     * checked. A later check already scheduled by the worker processing the order is kept.
+     */
+    public void postponeCheck(Order order) {
+        long nextCheckTime = Math.max(order.getNextCheckTime(), getCurrentTimeMillis() + SKIPPED_CHECK_RETRY_DELAY);
+        order.setNextCheckTime(nextCheckTime);
+        trackNextCheckTime(nextCheckTime);
+    }
+
+    /**
+     * Waits until some order of the list must be checked, or until new orders are added to the list.
+     */
+    public void awaitNextCheck() throws InterruptedException {
+        long earliestNextCheckTime = this.earliestNextCheckTime.getAndSet(NO_CHECK_SCHEDULED);
+        long waitTime = MAX_WAIT_TIME;
+        if (earliestNextCheckTime != NO_CHECK_SCHEDULED) {
+            waitTime = Math.min(earliestNextCheckTime - getCurrentTimeMillis(), MAX_WAIT_TIME);
+        }
+        if (waitTime > 0) {
+            this.ordersListSignal.await(waitTime);
+        }
+    }
+
+    private void trackNextCheckTime(long nextCheckTime) {
+        // The workers schedule the checks of the orders they process, thus this may be called concurrently
+        this.earliestNextCheckTime.accumulateAndGet(nextCheckTime, Math::min);
+    }
+
+    @VisibleForTesting
+    long getCurrentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+}
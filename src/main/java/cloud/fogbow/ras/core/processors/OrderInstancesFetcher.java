@@ -0,0 +1,67 @@
+package cloud.fogbow.ras.core.processors;
+
+import cloud.fogbow.ras.api.http.response.OrderInstance;
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
+import cloud.fogbow.ras.core.cloudconnector.LocalCloudConnector;
+import cloud.fogbow.ras.core.models.orders.Order;
+import org.apache.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gets, in bulk, the instances of the orders that a processor is about to check, so that the processor does
+ * not need to reach the cloud once per order. Bulk requests are only worth it when several orders of the same
+ * cloud are checked together; orders whose instance could not be obtained in bulk are checked one at a time
+ * by the processor, as usual.
+ */
+public class OrderInstancesFetcher {
+    private static final Logger LOGGER = Logger.getLogger(OrderInstancesFetcher.class);
+
+    private static final int MIN_ORDERS_PER_BULK_REQUEST = 2;
+
+    private String localProviderId;
+
+    public OrderInstancesFetcher(String localProviderId) {
+        this.localProviderId = localProviderId;
+    }
+
+    /**
+     * @return The instances found, keyed by order id.
+     */
+    public Map<String, OrderInstance> fetch(Collection<Order> orders) {
+        Map<String, List<Order>> ordersPerCloud = new HashMap<>();
+        for (Order order : orders) {
+            // Only local orders are monitored by the processors that check instances
+            if (order.isProviderLocal(this.localProviderId) && order.getInstanceId() != null) {
+                ordersPerCloud.computeIfAbsent(order.getCloudName(), cloudName -> new ArrayList<>()).add(order);
+            }
+        }
+
+        Map<String, OrderInstance> instances = new HashMap<>();
+        for (Map.Entry<String, List<Order>> cloudOrders : ordersPerCloud.entrySet()) {
+            if (cloudOrders.getValue().size() < MIN_ORDERS_PER_BULK_REQUEST) {
+                continue;
+            }
+            String cloudName = cloudOrders.getKey();
+            try {
+                LocalCloudConnector localCloudConnector = (LocalCloudConnector)
+                        CloudConnectorFactory.getInstance().getCloudConnector(this.localProviderId, cloudName);
+                // We don't audit requests we make
+                localCloudConnector.switchOffAuditing();
+                Map<String, OrderInstance> cloudInstances = localCloudConnector.getInstances(cloudOrders.getValue());
+                if (cloudInstances != null) {
+                    instances.putAll(cloudInstances);
+                }
+            } catch (Exception e) {
+                // Any failure, even one the plugins did not foresee, only makes the orders be checked one at a time
+                LOGGER.warn(String.format(Messages.Log.UNABLE_TO_GET_INSTANCES_OF_CLOUD_S, cloudName), e);
+            }
+        }
+        return instances;
+    }
+}
@@ -0,0 +1,170 @@
+package cloud.fogbow.ras.core.processors;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.models.orders.Order;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.log4j.Logger;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatches the orders found by a processor to a bounded set of worker threads, so that a slow cloud call
+ * does not stall the processing of all the other orders in the same state. A pool of size 1 (the default)
+ * keeps the original behaviour: orders are processed one at a time by the processor thread itself.
+ *
+ * The processing methods of the processors already synchronize on the order and re-check its state before
+ * doing anything, thus it is safe to process different orders concurrently. In addition, an order is never
+ * handed to more than one worker at a time, and the number of orders of the same cloud being processed at
+ * the same time can be limited, to avoid flooding a single cloud with requests.
+ */
+public class OrderProcessorWorkerPool {
+    private static final Logger LOGGER = Logger.getLogger(OrderProcessorWorkerPool.class);
+
+    private static final String WORKER_THREAD_NAME_FORMAT = "%s-worker-%%d";
+    private static final long SHUTDOWN_TIMEOUT = TimeUnit.SECONDS.toMillis(30);
+
+    public interface OrderProcessingTask {
+        void process(Order order) throws FogbowException;
+    }
+
+    private final String name;
+    private final int poolSize;
+    private final int maxConcurrentOrdersPerCloud;
+    private final ExecutorService executor;
+    private final Semaphore availableWorkers;
+    private final Set<String> ordersInProcess;
+    private final Map<String, Integer> ordersInProcessPerCloud;
+
+    public OrderProcessorWorkerPool(String name, int poolSize, int maxConcurrentOrdersPerCloud) {
+        this.name = name;
+        this.poolSize = Math.max(poolSize, 1);
+        this.maxConcurrentOrdersPerCloud = maxConcurrentOrdersPerCloud;
+        this.ordersInProcess = new HashSet<>();
+        this.ordersInProcessPerCloud = new HashMap<>();
+        if (isSequential()) {
+            this.executor = null;
+            this.availableWorkers = null;
+        } else {
+            this.executor = Executors.newFixedThreadPool(this.poolSize, new ThreadFactoryBuilder()
+                    .setNameFormat(String.format(WORKER_THREAD_NAME_FORMAT, name))
+                    .setDaemon(true)
+                    .build());
+            this.availableWorkers = new Semaphore(this.poolSize);
+        }
+    }
+
+    public static OrderProcessorWorkerPool sequential() {
+        return new OrderProcessorWorkerPool(null, 1, 0);
+    }
+
+    public boolean isSequential() {
+        return this.poolSize == 1;
+    }
+
+    /**
+     * Processes the order. In sequential mode the order is processed by the calling thread, and any exception
+     * thrown by the task is propagated. Otherwise the order is handed to a worker; the calling thread blocks
+     * while all workers are busy, and exceptions thrown by the task are logged by the worker.
+     *
+     * @return false if the order was skipped, because it is already being processed by another worker or
+     * because its cloud has reached the maximum number of orders being processed concurrently.
+     */
+    public boolean dispatch(Order order, OrderProcessingTask task) throws FogbowException, InterruptedException {
+        if (isSequential()) {
+            task.process(order);
+            return true;
+        }
+
+        String cloudKey = getCloudKey(order);
+        if (!tryReserve(order.getId(), cloudKey)) {
+            return false;
+        }
+
+        try {
+            this.availableWorkers.acquire();
+        } catch (InterruptedException e) {
+            release(order.getId(), cloudKey);
+            throw e;
+        }
+
+        try {
+            this.executor.execute(() -> {
+                try {
+                    task.process(order);
+                } catch (FogbowException e) {
+                    LOGGER.error(e.getMessage(), e);
+                } catch (Throwable e) {
+                    LOGGER.error(Messages.Log.UNEXPECTED_ERROR, e);
+                } finally {
+                    release(order.getId(), cloudKey);
+                    this.availableWorkers.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            release(order.getId(), cloudKey);
+            this.availableWorkers.release();
+            throw e;
+        }
+        return true;
+    }
+
+    public synchronized int getOrdersInProcessCount() {
+        return this.ordersInProcess.size();
+    }
+
+    /**
+     * Stops accepting orders and waits for the ones being processed to finish; they are interrupted if they
+     * take longer than SHUTDOWN_TIMEOUT milliseconds.
+     */
+    public void shutdown() {
+        if (this.executor == null) {
+            return;
+        }
+        this.executor.shutdown();
+        try {
+            if (!this.executor.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                LOGGER.warn(String.format(Messages.Log.UNABLE_TO_FINISH_OPERATIONS_OF_EXECUTOR_S, this.name));
+                this.executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.executor.shutdownNow();
+        }
+    }
+
+    private synchronized boolean tryReserve(String orderId, String cloudKey) {
+        if (this.ordersInProcess.contains(orderId)) {
+            return false;
+        }
+        int ordersInProcessInCloud = this.ordersInProcessPerCloud.getOrDefault(cloudKey, 0);
+        if (this.maxConcurrentOrdersPerCloud > 0 && ordersInProcessInCloud >= this.maxConcurrentOrdersPerCloud) {
+            return false;
+        }
+        this.ordersInProcess.add(orderId);
+        this.ordersInProcessPerCloud.put(cloudKey, ordersInProcessInCloud + 1);
+        return true;
+    }
+
+    private synchronized void release(String orderId, String cloudKey) {
+        this.ordersInProcess.remove(orderId);
+        int ordersInProcessInCloud = this.ordersInProcessPerCloud.getOrDefault(cloudKey, 1) - 1;
+        if (ordersInProcessInCloud <= 0) {
+            this.ordersInProcessPerCloud.remove(cloudKey);
+        } else {
+            this.ordersInProcessPerCloud.put(cloudKey, ordersInProcessInCloud);
+        }
+    }
+
+    private String getCloudKey(Order order) {
+        // Remote orders are synchronized through their providers, thus the provider is part of the key
+        return order.getProvider() + "/" + order.getCloudName();
+    }
+}
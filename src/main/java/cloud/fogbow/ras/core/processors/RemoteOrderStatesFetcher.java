@@ -0,0 +1,85 @@
+package cloud.fogbow.ras.core.processors;
+
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
+import cloud.fogbow.ras.core.cloudconnector.RemoteCloudConnector;
+import cloud.fogbow.ras.core.models.orders.Order;
+import cloud.fogbow.ras.core.models.orders.OrderStateDelta;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+import org.apache.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Gets, in bulk, the states of the remote orders that the remote orders state synchronization processor is about
+ * to check, with one request per provider (or per MAX_ORDERS_PER_REQUEST orders of the same provider) instead
+ * of one request per order. Orders whose state could not be obtained in bulk, for instance because their
+ * provider runs a version that does not support bulk requests, are synchronized one at a time, as usual. The
+ * requests to all providers are sent before waiting for any reply, so an unresponsive provider delays the pass
+ * by one XMPP timeout at most, instead of one per request.
+ */
+public class RemoteOrderStatesFetcher {
+    private static final Logger LOGGER = Logger.getLogger(RemoteOrderStatesFetcher.class);
+
+    private static final int MIN_ORDERS_PER_BULK_REQUEST = 2;
+    @VisibleForTesting
+    static final int MAX_ORDERS_PER_REQUEST = 100;
+
+    private String localProviderId;
+
+    public RemoteOrderStatesFetcher(String localProviderId) {
+        this.localProviderId = localProviderId;
+    }
+
+    /**
+     * @return The states found, keyed by order id.
+     */
+    public Map<String, OrderStateDelta> fetch(Collection<Order> orders) {
+        Map<String, List<Order>> ordersPerProvider = new HashMap<>();
+        for (Order order : orders) {
+            if (order.isProviderRemote(this.localProviderId)) {
+                ordersPerProvider.computeIfAbsent(order.getProvider(), provider -> new ArrayList<>()).add(order);
+            }
+        }
+
+        // The provider each request was sent to
+        Map<CompletableFuture<List<OrderStateDelta>>, String> requests = new LinkedHashMap<>();
+        for (Map.Entry<String, List<Order>> providerOrders : ordersPerProvider.entrySet()) {
+            if (providerOrders.getValue().size() < MIN_ORDERS_PER_BULK_REQUEST) {
+                continue;
+            }
+            String provider = providerOrders.getKey();
+            for (List<Order> batch : Lists.partition(providerOrders.getValue(), MAX_ORDERS_PER_REQUEST)) {
+                // The requests are addressed to the provider, whatever the cloud of the orders
+                RemoteCloudConnector remoteCloudConnector = (RemoteCloudConnector) CloudConnectorFactory
+                        .getInstance().getCloudConnector(provider, batch.get(0).getCloudName());
+                requests.put(remoteCloudConnector.getRemoteOrderStatesAsync(batch), provider);
+            }
+        }
+
+        Map<String, OrderStateDelta> orderStateDeltas = new HashMap<>();
+        for (Map.Entry<CompletableFuture<List<OrderStateDelta>>, String> request : requests.entrySet()) {
+            try {
+                // The dispatcher completes every request by its deadline, so this does not wait forever
+                for (OrderStateDelta orderStateDelta : request.getKey().get()) {
+                    orderStateDeltas.put(orderStateDelta.getOrderId(), orderStateDelta);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                LOGGER.warn(String.format(Messages.Log.UNABLE_TO_GET_ORDER_STATES_FROM_PROVIDER_S, request.getValue()),
+                        e.getCause());
+            }
+        }
+        return orderStateDeltas;
+    }
+}
@@ -9,29 +9,58 @@ import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
 import cloud.fogbow.ras.core.cloudconnector.RemoteCloudConnector;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
+import cloud.fogbow.ras.core.models.orders.OrderStateDelta;
 import com.google.common.annotations.VisibleForTesting;
 import org.apache.log4j.Logger;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 public class RemoteOrdersStateSynchronizationProcessor implements Runnable {
     private static final Logger LOGGER = Logger.getLogger(RemoteOrdersStateSynchronizationProcessor.class);
 
     private ChainedList<Order> remoteProviderOrders;
     /**
-     * Attribute that represents the thread sleep time when there are no orders to be processed.
+     * Attribute that represents the time between two consecutive checks of the same order.
      */
     private Long sleepTime;
+    private OrderProcessorWorkerPool workerPool;
+    private OrderCheckScheduler checkScheduler;
     private String localProviderId;
+    private RemoteOrderStatesFetcher orderStatesFetcher;
+    private List<Order> dueOrders;
 
     public RemoteOrdersStateSynchronizationProcessor(String localProviderId, String sleepTimeStr) {
         SharedOrderHolders sharedOrdersHolder = SharedOrderHolders.getInstance();
         this.remoteProviderOrders = sharedOrdersHolder.getRemoteProviderOrdersList();
         this.sleepTime = Long.valueOf(sleepTimeStr);
+        this.checkScheduler = new OrderCheckScheduler(
+                sharedOrdersHolder.getOrdersListSignal(OrderState.PENDING), this.sleepTime);
+        this.workerPool = OrderProcessorWorkerPool.sequential();
         this.localProviderId = localProviderId;
+        this.orderStatesFetcher = new RemoteOrderStatesFetcher(localProviderId);
+        this.dueOrders = new ArrayList<>();
+    }
+
+    public void setWorkerPool(OrderProcessorWorkerPool workerPool) {
+        this.workerPool = workerPool;
+    }
+
+    public void setCheckBackoffPolicy(OrderCheckBackoffPolicy backoffPolicy) {
+        this.checkScheduler.setBackoffPolicy(backoffPolicy);
+    }
+
+    @VisibleForTesting
+    void waitForOrders() throws InterruptedException {
+        this.checkScheduler.awaitNextCheck();
     }
 
     /**
-     * Iterates over the remoteProviderOrders list and tries to process one order at a time. When the order
-     * is null, it indicates that the iteration ended. A new iteration is started after some time.
+     * Iterates over the remoteProviderOrders list and collects the orders that are due to be checked. When the order
+     * is null, it indicates that the iteration ended: the states of the collected orders are fetched in bulk from
+     * their providers, and the orders are handed one at a time to the worker pool. A new iteration is started when
+     * some order is due to be checked again, or as soon as new orders are added to the list.
      */
     @Override
     public void run() {
@@ -50,10 +79,13 @@ public class RemoteOrdersStateSynchronizationProcessor implements Runnable {
         try {
             Order order = this.remoteProviderOrders.getNext();
             if (order != null) {
-                processRemoteProviderOrder(order);
+                if (this.checkScheduler.isCheckDue(order)) {
+                    this.dueOrders.add(order);
+                }
             } else {
                 this.remoteProviderOrders.resetPointer();
-                Thread.sleep(this.sleepTime);
+                checkDueOrders();
+                waitForOrders();
             }
         } catch (InterruptedException e) {
             LOGGER.error(Messages.Log.THREAD_HAS_BEEN_INTERRUPTED, e);
@@ -65,12 +97,56 @@ public class RemoteOrdersStateSynchronizationProcessor implements Runnable {
         }
     }
 
+    @VisibleForTesting
+    void checkDueOrders() throws InterruptedException {
+        try {
+            Map<String, OrderStateDelta> orderStateDeltas;
+            try {
+                orderStateDeltas = this.orderStatesFetcher.fetch(this.dueOrders);
+            } catch (RuntimeException e) {
+                // None of the orders was checked, thus they are tried again shortly rather than on every pass
+                for (Order order : this.dueOrders) {
+                    this.checkScheduler.postponeCheck(order);
+                }
+                throw e;
+            }
+            for (Order order : this.dueOrders) {
+                try {
+                    OrderStateDelta fetchedState = orderStateDeltas.get(order.getId());
+                    if (fetchedState == null) {
+                        this.checkScheduler.dispatch(order, this.workerPool, this::processRemoteProviderOrder);
+                    } else {
+                        this.checkScheduler.dispatch(order, this.workerPool,
+                                dueOrder -> processRemoteProviderOrder(dueOrder, fetchedState));
+                    }
+                } catch (InterruptedException e) {
+                    throw e;
+                } catch (FogbowException e) {
+                    LOGGER.error(e.getMessage(), e);
+                } catch (Throwable e) {
+                    LOGGER.error(Messages.Log.UNEXPECTED_ERROR, e);
+                }
+            }
+        } finally {
+            this.dueOrders.clear();
+        }
+    }
+
     /**
      * The RemoteOrdersStateSynchronization processor monitors the state of remote orders to make their local
      * counterparts consistent.
      */
     @VisibleForTesting
     void processRemoteProviderOrder(Order order) throws InternalServerErrorException {
+        processRemoteProviderOrder(order, null);
+    }
+
+    /**
+     * @param fetchedState State of the order already fetched in bulk, or null if the order must be obtained
+     *                     from its provider.
+     */
+    @VisibleForTesting
+    void processRemoteProviderOrder(Order order, OrderStateDelta fetchedState) throws InternalServerErrorException {
         synchronized (order) {
            // Only remote orders need to be synchronized.
             if (order.isProviderLocal(this.localProviderId)) {
@@ -85,6 +161,11 @@ public class RemoteOrdersStateSynchronizationProcessor implements Runnable {
                 // signals the local requester to close the order
                 if (!order.getOrderState().equals(OrderState.FAILED_ON_REQUEST) &&
                         !order.getOrderState().equals(OrderState.ASSIGNED_FOR_DELETION)) {
+                    if (fetchedState != null) {
+                        fetchedState.applyTo(order);
+                        order.setOrderState(fetchedState.getOrderState());
+                        return;
+                    }
                     // Here we know that the CloudConnector is remote, but the use of CloudConnectFactory facilitates testing.
                     RemoteCloudConnector remoteCloudConnector = (RemoteCloudConnector)
                             CloudConnectorFactory.getInstance().getCloudConnector(order.getProvider(), order.getCloudName());
@@ -12,28 +12,57 @@ import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
 import cloud.fogbow.ras.core.cloudconnector.LocalCloudConnector;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
+import com.google.common.annotations.VisibleForTesting;
 import org.apache.log4j.Logger;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 public class SpawningProcessor implements Runnable {
     private static final Logger LOGGER = Logger.getLogger(SpawningProcessor.class);
 
     private ChainedList<Order> spawningOrderList;
     /**
-     * Attribute that represents the thread sleep time when there are no orders to be processed.
+     * Attribute that represents the time between two consecutive checks of the same order.
      */
     private Long sleepTime;
+    private OrderProcessorWorkerPool workerPool;
+    private OrderCheckScheduler checkScheduler;
+    private OrderInstancesFetcher instancesFetcher;
+    private List<Order> dueOrders;
     private String localProviderId;
 
     public SpawningProcessor(String providerId, String sleepTimeStr) {
         SharedOrderHolders sharedOrderHolders = SharedOrderHolders.getInstance();
         this.spawningOrderList = sharedOrderHolders.getSpawningOrdersList();
         this.sleepTime = Long.valueOf(sleepTimeStr);
+        this.checkScheduler = new OrderCheckScheduler(
+                sharedOrderHolders.getOrdersListSignal(OrderState.SPAWNING), this.sleepTime);
+        this.workerPool = OrderProcessorWorkerPool.sequential();
+        this.instancesFetcher = new OrderInstancesFetcher(providerId);
+        this.dueOrders = new ArrayList<>();
         this.localProviderId = providerId;
     }
 
+    public void setWorkerPool(OrderProcessorWorkerPool workerPool) {
+        this.workerPool = workerPool;
+    }
+
+    public void setCheckBackoffPolicy(OrderCheckBackoffPolicy backoffPolicy) {
+        this.checkScheduler.setBackoffPolicy(backoffPolicy);
+    }
+
+    @VisibleForTesting
+    void waitForOrders() throws InterruptedException {
+        this.checkScheduler.awaitNextCheck();
+    }
+
     /**
-     * Iterates over the spawning orders list and tries to process one order at a time. When the order
-     * is null, it indicates that the iteration ended. A new iteration is started after some time.
+     * Iterates over the spawning orders list and collects the orders that are due to be checked. When the order
+     * is null, it indicates that the iteration ended: the instances of the collected orders are fetched in bulk,
+     * and the orders are handed one at a time to the worker pool. A new iteration is started when
+     * some order is due to be checked again, or as soon as new orders are added to the list.
      */
     @Override
     public void run() {
@@ -43,10 +72,13 @@ public class SpawningProcessor implements Runnable {
             try {
                 order = this.spawningOrderList.getNext();
                 if (order != null) {
-                    processSpawningOrder(order);
+                    if (this.checkScheduler.isCheckDue(order)) {
+                        this.dueOrders.add(order);
+                    }
                 } else {
                     this.spawningOrderList.resetPointer();
-                    Thread.sleep(this.sleepTime);
+                    checkDueOrders();
+                    waitForOrders();
                 }
             } catch (InterruptedException e) {
                 isActive = false;
@@ -59,7 +91,50 @@ public class SpawningProcessor implements Runnable {
         }
     }
 
+    @VisibleForTesting
+    void checkDueOrders() throws InterruptedException {
+        try {
+            Map<String, OrderInstance> instances;
+            try {
+                instances = this.instancesFetcher.fetch(this.dueOrders);
+            } catch (RuntimeException e) {
+                // None of the orders was checked, thus they are tried again shortly rather than on every pass
+                for (Order order : this.dueOrders) {
+                    this.checkScheduler.postponeCheck(order);
+                }
+                throw e;
+            }
+            for (Order order : this.dueOrders) {
+                try {
+                    OrderInstance fetchedInstance = instances.get(order.getId());
+                    if (fetchedInstance == null) {
+                        this.checkScheduler.dispatch(order, this.workerPool, this::processSpawningOrder);
+                    } else {
+                        this.checkScheduler.dispatch(order, this.workerPool,
+                                dueOrder -> processSpawningOrder(dueOrder, fetchedInstance));
+                    }
+                } catch (InterruptedException e) {
+                    throw e;
+                } catch (FogbowException e) {
+                    LOGGER.error(e.getMessage(), e);
+                } catch (Throwable e) {
+                    LOGGER.error(Messages.Log.UNEXPECTED_ERROR, e);
+                }
+            }
+        } finally {
+            this.dueOrders.clear();
+        }
+    }
+
     protected void processSpawningOrder(Order order) throws FogbowException {
+        processSpawningOrder(order, null);
+    }
+
+    /**
+     * @param fetchedInstance Instance of the order already fetched in bulk, or null if the instance must be
+     *                        obtained from the cloud.
+     */
+    protected void processSpawningOrder(Order order, OrderInstance fetchedInstance) throws FogbowException {
         // The order object synchronization is needed to prevent a race
         // condition on order access. For example: a user can delete an spawning
         // order while this method is trying to check the status of an instance
@@ -79,14 +154,17 @@ public class SpawningProcessor implements Runnable {
                 LOGGER.error(Messages.Log.UNEXPECTED_ERROR);
                 return;
             }
-            // Here we know that the CloudConnector is local, but the use of CloudConnectFactory facilitates testing.
-            LocalCloudConnector localCloudConnector = (LocalCloudConnector)
-                    CloudConnectorFactory.getInstance().getCloudConnector(this.localProviderId, order.getCloudName());
-            // We don't audit requests we make
-            localCloudConnector.switchOffAuditing();
-
             try {
-                OrderInstance instance = localCloudConnector.getInstance(order);
+                OrderInstance instance = fetchedInstance;
+                if (instance == null) {
+                    // Here we know that the CloudConnector is local, but the use of CloudConnectFactory facilitates testing.
+                    LocalCloudConnector localCloudConnector = (LocalCloudConnector)
+                            CloudConnectorFactory.getInstance().getCloudConnector(this.localProviderId, order.getCloudName());
+                    // We don't audit requests we make
+                    localCloudConnector.switchOffAuditing();
+
+                    instance = localCloudConnector.getInstance(order);
+                }
                 if (instance.hasFailed()) {
                     OrderStateTransitioner.transition(order, OrderState.FAILED_AFTER_SUCCESSFUL_REQUEST);
                 } else if (instance.isReady()) {
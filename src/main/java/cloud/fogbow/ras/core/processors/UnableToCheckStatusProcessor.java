@@ -10,6 +10,7 @@ import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
 import cloud.fogbow.ras.core.cloudconnector.LocalCloudConnector;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
+import com.google.common.annotations.VisibleForTesting;
 import org.apache.log4j.Logger;
 
 public class UnableToCheckStatusProcessor implements Runnable {
@@ -18,21 +19,36 @@ public class UnableToCheckStatusProcessor implements Runnable {
 
 	private ChainedList<Order> unableToCheckStatusOrdersList;
     /**
-     * Attribute that represents the thread sleep time when there are no orders to be processed.
+     * Attribute that represents the time between two consecutive checks of the same order.
      */
 	private Long sleepTime;
+	private OrderProcessorWorkerPool workerPool;
+	private OrderCheckScheduler checkScheduler;
 	private String localProviderId;
 
 	public UnableToCheckStatusProcessor(String localProviderId, String sleepTimeStr) {
         SharedOrderHolders sharedOrderHolders = SharedOrderHolders.getInstance();
         this.unableToCheckStatusOrdersList = sharedOrderHolders.getUnableToCheckStatusOrdersList();
         this.sleepTime = Long.valueOf(sleepTimeStr);
+        this.checkScheduler = new OrderCheckScheduler(
+                sharedOrderHolders.getOrdersListSignal(OrderState.UNABLE_TO_CHECK_STATUS), this.sleepTime);
+        this.workerPool = OrderProcessorWorkerPool.sequential();
         this.localProviderId = localProviderId;
     }
 
+    public void setWorkerPool(OrderProcessorWorkerPool workerPool) {
+        this.workerPool = workerPool;
+    }
+
+    @VisibleForTesting
+    void waitForOrders() throws InterruptedException {
+        this.checkScheduler.awaitNextCheck();
+    }
+
     /**
-     * Iterates over the unableToCheckStatus orders list and tries to process one order at a time. When the order
-     * is null, it indicates that the iteration ended. A new iteration is started after some time.
+     * Iterates over the unableToCheckStatus orders list and hands one order at a time to the worker pool. When the order
+     * is null, it indicates that the iteration ended. A new iteration is started when
+     * some order is due to be checked again, or as soon as new orders are added to the list.
      */
 	@Override
 	public void run() {
@@ -43,10 +59,12 @@ public class UnableToCheckStatusProcessor implements Runnable {
                 Order order = this.unableToCheckStatusOrdersList.getNext();
 
                 if (order != null) {
-                    processUnableToCheckStatusOrder(order);
+                    if (this.checkScheduler.isCheckDue(order)) {
+                        this.checkScheduler.dispatch(order, this.workerPool, this::processUnableToCheckStatusOrder);
+                    }
                 } else {
                     this.unableToCheckStatusOrdersList.resetPointer();
-                    Thread.sleep(this.sleepTime);
+                    waitForOrders();
                 }
             } catch (InterruptedException e) {
                 isActive = false;
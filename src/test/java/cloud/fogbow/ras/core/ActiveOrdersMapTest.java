@@ -0,0 +1,158 @@
+package cloud.fogbow.ras.core;
+
+import cloud.fogbow.common.models.SystemUser;
+import cloud.fogbow.ras.core.models.ResourceType;
+import cloud.fogbow.ras.core.models.orders.ComputeOrder;
+import cloud.fogbow.ras.core.models.orders.Order;
+import cloud.fogbow.ras.core.models.orders.VolumeOrder;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+public class ActiveOrdersMapTest extends BaseUnitTests {
+
+    private static final String ANOTHER_USER_ID = "another-user-id";
+
+    private ActiveOrdersMap activeOrdersMap;
+
+    @Before
+    public void setUp() {
+        this.activeOrdersMap = new ActiveOrdersMap();
+    }
+
+    // test case: When getting the orders of a user, only the orders of that user and of
+    // the requested resource type must be returned.
+    @Test
+    public void testGetUserOrders() {
+        // set up
+        SystemUser systemUser = this.testUtils.createSystemUser();
+        ComputeOrder computeOrder = this.testUtils.createLocalComputeOrder();
+        VolumeOrder volumeOrder = this.testUtils.createLocalVolumeOrder();
+        ComputeOrder anotherUserComputeOrder = this.testUtils.createLocalComputeOrder();
+        anotherUserComputeOrder.setSystemUser(new SystemUser(ANOTHER_USER_ID, TestUtils.FAKE_USER_NAME,
+                TestUtils.LOCAL_MEMBER_ID));
+
+        this.activeOrdersMap.put(computeOrder.getId(), computeOrder);
+        this.activeOrdersMap.put(volumeOrder.getId(), volumeOrder);
+        this.activeOrdersMap.put(anotherUserComputeOrder.getId(), anotherUserComputeOrder);
+
+        // exercise
+        List<Order> orders = this.activeOrdersMap.getUserOrders(systemUser, ResourceType.COMPUTE);
+
+        // verify
+        Assert.assertEquals(1, orders.size());
+        Assert.assertSame(computeOrder, orders.get(0));
+    }
+
+    // test case: When getting the orders of a user in a cloud, only the orders requested to
+    // that cloud of that provider must be returned, while all of them must be returned when
+    // no cloud is given.
+    @Test
+    public void testGetUserOrdersInCloud() {
+        // set up
+        SystemUser systemUser = this.testUtils.createSystemUser();
+        ComputeOrder localOrder = this.testUtils.createLocalComputeOrder();
+        ComputeOrder remoteOrder = this.testUtils.createComputeOrder(TestUtils.LOCAL_MEMBER_ID,
+                TestUtils.FAKE_REMOTE_MEMBER_ID);
+
+        this.activeOrdersMap.put(localOrder.getId(), localOrder);
+        this.activeOrdersMap.put(remoteOrder.getId(), remoteOrder);
+
+        // exercise
+        List<Order> localOrders = this.activeOrdersMap.getUserOrders(systemUser, ResourceType.COMPUTE,
+                TestUtils.LOCAL_MEMBER_ID, TestUtils.DEFAULT_CLOUD_NAME);
+        List<Order> allOrders = this.activeOrdersMap.getUserOrders(systemUser, ResourceType.COMPUTE);
+
+        // verify
+        Assert.assertEquals(1, localOrders.size());
+        Assert.assertSame(localOrder, localOrders.get(0));
+        Assert.assertEquals(2, allOrders.size());
+        Assert.assertTrue(this.activeOrdersMap.getUserOrders(systemUser, ResourceType.COMPUTE,
+                TestUtils.LOCAL_MEMBER_ID, "another-cloud").isEmpty());
+    }
+
+    // test case: When an order is removed from the map, it must no longer be returned
+    // among the orders of its user.
+    @Test
+    public void testGetUserOrdersAfterRemove() {
+        // set up
+        SystemUser systemUser = this.testUtils.createSystemUser();
+        ComputeOrder computeOrder = this.testUtils.createLocalComputeOrder();
+        this.activeOrdersMap.putIfAbsent(computeOrder.getId(), computeOrder);
+
+        // exercise
+        this.activeOrdersMap.remove(computeOrder.getId(), computeOrder);
+
+        // verify
+        Assert.assertTrue(this.activeOrdersMap.getUserOrders(systemUser, ResourceType.COMPUTE).isEmpty());
+    }
+
+    // test case: When an order is replaced in the map, only the new order must be returned
+    // among the orders of its user.
+    @Test
+    public void testGetUserOrdersAfterReplace() {
+        // set up
+        SystemUser systemUser = this.testUtils.createSystemUser();
+        ComputeOrder computeOrder = this.testUtils.createLocalComputeOrder();
+        ComputeOrder replacingOrder = this.testUtils.createLocalComputeOrder();
+        replacingOrder.setId(computeOrder.getId());
+        this.activeOrdersMap.put(computeOrder.getId(), computeOrder);
+
+        // exercise
+        this.activeOrdersMap.put(replacingOrder.getId(), replacingOrder);
+
+        // verify
+        List<Order> orders = this.activeOrdersMap.getUserOrders(systemUser, ResourceType.COMPUTE);
+        Assert.assertEquals(1, orders.size());
+        Assert.assertSame(replacingOrder, orders.get(0));
+    }
+
+    // test case: When the last order of a user is removed from the map, the index must
+    // no longer keep any entry for that user.
+    @Test
+    public void testRemoveLastOrderOfUser() {
+        // set up
+        ComputeOrder computeOrder = this.testUtils.createLocalComputeOrder();
+        this.activeOrdersMap.put(computeOrder.getId(), computeOrder);
+
+        // exercise
+        this.activeOrdersMap.remove(computeOrder.getId());
+
+        // verify
+        Assert.assertTrue(this.activeOrdersMap.isIndexEmpty());
+    }
+
+    // test case: When an order is replaced through compute, only the new order must be
+    // returned among the orders of its user.
+    @Test
+    public void testGetUserOrdersAfterCompute() {
+        // set up
+        SystemUser systemUser = this.testUtils.createSystemUser();
+        ComputeOrder computeOrder = this.testUtils.createLocalComputeOrder();
+        ComputeOrder replacingOrder = this.testUtils.createLocalComputeOrder();
+        replacingOrder.setId(computeOrder.getId());
+        this.activeOrdersMap.put(computeOrder.getId(), computeOrder);
+
+        // exercise
+        this.activeOrdersMap.compute(computeOrder.getId(), (orderId, order) -> replacingOrder);
+
+        // verify
+        List<Order> orders = this.activeOrdersMap.getUserOrders(systemUser, ResourceType.COMPUTE);
+        Assert.assertEquals(1, orders.size());
+        Assert.assertSame(replacingOrder, orders.get(0));
+    }
+
+    // test case: When trying to remove an order through a view of the map, an
+    // UnsupportedOperationException must be thrown, since the index would not be updated.
+    @Test(expected = UnsupportedOperationException.class)
+    public void testRemoveThroughValues() {
+        // set up
+        ComputeOrder computeOrder = this.testUtils.createLocalComputeOrder();
+        this.activeOrdersMap.put(computeOrder.getId(), computeOrder);
+
+        // exercise
+        this.activeOrdersMap.values().remove(computeOrder);
+    }
+}
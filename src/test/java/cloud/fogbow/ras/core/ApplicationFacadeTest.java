@@ -1,5 +1,6 @@
 package cloud.fogbow.ras.core;
 
+import java.security.interfaces.RSAPublicKey;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -14,6 +15,7 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import cloud.fogbow.common.exceptions.FogbowException;
 import cloud.fogbow.common.exceptions.InstanceNotFoundException;
 import cloud.fogbow.common.exceptions.InvalidParameterException;
+import cloud.fogbow.common.exceptions.UnauthenticatedUserException;
 import cloud.fogbow.common.models.SystemUser;
 import cloud.fogbow.common.plugins.authorization.AuthorizationPlugin;
 import cloud.fogbow.common.util.HomeDir;
@@ -123,6 +125,45 @@ public class ApplicationFacadeTest extends BaseUnitTests {
         this.facade.getPublicKey();
     }
 
+    // test case: When a token fails the verification, the AS public key must be refreshed
+    // and the token must be verified again with the new key.
+    @Test
+    public void testAuthenticateRefreshesAsPublicKey() throws FogbowException {
+        // set up
+        String userToken = TestUtils.FAKE_TOKEN_VALUE;
+        SystemUser systemUser = this.testUtils.createSystemUser();
+        RSAPublicKey staleKey = Mockito.mock(RSAPublicKey.class);
+        RSAPublicKey refreshedKey = Mockito.mock(RSAPublicKey.class);
+        Mockito.doReturn(staleKey).when(this.facade).getAsPublicKey();
+        Mockito.doThrow(new UnauthenticatedUserException()).when(this.facade)
+                .verifyToken(Mockito.eq(staleKey), Mockito.eq(userToken));
+        Mockito.doReturn(refreshedKey).when(this.facade).refreshStaleAsPublicKey(Mockito.eq(staleKey));
+        Mockito.doReturn(systemUser).when(this.facade).verifyToken(Mockito.eq(refreshedKey), Mockito.eq(userToken));
+
+        // exercise
+        SystemUser requester = this.facade.authenticate(userToken);
+
+        // verify
+        Assert.assertSame(systemUser, requester);
+        Mockito.verify(this.facade, Mockito.times(TestUtils.RUN_ONCE)).refreshStaleAsPublicKey(Mockito.eq(staleKey));
+    }
+
+    // test case: When a token fails the verification and the AS public key does not change,
+    // the verification failure must be thrown.
+    @Test(expected = UnauthenticatedUserException.class) // verify
+    public void testAuthenticateWithInvalidToken() throws FogbowException {
+        // set up
+        String userToken = TestUtils.FAKE_TOKEN_VALUE;
+        RSAPublicKey keyRSA = Mockito.mock(RSAPublicKey.class);
+        Mockito.doReturn(keyRSA).when(this.facade).getAsPublicKey();
+        Mockito.doThrow(new UnauthenticatedUserException()).when(this.facade)
+                .verifyToken(Mockito.eq(keyRSA), Mockito.eq(userToken));
+        Mockito.doReturn(keyRSA).when(this.facade).refreshStaleAsPublicKey(Mockito.eq(keyRSA));
+
+        // exercise
+        this.facade.authenticate(userToken);
+    }
+
     // test case: When calling the getCloudNames method with a local member, it must
     // verify that this call was successful.
     @Test
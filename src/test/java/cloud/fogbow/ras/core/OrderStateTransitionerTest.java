@@ -173,4 +173,26 @@ public class OrderStateTransitionerTest extends BaseUnitTests {
         Assert.assertEquals(orderStateExpected, order.getOrderState());
     }
 
+    // test case: When calling the transition() method for an order that is not in the list of its
+    // current state, the order must not be moved and its state must be kept.
+    @Test
+    public void testTransitionWhenOrderIsNotInOriginList() throws InternalServerErrorException {
+        // set up
+        this.testUtils.mockReadOrdersFromDataBase();
+
+        OrderState originState = OrderState.OPEN;
+        OrderState destinationState = OrderState.SPAWNING;
+        Order order = createOrder(originState);
+
+        SharedOrderHolders sharedOrderHolders = SharedOrderHolders.getInstance();
+        SynchronizedDoublyLinkedList<Order> spawningOrdersList = sharedOrderHolders.getSpawningOrdersList();
+
+        // exercise
+        OrderStateTransitioner.transition(order, destinationState);
+
+        // verify
+        Assert.assertEquals(originState, order.getOrderState());
+        Assert.assertNull(spawningOrdersList.getNext());
+    }
+
 }
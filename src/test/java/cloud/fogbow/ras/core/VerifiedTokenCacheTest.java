@@ -0,0 +1,106 @@
+package cloud.fogbow.ras.core;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.UnauthenticatedUserException;
+import cloud.fogbow.common.models.SystemUser;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.security.interfaces.RSAPublicKey;
+import java.util.concurrent.TimeUnit;
+
+public class VerifiedTokenCacheTest extends BaseUnitTests {
+
+    private static final long TTL = TimeUnit.HOURS.toMillis(1);
+    private static final String INVALID_TOKEN_VALUE = "invalid-token-value";
+
+    private VerifiedTokenCache cache;
+    private VerifiedTokenCache.Verifier verifier;
+    private RSAPublicKey publicKey;
+    private SystemUser systemUser;
+
+    @Before
+    public void setUp() throws FogbowException {
+        this.cache = new VerifiedTokenCache(TTL);
+        this.publicKey = Mockito.mock(RSAPublicKey.class);
+        this.systemUser = this.testUtils.createSystemUser();
+        this.verifier = Mockito.mock(VerifiedTokenCache.Verifier.class);
+        Mockito.when(this.verifier.verify(Mockito.any(RSAPublicKey.class), Mockito.eq(TestUtils.FAKE_TOKEN_VALUE)))
+                .thenReturn(this.systemUser);
+        Mockito.when(this.verifier.verify(Mockito.any(RSAPublicKey.class), Mockito.eq(INVALID_TOKEN_VALUE)))
+                .thenThrow(new UnauthenticatedUserException());
+    }
+
+    // test case: When getting the system user of the same token twice, the token must
+    // be verified only once and the second call must count as a hit.
+    @Test
+    public void testGetVerifiesOnce() throws FogbowException {
+        // exercise
+        this.cache.get(this.publicKey, TestUtils.FAKE_TOKEN_VALUE, this.verifier);
+        SystemUser systemUser = this.cache.get(this.publicKey, TestUtils.FAKE_TOKEN_VALUE, this.verifier);
+
+        // verify
+        Assert.assertSame(this.systemUser, systemUser);
+        Assert.assertEquals(1, this.cache.getHits());
+        Assert.assertEquals(1, this.cache.getMisses());
+        Mockito.verify(this.verifier, Mockito.times(TestUtils.RUN_ONCE))
+                .verify(Mockito.eq(this.publicKey), Mockito.eq(TestUtils.FAKE_TOKEN_VALUE));
+    }
+
+    // test case: When a token fails the verification, it must not be kept, so that it
+    // is verified again on the next call.
+    @Test
+    public void testGetWithInvalidToken() throws FogbowException {
+        // exercise
+        for (int i = 0; i < TestUtils.RUN_TWICE; i++) {
+            try {
+                this.cache.get(this.publicKey, INVALID_TOKEN_VALUE, this.verifier);
+                Assert.fail();
+            } catch (UnauthenticatedUserException e) {
+                // expected
+            }
+        }
+
+        // verify
+        Assert.assertEquals(0, this.cache.size());
+        Mockito.verify(this.verifier, Mockito.times(TestUtils.RUN_TWICE))
+                .verify(Mockito.eq(this.publicKey), Mockito.eq(INVALID_TOKEN_VALUE));
+    }
+
+    // test case: When the AS public key changes or the cache is invalidated, the
+    // tokens verified before must be verified again.
+    @Test
+    public void testGetAfterPublicKeyRefresh() throws FogbowException {
+        // set up
+        RSAPublicKey newPublicKey = Mockito.mock(RSAPublicKey.class);
+        this.cache.get(this.publicKey, TestUtils.FAKE_TOKEN_VALUE, this.verifier);
+
+        // exercise
+        this.cache.get(newPublicKey, TestUtils.FAKE_TOKEN_VALUE, this.verifier);
+        this.cache.invalidateAll();
+        this.cache.get(newPublicKey, TestUtils.FAKE_TOKEN_VALUE, this.verifier);
+
+        // verify
+        Assert.assertEquals(0, this.cache.getHits());
+        Mockito.verify(this.verifier, Mockito.times(TestUtils.RUN_TWICE))
+                .verify(Mockito.eq(newPublicKey), Mockito.eq(TestUtils.FAKE_TOKEN_VALUE));
+    }
+
+    // test case: When the ttl is zero, every token must be verified.
+    @Test
+    public void testGetWithCacheDisabled() throws FogbowException {
+        // set up
+        VerifiedTokenCache disabledCache = new VerifiedTokenCache(0);
+
+        // exercise
+        disabledCache.get(this.publicKey, TestUtils.FAKE_TOKEN_VALUE, this.verifier);
+        disabledCache.get(this.publicKey, TestUtils.FAKE_TOKEN_VALUE, this.verifier);
+
+        // verify
+        Assert.assertEquals(TestUtils.RUN_TWICE, disabledCache.getMisses());
+        Mockito.verify(this.verifier, Mockito.times(TestUtils.RUN_TWICE))
+                .verify(Mockito.eq(this.publicKey), Mockito.eq(TestUtils.FAKE_TOKEN_VALUE));
+    }
+}
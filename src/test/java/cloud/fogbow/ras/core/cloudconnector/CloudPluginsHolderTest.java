@@ -0,0 +1,82 @@
+package cloud.fogbow.ras.core.cloudconnector;
+
+import cloud.fogbow.ras.core.TestUtils;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+
+public class CloudPluginsHolderTest {
+
+    private static final String ANOTHER_CLOUD_NAME = "another-cloud";
+
+    private CloudPluginsHolder cloudPluginsHolder;
+
+    @Before
+    public void setup() {
+        this.cloudPluginsHolder = Mockito.spy(CloudPluginsHolder.getInstance());
+        this.cloudPluginsHolder.close();
+        Mockito.doAnswer(invocation -> Mockito.mock(CloudPlugins.class))
+                .when(this.cloudPluginsHolder).createCloudPlugins(Mockito.anyString());
+    }
+
+    // test case: When calling getCloudPlugins several times for the same cloud,
+    // it must build the plugins only once and always return the same object.
+    @Test
+    public void testGetCloudPluginsIsCached() {
+        // exercise
+        CloudPlugins first = this.cloudPluginsHolder.getCloudPlugins(TestUtils.DEFAULT_CLOUD_NAME);
+        CloudPlugins second = this.cloudPluginsHolder.getCloudPlugins(TestUtils.DEFAULT_CLOUD_NAME);
+
+        // verify
+        Assert.assertSame(first, second);
+        Mockito.verify(this.cloudPluginsHolder, Mockito.times(TestUtils.RUN_ONCE))
+                .createCloudPlugins(Mockito.eq(TestUtils.DEFAULT_CLOUD_NAME));
+    }
+
+    // test case: When calling init, it must build the plugins of every cloud given.
+    @Test
+    public void testInit() {
+        // exercise
+        this.cloudPluginsHolder.init(Arrays.asList(TestUtils.DEFAULT_CLOUD_NAME, ANOTHER_CLOUD_NAME));
+
+        // verify
+        Mockito.verify(this.cloudPluginsHolder, Mockito.times(TestUtils.RUN_ONCE))
+                .createCloudPlugins(Mockito.eq(TestUtils.DEFAULT_CLOUD_NAME));
+        Mockito.verify(this.cloudPluginsHolder, Mockito.times(TestUtils.RUN_ONCE))
+                .createCloudPlugins(Mockito.eq(ANOTHER_CLOUD_NAME));
+    }
+
+    // test case: When calling reload, it must build new plugins for the cloud and close the old ones.
+    @Test
+    public void testReload() {
+        // set up
+        CloudPlugins oldCloudPlugins = this.cloudPluginsHolder.getCloudPlugins(TestUtils.DEFAULT_CLOUD_NAME);
+
+        // exercise
+        this.cloudPluginsHolder.reload(TestUtils.DEFAULT_CLOUD_NAME);
+
+        // verify
+        CloudPlugins newCloudPlugins = this.cloudPluginsHolder.getCloudPlugins(TestUtils.DEFAULT_CLOUD_NAME);
+        Assert.assertNotSame(oldCloudPlugins, newCloudPlugins);
+        Mockito.verify(oldCloudPlugins, Mockito.times(TestUtils.RUN_ONCE)).close();
+        Mockito.verify(newCloudPlugins, Mockito.never()).close();
+    }
+
+    // test case: When calling close, it must close the plugins of every cloud, so that
+    // the next call to getCloudPlugins builds them again.
+    @Test
+    public void testClose() {
+        // set up
+        CloudPlugins cloudPlugins = this.cloudPluginsHolder.getCloudPlugins(TestUtils.DEFAULT_CLOUD_NAME);
+
+        // exercise
+        this.cloudPluginsHolder.close();
+
+        // verify
+        Mockito.verify(cloudPlugins, Mockito.times(TestUtils.RUN_ONCE)).close();
+        Assert.assertNotSame(cloudPlugins, this.cloudPluginsHolder.getCloudPlugins(TestUtils.DEFAULT_CLOUD_NAME));
+    }
+}
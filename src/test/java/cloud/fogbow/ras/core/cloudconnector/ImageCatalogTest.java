@@ -0,0 +1,139 @@
+package cloud.fogbow.ras.core.cloudconnector;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.common.models.CloudUser;
+import cloud.fogbow.ras.api.http.response.ImageSummary;
+import cloud.fogbow.ras.core.TestUtils;
+import cloud.fogbow.ras.core.plugins.interoperability.ImagePlugin;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class ImageCatalogTest {
+
+    private static final long REFRESH_INTERVAL = TimeUnit.HOURS.toMillis(1);
+    private static final String ANOTHER_USER_ID = "another-user-id";
+    private static final String PUBLIC_IMAGE_ID = "public-image-id";
+    private static final String PRIVATE_IMAGE_ID = "private-image-id";
+    private static final String IMAGE_NAME = "image-name";
+
+    private static final long NOW = TimeUnit.DAYS.toMillis(1);
+
+    private ImagePlugin imagePlugin;
+    private ImageCatalog catalog;
+    private CloudUser cloudUser;
+    private CloudUser anotherCloudUser;
+
+    @Before
+    public void setUp() throws FogbowException {
+        this.imagePlugin = Mockito.mock(ImagePlugin.class);
+        this.catalog = Mockito.spy(new ImageCatalog(TestUtils.DEFAULT_CLOUD_NAME, this.imagePlugin, REFRESH_INTERVAL));
+        this.cloudUser = new CloudUser(TestUtils.FAKE_USER_ID, TestUtils.FAKE_USER_NAME, TestUtils.FAKE_TOKEN_VALUE);
+        this.anotherCloudUser = new CloudUser(ANOTHER_USER_ID, TestUtils.FAKE_USER_NAME, TestUtils.FAKE_TOKEN_VALUE);
+
+        Mockito.when(this.imagePlugin.getPrivateImages(Mockito.eq(this.cloudUser))).thenReturn(
+                Arrays.asList(new ImageSummary(PUBLIC_IMAGE_ID, IMAGE_NAME)));
+        Mockito.when(this.imagePlugin.getPrivateImages(Mockito.eq(this.anotherCloudUser))).thenReturn(
+                Arrays.asList(new ImageSummary(PUBLIC_IMAGE_ID, IMAGE_NAME),
+                        new ImageSummary(PRIVATE_IMAGE_ID, IMAGE_NAME)));
+        Mockito.doReturn(NOW).when(this.catalog).getCurrentTimeMillis();
+    }
+
+    // test case: When getting the images of the same user twice, they must be listed
+    // by the image plugin only once.
+    @Test
+    public void testGetImagesLoadsOnce() throws FogbowException {
+        // exercise
+        this.catalog.getImages(this.cloudUser);
+        List<ImageSummary> images = this.catalog.getImages(this.cloudUser);
+
+        // verify
+        Assert.assertEquals(1, images.size());
+        Mockito.verify(this.imagePlugin, Mockito.times(TestUtils.RUN_ONCE)).getPrivateImages(Mockito.eq(this.cloudUser));
+        Mockito.verify(this.imagePlugin, Mockito.never()).getPublicImages(Mockito.any());
+    }
+
+    // test case: When the plugin does not list the public images separately and several
+    // users list the same image, it must be held once and shared by their lists.
+    @Test
+    public void testGetImagesSharesPublicImages() throws FogbowException {
+        // exercise
+        List<ImageSummary> images = this.catalog.getImages(this.cloudUser);
+        List<ImageSummary> anotherUserImages = this.catalog.getImages(this.anotherCloudUser);
+
+        // verify
+        Assert.assertSame(images.get(0), anotherUserImages.get(0));
+        Assert.assertEquals(2, anotherUserImages.size());
+        Assert.assertEquals(2, this.catalog.getSharedImagesCount());
+    }
+
+    // test case: When the plugin lists the public images separately, they must be listed
+    // once for the cloud and joined to the private images of each user.
+    @Test
+    public void testGetImagesListsPublicImagesOnce() throws FogbowException {
+        // set up
+        Mockito.when(this.imagePlugin.listsPublicImagesSeparately()).thenReturn(true);
+        Mockito.when(this.imagePlugin.getPublicImages(Mockito.any())).thenReturn(
+                Arrays.asList(new ImageSummary(PUBLIC_IMAGE_ID, IMAGE_NAME)));
+        Mockito.when(this.imagePlugin.getPrivateImages(Mockito.eq(this.cloudUser))).thenReturn(new ArrayList<>());
+        Mockito.when(this.imagePlugin.getPrivateImages(Mockito.eq(this.anotherCloudUser))).thenReturn(
+                Arrays.asList(new ImageSummary(PRIVATE_IMAGE_ID, IMAGE_NAME)));
+
+        // exercise
+        List<ImageSummary> images = this.catalog.getImages(this.cloudUser);
+        List<ImageSummary> anotherUserImages = this.catalog.getImages(this.anotherCloudUser);
+
+        // verify
+        Assert.assertEquals(1, images.size());
+        Assert.assertEquals(2, anotherUserImages.size());
+        Assert.assertSame(images.get(0), anotherUserImages.get(0));
+        Assert.assertSame(anotherUserImages, this.catalog.getImages(this.anotherCloudUser));
+        Mockito.verify(this.imagePlugin, Mockito.times(TestUtils.RUN_ONCE)).getPublicImages(Mockito.any());
+    }
+
+    // test case: When refreshing, only the images listed since their last load must be
+    // listed again; images not used for a while must be listed again on the next request,
+    // keeping the images loaded before if that fails; when a user does not list images for
+    // several refresh intervals, it must be forgotten, while a failed listing is retried.
+    @Test
+    public void testRefresh() throws FogbowException {
+        // set up
+        this.catalog.getImages(this.cloudUser);
+        this.catalog.getImages(this.anotherCloudUser);
+        Mockito.doReturn(NOW + 1).when(this.catalog).getCurrentTimeMillis();
+        this.catalog.getImages(this.anotherCloudUser);
+        Mockito.doThrow(new InternalServerErrorException()).when(this.imagePlugin)
+                .getPrivateImages(Mockito.eq(this.cloudUser));
+
+        // exercise
+        Mockito.doReturn(NOW + REFRESH_INTERVAL).when(this.catalog).getCurrentTimeMillis();
+        this.catalog.refresh();
+
+        // verify
+        Mockito.verify(this.imagePlugin, Mockito.times(TestUtils.RUN_ONCE))
+                .getPrivateImages(Mockito.eq(this.cloudUser));
+        Mockito.verify(this.imagePlugin, Mockito.times(TestUtils.RUN_TWICE))
+                .getPrivateImages(Mockito.eq(this.anotherCloudUser));
+
+        // exercise
+        long idleTime = NOW + REFRESH_INTERVAL * (ImageCatalog.IDLE_REFRESHES + 1);
+        Mockito.doReturn(idleTime).when(this.catalog).getCurrentTimeMillis();
+        List<ImageSummary> images = this.catalog.getImages(this.cloudUser);
+        this.catalog.refresh();
+
+        // verify
+        Assert.assertEquals(1, images.size());
+        Assert.assertEquals(1, this.catalog.getSharedImagesCount());
+        Mockito.verify(this.imagePlugin, Mockito.times(TestUtils.RUN_THRICE))
+                .getPrivateImages(Mockito.eq(this.cloudUser));
+        Mockito.verify(this.imagePlugin, Mockito.times(TestUtils.RUN_TWICE))
+                .getPrivateImages(Mockito.eq(this.anotherCloudUser));
+    }
+}
@@ -8,6 +8,10 @@ import org.junit.Test;
 import org.mockito.Mockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
 import cloud.fogbow.common.exceptions.FogbowException;
 import cloud.fogbow.common.exceptions.InstanceNotFoundException;
 import cloud.fogbow.common.models.CloudUser;
@@ -795,6 +799,39 @@ public class LocalCloudConnectorTest extends BaseUnitTests {
         }
     }
     
+    // test case: When invoking the getInstances method and the plugin fails to get the
+    // instances of one group of orders, the instances of the other groups must still be
+    // returned, and the system user must be mapped only once.
+    @Test
+    public void testGetInstancesWhenOneGroupFails() throws FogbowException {
+        // set up
+        Order computeOrder = this.testUtils.createLocalComputeOrder();
+        computeOrder.setInstanceId(TestUtils.FAKE_INSTANCE_ID);
+        Order volumeOrder = this.testUtils.createLocalVolumeOrder();
+        volumeOrder.setInstanceId(TestUtils.FAKE_INSTANCE_ID);
+        volumeOrder.setOrderStateInTestMode(OrderState.FULFILLED);
+
+        CloudUser cloudUser = Mockito.mock(CloudUser.class);
+        Mockito.when(this.mapperPlugin.map(Mockito.any(SystemUser.class))).thenReturn(cloudUser);
+
+        Mockito.when(this.computePlugin.getInstances(Mockito.anyCollection(), Mockito.eq(cloudUser)))
+                .thenThrow(new RuntimeException());
+        VolumeInstance volumeInstance = new VolumeInstance(TestUtils.FAKE_INSTANCE_ID);
+        Map<String, OrderInstance> volumeInstances = new HashMap<>();
+        volumeInstances.put(TestUtils.FAKE_INSTANCE_ID, volumeInstance);
+        Mockito.when(this.volumePlugin.getInstances(Mockito.anyCollection(), Mockito.eq(cloudUser)))
+                .thenReturn(volumeInstances);
+
+        // exercise
+        Map<String, OrderInstance> instances = this.localCloudConnector
+                .getInstances(Arrays.asList(computeOrder, volumeOrder));
+
+        // verify
+        Mockito.verify(this.mapperPlugin, Mockito.times(TestUtils.RUN_ONCE)).map(Mockito.any(SystemUser.class));
+        Assert.assertEquals(1, instances.size());
+        Assert.assertSame(volumeInstance, instances.get(volumeOrder.getId()));
+    }
+
     // test case: When invoking the getUserQuota method it must confirm in auditRequest the
     // GET_USER_QUOTA operation of the QUOTA resource type.
     @Test
@@ -820,6 +857,11 @@ public class LocalCloudConnectorTest extends BaseUnitTests {
     // operation of the IMAGE resource type.
     @Test
     public void testGetAllImages() throws FogbowException {
+        // set up
+        CloudUser cloudUser = Mockito.mock(CloudUser.class);
+        Mockito.when(cloudUser.getId()).thenReturn(TestUtils.FAKE_USER_ID);
+        Mockito.when(this.mapperPlugin.map(Mockito.any(SystemUser.class))).thenReturn(cloudUser);
+
         // exercise
         this.localCloudConnector.getAllImages(this.testUtils.createSystemUser());
 
@@ -1266,16 +1308,19 @@ public class LocalCloudConnectorTest extends BaseUnitTests {
         this.localCloudConnector.doGetInstance(order, cloudUser);
     }
 
-    // test case: When invoking the doGetAllImages method, it must execute the
-    // getAllImages method of the image plug-in.
+    // test case: When invoking the doGetAllImages method twice, it must execute the
+    // getAllImages method of the image plug-in only once, since the images are kept
+    // by the image catalog of the cloud.
     @Test
     public void testDoGetAllImages() throws FogbowException {
         // set up
         CloudUser cloudUser = Mockito.mock(CloudUser.class);
+        Mockito.when(cloudUser.getId()).thenReturn(TestUtils.FAKE_USER_ID);
         Mockito.when(this.mapperPlugin.map(Mockito.any(SystemUser.class))).thenReturn(cloudUser);
 
         // exercise
         this.localCloudConnector.doGetAllImages(cloudUser);
+        this.localCloudConnector.doGetAllImages(cloudUser);
 
         // verify
         Mockito.verify(this.imagePlugin, Mockito.times(TestUtils.RUN_ONCE)).getAllImages(Mockito.eq(cloudUser));
@@ -0,0 +1,96 @@
+package cloud.fogbow.ras.core.cloudconnector;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.models.SystemUser;
+import cloud.fogbow.ras.api.http.response.quotas.Quota;
+import cloud.fogbow.ras.api.http.response.quotas.ResourceQuota;
+import cloud.fogbow.ras.api.http.response.quotas.allocation.ResourceAllocation;
+import cloud.fogbow.ras.core.BaseUnitTests;
+import cloud.fogbow.ras.core.TestUtils;
+import cloud.fogbow.ras.core.models.orders.ComputeOrder;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.TimeUnit;
+
+public class QuotaCacheTest extends BaseUnitTests {
+
+    private static final long TTL = TimeUnit.HOURS.toMillis(1);
+    private static final int TOTAL_INSTANCES = 10;
+    private static final int TOTAL_VCPU = 20;
+    private static final int TOTAL_RAM = 20480;
+    private static final int USED_INSTANCES = 2;
+    private static final int USED_VCPU = 4;
+    private static final int USED_RAM = 4096;
+
+    private QuotaCache quotaCache;
+    private QuotaCache.Loader loader;
+    private SystemUser systemUser;
+
+    @Before
+    public void setUp() throws FogbowException {
+        this.quotaCache = new QuotaCache(TestUtils.LOCAL_MEMBER_ID, TTL);
+        this.systemUser = this.testUtils.createSystemUser();
+
+        ResourceAllocation totalQuota = ResourceAllocation.builder()
+                .instances(TOTAL_INSTANCES).vCPU(TOTAL_VCPU).ram(TOTAL_RAM).build();
+        ResourceAllocation usedQuota = ResourceAllocation.builder()
+                .instances(USED_INSTANCES).vCPU(USED_VCPU).ram(USED_RAM).build();
+        this.loader = Mockito.mock(QuotaCache.Loader.class);
+        Mockito.when(this.loader.load()).thenReturn(new ResourceQuota(totalQuota, usedQuota));
+    }
+
+    // test case: When getting the quota of the same user twice, it must be loaded
+    // from the cloud only once.
+    @Test
+    public void testGetUserQuotaLoadsOnce() throws FogbowException {
+        // exercise
+        this.quotaCache.getUserQuota(TestUtils.DEFAULT_CLOUD_NAME, this.systemUser, this.loader);
+        this.quotaCache.getUserQuota(TestUtils.DEFAULT_CLOUD_NAME, this.systemUser, this.loader);
+
+        // verify
+        Mockito.verify(this.loader, Mockito.times(TestUtils.RUN_ONCE)).load();
+    }
+
+    // test case: When a local order of the user changes state, even more than once to the
+    // same state, the quota must be obtained again from the cloud instead of being adjusted.
+    @Test
+    public void testInvalidateUserQuota() throws FogbowException {
+        // set up
+        this.quotaCache.getUserQuota(TestUtils.DEFAULT_CLOUD_NAME, this.systemUser, this.loader);
+        ComputeOrder order = this.testUtils.createLocalComputeOrder();
+
+        // exercise
+        this.quotaCache.invalidateUserQuota(order);
+        Quota reloadedQuota = this.quotaCache.getUserQuota(TestUtils.DEFAULT_CLOUD_NAME, this.systemUser,
+                this.loader);
+        this.quotaCache.invalidateUserQuota(order);
+        this.quotaCache.getUserQuota(TestUtils.DEFAULT_CLOUD_NAME, this.systemUser, this.loader);
+
+        // verify
+        ResourceAllocation usedQuota = (ResourceAllocation) reloadedQuota.getUsedQuota();
+        Assert.assertEquals(USED_INSTANCES, usedQuota.getInstances());
+        Assert.assertEquals(USED_VCPU, usedQuota.getvCPU());
+        Assert.assertEquals(USED_RAM, usedQuota.getRam());
+        Mockito.verify(this.loader, Mockito.times(3)).load();
+    }
+
+    // test case: When an order provided by another provider changes state, the quota
+    // must be kept.
+    @Test
+    public void testInvalidateUserQuotaWithRemoteOrder() throws FogbowException {
+        // set up
+        Quota quota = this.quotaCache.getUserQuota(TestUtils.DEFAULT_CLOUD_NAME, this.systemUser, this.loader);
+        ComputeOrder order = this.testUtils.createComputeOrder(TestUtils.LOCAL_MEMBER_ID,
+                TestUtils.FAKE_REMOTE_MEMBER_ID);
+
+        // exercise
+        this.quotaCache.invalidateUserQuota(order);
+
+        // verify
+        Assert.assertSame(quota, this.quotaCache.getUserQuota(TestUtils.DEFAULT_CLOUD_NAME, this.systemUser,
+                this.loader));
+    }
+}
@@ -5,6 +5,7 @@ import cloud.fogbow.ras.core.LoggerAssert;
 import cloud.fogbow.ras.core.TestUtils;
 import cloud.fogbow.ras.core.datastore.DatabaseManager;
 import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
+import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderStubs;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppErrorConditionToExceptionTranslator;
 import cloud.fogbow.ras.core.models.orders.ComputeOrder;
 import org.jamppa.component.PacketSender;
@@ -47,7 +48,7 @@ public class RemoteCloudConnectorTest extends TestUtils {
         ComputeOrder order = this.createLocalComputeOrder();
         PacketSender packetSender = buildPacketSender();
         IQ IQResponse = Mockito.mock(IQ.class);
-        Mockito.when(packetSender.syncSendPacket(Mockito.any(Packet.class))).thenReturn(IQResponse);
+        PacketSenderStubs.replyWith(packetSender, IQResponse);
 
         // exercise
         this.remoteCloudConnector.deleteInstance(order);
@@ -64,7 +65,7 @@ public class RemoteCloudConnectorTest extends TestUtils {
         ComputeOrder order = this.createLocalComputeOrder();
         PacketSender packetSender = buildPacketSender();
         IQ IQResponse = Mockito.mock(IQ.class);
-        Mockito.when(packetSender.syncSendPacket(Mockito.any(Packet.class))).thenReturn(IQResponse);
+        PacketSenderStubs.replyWith(packetSender, IQResponse);
 
         String exceptionMessageExpected = TestUtils.ANY_VALUE;
         Exception exception = new Exception(exceptionMessageExpected);
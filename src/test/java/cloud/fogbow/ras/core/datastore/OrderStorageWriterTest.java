@@ -0,0 +1,189 @@
+package cloud.fogbow.ras.core.datastore;
+
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.ras.core.datastore.services.AuditableOrderStateChangeService;
+import cloud.fogbow.ras.core.datastore.services.RecoveryService;
+import cloud.fogbow.ras.core.models.orders.ComputeOrder;
+import cloud.fogbow.ras.core.models.orders.Order;
+import cloud.fogbow.ras.core.models.orders.OrderState;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class OrderStorageWriterTest {
+    private static final String FIRST_ORDER_ID = "first-order-id";
+    private static final String SECOND_ORDER_ID = "second-order-id";
+    private static final int QUEUE_CAPACITY = 10;
+    private static final long GROUP_COMMIT_INTERVAL = TimeUnit.MINUTES.toMillis(1);
+    private static final int MAX_BATCH_SIZE = 10;
+    private static final long TEST_TIMEOUT = 5000;
+
+    private RecoveryService recoveryService;
+    private AuditableOrderStateChangeService auditableOrderStateChangeService;
+    private OrderStorageWriter writer;
+
+    @Before
+    public void setUp() {
+        this.recoveryService = Mockito.mock(RecoveryService.class);
+        this.auditableOrderStateChangeService = Mockito.mock(AuditableOrderStateChangeService.class);
+        this.writer = new OrderStorageWriter(this.recoveryService, this.auditableOrderStateChangeService,
+                QUEUE_CAPACITY, GROUP_COMMIT_INTERVAL, MAX_BATCH_SIZE);
+    }
+
+    @After
+    public void tearDown() {
+        this.writer.shutdown();
+    }
+
+    // test case: When the same order changes several times before being written, it must be
+    // written once, while all its state changes must be registered.
+    @Test
+    public void testWriteCoalescesChangesOfTheSameOrder() throws InternalServerErrorException {
+        // set up
+        Order firstOrder = createOrder(FIRST_ORDER_ID, OrderState.SPAWNING);
+        Order secondOrder = createOrder(SECOND_ORDER_ID, OrderState.FULFILLED);
+
+        // exercise
+        this.writer.write(firstOrder, true, false);
+        this.writer.write(secondOrder, false, false);
+        this.writer.write(firstOrder, true, false);
+        OrderStorageWriter.Batch batch = this.writer.takeBatch();
+        this.writer.commit(batch);
+
+        // verify
+        Assert.assertEquals(2, batch.getOrders().size());
+        Assert.assertEquals(2, batch.getStateChanges().size());
+        Assert.assertEquals(0, this.writer.getPendingCount());
+        Mockito.verify(this.recoveryService, Mockito.times(1)).saveAll(Mockito.eq(Collections.emptyList()),
+                Mockito.eq(batch.getOrders()));
+        Mockito.verify(this.auditableOrderStateChangeService, Mockito.times(1))
+                .registerStateChanges(Mockito.eq(batch.getStateChanges()));
+    }
+
+    // test case: A durable write must only return after its batch is committed, without
+    // waiting for the group commit interval.
+    @Test(timeout = TEST_TIMEOUT)
+    public void testDurableWriteWaitsForCommit() throws InternalServerErrorException {
+        // set up
+        Order order = createOrder(FIRST_ORDER_ID, OrderState.SELECTED);
+        this.writer.start();
+
+        // exercise
+        boolean written = this.writer.write(order, true, true);
+
+        // verify
+        Assert.assertTrue(written);
+        Mockito.verify(this.recoveryService, Mockito.times(1)).saveAll(Mockito.anyList(), Mockito.anyList());
+        Mockito.verify(this.auditableOrderStateChangeService, Mockito.times(1))
+                .registerStateChanges(Mockito.anyList());
+    }
+
+    // test case: When the batch of a durable write cannot be committed, the write must fail.
+    @Test(timeout = TEST_TIMEOUT, expected = InternalServerErrorException.class) // verify
+    public void testDurableWriteFailsWhenCommitFails() throws InternalServerErrorException {
+        // set up
+        Order order = createOrder(FIRST_ORDER_ID, OrderState.SELECTED);
+        Mockito.doThrow(new InternalServerErrorException()).when(this.recoveryService)
+                .saveAll(Mockito.anyList(), Mockito.anyList());
+        this.writer.start();
+
+        // exercise
+        this.writer.write(order, true, true);
+    }
+
+    // test case: After the writer is stopped, pending changes must have been written and
+    // new changes must be refused, so that they are written synchronously.
+    @Test(timeout = TEST_TIMEOUT)
+    public void testShutdownWritesPendingChanges() throws InternalServerErrorException {
+        // set up
+        Order order = createOrder(FIRST_ORDER_ID, OrderState.FULFILLED);
+        this.writer.start();
+        this.writer.write(order, true, false);
+
+        // exercise
+        this.writer.shutdown();
+
+        // verify
+        Mockito.verify(this.recoveryService, Mockito.times(1)).saveAll(Mockito.anyList(), Mockito.anyList());
+        Assert.assertFalse(this.writer.write(order, true, false));
+    }
+
+    // test case: The order written must be the one at the time of the change, even if the order
+    // changes again before the batch is committed.
+    @Test
+    public void testWriteStoresSnapshotOfOrder() throws InternalServerErrorException {
+        // set up
+        Order order = createOrder(FIRST_ORDER_ID, OrderState.SPAWNING);
+
+        // exercise
+        this.writer.write(order, true, false);
+        order.setOrderStateInTestMode(OrderState.FULFILLED);
+        OrderStorageWriter.Batch batch = this.writer.takeBatch();
+
+        // verify
+        Assert.assertNotSame(order, batch.getOrders().get(0));
+        Assert.assertEquals(OrderState.SPAWNING, batch.getOrders().get(0).getOrderState());
+        Assert.assertEquals(OrderState.SPAWNING, batch.getStateChanges().get(0).getOrder().getOrderState());
+    }
+
+    // test case: When a new order is already stored, its addition must fail and its state
+    // change must not be registered.
+    @Test(timeout = TEST_TIMEOUT)
+    public void testAddFailsWhenOrderIsAlreadyStored() throws InternalServerErrorException {
+        // set up
+        Order order = createOrder(FIRST_ORDER_ID, OrderState.OPEN);
+        Mockito.doAnswer(invocation -> invocation.getArgumentAt(0, List.class))
+                .when(this.recoveryService).saveAll(Mockito.anyList(), Mockito.anyList());
+        this.writer.start();
+
+        try {
+            // exercise
+            this.writer.add(order);
+            Assert.fail();
+        } catch (InternalServerErrorException e) {
+            // verify
+            Mockito.verify(this.recoveryService, Mockito.times(1)).saveAll(Mockito.anyList(),
+                    Mockito.eq(Collections.emptyList()));
+            Mockito.verify(this.auditableOrderStateChangeService, Mockito.never())
+                    .registerStateChanges(Mockito.anyList());
+        }
+    }
+
+    // test case: When a batch cannot be committed, its changes must be queued again, behind the
+    // newer changes of the same orders.
+    @Test
+    public void testCommitRequeuesFailedBatch() throws InternalServerErrorException {
+        // set up
+        Order order = createOrder(FIRST_ORDER_ID, OrderState.SPAWNING);
+        this.writer.write(order, true, false);
+        OrderStorageWriter.Batch batch = this.writer.takeBatch();
+        order.setOrderStateInTestMode(OrderState.FULFILLED);
+        this.writer.write(order, true, false);
+        Mockito.doThrow(new InternalServerErrorException()).when(this.recoveryService)
+                .saveAll(Mockito.anyList(), Mockito.anyList());
+
+        // exercise
+        boolean committed = this.writer.commit(batch);
+        OrderStorageWriter.Batch retriedBatch = this.writer.takeBatch();
+
+        // verify
+        Assert.assertFalse(committed);
+        Assert.assertEquals(1, retriedBatch.getOrders().size());
+        Assert.assertEquals(OrderState.FULFILLED, retriedBatch.getOrders().get(0).getOrderState());
+        Assert.assertEquals(2, retriedBatch.getStateChanges().size());
+        Assert.assertEquals(OrderState.SPAWNING, retriedBatch.getStateChanges().get(0).getOrder().getOrderState());
+        Assert.assertEquals(OrderState.FULFILLED, retriedBatch.getStateChanges().get(1).getOrder().getOrderState());
+    }
+
+    private Order createOrder(String orderId, OrderState orderState) {
+        Order order = new ComputeOrder(orderId);
+        order.setOrderStateInTestMode(orderState);
+        return order;
+    }
+}
@@ -0,0 +1,133 @@
+package cloud.fogbow.ras.core.intercomponent;
+
+import cloud.fogbow.ras.core.BaseUnitTests;
+import cloud.fogbow.ras.core.TestUtils;
+import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
+import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderStubs;
+import cloud.fogbow.ras.core.models.orders.Order;
+import org.jamppa.component.PacketCallback;
+import org.jamppa.component.PacketSender;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.xmpp.packet.IQ;
+import org.xmpp.packet.Packet;
+import org.xmpp.packet.PacketError;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class OrderStateNotifierTest extends BaseUnitTests {
+
+    private static final long DELAY = 500;
+    private static final int MAX_RETRIES = 2;
+
+    private ScheduledExecutorService executor;
+    private PacketSender packetSender;
+    private OrderStateNotifier notifier;
+
+    @Before
+    public void setUp() {
+        this.executor = Mockito.mock(ScheduledExecutorService.class);
+        this.packetSender = Mockito.mock(PacketSender.class);
+        PacketSenderHolder.setPacketSender(this.packetSender);
+        this.notifier = new OrderStateNotifier(TestUtils.LOCAL_MEMBER_ID, DELAY, MAX_RETRIES, this.executor);
+    }
+
+    // test case: When several orders requested by the same provider change state, a
+    // single notification must be scheduled, holding each order once; the orders
+    // requested locally must not be notified.
+    @Test
+    public void testNotifyStateChangeCoalescesChanges() {
+        // set up
+        Order order = this.testUtils.createLocalOrderWithRemoteRequester(TestUtils.LOCAL_MEMBER_ID);
+        Order anotherOrder = this.testUtils.createLocalOrderWithRemoteRequester(TestUtils.LOCAL_MEMBER_ID);
+        Order localOrder = this.testUtils.createLocalComputeOrder();
+
+        // exercise
+        this.notifier.notifyStateChange(order);
+        this.notifier.notifyStateChange(order);
+        this.notifier.notifyStateChange(anotherOrder);
+        this.notifier.notifyStateChange(localOrder);
+
+        // verify
+        Mockito.verify(this.executor, Mockito.times(TestUtils.RUN_ONCE))
+                .schedule(Mockito.any(Runnable.class), Mockito.eq(DELAY), Mockito.eq(TimeUnit.MILLISECONDS));
+        Assert.assertEquals(2, this.notifier.getPendingOrdersCount(TestUtils.FAKE_REMOTE_MEMBER_ID));
+    }
+
+    // test case: When the notification is sent successfully, nothing must be left
+    // pending.
+    @Test
+    public void testSendNotification() {
+        // set up
+        PacketSenderStubs.replyWith(this.packetSender, new IQ());
+        this.notifier.notifyStateChange(this.testUtils.createLocalOrderWithRemoteRequester(TestUtils.LOCAL_MEMBER_ID));
+
+        // exercise
+        runScheduledTask(TestUtils.RUN_ONCE);
+
+        // verify
+        Mockito.verify(this.packetSender, Mockito.times(TestUtils.RUN_ONCE)).sendPacket(Mockito.any(Packet.class));
+        Assert.assertEquals(0, this.notifier.getPendingOrdersCount(TestUtils.FAKE_REMOTE_MEMBER_ID));
+    }
+
+    // test case: When the requester does not answer, the notification must be retried
+    // at increasing intervals, up to the maximum number of retries.
+    @Test
+    public void testSendNotificationFailure() {
+        // set up
+        PacketSenderStubs.replyWith(this.packetSender, null);
+        this.notifier.notifyStateChange(this.testUtils.createLocalOrderWithRemoteRequester(TestUtils.LOCAL_MEMBER_ID));
+
+        // exercise
+        for (int attempt = 1; attempt <= MAX_RETRIES + 1; attempt++) {
+            runScheduledTask(attempt);
+        }
+
+        // verify
+        Mockito.verify(this.executor, Mockito.times(TestUtils.RUN_ONCE)).schedule(Mockito.any(Runnable.class),
+                Mockito.eq(OrderStateNotifier.INITIAL_RETRY_INTERVAL), Mockito.eq(TimeUnit.MILLISECONDS));
+        Mockito.verify(this.executor, Mockito.times(TestUtils.RUN_ONCE)).schedule(Mockito.any(Runnable.class),
+                Mockito.eq(OrderStateNotifier.INITIAL_RETRY_INTERVAL * 2), Mockito.eq(TimeUnit.MILLISECONDS));
+        Mockito.verify(this.packetSender, Mockito.times(MAX_RETRIES + 1)).sendPacket(Mockito.any(Packet.class));
+        Assert.assertEquals(0, this.notifier.getPendingOrdersCount(TestUtils.FAKE_REMOTE_MEMBER_ID));
+    }
+
+    // test case: The notifier thread must not wait for the reply of the requester; the
+    // retry must only be scheduled once the requester answers with an error.
+    @Test
+    public void testSendNotificationDoesNotWaitForReply() {
+        // set up
+        ArgumentCaptor<PacketCallback> callback = ArgumentCaptor.forClass(PacketCallback.class);
+        this.notifier.notifyStateChange(this.testUtils.createLocalOrderWithRemoteRequester(TestUtils.LOCAL_MEMBER_ID));
+        IQ response = new IQ();
+        response.setError(PacketError.Condition.internal_server_error);
+
+        // exercise
+        runScheduledTask(TestUtils.RUN_ONCE);
+
+        // verify
+        Mockito.verify(this.packetSender, Mockito.times(TestUtils.RUN_ONCE))
+                .addPacketCallback(Mockito.any(Packet.class), callback.capture());
+        Mockito.verify(this.executor, Mockito.never()).schedule(Mockito.any(Runnable.class),
+                Mockito.eq(OrderStateNotifier.INITIAL_RETRY_INTERVAL), Mockito.eq(TimeUnit.MILLISECONDS));
+
+        // exercise
+        callback.getValue().handle(response);
+
+        // verify
+        Mockito.verify(this.executor, Mockito.times(TestUtils.RUN_ONCE)).schedule(Mockito.any(Runnable.class),
+                Mockito.eq(OrderStateNotifier.INITIAL_RETRY_INTERVAL), Mockito.eq(TimeUnit.MILLISECONDS));
+        Assert.assertEquals(1, this.notifier.getPendingOrdersCount(TestUtils.FAKE_REMOTE_MEMBER_ID));
+    }
+
+    private void runScheduledTask(int scheduledTasks) {
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        Mockito.verify(this.executor, Mockito.times(scheduledTasks))
+                .schedule(task.capture(), Mockito.anyLong(), Mockito.eq(TimeUnit.MILLISECONDS));
+        task.getValue().run();
+    }
+}
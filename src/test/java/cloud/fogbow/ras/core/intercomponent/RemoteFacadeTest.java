@@ -20,6 +20,7 @@ import cloud.fogbow.ras.core.models.ResourceType;
 import cloud.fogbow.ras.core.models.orders.ComputeOrder;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
+import cloud.fogbow.ras.core.models.orders.OrderStateDelta;
 import cloud.fogbow.ras.core.plugins.authorization.DefaultAuthorizationPlugin;
 import org.junit.Assert;
 import org.junit.Before;
@@ -29,6 +30,7 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 @PrepareForTest({ CloudConnectorFactory.class, DatabaseManager.class, PacketSenderHolder.class })
@@ -552,6 +554,31 @@ public class RemoteFacadeTest extends BaseUnitTests {
 		this.facade.closeOrderAtRemoteRequester(signallingMember, remoteOrder.getId());
 	}
 
+	// test case: When calling the updateOrderStates method with the states notified by
+	// the provider of the orders, the local orders must follow them; the states notified
+	// by other providers must be ignored.
+	@Test
+	public void testUpdateOrderStates() throws Exception {
+		// set up
+		Order remoteOrder = new ComputeOrder();
+		remoteOrder.setRequester(TestUtils.LOCAL_MEMBER_ID);
+		remoteOrder.setProvider(TestUtils.FAKE_REMOTE_MEMBER_ID);
+		this.orderController.activateOrder(remoteOrder);
+
+		Order orderAtProvider = new ComputeOrder(remoteOrder.getId());
+		orderAtProvider.setOrderStateInTestMode(OrderState.FULFILLED);
+		List<OrderStateDelta> orderStateDeltas = Arrays.asList(new OrderStateDelta(orderAtProvider));
+
+		// exercise
+		this.facade.updateOrderStates(FAKE_REQUESTER_ID, orderStateDeltas);
+		OrderState stateNotifiedByAnotherProvider = remoteOrder.getOrderState();
+		this.facade.updateOrderStates(TestUtils.FAKE_REMOTE_MEMBER_ID, orderStateDeltas);
+
+		// verify
+		Assert.assertEquals(OrderState.OPEN, stateNotifiedByAnotherProvider);
+		Assert.assertEquals(OrderState.FULFILLED, remoteOrder.getOrderState());
+	}
+
 	private AuthorizationPlugin mockAuthorizationPlugin(SystemUser systemUser, RasOperation operation)
 			throws InternalServerErrorException, UnauthorizedRequestException {
 		AuthorizationPlugin<RasOperation> authorization = Mockito.mock(DefaultAuthorizationPlugin.class);
@@ -0,0 +1,38 @@
+package cloud.fogbow.ras.core.intercomponent.xmpp;
+
+import org.jamppa.component.PacketCallback;
+import org.jamppa.component.PacketSender;
+import org.mockito.Mockito;
+import org.xmpp.packet.IQ;
+import org.xmpp.packet.Packet;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Requests go through the {@link XmppRequestDispatcher}, which registers a callback for the reply and then sends
+ * the request; this helper makes a mocked {@link PacketSender} answer every request it sends, as
+ * {@link PacketSender#syncSendPacket(Packet)} used to do.
+ */
+public class PacketSenderStubs {
+
+    /**
+     * @param response The reply to every request sent; null makes the requests behave as if they timed out.
+     */
+    public static void replyWith(PacketSender packetSender, IQ response) {
+        Map<String, PacketCallback> callbacks = new ConcurrentHashMap<>();
+        Mockito.doAnswer(invocation -> {
+            Packet packet = invocation.getArgumentAt(0, Packet.class);
+            callbacks.put(packet.getID(), invocation.getArgumentAt(1, PacketCallback.class));
+            return null;
+        }).when(packetSender).addPacketCallback(Mockito.any(Packet.class), Mockito.any(PacketCallback.class));
+        Mockito.doAnswer(invocation -> {
+            Packet packet = invocation.getArgumentAt(0, Packet.class);
+            PacketCallback callback = callbacks.remove(packet.getID());
+            if (callback != null) {
+                callback.handle(response);
+            }
+            return null;
+        }).when(packetSender).sendPacket(Mockito.any(Packet.class));
+    }
+}
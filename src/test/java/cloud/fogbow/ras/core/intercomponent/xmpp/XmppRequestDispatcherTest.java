@@ -0,0 +1,164 @@
+package cloud.fogbow.ras.core.intercomponent.xmpp;
+
+import org.jamppa.component.PacketCallback;
+import org.jamppa.component.PacketSender;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.xmpp.packet.IQ;
+import org.xmpp.packet.Packet;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+public class XmppRequestDispatcherTest {
+
+    private static final int MAX_IN_FLIGHT_PER_PROVIDER = 1;
+    private static final long TIMEOUT = 5000;
+    private static final String PROVIDER = "provider";
+    private static final String ANOTHER_PROVIDER = "another-provider";
+
+    private ScheduledExecutorService deadlineExecutor;
+    private ScheduledFuture deadline;
+    private PacketSender packetSender;
+    private XmppRequestDispatcher dispatcher;
+
+    @Before
+    public void setUp() {
+        this.deadlineExecutor = Mockito.mock(ScheduledExecutorService.class);
+        this.deadline = Mockito.mock(ScheduledFuture.class);
+        Mockito.doReturn(this.deadline).when(this.deadlineExecutor)
+                .schedule(Mockito.any(Runnable.class), Mockito.anyLong(), Mockito.any(TimeUnit.class));
+        this.packetSender = Mockito.mock(PacketSender.class);
+        PacketSenderHolder.setPacketSender(this.packetSender);
+        this.dispatcher = new XmppRequestDispatcher(MAX_IN_FLIGHT_PER_PROVIDER, TIMEOUT, this.deadlineExecutor);
+    }
+
+    // test case: When more requests than the in-flight limit are sent to the same provider,
+    // the extra ones must wait until a reply arrives, without holding up the requests to
+    // other providers; the replies must be matched to their requests.
+    @Test
+    public void testSendBeyondInFlightLimit() {
+        // set up
+        IQ iq = new IQ(IQ.Type.get);
+        IQ queuedIq = new IQ(IQ.Type.get);
+        IQ anotherProviderIq = new IQ(IQ.Type.get);
+        IQ response = IQ.createResultIQ(iq);
+
+        // exercise
+        CompletableFuture<IQ> request = this.dispatcher.send(PROVIDER, iq);
+        CompletableFuture<IQ> queuedRequest = this.dispatcher.send(PROVIDER, queuedIq);
+        this.dispatcher.send(ANOTHER_PROVIDER, anotherProviderIq);
+
+        // verify
+        Mockito.verify(this.packetSender, Mockito.times(1)).sendPacket(Mockito.eq(iq));
+        Mockito.verify(this.packetSender, Mockito.times(1)).sendPacket(Mockito.eq(anotherProviderIq));
+        Mockito.verify(this.packetSender, Mockito.never()).sendPacket(Mockito.eq(queuedIq));
+        Mockito.verify(this.deadlineExecutor, Mockito.times(3))
+                .schedule(Mockito.any(Runnable.class), Mockito.eq(TIMEOUT), Mockito.eq(TimeUnit.MILLISECONDS));
+        Assert.assertEquals(1, this.dispatcher.getInFlightCount(PROVIDER));
+        Assert.assertEquals(1, this.dispatcher.getQueuedCount(PROVIDER));
+
+        // exercise
+        getCallback(iq).handle(response);
+
+        // verify
+        Assert.assertSame(response, request.getNow(null));
+        Assert.assertFalse(queuedRequest.isDone());
+        Mockito.verify(this.deadline, Mockito.times(1)).cancel(Mockito.eq(false));
+        Mockito.verify(this.packetSender, Mockito.times(1)).sendPacket(Mockito.eq(queuedIq));
+        Assert.assertEquals(1, this.dispatcher.getInFlightCount(PROVIDER));
+        Assert.assertEquals(0, this.dispatcher.getQueuedCount(PROVIDER));
+    }
+
+    // test case: When no reply arrives by the deadline, the request must complete with
+    // a null response, release its slot and remove its reply callback; a late reply must
+    // be ignored.
+    @Test
+    public void testSendTimesOut() {
+        // set up
+        IQ iq = new IQ(IQ.Type.get);
+        CompletableFuture<IQ> request = this.dispatcher.send(PROVIDER, iq);
+        ArgumentCaptor<Runnable> expiration = ArgumentCaptor.forClass(Runnable.class);
+        Mockito.verify(this.deadlineExecutor, Mockito.times(1))
+                .schedule(expiration.capture(), Mockito.eq(TIMEOUT), Mockito.eq(TimeUnit.MILLISECONDS));
+
+        // exercise
+        expiration.getValue().run();
+        getCallback(iq).handle(IQ.createResultIQ(iq));
+
+        // verify
+        Assert.assertTrue(request.isDone());
+        Assert.assertNull(request.getNow(IQ.createResultIQ(iq)));
+        Assert.assertEquals(0, this.dispatcher.getInFlightCount(PROVIDER));
+        Mockito.verify(this.packetSender, Mockito.times(1)).removePacketCallback(Mockito.eq(iq));
+    }
+
+    // test case: When a request waiting in line is not answered by the deadline, it must
+    // complete with a null response and be taken out of the line without being sent.
+    @Test
+    public void testSendTimesOutWhileQueued() {
+        // set up
+        IQ iq = new IQ(IQ.Type.get);
+        IQ queuedIq = new IQ(IQ.Type.get);
+        this.dispatcher.send(PROVIDER, iq);
+        CompletableFuture<IQ> queuedRequest = this.dispatcher.send(PROVIDER, queuedIq);
+        ArgumentCaptor<Runnable> expiration = ArgumentCaptor.forClass(Runnable.class);
+        Mockito.verify(this.deadlineExecutor, Mockito.times(2))
+                .schedule(expiration.capture(), Mockito.eq(TIMEOUT), Mockito.eq(TimeUnit.MILLISECONDS));
+
+        // exercise
+        expiration.getAllValues().get(1).run();
+
+        // verify
+        Assert.assertTrue(queuedRequest.isDone());
+        Assert.assertNull(queuedRequest.getNow(IQ.createResultIQ(queuedIq)));
+        Assert.assertEquals(1, this.dispatcher.getInFlightCount(PROVIDER));
+        Assert.assertEquals(0, this.dispatcher.getQueuedCount(PROVIDER));
+        Mockito.verify(this.packetSender, Mockito.never()).sendPacket(Mockito.eq(queuedIq));
+        Mockito.verify(this.packetSender, Mockito.never()).removePacketCallback(Mockito.eq(queuedIq));
+    }
+
+    // test case: When a request has the id of another request that is still pending, it
+    // must be sent with a new id, so that each reply reaches its own request.
+    @Test
+    public void testSendWithPendingId() {
+        // set up
+        IQ iq = new IQ(IQ.Type.get);
+        IQ sameIdIq = new IQ(IQ.Type.get, iq.getID());
+        this.dispatcher.send(PROVIDER, iq);
+
+        // exercise
+        this.dispatcher.send(ANOTHER_PROVIDER, sameIdIq);
+
+        // verify
+        Assert.assertNotEquals(iq.getID(), sameIdIq.getID());
+        Mockito.verify(this.packetSender, Mockito.times(1)).sendPacket(Mockito.eq(sameIdIq));
+    }
+
+    // test case: When sendAndWait is called, it must return the reply to the request.
+    @Test
+    public void testSendAndWait() throws InterruptedException {
+        // set up
+        IQ iq = new IQ(IQ.Type.get);
+        IQ response = IQ.createResultIQ(iq);
+        PacketSenderStubs.replyWith(this.packetSender, response);
+
+        // exercise
+        IQ reply = this.dispatcher.sendAndWait(PROVIDER, iq);
+
+        // verify
+        Assert.assertSame(response, reply);
+        Assert.assertEquals(0, this.dispatcher.getInFlightCount(PROVIDER));
+    }
+
+    private PacketCallback getCallback(Packet packet) {
+        ArgumentCaptor<PacketCallback> callback = ArgumentCaptor.forClass(PacketCallback.class);
+        Mockito.verify(this.packetSender).addPacketCallback(Mockito.eq(packet), callback.capture());
+        return callback.getValue();
+    }
+}
@@ -0,0 +1,147 @@
+package cloud.fogbow.ras.core.intercomponent.xmpp.codecs;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.models.SystemUser;
+import cloud.fogbow.common.util.CloudInitUserDataBuilder;
+import cloud.fogbow.ras.api.http.response.quotas.allocation.ComputeAllocation;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.models.UserData;
+import cloud.fogbow.ras.core.models.orders.ComputeOrder;
+import cloud.fogbow.ras.core.models.orders.OrderState;
+import com.google.common.base.Strings;
+import org.dom4j.DocumentHelper;
+import org.dom4j.Element;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class OrderCodecsTest {
+
+    private static final String REQUESTING_MEMBER = "requesting-member";
+    private static final String PROVIDING_MEMBER = "providing-member";
+    private static final String FAKE_FAULT_MESSAGE = "fake-fault-message";
+    // Large enough for the compact payload to be compressed
+    private static final String FAKE_USER_DATA = Strings.repeat("#!/bin/bash\necho fake-user-data\n", 100);
+
+    private OrderCodecs orderCodecs;
+
+    @Before
+    public void setUp() {
+        this.orderCodecs = new OrderCodecs(Arrays.asList(CompactOrderCodec.NAME, JsonOrderCodec.NAME));
+    }
+
+    // test case: When a provider advertised the compact codec, orders sent to it must use
+    // that codec; providers that advertised nothing, or only the JSON format, and providers
+    // whose codec was forgotten must get the JSON format.
+    @Test
+    public void testGetCodecAfterNegotiation() {
+        // set up
+        Element advertisingQuery = advertisedQuery();
+        Element jsonOnlyQuery = createQueryElement();
+        jsonOnlyQuery.addElement(IqElement.ORDER_CODECS.toString()).setText(JsonOrderCodec.NAME);
+
+        // exercise
+        this.orderCodecs.learn(PROVIDING_MEMBER, advertisingQuery);
+        this.orderCodecs.learn(REQUESTING_MEMBER, jsonOnlyQuery);
+
+        // verify
+        Assert.assertEquals(CompactOrderCodec.NAME, this.orderCodecs.getCodec(PROVIDING_MEMBER).getName());
+        Assert.assertEquals(JsonOrderCodec.NAME, this.orderCodecs.getCodec(REQUESTING_MEMBER).getName());
+        Assert.assertEquals(JsonOrderCodec.NAME, this.orderCodecs.getCodec("unknown-member").getName());
+
+        // exercise
+        this.orderCodecs.learn(PROVIDING_MEMBER, createQueryElement());
+
+        // verify
+        Assert.assertEquals(JsonOrderCodec.NAME, this.orderCodecs.getCodec(PROVIDING_MEMBER).getName());
+
+        // exercise
+        this.orderCodecs.learn(PROVIDING_MEMBER, advertisingQuery);
+        this.orderCodecs.forget(PROVIDING_MEMBER);
+
+        // verify
+        Assert.assertEquals(JsonOrderCodec.NAME, this.orderCodecs.getCodec(PROVIDING_MEMBER).getName());
+    }
+
+    // test case: When an order is written with its full scope, it must be read back with
+    // all of its fields, both in JSON, before the provider advertised its codecs, and with
+    // the compact codec, which must take less space.
+    @Test
+    public void testWriteAndReadFullOrder() throws FogbowException {
+        // set up
+        ComputeOrder order = createOrder();
+        Element jsonQuery = createQueryElement();
+        Element compactQuery = createQueryElement();
+
+        // exercise
+        this.orderCodecs.writeOrder(jsonQuery, order, this.orderCodecs.getCodec(PROVIDING_MEMBER),
+                OrderCodec.Scope.FULL);
+        this.orderCodecs.learn(PROVIDING_MEMBER, advertisedQuery());
+        this.orderCodecs.writeOrder(compactQuery, order, this.orderCodecs.getCodec(PROVIDING_MEMBER),
+                OrderCodec.Scope.FULL);
+        ComputeOrder jsonOrder = (ComputeOrder) this.orderCodecs.readOrder(jsonQuery);
+        ComputeOrder compactOrder = (ComputeOrder) this.orderCodecs.readOrder(compactQuery);
+
+        // verify
+        Assert.assertNotNull(jsonQuery.element(IqElement.ORDER_CLASS_NAME.toString()));
+        Assert.assertNotNull(compactQuery.element(IqElement.ORDER.toString()).attribute(OrderCodecs.CODEC_ATTRIBUTE));
+        Assert.assertEquals(ComputeOrder.class.getName(),
+                compactQuery.element(IqElement.ORDER_CLASS_NAME.toString()).getText());
+        Assert.assertTrue(compactQuery.element(IqElement.ORDER.toString()).getText().length()
+                < jsonQuery.element(IqElement.ORDER.toString()).getText().length());
+        for (ComputeOrder decodedOrder : Arrays.asList(jsonOrder, compactOrder)) {
+            Assert.assertEquals(order.getId(), decodedOrder.getId());
+            Assert.assertEquals(order.getSystemUser().getId(), decodedOrder.getSystemUser().getId());
+            Assert.assertEquals(FAKE_USER_DATA, decodedOrder.getUserData().get(0).getExtraUserDataFileContent());
+            Assert.assertEquals(order.getPublicKey(), decodedOrder.getPublicKey());
+        }
+    }
+
+    // test case: When an order is written with the compact codec and the state scope, it
+    // must be read back with its state, allocation and fault message, but without the
+    // user data and the user.
+    @Test
+    public void testWriteAndReadOrderState() throws FogbowException {
+        // set up
+        ComputeOrder order = createOrder();
+        order.setOrderStateInTestMode(OrderState.FULFILLED);
+        order.setActualAllocation(new ComputeAllocation(1, 2, 3));
+        order.setOnceFaultMessage(FAKE_FAULT_MESSAGE);
+        this.orderCodecs.learn(PROVIDING_MEMBER, advertisedQuery());
+        Element queryElement = createQueryElement();
+
+        // exercise
+        this.orderCodecs.writeOrder(queryElement, order, this.orderCodecs.getCodec(PROVIDING_MEMBER),
+                OrderCodec.Scope.STATE);
+        ComputeOrder decodedOrder = (ComputeOrder) this.orderCodecs.readOrder(queryElement);
+
+        // verify
+        Assert.assertEquals(order.getId(), decodedOrder.getId());
+        Assert.assertEquals(OrderState.FULFILLED, decodedOrder.getOrderState());
+        Assert.assertEquals(order.getActualAllocation().getRam(), decodedOrder.getActualAllocation().getRam());
+        Assert.assertEquals(FAKE_FAULT_MESSAGE, decodedOrder.getFaultMessage());
+        Assert.assertNull(decodedOrder.getUserData());
+        Assert.assertNull(decodedOrder.getSystemUser());
+    }
+
+    private Element advertisedQuery() {
+        Element queryElement = createQueryElement();
+        this.orderCodecs.advertise(queryElement);
+        return queryElement;
+    }
+
+    private Element createQueryElement() {
+        return DocumentHelper.createElement(IqElement.QUERY.toString());
+    }
+
+    private ComputeOrder createOrder() {
+        ArrayList<UserData> userData = new ArrayList<>();
+        userData.add(new UserData(FAKE_USER_DATA, CloudInitUserDataBuilder.FileType.SHELL_SCRIPT));
+        SystemUser systemUser = new SystemUser("fake-user-id", "fake-user-name", REQUESTING_MEMBER);
+        return new ComputeOrder(systemUser, REQUESTING_MEMBER, PROVIDING_MEMBER, "default", "hostName", 1, 2, 3,
+                "imageId", userData, "publicKey", new ArrayList<>());
+    }
+}
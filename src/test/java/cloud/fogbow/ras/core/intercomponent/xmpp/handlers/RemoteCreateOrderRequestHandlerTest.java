@@ -6,10 +6,16 @@ import cloud.fogbow.common.models.SystemUser;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.RemoteFacade;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
 import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
+import cloud.fogbow.ras.core.intercomponent.xmpp.codecs.CompactOrderCodec;
+import cloud.fogbow.ras.core.intercomponent.xmpp.codecs.JsonOrderCodec;
+import cloud.fogbow.ras.core.intercomponent.xmpp.codecs.OrderCodec;
+import cloud.fogbow.ras.core.intercomponent.xmpp.codecs.OrderCodecs;
 import cloud.fogbow.ras.core.intercomponent.xmpp.requesters.RemoteCreateOrderRequest;
 import cloud.fogbow.ras.core.models.orders.ComputeOrder;
 import cloud.fogbow.ras.core.models.orders.Order;
+import org.dom4j.Element;
 import org.jamppa.component.PacketSender;
 import org.junit.Assert;
 import org.junit.Before;
@@ -21,11 +27,14 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.xmpp.packet.IQ;
+import org.xmpp.packet.PacketError;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 
 @RunWith(PowerMockRunner.class)
-@PrepareForTest({RemoteFacade.class, PacketSenderHolder.class})
+@PrepareForTest({RemoteFacade.class, PacketSenderHolder.class, OrderCodecs.class})
 public class RemoteCreateOrderRequestHandlerTest {
 
     private static final String REQUESTING_MEMBER="requestingmember";
@@ -109,6 +118,59 @@ public class RemoteCreateOrderRequestHandlerTest {
         Assert.assertEquals(expected, result.toString());
     }
 
+    // test case: When a member that only knows the JSON format receives a create request from
+    // a member that advertises the compact codec, it must read the order, which was written
+    // in JSON since the receiving member never advertised any codec.
+    @Test
+    public void testHandleAtJsonOnlyMember() throws Exception {
+        // set up
+        OrderCodecs jsonOnlyCodecs = mockJsonOnlyMember();
+        Order order = createOrder(createFederationUser());
+        IQ iq = RemoteCreateOrderRequest.marshal(order);
+        iq.setFrom(REQUESTING_MEMBER);
+
+        // exercise
+        IQ result = this.remoteCreateOrderRequestHandler.handle(iq);
+
+        // verify
+        Mockito.verify(this.remoteFacade, Mockito.times(1)).
+                activateOrder(Mockito.anyString(), Mockito.eq(order));
+        Assert.assertNull(result.getError());
+        Assert.assertEquals(JsonOrderCodec.NAME, jsonOnlyCodecs.getCodec(REQUESTING_MEMBER).getName());
+    }
+
+    // test case: When a member that only knows the JSON format receives an order written
+    // with the compact codec (for instance, after being rolled back), it must answer with
+    // an error instead of activating the order.
+    @Test
+    public void testHandleCompactOrderAtJsonOnlyMember() throws Exception {
+        // set up
+        mockJsonOnlyMember();
+        Order order = createOrder(createFederationUser());
+        IQ iq = RemoteCreateOrderRequest.marshal(order);
+        iq.setFrom(REQUESTING_MEMBER);
+        Element queryElement = iq.getElement().element(IqElement.QUERY.toString());
+        queryElement.remove(queryElement.element(IqElement.ORDER.toString()));
+        queryElement.remove(queryElement.element(IqElement.ORDER_CLASS_NAME.toString()));
+        OrderCodecs compactCodecs = new OrderCodecs(Arrays.asList(CompactOrderCodec.NAME, JsonOrderCodec.NAME));
+        compactCodecs.writeOrder(queryElement, order, new CompactOrderCodec(), OrderCodec.Scope.FULL);
+
+        // exercise
+        IQ result = this.remoteCreateOrderRequestHandler.handle(iq);
+
+        // verify
+        Mockito.verify(this.remoteFacade, Mockito.never()).
+                activateOrder(Mockito.anyString(), Mockito.any(Order.class));
+        Assert.assertEquals(PacketError.Condition.internal_server_error, result.getError().getCondition());
+    }
+
+    private OrderCodecs mockJsonOnlyMember() throws Exception {
+        OrderCodecs jsonOnlyCodecs = new OrderCodecs(Collections.singletonList(JsonOrderCodec.NAME));
+        PowerMockito.spy(OrderCodecs.class);
+        PowerMockito.doReturn(jsonOnlyCodecs).when(OrderCodecs.class, "getInstance");
+        return jsonOnlyCodecs;
+    }
+
     private Order createOrder(SystemUser systemUser) {
         return new ComputeOrder(systemUser, REQUESTING_MEMBER, "providingmember", "default", "hostName", 1, 2,
                 3, "imageId", null, "publicKey", new ArrayList<>());
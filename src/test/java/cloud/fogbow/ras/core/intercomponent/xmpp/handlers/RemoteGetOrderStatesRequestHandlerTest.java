@@ -0,0 +1,86 @@
+package cloud.fogbow.ras.core.intercomponent.xmpp.handlers;
+
+import cloud.fogbow.ras.api.http.response.quotas.allocation.ComputeAllocation;
+import cloud.fogbow.ras.core.intercomponent.RemoteFacade;
+import cloud.fogbow.ras.core.intercomponent.xmpp.requesters.RemoteGetOrderStatesRequest;
+import cloud.fogbow.ras.core.models.orders.ComputeOrder;
+import cloud.fogbow.ras.core.models.orders.Order;
+import cloud.fogbow.ras.core.models.orders.OrderState;
+import cloud.fogbow.ras.core.models.orders.OrderStateDelta;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.xmpp.packet.IQ;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({RemoteFacade.class})
+public class RemoteGetOrderStatesRequestHandlerTest {
+
+    private static final String REQUESTING_MEMBER = "requestingmember";
+    private static final String PROVIDING_MEMBER = "providingmember";
+    private static final String FAKE_FAULT_MESSAGE = "fake-fault-message";
+
+    private RemoteGetOrderStatesRequestHandler remoteGetOrderStatesRequestHandler;
+    private RemoteFacade remoteFacade;
+
+    @Before
+    public void setUp() {
+        this.remoteGetOrderStatesRequestHandler = new RemoteGetOrderStatesRequestHandler();
+
+        this.remoteFacade = Mockito.mock(RemoteFacade.class);
+        PowerMockito.mockStatic(RemoteFacade.class);
+        BDDMockito.given(RemoteFacade.getInstance()).willReturn(this.remoteFacade);
+    }
+
+    // test case: When the handle method is called passing an IQ request with several
+    // order ids, it must return the state of each order known by the provider.
+    @Test
+    public void testHandleWithValidIQ() throws Exception {
+        // set up
+        ComputeOrder order = createOrder();
+        order.setOrderStateInTestMode(OrderState.FULFILLED);
+        order.setOnceFaultMessage(FAKE_FAULT_MESSAGE);
+        order.setActualAllocation(new ComputeAllocation(1, 2, 3));
+        ComputeOrder unknownOrder = createOrder();
+        List<String> orderIds = Arrays.asList(order.getId(), unknownOrder.getId());
+
+        Mockito.when(this.remoteFacade.getOrderStates(Mockito.eq(REQUESTING_MEMBER), Mockito.eq(orderIds)))
+                .thenReturn(Arrays.asList(new OrderStateDelta(order)));
+
+        IQ iq = RemoteGetOrderStatesRequest.marshal(PROVIDING_MEMBER, Arrays.<Order>asList(order, unknownOrder));
+        iq.setFrom(REQUESTING_MEMBER);
+
+        // exercise
+        IQ result = this.remoteGetOrderStatesRequestHandler.handle(iq);
+
+        // verify
+        Mockito.verify(this.remoteFacade, Mockito.times(1))
+                .getOrderStates(Mockito.eq(REQUESTING_MEMBER), Mockito.eq(orderIds));
+
+        List<OrderStateDelta> orderStateDeltas = RemoteGetOrderStatesRequest.unmarshalOrderStateDeltas(result);
+        Assert.assertEquals(1, orderStateDeltas.size());
+        OrderStateDelta orderStateDelta = orderStateDeltas.get(0);
+        Assert.assertEquals(order.getId(), orderStateDelta.getOrderId());
+        Assert.assertEquals(OrderState.FULFILLED, orderStateDelta.getOrderState());
+        Assert.assertEquals(FAKE_FAULT_MESSAGE, orderStateDelta.getFaultMessage());
+        Assert.assertEquals(order.getActualAllocation().getRam(), orderStateDelta.getComputeAllocation().getRam());
+        Assert.assertNull(orderStateDelta.getVolumeAllocation());
+    }
+
+    private ComputeOrder createOrder() {
+        return new ComputeOrder(null, REQUESTING_MEMBER,
+                PROVIDING_MEMBER, "default", "hostName", 1, 2, 3,
+                "imageId", null,
+                "publicKey", new ArrayList<>());
+    }
+}
@@ -5,6 +5,7 @@ import cloud.fogbow.common.exceptions.UnavailableProviderException;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
 import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
+import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderStubs;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.models.orders.ComputeOrder;
 import cloud.fogbow.ras.core.models.orders.Order;
@@ -46,12 +47,13 @@ public class CloseOrderAtRemoteProviderRequestTest {
     @Test
     public void testSend() throws Exception {
         //set up
-        Mockito.doReturn(this.iqResponse).when(this.packetSender).syncSendPacket(argIQ.capture());
+        PacketSenderStubs.replyWith(this.packetSender, this.iqResponse);
 
         //exercise
         Void output = this.closeOrderAtRemoteProviderRequest.send();
 
         //verify
+        Mockito.verify(this.packetSender).sendPacket(argIQ.capture());
         IQ iq = argIQ.getValue();
         Assert.assertEquals(IQ.Type.set.toString(), iq.getType().toString());
         Assert.assertEquals(SystemConstants.JID_SERVICE_NAME + SystemConstants.JID_CONNECTOR + SystemConstants.XMPP_SERVER_NAME_PREFIX + this.order.getRequester(), iq.getTo().toString());
@@ -71,7 +73,7 @@ public class CloseOrderAtRemoteProviderRequestTest {
     @Test(expected = UnavailableProviderException.class)
     public void testSendWhenResponseIsNull() throws Exception {
         //set up
-        Mockito.doReturn(null).when(this.packetSender).syncSendPacket(this.argIQ.capture());
+        PacketSenderStubs.replyWith(this.packetSender, null);
         // exercise/verify
         this.closeOrderAtRemoteProviderRequest.send();
     }
@@ -81,7 +83,7 @@ public class CloseOrderAtRemoteProviderRequestTest {
     @Test(expected = UnauthorizedRequestException.class)
     public void testSendWhenResponseReturnsForbidden() throws Exception {
         //set up
-        Mockito.doReturn(this.iqResponse).when(this.packetSender).syncSendPacket(this.argIQ.capture());
+        PacketSenderStubs.replyWith(this.packetSender, this.iqResponse);
         this.iqResponse.setError(new PacketError(PacketError.Condition.forbidden));
 
         //exercise/verify
@@ -1,13 +1,22 @@
 package cloud.fogbow.ras.core.intercomponent.xmpp.requesters;
 
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
 import cloud.fogbow.common.exceptions.InvalidParameterException;
 import cloud.fogbow.common.exceptions.UnauthorizedRequestException;
 import cloud.fogbow.common.exceptions.UnavailableProviderException;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IQMatcher;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
 import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
+import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderStubs;
+import cloud.fogbow.ras.core.intercomponent.xmpp.codecs.CompactOrderCodec;
+import cloud.fogbow.ras.core.intercomponent.xmpp.codecs.JsonOrderCodec;
+import cloud.fogbow.ras.core.intercomponent.xmpp.codecs.OrderCodecs;
 import cloud.fogbow.ras.core.models.orders.ComputeOrder;
 import cloud.fogbow.ras.core.models.orders.Order;
+import org.dom4j.DocumentHelper;
+import org.dom4j.Element;
 import org.jamppa.component.PacketSender;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
@@ -40,8 +49,7 @@ public class RemoteCreateOrderRequestTest {
         // set up
         IQ expectedIQ = RemoteCreateOrderRequest.marshal(this.order);
 
-        Mockito.doReturn(this.iqResponse).when(this.packetSender)
-                .syncSendPacket(Mockito.any(IQ.class));
+        PacketSenderStubs.replyWith(this.packetSender, this.iqResponse);
 
         // exercise
         this.remoteCreateOrderRequest.send();
@@ -49,7 +57,7 @@ public class RemoteCreateOrderRequestTest {
         // verify
         // as IQ does not implement equals we need a matcher
         IQMatcher matcher = new IQMatcher(expectedIQ);
-        Mockito.verify(this.packetSender).syncSendPacket(Mockito.argThat(matcher));
+        Mockito.verify(this.packetSender).sendPacket(Mockito.argThat(matcher));
     }
 
     //test case: Check if "send" is properly forwarding UnavailableProviderException thrown by
@@ -57,7 +65,7 @@ public class RemoteCreateOrderRequestTest {
     @Test(expected = UnavailableProviderException.class)
     public void testSendWhenResponseIsNull() throws Exception {
         // set up
-        Mockito.doReturn(null).when(this.packetSender).syncSendPacket(Mockito.any(IQ.class));
+        PacketSenderStubs.replyWith(this.packetSender, null);
 
         // exercise/verify
         this.remoteCreateOrderRequest.send();
@@ -68,11 +76,32 @@ public class RemoteCreateOrderRequestTest {
     @Test(expected = UnauthorizedRequestException.class)
     public void testSendWhenResponseReturnsForbidden() throws Exception {
         // set up
-        Mockito.doReturn(this.iqResponse).when(this.packetSender)
-                .syncSendPacket(Mockito.any(IQ.class));
+        PacketSenderStubs.replyWith(this.packetSender, this.iqResponse);
         this.iqResponse.setError(new PacketError(PacketError.Condition.forbidden));
 
         // exercise/verify
         this.remoteCreateOrderRequest.send();
     }
+
+    // test case: When the provider answers a create request with an error, the codec learned
+    // from it must be forgotten, so that the order is sent in JSON the next time.
+    @Test
+    public void testSendWhenResponseReturnsErrorFallsBackToJson() throws Exception {
+        // set up
+        OrderCodecs orderCodecs = OrderCodecs.getInstance();
+        Element advertisedQuery = DocumentHelper.createElement(IqElement.QUERY.toString());
+        advertisedQuery.addElement(IqElement.ORDER_CODECS.toString()).setText(CompactOrderCodec.NAME);
+        orderCodecs.learn(this.providingMember, advertisedQuery);
+        PacketSenderStubs.replyWith(this.packetSender, this.iqResponse);
+        this.iqResponse.setError(new PacketError(PacketError.Condition.internal_server_error));
+
+        try {
+            // exercise
+            this.remoteCreateOrderRequest.send();
+            Assert.fail();
+        } catch (InternalServerErrorException e) {
+            // verify
+            Assert.assertEquals(JsonOrderCodec.NAME, orderCodecs.getCodec(this.providingMember).getName());
+        }
+    }
 }
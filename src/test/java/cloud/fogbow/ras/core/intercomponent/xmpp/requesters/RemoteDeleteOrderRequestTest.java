@@ -6,6 +6,7 @@ import cloud.fogbow.common.models.SystemUser;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
 import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
+import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderStubs;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.models.orders.ComputeOrder;
 import cloud.fogbow.ras.core.models.orders.Order;
@@ -48,14 +49,14 @@ public class RemoteDeleteOrderRequestTest {
     @Test
     public void testSend() throws Exception {
         // set up
-        Mockito.doReturn(this.response).when(this.packetSender).syncSendPacket(
-                iqArgumentCaptor.capture());
+        PacketSenderStubs.replyWith(this.packetSender, this.response);
         String federationUserJson = new Gson().toJson(this.order.getSystemUser());
 
         // exercise
         this.remoteDeleteOrderRequest.send();
 
         // verify
+        Mockito.verify(this.packetSender).sendPacket(this.iqArgumentCaptor.capture());
         IQ iq = this.iqArgumentCaptor.getValue();
 
         Assert.assertEquals(IQ.Type.set.toString(), iq.getType().toString());
@@ -83,8 +84,7 @@ public class RemoteDeleteOrderRequestTest {
     @Test(expected = UnavailableProviderException.class)
     public void testSendWhenResponseIsNull() throws Exception {
         // set up
-        Mockito.doReturn(null).when(this.packetSender).syncSendPacket(
-                this.iqArgumentCaptor.capture());
+        PacketSenderStubs.replyWith(this.packetSender, null);
 
         // exercise/verify
         this.remoteDeleteOrderRequest.send();
@@ -95,8 +95,7 @@ public class RemoteDeleteOrderRequestTest {
     @Test(expected = UnauthorizedRequestException.class)
     public void testSendWhenResponseReturnsForbidden() throws Exception {
         // set up
-        Mockito.doReturn(this.response).when(this.packetSender)
-                .syncSendPacket(this.iqArgumentCaptor.capture());
+        PacketSenderStubs.replyWith(this.packetSender, this.response);
         this.response.setError(new PacketError(PacketError.Condition.forbidden));
 
         // exercise/verify
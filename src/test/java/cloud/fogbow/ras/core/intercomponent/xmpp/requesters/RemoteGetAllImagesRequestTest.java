@@ -8,6 +8,7 @@ import cloud.fogbow.ras.api.http.response.ImageSummary;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IQMatcher;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
 import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
+import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderStubs;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import com.google.gson.Gson;
 import org.dom4j.Element;
@@ -57,7 +58,7 @@ public class RemoteGetAllImagesRequestTest {
     public void testSend() throws Exception {
         // set up
         IQ response = getImagesResponse(this.imageSummaryList, this.imageSummaryList.getClass().getName());
-        Mockito.doReturn(response).when(this.packetSender).syncSendPacket(Mockito.any(IQ.class));
+        PacketSenderStubs.replyWith(this.packetSender, response);
 
         // exercise
         this.remoteGetAllImagesRequest.send();
@@ -66,7 +67,7 @@ public class RemoteGetAllImagesRequestTest {
         // as IQ does not implement equals we need a matcher
         IQ expectedIQ = RemoteGetAllImagesRequest.marshal(PROVIDER, "default", systemUser);
         IQMatcher matcher = new IQMatcher(expectedIQ);
-        Mockito.verify(this.packetSender).syncSendPacket(Mockito.argThat(matcher));
+        Mockito.verify(this.packetSender).sendPacket(Mockito.argThat(matcher));
     }
 
     // test case: checks if "send" is properly forwading UnavailableProviderException thrown by
@@ -74,7 +75,7 @@ public class RemoteGetAllImagesRequestTest {
     @Test(expected = UnavailableProviderException.class)
     public void testSendWhenResponseIsNull() throws Exception {
         // set up
-        Mockito.doReturn(null).when(this.packetSender).syncSendPacket(Mockito.any(IQ.class));
+        PacketSenderStubs.replyWith(this.packetSender, null);
 
         // exercise/verify
         this.remoteGetAllImagesRequest.send();
@@ -86,7 +87,7 @@ public class RemoteGetAllImagesRequestTest {
     public void testSendWhenResponseReturnsForbidden() throws Exception {
         // set up
         IQ iqResponse = new IQ();
-        Mockito.doReturn(iqResponse).when(this.packetSender).syncSendPacket(Mockito.any(IQ.class));
+        PacketSenderStubs.replyWith(this.packetSender, iqResponse);
         iqResponse.setError(new PacketError(PacketError.Condition.forbidden));
 
         // exercise/verify
@@ -99,7 +100,7 @@ public class RemoteGetAllImagesRequestTest {
     public void testSendWhenImageClassIsUndefined() throws Exception {
         // set up
         IQ iqResponse = getImagesMapIQResponseWithWrongClass(this.imageSummaryList);
-        Mockito.doReturn(iqResponse).when(this.packetSender).syncSendPacket(Mockito.any(IQ.class));
+        PacketSenderStubs.replyWith(this.packetSender, iqResponse);
 
         // exercise/verify
         this.remoteGetAllImagesRequest.send();
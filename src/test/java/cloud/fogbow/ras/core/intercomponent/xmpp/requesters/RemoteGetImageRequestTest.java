@@ -8,6 +8,7 @@ import cloud.fogbow.ras.api.http.response.ImageInstance;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IQMatcher;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
 import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
+import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderStubs;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import com.google.gson.Gson;
 import org.dom4j.Element;
@@ -44,7 +45,7 @@ public class RemoteGetImageRequestTest {
         // set up
         ImageInstance imageInstance = new ImageInstance("imageInstance-id", "imageInstance-name", 10, 20, 30, "status");
         IQ iqResponse = getImageIQResponse(imageInstance);
-        Mockito.doReturn(iqResponse).when(this.packetSender).syncSendPacket(Mockito.any(IQ.class));
+        PacketSenderStubs.replyWith(this.packetSender, iqResponse);
 
         // exercise
         this.remoteGetImageRequest.send();
@@ -52,7 +53,7 @@ public class RemoteGetImageRequestTest {
         // verify
         IQ expectedIq = RemoteGetImageRequest.marshal(provider, "default", imageId, systemUser);
         IQMatcher matcher = new IQMatcher(expectedIq);
-        Mockito.verify(this.packetSender).syncSendPacket(Mockito.argThat(matcher));
+        Mockito.verify(this.packetSender).sendPacket(Mockito.argThat(matcher));
     }
 
     // test case: checks if "send" is properly forwading UnavailableProviderException thrown by
@@ -60,7 +61,7 @@ public class RemoteGetImageRequestTest {
     @Test(expected = UnavailableProviderException.class)
     public void testSendWhenResponseIsNull() throws Exception {
         // set up
-        Mockito.doReturn(null).when(this.packetSender).syncSendPacket(Mockito.any(IQ.class));
+        PacketSenderStubs.replyWith(this.packetSender, null);
 
         // exercise/verify
         this.remoteGetImageRequest.send();
@@ -72,7 +73,7 @@ public class RemoteGetImageRequestTest {
     public void testSendWhenResponseReturnsForbidden() throws Exception {
         // set up
         IQ iqResponse = new IQ();
-        Mockito.doReturn(iqResponse).when(this.packetSender).syncSendPacket(Mockito.any(IQ.class));
+        PacketSenderStubs.replyWith(this.packetSender, iqResponse);
         iqResponse.setError(new PacketError(PacketError.Condition.forbidden));
 
         // exercise/verify
@@ -86,7 +87,7 @@ public class RemoteGetImageRequestTest {
         //set up
         ImageInstance imageInstance = new ImageInstance("imageInstance-id", "imageInstance-name", 10, 20, 30, "status");
         IQ iqResponse = getImageIQResponseWithWrongClass(imageInstance);
-        Mockito.doReturn(iqResponse).when(this.packetSender).syncSendPacket(Mockito.any(IQ.class));
+        PacketSenderStubs.replyWith(this.packetSender, iqResponse);
 
         // exercise/verify
         this.remoteGetImageRequest.send();
@@ -7,6 +7,7 @@ import cloud.fogbow.common.models.SystemUser;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IQMatcher;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
 import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
+import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderStubs;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.api.http.response.ComputeInstance;
 import cloud.fogbow.ras.api.http.response.Instance;
@@ -52,7 +53,7 @@ public class RemoteGetInstanceRequestTest {
     public void testSend() throws Exception {
         //set up
         IQ iqResponse = getInstanceIQResponse(this.instance);
-        Mockito.doReturn(iqResponse).when(this.packetSender).syncSendPacket(Mockito.any(IQ.class));
+        PacketSenderStubs.replyWith(this.packetSender, iqResponse);
         IQ expectedIQ = RemoteGetInstanceRequest.marshal(this.order);
 
         //exercise
@@ -60,7 +61,7 @@ public class RemoteGetInstanceRequestTest {
 
         //verify
         IQMatcher matcher = new IQMatcher(expectedIQ);
-        Mockito.verify(this.packetSender).syncSendPacket(Mockito.argThat(matcher));
+        Mockito.verify(this.packetSender).sendPacket(Mockito.argThat(matcher));
         Assert.assertEquals(this.instance, responseInstance);
     }
 
@@ -69,7 +70,7 @@ public class RemoteGetInstanceRequestTest {
     @Test(expected = UnavailableProviderException.class)
     public void testSendWhenResponseIsNull() throws Exception {
         //set up
-        Mockito.doReturn(null).when(this.packetSender).syncSendPacket(Mockito.any());
+        PacketSenderStubs.replyWith(this.packetSender, null);
 
         //exercise/verify
         this.remoteGetInstanceRequest.send();
@@ -81,7 +82,7 @@ public class RemoteGetInstanceRequestTest {
     public void testSendWhenResponseReturnsForbidden() throws Exception {
         //set up
         IQ iqResponse = new IQ();
-        Mockito.doReturn(iqResponse).when(this.packetSender).syncSendPacket(Mockito.any());
+        PacketSenderStubs.replyWith(this.packetSender, iqResponse);
         iqResponse.setError(new PacketError(PacketError.Condition.forbidden));
 
         //exercise/verify
@@ -95,7 +96,7 @@ public class RemoteGetInstanceRequestTest {
         //set up
         Instance instanceResponse = new ComputeInstance("compute-instance");
         IQ iqResponse = getInstanceIQResponseWithWrongClass(instanceResponse);
-        Mockito.doReturn(iqResponse).when(this.packetSender).syncSendPacket(Mockito.any());
+        PacketSenderStubs.replyWith(this.packetSender, iqResponse);
 
         //exercise/verify
         this.remoteGetInstanceRequest.send();
@@ -7,6 +7,7 @@ import cloud.fogbow.common.models.SystemUser;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IQMatcher;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
 import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
+import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderStubs;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.models.ResourceType;
 import cloud.fogbow.ras.api.http.response.quotas.ComputeQuota;
@@ -54,7 +55,7 @@ public class RemoteGetUserQuotaRequestTest {
     public void testSend() throws Exception {
         //set up
         IQ iqResponse = getQuotaIQResponse(this.quota);
-        Mockito.doReturn(iqResponse).when(this.packetSender).syncSendPacket(Mockito.any(IQ.class));
+        PacketSenderStubs.replyWith(this.packetSender, iqResponse);
         IQ expectedIQ = RemoteGetUserQuotaRequest.marshal(this.provider, "default", this.systemUser);
 
         //exercise
@@ -62,7 +63,7 @@ public class RemoteGetUserQuotaRequestTest {
 
         //verify
         IQMatcher matcher = new IQMatcher(expectedIQ);
-        Mockito.verify(this.packetSender).syncSendPacket(Mockito.argThat(matcher));
+        Mockito.verify(this.packetSender).sendPacket(Mockito.argThat(matcher));
 
         ComputeAllocation expectedComputeAvailableQuota = (ComputeAllocation) this.quota.getAvailableQuota();
         ComputeAllocation actualComputeAvailableQuota = (ComputeAllocation) responseQuota.getAvailableQuota();
@@ -88,7 +89,7 @@ public class RemoteGetUserQuotaRequestTest {
     @Test(expected = UnavailableProviderException.class)
     public void testSendWhenResponseIsNull() throws Exception {
         //set up
-        Mockito.doReturn(null).when(this.packetSender).syncSendPacket(Mockito.any());
+        PacketSenderStubs.replyWith(this.packetSender, null);
 
         //exercise/verify
         this.remoteGetUserQuotaRequest.send();
@@ -100,7 +101,7 @@ public class RemoteGetUserQuotaRequestTest {
     public void testSendWhenResponseReturnsForbidden() throws Exception {
         //set up
         IQ iqResponse = new IQ();
-        Mockito.doReturn(iqResponse).when(this.packetSender).syncSendPacket(Mockito.any());
+        PacketSenderStubs.replyWith(this.packetSender, iqResponse);
         iqResponse.setError(new PacketError(PacketError.Condition.forbidden));
 
         //exercise/verify
@@ -113,7 +114,7 @@ public class RemoteGetUserQuotaRequestTest {
     public void testSendWhenImageClassIsUndefined() throws Exception {
         //set up
         IQ iqResponse = getQuotaIQResponseWithWrongClass(this.quota);
-        Mockito.doReturn(iqResponse).when(this.packetSender).syncSendPacket(Mockito.any());
+        PacketSenderStubs.replyWith(this.packetSender, iqResponse);
 
         //exercise/verify
         this.remoteGetUserQuotaRequest.send();
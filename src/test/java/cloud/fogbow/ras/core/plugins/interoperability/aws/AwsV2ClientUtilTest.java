@@ -1,6 +1,8 @@
 package cloud.fogbow.ras.core.plugins.interoperability.aws;
 
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import org.junit.Assert;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
@@ -10,6 +12,8 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
 import cloud.fogbow.common.exceptions.InvalidParameterException;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.ec2.Ec2Client;
 import software.amazon.awssdk.services.ec2.Ec2ClientBuilder;
 
@@ -21,6 +25,12 @@ public class AwsV2ClientUtilTest {
 	private static final String EAST_SOUTH_AMERICA_REGION = "sa-east-1";
 	private static final String EMPTY_STRING = "";
 	private static final String FAKE_TOKEN_VALUE = "fake-access-key:fake-secret-key";
+	private static final String ANOTHER_FAKE_TOKEN_VALUE = "another-fake-access-key:another-fake-secret-key";
+
+	@Before
+	public void setUp() {
+		AwsV2ClientUtil.closeClients();
+	}
 
 	// test case: Verifies that the invocation of the build method to create a
 	// client was called correctly.
@@ -35,6 +45,8 @@ public class AwsV2ClientUtilTest {
 
 		Mockito.when(clientBuilder.credentialsProvider(Mockito.any())).thenReturn(clientBuilder);
 		Mockito.when(clientBuilder.region(Mockito.any())).thenReturn(clientBuilder);
+		Mockito.when(clientBuilder.overrideConfiguration(Mockito.any(ClientOverrideConfiguration.class)))
+				.thenReturn(clientBuilder);
 		Mockito.when(clientBuilder.build()).thenReturn(client);
 
 		String tokenValue = FAKE_TOKEN_VALUE;
@@ -49,8 +61,81 @@ public class AwsV2ClientUtilTest {
 
 		Mockito.verify(clientBuilder, Mockito.times(1)).credentialsProvider(Mockito.any());
 		Mockito.verify(clientBuilder, Mockito.times(1)).region(Mockito.any());
+		Mockito.verify(clientBuilder, Mockito.times(1))
+				.overrideConfiguration(Mockito.any(ClientOverrideConfiguration.class));
 		Mockito.verify(clientBuilder, Mockito.times(1)).build();
 	}
+
+	// test case: When creating clients twice with the same token and region, the same
+	// client must be returned, while a different token must result in a new client.
+	@Test
+	public void testcreateEc2ClientReusesClient() throws InvalidParameterException, InternalServerErrorException {
+		// set up
+		Ec2ClientBuilder clientBuilder = Mockito.mock(Ec2ClientBuilder.class);
+
+		PowerMockito.mockStatic(Ec2Client.class);
+		PowerMockito.when(Ec2Client.builder()).thenReturn(clientBuilder);
+
+		Mockito.when(clientBuilder.credentialsProvider(Mockito.any())).thenReturn(clientBuilder);
+		Mockito.when(clientBuilder.region(Mockito.any())).thenReturn(clientBuilder);
+		Mockito.when(clientBuilder.overrideConfiguration(Mockito.any(ClientOverrideConfiguration.class)))
+				.thenReturn(clientBuilder);
+		Mockito.when(clientBuilder.build()).thenReturn(Mockito.mock(Ec2Client.class),
+				Mockito.mock(Ec2Client.class));
+
+		// exercise
+		Ec2Client firstClient = AwsV2ClientUtil.createEc2Client(FAKE_TOKEN_VALUE, EAST_SOUTH_AMERICA_REGION);
+		Ec2Client secondClient = AwsV2ClientUtil.createEc2Client(FAKE_TOKEN_VALUE, EAST_SOUTH_AMERICA_REGION);
+		Ec2Client anotherClient = AwsV2ClientUtil.createEc2Client(ANOTHER_FAKE_TOKEN_VALUE,
+				EAST_SOUTH_AMERICA_REGION);
+
+		// verify
+		Assert.assertSame(firstClient, secondClient);
+		Assert.assertNotSame(firstClient, anotherClient);
+		Mockito.verify(clientBuilder, Mockito.times(2)).build();
+	}
+
+	// test case: The key of a client must identify its credentials and region without
+	// carrying the credentials themselves.
+	@Test
+	public void testGetClientKeyDoesNotContainCredentials() throws InvalidParameterException {
+		// set up
+		Region region = AwsV2ClientUtil.parseRegion(EAST_SOUTH_AMERICA_REGION);
+
+		// exercise
+		String clientKey = AwsV2ClientUtil.getClientKey(FAKE_TOKEN_VALUE, region);
+		String anotherClientKey = AwsV2ClientUtil.getClientKey(ANOTHER_FAKE_TOKEN_VALUE, region);
+
+		// verify
+		Assert.assertFalse(clientKey.contains("fake-secret-key"));
+		Assert.assertTrue(clientKey.endsWith(EAST_SOUTH_AMERICA_REGION));
+		Assert.assertEquals(clientKey, AwsV2ClientUtil.getClientKey(FAKE_TOKEN_VALUE, region));
+		Assert.assertNotEquals(clientKey, anotherClientKey);
+	}
+
+	// test case: When the clients are closed, the cached clients must be closed as well.
+	@Test
+	public void testCloseClients() throws InvalidParameterException, InternalServerErrorException {
+		// set up
+		Ec2Client client = Mockito.mock(Ec2Client.class);
+		Ec2ClientBuilder clientBuilder = Mockito.mock(Ec2ClientBuilder.class);
+
+		PowerMockito.mockStatic(Ec2Client.class);
+		PowerMockito.when(Ec2Client.builder()).thenReturn(clientBuilder);
+
+		Mockito.when(clientBuilder.credentialsProvider(Mockito.any())).thenReturn(clientBuilder);
+		Mockito.when(clientBuilder.region(Mockito.any())).thenReturn(clientBuilder);
+		Mockito.when(clientBuilder.overrideConfiguration(Mockito.any(ClientOverrideConfiguration.class)))
+				.thenReturn(clientBuilder);
+		Mockito.when(clientBuilder.build()).thenReturn(client);
+		AwsV2ClientUtil.createEc2Client(FAKE_TOKEN_VALUE, EAST_SOUTH_AMERICA_REGION);
+
+		// exercise
+		AwsV2ClientUtil.closeClients();
+
+		// verify
+		Mockito.verify(client, Mockito.times(1)).close();
+	}
 	
 	// test case: When calling the deleteInstance method, with an invalid token, an
 	// InternalServerErrorException will be thrown.
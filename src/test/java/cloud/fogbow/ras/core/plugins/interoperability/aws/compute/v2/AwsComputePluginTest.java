@@ -8,7 +8,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.TreeSet;
 
 import cloud.fogbow.common.exceptions.*;
 import cloud.fogbow.common.util.BinaryUnit;
@@ -129,7 +128,7 @@ public class AwsComputePluginTest extends BaseUnitTests {
         ComputeOrder order = this.testUtils.createLocalComputeOrder();
         AwsV2User cloudUser = Mockito.mock(AwsV2User.class);
 
-        Mockito.doNothing().when(this.plugin).updateHardwareRequirements(Mockito.eq(cloudUser));
+        Mockito.doReturn(null).when(this.plugin).loadInstanceTypes();
 
         ComputeInstance instance = Mockito.mock(ComputeInstance.class);
         Mockito.doReturn(instance).when(this.plugin).doGetInstance(Mockito.eq(order.getInstanceId()), Mockito.eq(this.client));
@@ -141,8 +140,7 @@ public class AwsComputePluginTest extends BaseUnitTests {
         PowerMockito.verifyStatic(AwsV2ClientUtil.class, VerificationModeFactory.times(TestUtils.RUN_ONCE));
         AwsV2ClientUtil.createEc2Client(Mockito.eq(cloudUser.getToken()), Mockito.anyString());
 
-        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE))
-                .updateHardwareRequirements(Mockito.eq(cloudUser));
+        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).loadInstanceTypes();
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).doGetInstance(Mockito.eq(order.getInstanceId()),
                 Mockito.eq(this.client));
     }
@@ -214,8 +212,8 @@ public class AwsComputePluginTest extends BaseUnitTests {
         Assert.assertFalse(status);
     }
 	
-    // test case: When calling the getMemoryValueFrom method, with a empty set
-    // flavors, it must return a zero value.
+    // test case: When calling the getMemoryValueFrom method, before the flavors
+    // file is loaded, it must return a zero value.
     @Test
     public void testGetMemoryValueWithASetFlavorsEmpty() {
         // set up
@@ -226,7 +224,7 @@ public class AwsComputePluginTest extends BaseUnitTests {
         int memory = this.plugin.getMemoryValueFrom(instanceType);
 
         // verify
-        Assert.assertTrue(this.plugin.getFlavors().isEmpty());
+        Assert.assertNull(this.plugin.getInstanceTypes());
         Assert.assertEquals(expected, memory);
     }
 	
@@ -456,13 +454,13 @@ public class AwsComputePluginTest extends BaseUnitTests {
     // test case: When calling the getMemoryValueFrom method, it must verify that
     // the obtained memory is the equals as expected.
     @Test
-    public void testGetMemoryValueFrom() {
+    public void testGetMemoryValueFrom() throws FogbowException {
         // set up
-        AwsHardwareRequirements flavor = createFlavor(null);
-        TreeSet flavors = createFlavorsCollection(flavor);
-        Mockito.doReturn(flavors).when(this.plugin).getFlavors();
+        Mockito.doReturn(Long.valueOf(ZERO_VALUE)).when(this.plugin).getFlavorsFileLastModified();
+        Mockito.doReturn(Arrays.asList(generateFlavorsResourceLine())).when(this.plugin).loadLinesFromFlavorFile();
+        this.plugin.loadInstanceTypes();
 
-        int expected = TestUtils.MEMORY_VALUE;
+        int expected = ONE_GIGABYTE;
 
         // exercise
         int memory = this.plugin.getMemoryValueFrom(InstanceType.T2_MICRO);
@@ -765,23 +763,20 @@ public class AwsComputePluginTest extends BaseUnitTests {
         ComputeOrder order = this.testUtils.createLocalComputeOrder();
         AwsV2User cloudUser = Mockito.mock(AwsV2User.class);
 
-        Mockito.doNothing().when(this.plugin).updateHardwareRequirements(cloudUser);
-
         Map requirements = new HashMap();
         requirements.put(VCPU_TEST_KEY, String.valueOf(TestUtils.CPU_VALUE));
         AwsHardwareRequirements greatestFlavor = createFlavor(requirements);
         AwsHardwareRequirements smallestFlavor = createFlavor(null);
-        
-        TreeSet flavors = createFlavorsCollection(smallestFlavor, greatestFlavor);
-        Mockito.doReturn(flavors).when(this.plugin).getFlavorsByRequirements(Mockito.any());
+
+        AwsComputePlugin.FlavorIndex flavorIndex = createFlavorIndex(smallestFlavor, greatestFlavor);
+        Mockito.doReturn(flavorIndex).when(this.plugin).getFlavorIndex(Mockito.eq(cloudUser));
 
         // exercise
-        this.plugin.findSmallestFlavor(order, cloudUser);
+        AwsHardwareRequirements flavor = this.plugin.findSmallestFlavor(order, cloudUser);
 
         // verify
-        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE))
-                .updateHardwareRequirements(Mockito.eq(cloudUser));
-        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).getFlavorsByRequirements(Mockito.any());
+        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).getFlavorIndex(Mockito.eq(cloudUser));
+        Assert.assertSame(greatestFlavor, flavor);
     }
     
     // test case: When calling the findSmallestFlavor method, with a null response,
@@ -792,11 +787,9 @@ public class AwsComputePluginTest extends BaseUnitTests {
         ComputeOrder order = this.testUtils.createLocalComputeOrder();
         AwsV2User cloudUser = Mockito.mock(AwsV2User.class);
 
-        Mockito.doNothing().when(this.plugin).updateHardwareRequirements(cloudUser);
-        
         AwsHardwareRequirements flavor = createFlavor(null);
-        TreeSet flavors = createFlavorsCollection(flavor);
-        Mockito.doReturn(flavors).when(this.plugin).getFlavorsByRequirements(Mockito.any());
+        AwsComputePlugin.FlavorIndex flavorIndex = createFlavorIndex(flavor);
+        Mockito.doReturn(flavorIndex).when(this.plugin).getFlavorIndex(Mockito.eq(cloudUser));
 
         String expected = Messages.Exception.NO_MATCHING_FLAVOR;
 
@@ -810,122 +803,168 @@ public class AwsComputePluginTest extends BaseUnitTests {
         }
     }
     
-    // test case: When calling the getFlavorsByRequirements method, with a specific
-    // requirements map, it must filter the possibilities that match the resources
-    // in the flavor file, returning the corresponding results.
+    // test case: When finding a flavor in a flavor index with a specific
+    // requirements map, only the flavors that match all the requirements must be
+    // considered, ignoring the case of their values.
     @Test
-    public void testGetFlavorsByRequirements() {
+    public void testFlavorIndexFindSmallestFlavorWithRequirements() {
         // set up
         Map<String, String> requirements = new HashMap<String, String>();
+        requirements.put(AwsComputePlugin.PROCESSOR_REQUIREMENT, PROCESSOR_REQUIREMENT_VALUE);
         requirements.put(AwsComputePlugin.STORAGE_REQUIREMENT, STORAGE_REQUIREMENT_VALUE);
 
-        AwsHardwareRequirements flavor = createFlavor(null);
+        Map<String, String> otherRequirements = new HashMap<String, String>();
+        otherRequirements.put(AwsComputePlugin.PROCESSOR_REQUIREMENT, PROCESSOR_REQUIREMENT_VALUE);
+
+        AwsHardwareRequirements flavor = createFlavor(otherRequirements);
         AwsHardwareRequirements flavorWithRequirements = createFlavor(requirements);
-        TreeSet<AwsHardwareRequirements> flavors = createFlavorsCollection(flavor, flavorWithRequirements);
+        AwsComputePlugin.FlavorIndex flavorIndex = createFlavorIndex(flavor, flavorWithRequirements);
 
-        Mockito.doReturn(flavors).when(this.plugin).getFlavors();
-        Mockito.doReturn(Arrays.asList(flavor)).when(this.plugin).filterFlavors(Mockito.any(), Mockito.any());
+        Map<String, String> orderRequirements = new HashMap<String, String>();
+        orderRequirements.put(AwsComputePlugin.PROCESSOR_REQUIREMENT, PROCESSOR_REQUIREMENT_VALUE.toUpperCase());
+        orderRequirements.put(AwsComputePlugin.STORAGE_REQUIREMENT, STORAGE_REQUIREMENT_VALUE);
 
         // exercise
-        this.plugin.getFlavorsByRequirements(requirements);
+        AwsHardwareRequirements result = flavorIndex.findSmallestFlavor(FLAVOR_CPU_VALUE,
+                TestUtils.MEMORY_VALUE, TestUtils.DISK_VALUE, orderRequirements);
 
         // verify
-        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).getFlavors();
-        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).filterFlavors(Mockito.any(), Mockito.any());
-        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).parseToTreeSet(Mockito.any());
+        Assert.assertSame(flavorWithRequirements, result);
     }
-    
-    // test case: When calling the getFlavorsByRequirements method, with a null map,
-    // there will be no filter to limit the results, returning all the flavors
-    // obtained in the last update.
+
+    // test case: When finding a flavor in a flavor index, with a null map or an
+    // empty map of requirements, there will be no filter to limit the results,
+    // returning the smallest flavor with enough resources.
     @Test
-    public void testGetFlavorsByRequirementsWithNullMap() {
+    public void testFlavorIndexFindSmallestFlavorWithoutRequirements() {
         // set up
-        Map<String, String> requirements = null;
-        
-        TreeSet<AwsHardwareRequirements> flavors = createFlavorsCollection();
-        Mockito.doReturn(flavors).when(this.plugin).getFlavors();
-        
-        int expected = flavors.size();
-        
+        Map<String, String> requirements = new HashMap<String, String>();
+        requirements.put(VCPU_TEST_KEY, String.valueOf(TestUtils.CPU_VALUE));
+        AwsHardwareRequirements greatestFlavor = createFlavor(requirements);
+        AwsHardwareRequirements smallestFlavor = createFlavor(null);
+        AwsComputePlugin.FlavorIndex flavorIndex = createFlavorIndex(smallestFlavor, greatestFlavor);
+
         // exercise
-        TreeSet<AwsHardwareRequirements> resultSet = this.plugin.getFlavorsByRequirements(requirements);
-        
+        AwsHardwareRequirements resultWithNullMap = flavorIndex.findSmallestFlavor(FLAVOR_CPU_VALUE,
+                TestUtils.MEMORY_VALUE, TestUtils.DISK_VALUE, null);
+        AwsHardwareRequirements resultWithEmptyMap = flavorIndex.findSmallestFlavor(TestUtils.CPU_VALUE,
+                TestUtils.MEMORY_VALUE, TestUtils.DISK_VALUE, new HashMap<String, String>());
+
         // verify
-        Assert.assertEquals(expected, resultSet.size());
+        Assert.assertSame(smallestFlavor, resultWithNullMap);
+        Assert.assertSame(greatestFlavor, resultWithEmptyMap);
     }
-    
-    // test case: When calling the getFlavorsByRequirements method, with an empty
-    // map, there will be no filter to limit the results, returning all the flavors
-    // obtained in the last update.
+
+    // test case: When finding a flavor in a flavor index with a requirement that
+    // no flavor has, it must return null.
     @Test
-    public void testGetFlavorsByRequirementsWithEmptyMap() {
+    public void testFlavorIndexFindSmallestFlavorWithUnmetRequirement() {
         // set up
         Map<String, String> requirements = new HashMap<String, String>();
-        
-        TreeSet<AwsHardwareRequirements> flavors = createFlavorsCollection();
-        Mockito.doReturn(flavors).when(this.plugin).getFlavors();
-        
-        int expected = flavors.size();
-        
+        requirements.put(AwsComputePlugin.STORAGE_REQUIREMENT, STORAGE_REQUIREMENT_VALUE);
+        AwsComputePlugin.FlavorIndex flavorIndex = createFlavorIndex(createFlavor(requirements));
+
+        Map<String, String> orderRequirements = new HashMap<String, String>();
+        orderRequirements.put(AwsComputePlugin.STORAGE_REQUIREMENT, ANY_VALUE);
+
         // exercise
-        TreeSet<AwsHardwareRequirements> resultSet = this.plugin.getFlavorsByRequirements(requirements);
-        
+        AwsHardwareRequirements result = flavorIndex.findSmallestFlavor(FLAVOR_CPU_VALUE,
+                TestUtils.MEMORY_VALUE, TestUtils.DISK_VALUE, orderRequirements);
+
         // verify
-        Assert.assertEquals(expected, resultSet.size());
+        Assert.assertNull(result);
     }
-    
-    // test case: When calling the filterFlavors method, it must return the flavor
-    // that matches the requirements passed by the parameter.
+
+    // test case: When calling the getFlavorIndex method several times, the flavor
+    // index must only be built on the first time, while the flavors file and the
+    // images sizes do not change.
     @Test
-    public void testFilterFlavors() {
+    public void testGetFlavorIndexIsReused() throws FogbowException {
         // set up
-        Map<String, String> requirements = new HashMap<String, String>();
-        requirements.put(AwsComputePlugin.PROCESSOR_REQUIREMENT, PROCESSOR_REQUIREMENT_VALUE);
-        requirements.put(AwsComputePlugin.GRAPHIC_PROCESSOR_REQUIREMENT, String.valueOf(TestUtils.CPU_VALUE));
+        AwsV2User cloudUser = new AwsV2User(TestUtils.FAKE_USER_ID, TestUtils.FAKE_USER_NAME, ANY_VALUE);
 
-        AwsHardwareRequirements flavor = createFlavor(new HashMap<String, String>());
-        AwsHardwareRequirements flavorWithRequirements = createFlavor(requirements);
-        TreeSet<AwsHardwareRequirements> flavors = createFlavorsCollection(flavor, flavorWithRequirements);
+        AwsComputePlugin.InstanceTypes instanceTypes = new AwsComputePlugin.InstanceTypes(ZERO_VALUE);
+        Mockito.doReturn(instanceTypes).when(this.plugin).loadInstanceTypes();
 
-        AwsHardwareRequirements[] expected = { flavorWithRequirements };
+        Map<String, Integer> images = new HashMap<String, Integer>();
+        images.put(TestUtils.FAKE_IMAGE_ID, TestUtils.DISK_VALUE);
+        Mockito.doReturn(images).when(this.plugin).getImagesSizes(Mockito.eq(cloudUser));
 
         // exercise
-        List<AwsHardwareRequirements> resultList = null;
-        for (Entry<String, String> requirement : requirements.entrySet()) {
-            resultList = this.plugin.filterFlavors(flavors, requirement);
-        }
+        AwsComputePlugin.FlavorIndex firstFlavorIndex = this.plugin.getFlavorIndex(cloudUser);
+        AwsComputePlugin.FlavorIndex secondFlavorIndex = this.plugin.getFlavorIndex(cloudUser);
+
         // verify
-        Assert.assertEquals(Arrays.asList(expected), resultList);
+        Assert.assertSame(firstFlavorIndex, secondFlavorIndex);
+        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).buildFlavorIndex(Mockito.eq(instanceTypes),
+                Mockito.eq(images));
     }
-    
-    // test case: When calling the updateHardwareRequirements method, it must verify
-    // that is call was successful.
+
+    // test case: When calling the getFlavorIndex method after the flavors file
+    // changes, the flavor index must be built again.
     @Test
-    public void testUpdateHardwareRequirements() throws FogbowException {
+    public void testGetFlavorIndexIsRebuiltWhenFlavorsFileChanges() throws FogbowException {
         // set up
-        AwsV2User cloudUser = Mockito.mock(AwsV2User.class);
+        AwsV2User cloudUser = new AwsV2User(TestUtils.FAKE_USER_ID, TestUtils.FAKE_USER_NAME, ANY_VALUE);
 
-        String[] lines = { generateFlavorsResourceLine() };
-        Mockito.doReturn(Arrays.asList(lines)).when(this.plugin).loadLinesFromFlavorFile();
+        Mockito.doReturn(Arrays.asList(generateFlavorsResourceLine())).when(this.plugin).loadLinesFromFlavorFile();
+        Mockito.doReturn(Long.valueOf(ZERO_VALUE)).when(this.plugin).getFlavorsFileLastModified();
 
         Map<String, Integer> images = new HashMap<String, Integer>();
         images.put(TestUtils.FAKE_IMAGE_ID, TestUtils.DISK_VALUE);
-        Mockito.doReturn(images).when(this.plugin).generateImagesSizeMap(cloudUser);
+        Mockito.doReturn(images).when(this.plugin).getImagesSizes(Mockito.eq(cloudUser));
 
-        AwsHardwareRequirements flavor = createFlavor(null);
-        Mockito.doReturn(flavor).when(this.plugin).buildHardwareRequirements(Mockito.any(), Mockito.any());
+        AwsComputePlugin.FlavorIndex firstFlavorIndex = this.plugin.getFlavorIndex(cloudUser);
+        Mockito.doReturn(Long.valueOf(FLAVOR_CPU_VALUE)).when(this.plugin).getFlavorsFileLastModified();
+
+        // exercise
+        AwsComputePlugin.FlavorIndex secondFlavorIndex = this.plugin.getFlavorIndex(cloudUser);
+
+        // verify
+        Assert.assertNotSame(firstFlavorIndex, secondFlavorIndex);
+        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_TWICE)).loadLinesFromFlavorFile();
+        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_TWICE)).buildHardwareRequirements(Mockito.any(),
+                Mockito.any());
+    }
+
+    // test case: When calling the loadInstanceTypes method several times, the
+    // flavors file must only be read again after it is modified.
+    @Test
+    public void testLoadInstanceTypesOnlyReadsModifiedFile() throws FogbowException {
+        // set up
+        String[] lines = { generateFlavorsResourceLine() };
+        Mockito.doReturn(Arrays.asList(lines)).when(this.plugin).loadLinesFromFlavorFile();
+        Mockito.doReturn(Long.valueOf(ZERO_VALUE)).when(this.plugin).getFlavorsFileLastModified();
 
         // exercise
-        this.plugin.updateHardwareRequirements(cloudUser);
+        AwsComputePlugin.InstanceTypes firstInstanceTypes = this.plugin.loadInstanceTypes();
+        AwsComputePlugin.InstanceTypes secondInstanceTypes = this.plugin.loadInstanceTypes();
 
         // verify
+        Assert.assertSame(firstInstanceTypes, secondInstanceTypes);
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).loadLinesFromFlavorFile();
+    }
+
+    // test case: When calling the getImagesSizes method several times for the same
+    // user, the images must only be described on the first time.
+    @Test
+    public void testGetImagesSizesIsCached() throws FogbowException {
+        // set up
+        AwsV2User cloudUser = new AwsV2User(TestUtils.FAKE_USER_ID, TestUtils.FAKE_USER_NAME, ANY_VALUE);
+
+        Map<String, Integer> images = new HashMap<String, Integer>();
+        images.put(TestUtils.FAKE_IMAGE_ID, TestUtils.DISK_VALUE);
+        Mockito.doReturn(images).when(this.plugin).generateImagesSizeMap(Mockito.eq(cloudUser));
+
+        // exercise
+        this.plugin.getImagesSizes(cloudUser);
+        Map<String, Integer> imagesSizes = this.plugin.getImagesSizes(cloudUser);
+
+        // verify
+        Assert.assertSame(images, imagesSizes);
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).generateImagesSizeMap(Mockito.eq(cloudUser));
-        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).buildHardwareRequirements(Mockito.any(),
-                Mockito.any());
     }
-    
+
     // test case: When calling the loadLinesFromFlavorFile method, without a valid
     // file path, the ConfigurationErrorException will be thrown.
     @Test
@@ -1080,14 +1119,14 @@ public class AwsComputePluginTest extends BaseUnitTests {
         return instance;
     }
 	
-    private TreeSet<AwsHardwareRequirements> createFlavorsCollection(AwsHardwareRequirements...flavor) {
-        TreeSet<AwsHardwareRequirements> flavors = new TreeSet<AwsHardwareRequirements>();
+    private AwsComputePlugin.FlavorIndex createFlavorIndex(AwsHardwareRequirements...flavor) {
+        AwsComputePlugin.FlavorIndex flavorIndex = new AwsComputePlugin.FlavorIndex(null, null);
         for (int i = 0; i < flavor.length; i++) {
             String flavorId = flavor[i].getFlavorId();
             flavor[i].setFlavorId(flavorId + String.valueOf(i));
-            flavors.add(flavor[i]);
+            flavorIndex.add(flavor[i]);
         }
-        return flavors;
+        return flavorIndex;
     }
 	
     private List<String> buildIpAdressesCollection() {
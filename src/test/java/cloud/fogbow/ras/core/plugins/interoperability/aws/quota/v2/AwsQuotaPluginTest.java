@@ -24,6 +24,7 @@ import software.amazon.awssdk.services.ec2.model.*;
 
 import java.io.File;
 import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -61,15 +62,17 @@ public class AwsQuotaPluginTest extends BaseUnitTests {
     public void testGetUserQuota() throws FogbowException {
         // set up
         AwsV2User user = Mockito.mock(AwsV2User.class);
+        Map<String, ComputeAllocation> instancesAllocated = createComputeAllocationMap();
         Mockito.doNothing().when(this.plugin).loadAvailableAllocations();
-        Mockito.doNothing().when(this.plugin).loadInstancesAllocated(Mockito.eq(this.client));
+        Mockito.doReturn(instancesAllocated).when(this.plugin).loadInstancesAllocated(Mockito.eq(this.client));
 
         ResourceAllocation totalQuota = this.testUtils.createTotalQuota();
         ResourceAllocation usedQuota = this.testUtils.createUsedQuota();
         ResourceQuota expectedQuota = new ResourceQuota(totalQuota, usedQuota);
 
         Mockito.doReturn(totalQuota).when(this.plugin).calculateTotalQuota();
-        Mockito.doReturn(usedQuota).when(this.plugin).calculateUsedQuota(Mockito.eq(this.client));
+        Mockito.doReturn(usedQuota).when(this.plugin).calculateUsedQuota(Mockito.eq(this.client),
+                Mockito.eq(instancesAllocated));
 
         // exercise
         ResourceQuota actualQuota = this.plugin.getUserQuota(user);
@@ -78,7 +81,8 @@ public class AwsQuotaPluginTest extends BaseUnitTests {
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).loadAvailableAllocations();
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).loadInstancesAllocated(Mockito.eq(this.client));
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).calculateTotalQuota();
-        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).calculateUsedQuota(Mockito.eq(this.client));
+        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).calculateUsedQuota(Mockito.eq(this.client),
+                Mockito.eq(instancesAllocated));
 
         Assert.assertEquals(expectedQuota, actualQuota);
     }
@@ -94,18 +98,20 @@ public class AwsQuotaPluginTest extends BaseUnitTests {
         int ram = expectedQuota.getRam();
         int vCPUs = expectedQuota.getvCPU();
         ComputeAllocation computeAllocation = new ComputeAllocation(instances, vCPUs, ram);
+        Map<String, ComputeAllocation> instancesAllocated = createComputeAllocationMap();
 
         Mockito.doReturn(expectedQuota.getPublicIps()).when(this.plugin).calculateUsedElasticIp(Mockito.eq(this.client));
         Mockito.doReturn(expectedQuota.getNetworks()).when(this.plugin).calculateUsedNetworks(Mockito.eq(this.client));
         Mockito.doReturn(expectedQuota.getStorage()).when(this.plugin).calculateUsedStorage(Mockito.eq(this.client));
         Mockito.doReturn(expectedQuota.getVolumes()).when(this.plugin).calculateUsedVolumes(Mockito.eq(this.client));
-        Mockito.doReturn(computeAllocation).when(this.plugin).calculateComputeUsedQuota();
+        Mockito.doReturn(computeAllocation).when(this.plugin).calculateComputeUsedQuota(Mockito.eq(instancesAllocated));
 
         // exercise
-        ResourceAllocation usedQuota = this.plugin.calculateUsedQuota(this.client);
+        ResourceAllocation usedQuota = this.plugin.calculateUsedQuota(this.client, instancesAllocated);
 
         // verify
-        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).calculateComputeUsedQuota();
+        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE))
+                .calculateComputeUsedQuota(Mockito.eq(instancesAllocated));
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).calculateUsedStorage(Mockito.eq(this.client));
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).calculateUsedVolumes(Mockito.eq(this.client));
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).calculateUsedElasticIp(Mockito.eq(this.client));
@@ -120,14 +126,12 @@ public class AwsQuotaPluginTest extends BaseUnitTests {
     public void testCalculateComputeUsedQuota() {
         // set up
         Map<String, ComputeAllocation> instancesAllocated = createComputeAllocationMap();
-        Mockito.doReturn(instancesAllocated).when(this.plugin).getComputeAllocationMap();
         ComputeAllocation expectedAllocation = this.createComputeAllocation();
 
         // exercise
-        ComputeAllocation computeAllocation = this.plugin.calculateComputeUsedQuota();
+        ComputeAllocation computeAllocation = this.plugin.calculateComputeUsedQuota(instancesAllocated);
 
         // verify
-        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).getComputeAllocationMap();
         Assert.assertEquals(expectedAllocation.getInstances(), computeAllocation.getInstances());
         Assert.assertEquals(expectedAllocation.getvCPU(), computeAllocation.getvCPU());
         Assert.assertEquals(expectedAllocation.getRam(), computeAllocation.getRam());
@@ -291,19 +295,39 @@ public class AwsQuotaPluginTest extends BaseUnitTests {
 
         Instance instance = instances.listIterator().next();
         ComputeAllocation allocation = createComputeAllocation();
-        Mockito.doReturn(allocation).when(this.plugin).buildAllocatedInstance(Mockito.eq(instance));
+        Mockito.doReturn(allocation).when(this.plugin).buildAllocatedInstance(Mockito.eq(instance), Mockito.anyMap());
 
         String expectedMapKey = InstanceType.T1_MICRO.toString();
 
         // exercise
-        this.plugin.loadInstancesAllocated(this.client);
+        Map<String, ComputeAllocation> instancesAllocated = this.plugin.loadInstancesAllocated(this.client);
 
         // verify
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).getInstanceReservations(Mockito.eq(this.client));
-        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).buildAllocatedInstance(Mockito.eq(instance));
+        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE))
+                .buildAllocatedInstance(Mockito.eq(instance), Mockito.anyMap());
+
+        Assert.assertTrue(instancesAllocated.containsKey(expectedMapKey));
+        Assert.assertEquals(allocation, instancesAllocated.get(expectedMapKey));
+    }
+
+    // test case: When calling the loadInstancesAllocated method, the instances loaded for
+    // a previous request, which may be of another user, must not be counted.
+    @Test
+    public void testLoadInstancesAllocatedDiscardsPreviousInstances() throws FogbowException {
+        // set up
+        List<Instance> instances = buildInstancesCollections();
+        Mockito.doReturn(instances).when(this.plugin).getInstanceReservations(Mockito.eq(this.client));
+        Mockito.doReturn(createComputeAllocation()).when(this.plugin)
+                .buildAllocatedInstance(Mockito.any(Instance.class), Mockito.anyMap());
+        this.plugin.loadInstancesAllocated(this.client);
+        Mockito.doReturn(new ArrayList<>()).when(this.plugin).getInstanceReservations(Mockito.eq(this.client));
 
-        Assert.assertTrue(this.plugin.getComputeAllocationMap().containsKey(expectedMapKey));
-        Assert.assertEquals(allocation, this.plugin.getComputeAllocationMap().get(expectedMapKey));
+        // exercise
+        Map<String, ComputeAllocation> instancesAllocated = this.plugin.loadInstancesAllocated(this.client);
+
+        // verify
+        Assert.assertTrue(instancesAllocated.isEmpty());
     }
 
     // test case: When calling the getInstanceReservations method, it must verify
@@ -393,11 +417,10 @@ public class AwsQuotaPluginTest extends BaseUnitTests {
         int ramExpected = TestUtils.MEMORY_VALUE;
 
         // exercise
-        ComputeAllocation allocation = this.plugin.buildAllocatedInstance(instance);
+        ComputeAllocation allocation = this.plugin.buildAllocatedInstance(instance, new HashMap<>());
 
         // verify
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).getTotalComputeAllocationMap();
-        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).getComputeAllocationMap();
 
         Assert.assertEquals(instanceExpected, allocation.getInstances());
         Assert.assertEquals(cpuExpected, allocation.getvCPU());
@@ -16,15 +16,15 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
-import org.mockito.internal.verification.VerificationModeFactory;
-import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
 @RunWith(PowerMockRunner.class)
-@PrepareForTest({Thread.class, AzureAsync.class})
+@PrepareForTest({AzureAsync.class})
 public class AzureAsyncTest {
 
+    private static final long INSTANCE_CREATION_CHECK_TIMEOUT = 10;
+
     private AzureWrapper azureWrapper;
 
     @Rule
@@ -130,14 +130,10 @@ public class AzureAsyncTest {
     // it must verify if It throw a InternalServerErrorException.
     @Test
     public void testWaitAndCheckForInstanceCreationFailedSuccessfullyWhenIsNull()
-            throws InterruptedException, FogbowException {
+            throws FogbowException {
         // set up
         String instanceId = TestUtils.EMPTY_STRING;
 
-        PowerMockito.mockStatic(Thread.class);
-        PowerMockito.doNothing().when(Thread.class);
-        Thread.sleep(Mockito.anyLong());
-
         // verify
         this.expectedException.expect(InternalServerErrorException.class);
         this.expectedException.expectMessage(Messages.Exception.UNEXPECTED_ERROR);
@@ -150,14 +146,10 @@ public class AzureAsyncTest {
     // it must verify if It throw a FogbowException.
     @Test
     public void testWaitAndCheckForInstanceCreationFailedSuccessfullyWhenIsFailed()
-            throws InterruptedException, FogbowException {
+            throws FogbowException {
         // set up
         String instanceId = TestUtils.ANY_VALUE;
 
-        PowerMockito.mockStatic(Thread.class);
-        PowerMockito.doNothing().when(Thread.class);
-        Thread.sleep(Mockito.anyLong());
-
         AsyncInstanceCreationManager.Callbacks finishCreationCallbacks = this.azureWrapper.startInstanceCreation(instanceId);
         finishCreationCallbacks.runOnError(TestUtils.ANY_VALUE);
 
@@ -172,15 +164,10 @@ public class AzureAsyncTest {
     // test case: When calling the waitAndCheckForInstanceCreationFailed method and there is not a failed,
     // it must verify if It does not throw a FogbowException.
     @Test
-    public void testWaitAndCheckForInstanceCreationFailedSuccessfullyWhenIsNotFailed()
-            throws InterruptedException {
+    public void testWaitAndCheckForInstanceCreationFailedSuccessfullyWhenIsNotFailed() {
         // set up
         String instanceId = TestUtils.ANY_VALUE;
 
-        PowerMockito.mockStatic(Thread.class);
-        PowerMockito.doNothing().when(Thread.class);
-        Thread.sleep(Mockito.anyLong());
-
         this.azureWrapper.startInstanceCreation(instanceId);
 
         try {
@@ -192,23 +179,36 @@ public class AzureAsyncTest {
 
         // verify
         this.loggerTestChecking.verifyIfEmpty();
-        PowerMockito.verifyStatic(Thread.class, VerificationModeFactory.times(TestUtils.RUN_ONCE));
-        Thread.sleep(Mockito.anyLong());
+    }
+
+    // test case: When calling the waitAndCheckForInstanceCreationFailed method and the creation
+    // finishes successfully while waiting, it must verify if It does not throw a FogbowException.
+    @Test
+    public void testWaitAndCheckForInstanceCreationFailedSuccessfullyWhenIsCreated() {
+        // set up
+        String instanceId = TestUtils.ANY_VALUE;
+
+        AsyncInstanceCreationManager.Callbacks finishCreationCallbacks = this.azureWrapper.startInstanceCreation(instanceId);
+        finishCreationCallbacks.runOnComplete();
+
+        try {
+            // exercise
+            this.azureWrapper.waitAndCheckForInstanceCreationFailed(instanceId);
+        } catch (Throwable e) {
+            // verify
+            Assert.fail();
+        }
     }
 
     // test case: When calling the waitAndCheckForInstanceCreationFailed method and there is not a failed,
     // it must verify if It does not throw a FogbowException.
     @Test
-    public void testWaitAndCheckForInstanceCreationFailedFail()
-            throws InterruptedException {
+    public void testWaitAndCheckForInstanceCreationFailedFail() {
         // set up
         String instanceId = TestUtils.ANY_VALUE;
 
-        PowerMockito.spy(Thread.class);
-        PowerMockito.doThrow(new InterruptedException()).when(Thread.class);
-        Thread.sleep(Mockito.anyLong());
-
         this.azureWrapper.startInstanceCreation(instanceId);
+        Thread.currentThread().interrupt();
 
         try {
             // exercise
@@ -216,10 +216,13 @@ public class AzureAsyncTest {
         } catch (Throwable e) {
             // verify
             Assert.fail();
+        } finally {
+            // clearing the interrupted status of the test thread
+            Thread.interrupted();
         }
 
         // verify
-        this.loggerTestChecking.assertEqualsInOrder(Level.WARN, Messages.Log.SLEEP_THREAD_INTERRUPTED);
+        this.loggerTestChecking.assertEqualsInOrder(Level.WARN, Messages.Log.THREAD_HAS_BEEN_INTERRUPTED);
     }
 
     private class AzureWrapper implements AzureAsync<OrderInstance> {
@@ -229,6 +232,11 @@ public class AzureAsyncTest {
             return new OrderInstance(instanceId);
         }
 
+        @Override
+        public long getInstanceCreationCheckTimeout() {
+            return INSTANCE_CREATION_CHECK_TIMEOUT;
+        }
+
     }
 
 }
@@ -1,12 +1,20 @@
 package cloud.fogbow.ras.core.plugins.interoperability.azure.util;
 
 import cloud.fogbow.ras.core.TestUtils;
+import com.google.common.base.Ticker;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 public class AsyncInstanceCreationManagerTest {
 
+    private static final long AWAIT_TIMEOUT = 60000;
+    private static final long SHORT_AWAIT_TIMEOUT = 10;
+    private static final long TEST_TIMEOUT = 5000;
+
     private AsyncInstanceCreationManager asyncInstanceCreationManagerPlugin;
 
     @Before
@@ -108,4 +116,67 @@ public class AsyncInstanceCreationManagerTest {
         Assert.assertNull(status);
     }
 
+    // test case: When the creation fails while someone awaits it, the awaitCreation method
+    // must return true without waiting for the timeout.
+    @Test(timeout = TEST_TIMEOUT)
+    public void testAwaitCreationWhenInstanceCreationFails() throws InterruptedException {
+        // set up
+        String instanceId = "instanceId";
+        AsyncInstanceCreationManager.Callbacks finishCreationAsyncInstanceCreationCallbacks =
+                this.asyncInstanceCreationManagerPlugin.startCreation(instanceId);
+        new Thread(() -> finishCreationAsyncInstanceCreationCallbacks.runOnError(TestUtils.ANY_VALUE)).start();
+
+        // exercise
+        boolean finished = this.asyncInstanceCreationManagerPlugin.awaitCreation(instanceId, AWAIT_TIMEOUT);
+
+        // verify
+        Assert.assertTrue(finished);
+    }
+
+    // test case: When the creation does not finish within the timeout, or has not been
+    // started, the awaitCreation method must return false.
+    @Test
+    public void testAwaitCreationWhenInstanceCreationDoesNotFinish() throws InterruptedException {
+        // set up
+        String instanceId = "instanceId";
+        String anotherInstanceId = "anotherInstanceId";
+        this.asyncInstanceCreationManagerPlugin.startCreation(instanceId);
+
+        // exercise
+        boolean finished = this.asyncInstanceCreationManagerPlugin.awaitCreation(instanceId, SHORT_AWAIT_TIMEOUT);
+        boolean neverStarted = this.asyncInstanceCreationManagerPlugin.awaitCreation(anotherInstanceId,
+                SHORT_AWAIT_TIMEOUT);
+
+        // verify
+        Assert.assertFalse(finished);
+        Assert.assertFalse(neverStarted);
+        Assert.assertEquals(AsyncInstanceCreationManager.StatusValue.CREATING,
+                this.asyncInstanceCreationManagerPlugin.getStatus(instanceId).getValue());
+    }
+
+    // test case: When a creation is started but nobody awaits it, its completion must be
+    // kept until COMPLETION_EXPIRATION_TIME and then dropped.
+    @Test
+    public void testUnclaimedCompletionExpires() {
+        // set up
+        AtomicLong nanos = new AtomicLong();
+        Ticker ticker = new Ticker() {
+            @Override
+            public long read() {
+                return nanos.get();
+            }
+        };
+        AsyncInstanceCreationManager manager = new AsyncInstanceCreationManager(ticker);
+        manager.startCreation("instanceId");
+
+        // verify
+        Assert.assertEquals(1, manager.getPendingCompletionsCount());
+
+        // exercise
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(AsyncInstanceCreationManager.COMPLETION_EXPIRATION_TIME));
+
+        // verify
+        Assert.assertEquals(0, manager.getPendingCompletionsCount());
+    }
+
 }
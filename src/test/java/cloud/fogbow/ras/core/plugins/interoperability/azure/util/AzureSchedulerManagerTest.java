@@ -0,0 +1,113 @@
+package cloud.fogbow.ras.core.plugins.interoperability.azure.util;
+
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+public class AzureSchedulerManagerTest {
+
+    private static final long WAIT_TIMEOUT = 5;
+    private static final int POOL_SIZE = Integer.parseInt(ConfigurationPropertyDefaults.AZURE_VOLUME_POOL_SIZE);
+    private static final int QUEUE_CAPACITY =
+            Integer.parseInt(ConfigurationPropertyDefaults.AZURE_OPERATION_QUEUE_CAPACITY);
+
+    @After
+    public void tearDown() {
+        AzureSchedulerManager.shutdown();
+    }
+
+    // test case: When getting the executor of an operation type twice, the same
+    // executor must be returned.
+    @Test
+    public void testGetExecutorReturnsSharedExecutor() {
+        // exercise
+        ExecutorService firstExecutor = AzureSchedulerManager.getVirtualMachineExecutor();
+        ExecutorService secondExecutor = AzureSchedulerManager.getVirtualMachineExecutor();
+
+        // verify
+        Assert.assertSame(firstExecutor, secondExecutor);
+        Assert.assertNotSame(firstExecutor, AzureSchedulerManager.getVolumeExecutor());
+    }
+
+    // test case: When all the threads of an executor are busy, the submitted operations
+    // must be counted as queued, and the running ones as active.
+    @Test
+    public void testSubmitToBusyExecutorIsQueued() throws InterruptedException {
+        // set up
+        ExecutorService executor = AzureSchedulerManager.getAttachmentExecutor();
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable operation = () -> {
+            started.countDown();
+            try {
+                release.await(WAIT_TIMEOUT, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        // exercise
+        executor.execute(operation);
+        executor.execute(operation);
+        executor.execute(operation);
+        Assert.assertTrue(started.await(WAIT_TIMEOUT, TimeUnit.SECONDS));
+
+        // verify
+        ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) executor;
+        Assert.assertEquals(2, threadPoolExecutor.getActiveCount());
+        Assert.assertEquals(1, threadPoolExecutor.getQueue().size());
+        release.countDown();
+    }
+
+    // test case: When the queue of an executor is full, submitting another operation
+    // must throw a RejectedExecutionException to the submitter instead of running it.
+    @Test
+    public void testSubmitToFullExecutorIsRejected() {
+        // set up
+        ExecutorService executor = AzureSchedulerManager.getVolumeExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable operation = () -> {
+            try {
+                release.await(WAIT_TIMEOUT, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        for (int i = 0; i < POOL_SIZE + QUEUE_CAPACITY; i++) {
+            executor.execute(operation);
+        }
+
+        try {
+            // exercise
+            executor.execute(operation);
+            Assert.fail();
+        } catch (RejectedExecutionException e) {
+            // verify
+            Assert.assertEquals(QUEUE_CAPACITY, ((ThreadPoolExecutor) executor).getQueue().size());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    // test case: After the executors are shut down, requesting an executor must create
+    // a new one.
+    @Test
+    public void testShutdown() {
+        // set up
+        ExecutorService executor = AzureSchedulerManager.getPublicIPAddressExecutor();
+
+        // exercise
+        AzureSchedulerManager.shutdown();
+
+        // verify
+        Assert.assertTrue(executor.isShutdown());
+        Assert.assertNotSame(executor, AzureSchedulerManager.getPublicIPAddressExecutor());
+    }
+}
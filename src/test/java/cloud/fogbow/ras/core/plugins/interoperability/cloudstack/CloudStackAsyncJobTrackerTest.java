@@ -0,0 +1,189 @@
+package cloud.fogbow.ras.core.plugins.interoperability.cloudstack;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.UnavailableProviderException;
+import cloud.fogbow.common.models.CloudStackUser;
+import cloud.fogbow.common.util.connectivity.cloud.cloudstack.CloudStackHttpClient;
+import cloud.fogbow.common.util.connectivity.cloud.cloudstack.CloudStackQueryJobResult;
+import cloud.fogbow.ras.core.TestUtils;
+import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.sdk.v4_9.job.model.ListAsyncJobsResponse;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class CloudStackAsyncJobTrackerTest {
+
+    private static final String CLOUDSTACK_URL = "cloudstackUrl";
+    private static final String FIRST_JOB_ID = "first-job-id";
+    private static final String SECOND_JOB_ID = "second-job-id";
+    private static final String INSTANCE_ID = "instanceId";
+    private static final long POLLING_INTERVAL = TimeUnit.HOURS.toMillis(1);
+    private static final int MAX_POLLS = 2;
+
+    private CloudStackHttpClient client;
+    private CloudStackUser cloudStackUser;
+    private CloudStackAsyncJobTracker tracker;
+
+    @Before
+    public void setUp() {
+        this.client = Mockito.mock(CloudStackHttpClient.class);
+        this.cloudStackUser = CloudstackTestUtils.CLOUD_STACK_USER;
+        this.tracker = Mockito.spy(new CloudStackAsyncJobTracker(POLLING_INTERVAL, MAX_POLLS));
+    }
+
+    // test case: When polling jobs of the same user, they must be obtained with a single
+    // listAsyncJobs request, and the futures of the finished jobs must be completed.
+    @Test
+    public void testPollCompletesFinishedJobs() throws Exception {
+        // set up
+        CompletableFuture<CloudStackAsyncJobTracker.JobResult> firstJob = this.tracker.track(
+                this.client, CLOUDSTACK_URL, FIRST_JOB_ID, this.cloudStackUser);
+        CompletableFuture<CloudStackAsyncJobTracker.JobResult> secondJob = this.tracker.track(
+                this.client, CLOUDSTACK_URL, SECOND_JOB_ID, this.cloudStackUser);
+
+        Map<String, CloudStackAsyncJobTracker.JobResult> listedJobs = new HashMap<>();
+        listedJobs.put(FIRST_JOB_ID, new CloudStackAsyncJobTracker.JobResult(
+                CloudStackQueryJobResult.SUCCESS, INSTANCE_ID));
+        listedJobs.put(SECOND_JOB_ID, new CloudStackAsyncJobTracker.JobResult(
+                CloudStackQueryJobResult.PROCESSING, null));
+        Mockito.doReturn(listedJobs).when(this.tracker).listAsyncJobs(Mockito.any());
+
+        // exercise
+        this.tracker.poll();
+
+        // verify
+        Assert.assertTrue(firstJob.isDone());
+        Assert.assertEquals(INSTANCE_ID, firstJob.get().getJobInstanceId());
+        Assert.assertFalse(secondJob.isDone());
+        Assert.assertEquals(1, this.tracker.getPendingJobsCount());
+        Mockito.verify(this.tracker, Mockito.times(TestUtils.RUN_ONCE)).listAsyncJobs(Mockito.any());
+        Mockito.verify(this.tracker, Mockito.never()).queryAsyncJob(Mockito.any(), Mockito.any());
+    }
+
+    // test case: When a job is missing from the listAsyncJobs response, it must be
+    // queried individually.
+    @Test
+    public void testPollQueriesJobsMissingFromList() throws Exception {
+        // set up
+        CompletableFuture<CloudStackAsyncJobTracker.JobResult> job = this.tracker.track(
+                this.client, CLOUDSTACK_URL, FIRST_JOB_ID, this.cloudStackUser);
+
+        Mockito.doReturn(new HashMap<>()).when(this.tracker).listAsyncJobs(Mockito.any());
+        Mockito.doReturn(new CloudStackAsyncJobTracker.JobResult(CloudStackQueryJobResult.FAILURE, null))
+                .when(this.tracker).queryAsyncJob(Mockito.any(), Mockito.eq(FIRST_JOB_ID));
+
+        // exercise
+        this.tracker.poll();
+
+        // verify
+        Assert.assertEquals(CloudStackQueryJobResult.FAILURE, job.get().getJobStatus());
+        Assert.assertEquals(0, this.tracker.getPendingJobsCount());
+    }
+
+    // test case: When a job is still processing after the maximum number of polls, its
+    // future must be completed with an UnavailableProviderException.
+    @Test
+    public void testPollGivesUpOnSlowJobs() throws FogbowException, InterruptedException {
+        // set up
+        CompletableFuture<CloudStackAsyncJobTracker.JobResult> job = this.tracker.track(
+                this.client, CLOUDSTACK_URL, FIRST_JOB_ID, this.cloudStackUser);
+
+        Map<String, CloudStackAsyncJobTracker.JobResult> listedJobs = new HashMap<>();
+        listedJobs.put(FIRST_JOB_ID, new CloudStackAsyncJobTracker.JobResult(
+                CloudStackQueryJobResult.PROCESSING, null));
+        Mockito.doReturn(listedJobs).when(this.tracker).listAsyncJobs(Mockito.any());
+
+        // exercise
+        for (int i = 0; i < MAX_POLLS; i++) {
+            this.tracker.poll();
+        }
+
+        // verify
+        Assert.assertTrue(job.isCompletedExceptionally());
+        try {
+            job.get();
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof UnavailableProviderException);
+        }
+        Assert.assertEquals(0, this.tracker.getPendingJobsCount());
+    }
+
+    // test case: When the pending jobs are not in the first page of the listAsyncJobs
+    // response, the next pages must be read until all of them are found, and the jobs of
+    // other requests must be left out.
+    @Test
+    public void testListAsyncJobsReadsPagesUntilAllJobsAreFound() throws Exception {
+        // set up
+        this.tracker.track(this.client, CLOUDSTACK_URL, FIRST_JOB_ID, this.cloudStackUser);
+        CloudStackAsyncJobTracker.AccountJobs accountJobs = getAccountJobs();
+
+        List<ListAsyncJobsResponse.AsyncJob> firstPage = new ArrayList<>();
+        for (int i = 0; i < CloudStackAsyncJobTracker.PAGE_SIZE; i++) {
+            firstPage.add(createAsyncJob("other-job-id-" + i, CloudStackQueryJobResult.SUCCESS));
+        }
+        List<ListAsyncJobsResponse.AsyncJob> secondPage = new ArrayList<>();
+        secondPage.add(createAsyncJob(FIRST_JOB_ID, CloudStackQueryJobResult.SUCCESS));
+        Mockito.doReturn(firstPage).when(this.tracker).listAsyncJobs(Mockito.eq(accountJobs), Mockito.anyString(),
+                Mockito.eq(1));
+        Mockito.doReturn(secondPage).when(this.tracker).listAsyncJobs(Mockito.eq(accountJobs), Mockito.anyString(),
+                Mockito.eq(2));
+
+        // exercise
+        Map<String, CloudStackAsyncJobTracker.JobResult> jobResults = this.tracker.listAsyncJobs(accountJobs);
+
+        // verify
+        Assert.assertEquals(1, jobResults.size());
+        Assert.assertEquals(CloudStackQueryJobResult.SUCCESS, jobResults.get(FIRST_JOB_ID).getJobStatus());
+        Mockito.verify(this.tracker, Mockito.times(TestUtils.RUN_TWICE)).listAsyncJobs(Mockito.eq(accountJobs),
+                Mockito.anyString(), Mockito.anyInt());
+    }
+
+    // test case: When the tracker is shut down, its poller must stop, and tracking a new
+    // job must start it again.
+    @Test
+    public void testShutdown() {
+        // set up
+        this.tracker.track(this.client, CLOUDSTACK_URL, FIRST_JOB_ID, this.cloudStackUser);
+
+        // exercise
+        this.tracker.shutdown();
+
+        // verify
+        Assert.assertFalse(this.tracker.isPolling());
+
+        // exercise
+        this.tracker.track(this.client, CLOUDSTACK_URL, SECOND_JOB_ID, this.cloudStackUser);
+
+        // verify
+        Assert.assertTrue(this.tracker.isPolling());
+        this.tracker.shutdown();
+    }
+
+    private CloudStackAsyncJobTracker.AccountJobs getAccountJobs() throws Exception {
+        ArgumentCaptor<CloudStackAsyncJobTracker.AccountJobs> accountJobs =
+                ArgumentCaptor.forClass(CloudStackAsyncJobTracker.AccountJobs.class);
+        Mockito.doReturn(new HashMap<>()).when(this.tracker).listAsyncJobs(accountJobs.capture());
+        Mockito.doReturn(new CloudStackAsyncJobTracker.JobResult(CloudStackQueryJobResult.PROCESSING, null))
+                .when(this.tracker).queryAsyncJob(Mockito.any(), Mockito.any());
+        this.tracker.poll();
+        Mockito.doCallRealMethod().when(this.tracker).listAsyncJobs(Mockito.any());
+        return accountJobs.getValue();
+    }
+
+    private ListAsyncJobsResponse.AsyncJob createAsyncJob(String jobId, int jobStatus) throws FogbowException {
+        String json = String.format("{\"listasyncjobsresponse\": {\"count\": 1, \"asyncjobs\": "
+                + "[{\"jobid\": \"%s\", \"jobstatus\": %s}]}}", jobId, jobStatus);
+        return ListAsyncJobsResponse.fromJson(json).getAsyncJobs().get(0);
+    }
+}
@@ -600,6 +600,52 @@ public class CloudStackComputePluginTest extends BaseUnitTests {
         Assert.assertEquals(networkDefaultExpected, computeInstance.getNetworks().get(0).getId());
     }
 
+    // test case: calling the getVirtualMachinesDiskSizes method, it must list the root volumes
+    // of the user at once and return the sizes of the ones attached to the virtual machines given.
+    @Test
+    public void testGetVirtualMachinesDiskSizes() throws FogbowException, IOException {
+        // set up
+        CloudStackUser cloudStackUser = CloudstackTestUtils.CLOUD_STACK_USER;
+        String virtualMachineId = "id";
+        String otherVirtualMachineId = "other-id";
+
+        String getVolumeResponseStr = "anyString";
+        Mockito.when(this.client.doGetRequest(Mockito.anyString(), Mockito.eq(cloudStackUser)))
+                .thenReturn(getVolumeResponseStr);
+
+        PowerMockito.mockStatic(GetVolumeResponse.class);
+        GetVolumeResponse getVolumeResponse = Mockito.mock(GetVolumeResponse.class);
+
+        int sizeGBExpected = 5;
+        long sizeBytes = (long) (sizeGBExpected * CloudStackComputePlugin.GIGABYTE_IN_BYTES);
+        GetVolumeResponse.Volume volume = Mockito.mock(GetVolumeResponse.Volume.class);
+        Mockito.when(volume.getSize()).thenReturn(sizeBytes);
+        Mockito.when(volume.getVirtualMachineId()).thenReturn(virtualMachineId);
+        GetVolumeResponse.Volume otherVolume = Mockito.mock(GetVolumeResponse.Volume.class);
+        Mockito.when(otherVolume.getVirtualMachineId()).thenReturn(otherVirtualMachineId);
+        Mockito.when(getVolumeResponse.getVolumes()).thenReturn(Arrays.asList(volume, otherVolume));
+
+        PowerMockito.when(GetVolumeResponse.fromJson(Mockito.eq(getVolumeResponseStr)))
+                .thenReturn(getVolumeResponse);
+
+        GetVolumeRequest requestExpected = new GetVolumeRequest.Builder()
+                .type(CloudStackComputePlugin.DEFAULT_VOLUME_TYPE_VALUE)
+                .page(1)
+                .pageSize(CloudStackComputePlugin.ROOT_VOLUMES_PAGE_SIZE)
+                .build(this.cloudstackUrl);
+        String requestUrlExpexted = requestExpected.getUriBuilder().toString();
+
+        // exercise
+        Map<String, Integer> diskSizes = this.plugin.getVirtualMachinesDiskSizes(
+                Collections.singleton(virtualMachineId), cloudStackUser);
+
+        // verify
+        Assert.assertEquals(1, diskSizes.size());
+        Assert.assertEquals(sizeGBExpected, diskSizes.get(virtualMachineId).intValue());
+        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE))
+                .doGet(Mockito.eq(requestUrlExpexted), Mockito.eq(cloudStackUser));
+    }
+
     // test case: calling the getVirtualMachineDiskSize method with secondary methods mocked,
     // it must verify if It returns the right disk size.
     @Test
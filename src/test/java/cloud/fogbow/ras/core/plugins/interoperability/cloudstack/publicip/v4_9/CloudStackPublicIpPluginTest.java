@@ -16,7 +16,9 @@ import cloud.fogbow.ras.core.BaseUnitTests;
 import cloud.fogbow.ras.core.LoggerAssert;
 import cloud.fogbow.ras.core.TestUtils;
 import cloud.fogbow.ras.core.datastore.DatabaseManager;
+import cloud.fogbow.ras.core.models.orders.OrderState;
 import cloud.fogbow.ras.core.models.orders.PublicIpOrder;
+import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.CloudStackAsyncJobTracker;
 import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.CloudStackCloudUtils;
 import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.CloudStackStateMapper;
 import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.CloudstackTestUtils;
@@ -39,12 +41,12 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
-
-import static cloud.fogbow.ras.core.plugins.interoperability.cloudstack.publicip.v4_9.CloudStackPublicIpPlugin.PUBLIC_IP_RESOURCE;
+import java.util.concurrent.CompletableFuture;
 
 @PrepareForTest({DatabaseManager.class, CloudStackQueryJobResult.class, CloudStackQueryAsyncJobResponse.class,
         SuccessfulAssociateIpAddressResponse.class, CloudStackUrlUtil.class, CloudStackCloudUtils.class,
-        CreateFirewallRuleAsyncResponse.class, AssociateIpAddressAsyncJobIdResponse.class})
+        CreateFirewallRuleAsyncResponse.class, AssociateIpAddressAsyncJobIdResponse.class,
+        CloudStackAsyncJobTracker.class})
 public class CloudStackPublicIpPluginTest extends BaseUnitTests {
 
     @Rule
@@ -159,7 +161,10 @@ public class CloudStackPublicIpPluginTest extends BaseUnitTests {
         Mockito.doReturn(jobId).when(this.plugin).
                 requestIpAddressAssociation(Mockito.any(), Mockito.any());
 
-        Mockito.doNothing().when(this.plugin).setAsyncRequestInstanceFirstStep(Mockito.any(), Mockito.any());
+        AsyncRequestInstanceState asyncRequestInstanceState = Mockito.mock(AsyncRequestInstanceState.class);
+        Mockito.doReturn(asyncRequestInstanceState).when(this.plugin).setAsyncRequestInstanceFirstStep(
+                Mockito.eq(jobId), Mockito.eq(publicIpOrder));
+        Mockito.doNothing().when(this.plugin).trackCurrentJob(Mockito.any(), Mockito.any());
 
         AssociateIpAddressRequest request = new AssociateIpAddressRequest.Builder()
                 .networkId(this.defaultNetworkId)
@@ -173,6 +178,8 @@ public class CloudStackPublicIpPluginTest extends BaseUnitTests {
         RequestMatcher<AssociateIpAddressRequest> matcher = new RequestMatcher.AssociateIpAddress(request);
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE))
                 .requestIpAddressAssociation(Mockito.argThat(matcher), Mockito.eq(this.cloudStackUser));
+        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).trackCurrentJob(
+                Mockito.eq(asyncRequestInstanceState), Mockito.eq(this.cloudStackUser));
     }
 
     // test case: When calling the requestIpAddressAssociation method and occurs a HttpResponseException,
@@ -335,6 +342,58 @@ public class CloudStackPublicIpPluginTest extends BaseUnitTests {
         RequestMatcher<DisassociateIpAddressRequest> matcher = new RequestMatcher.DisassociateIpAddress(request);
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE))
                 .requestDisassociateIpAddress(Mockito.argThat(matcher), Mockito.eq(this.cloudStackUser));
+        Assert.assertSame(asyncRequestInstanceStateReady, this.asyncRequestInstanceStateMapMocked.get(instanceId));
+        Assert.assertTrue(asyncRequestInstanceStateReady.isDeleted());
+        Assert.assertEquals(ipAddressId, asyncRequestInstanceStateReady.getReleasedIpInstanceId());
+    }
+
+    // test case: When calling the doDeleteInstance method while the job of a step is running, it must
+    // verify if It only marks the asynchronous request instance as deleted, without releasing the ip address.
+    @Test
+    public void testDoDeleteInstanceWhileJobIsRunning() throws FogbowException {
+        // set up
+        String instanceId = "instanceId";
+        PublicIpOrder publicIpOrder = Mockito.mock(PublicIpOrder.class);
+        Mockito.when(publicIpOrder.getId()).thenReturn(instanceId);
+
+        AsyncRequestInstanceState asyncRequestInstanceState = new AsyncRequestInstanceState(
+                AsyncRequestInstanceState.StateType.ASSOCIATING_IP_ADDRESS, "jobId", null);
+        asyncRequestInstanceState.setCurrentJobTracked(true);
+        this.asyncRequestInstanceStateMapMocked.put(instanceId, asyncRequestInstanceState);
+
+        // exercise
+        this.plugin.doDeleteInstance(publicIpOrder, this.cloudStackUser);
+
+        // verify
+        Assert.assertTrue(asyncRequestInstanceState.isDeleted());
+        Assert.assertSame(asyncRequestInstanceState, this.asyncRequestInstanceStateMapMocked.get(instanceId));
+        Mockito.verify(this.plugin, Mockito.never()).requestDisassociateIpAddress(Mockito.any(), Mockito.any());
+    }
+
+    // test case: When calling the doDeleteInstance method after the ip address was already released
+    // by a failed step, it must verify if It does not disassociate the ip address again.
+    @Test
+    public void testDoDeleteInstanceWhenFailed() throws FogbowException {
+        // set up
+        String instanceId = "instanceId";
+        PublicIpOrder publicIpOrder = Mockito.mock(PublicIpOrder.class);
+        Mockito.when(publicIpOrder.getId()).thenReturn(instanceId);
+
+        AsyncRequestInstanceState asyncRequestInstanceState = new AsyncRequestInstanceState(
+                AsyncRequestInstanceState.StateType.CREATING_FIREWALL_RULE, "jobId", null);
+        asyncRequestInstanceState.setIpInstanceId("ipAddressId");
+        this.asyncRequestInstanceStateMapMocked.put(instanceId, asyncRequestInstanceState);
+        Mockito.doNothing().when(this.plugin).requestDisassociateIpAddress(Mockito.any(), Mockito.any());
+        this.plugin.failAsyncRequestInstanceSteps(asyncRequestInstanceState, this.cloudStackUser);
+
+        // exercise
+        this.plugin.doDeleteInstance(publicIpOrder, this.cloudStackUser);
+
+        // verify
+        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE))
+                .requestDisassociateIpAddress(Mockito.any(), Mockito.any());
+        Assert.assertTrue(asyncRequestInstanceState.isDeleted());
+        Assert.assertEquals("ipAddressId", asyncRequestInstanceState.getReleasedIpInstanceId());
     }
 
     // test case: When calling the finishAsyncRequestInstanceSteps method, it must verify if It
@@ -729,346 +788,439 @@ public class CloudStackPublicIpPluginTest extends BaseUnitTests {
                 Mockito.eq(response), Mockito.eq(asyncRequestInstanceState), Mockito.eq(jobId));
     }
 
-    // test case: When calling the createNextOperationPublicIpInstance method with secondary methods mocked
-    // and the current state is Ready, it must verify if It returns null.
+    // test case: When calling the createCurrentPublicIpInstance method and the current job of the
+    // asynchronous request instance associating the ip address is tracked, it must verify if It
+    // returns a processing publicIpInstance without tracking the job again.
     @Test
-    public void testCreateNextOperationPublicIpInstanceFail() throws FogbowException {
+    public void testCreateCurrentPublicIpInstanceWhenAssociatingIpAddress() {
         // set up
-        AsyncRequestInstanceState asyncRequestInstanceState = Mockito.mock(AsyncRequestInstanceState.class);
-        AsyncRequestInstanceState.StateType state = AsyncRequestInstanceState.StateType.READY;
-        Mockito.when(asyncRequestInstanceState.getState()).thenReturn(state);
-        String jsonResponse = "jsonResponse";
-
-        Mockito.doNothing().when(this.plugin).finishAsyncRequestInstanceSteps(
-                Mockito.eq(asyncRequestInstanceState));
-
-        PublicIpInstance publicIpInstanceExpected = Mockito.mock(PublicIpInstance.class);
-        Mockito.doReturn(publicIpInstanceExpected).when(this.plugin).createPublicIpInstance(
-                Mockito.eq(asyncRequestInstanceState), Mockito.anyString());
+        AsyncRequestInstanceState asyncRequestInstanceState = new AsyncRequestInstanceState(
+                AsyncRequestInstanceState.StateType.ASSOCIATING_IP_ADDRESS, "jobId", null);
+        asyncRequestInstanceState.setCurrentJobTracked(true);
 
         // exercise
-        PublicIpInstance publicIpInstance = this.plugin.createNextOperationPublicIpInstance(
-                asyncRequestInstanceState, this.cloudStackUser, jsonResponse);
+        PublicIpInstance publicIpInstance = this.plugin.createCurrentPublicIpInstance(
+                asyncRequestInstanceState, this.cloudStackUser);
 
         // verify
-        Assert.assertNull(publicIpInstance);
+        Assert.assertEquals(CloudStackStateMapper.PROCESSING_STATUS, publicIpInstance.getCloudState());
+        Mockito.verify(this.plugin, Mockito.never()).trackCurrentJob(Mockito.any(), Mockito.any());
     }
 
-    // test case: When calling the createNextOperationPublicIpInstance method with secondary methods mocked
-    // and the current state is CreatingFirewall, it must verify if It returns the PublicIpInstance by the
-    // buildReadyPublicIpInstance method.
+    // test case: When calling the createCurrentPublicIpInstance method and the current job of the
+    // asynchronous request instance creating the firewall rule is not tracked, it must verify if It
+    // tracks the job again and returns a publicIpInstance creating the firewall rule.
     @Test
-    public void testCreateNextOperationPublicIpInstanceWhenCreatingFirewallState() throws FogbowException {
+    public void testCreateCurrentPublicIpInstanceWhenCurrentJobIsNotTracked() {
         // set up
-        AsyncRequestInstanceState asyncRequestInstanceState = Mockito.mock(AsyncRequestInstanceState.class);
-        AsyncRequestInstanceState.StateType state = AsyncRequestInstanceState.StateType.CREATING_FIREWALL_RULE;
-        Mockito.when(asyncRequestInstanceState.getState()).thenReturn(state);
-        String jsonResponse = "jsonResponse";
+        AsyncRequestInstanceState asyncRequestInstanceState = new AsyncRequestInstanceState(
+                AsyncRequestInstanceState.StateType.CREATING_FIREWALL_RULE, "jobId", null);
 
-        Mockito.doNothing().when(this.plugin).finishAsyncRequestInstanceSteps(
-                Mockito.eq(asyncRequestInstanceState));
-
-        PublicIpInstance publicIpInstanceExpected = Mockito.mock(PublicIpInstance.class);
-        Mockito.doReturn(publicIpInstanceExpected).when(this.plugin).createPublicIpInstance(
-                Mockito.eq(asyncRequestInstanceState), Mockito.anyString());
+        Mockito.doNothing().when(this.plugin).trackCurrentJob(
+                Mockito.eq(asyncRequestInstanceState), Mockito.eq(this.cloudStackUser));
 
         // exercise
-        PublicIpInstance publicIpInstance = this.plugin.createNextOperationPublicIpInstance(
-                asyncRequestInstanceState, this.cloudStackUser, jsonResponse);
+        PublicIpInstance publicIpInstance = this.plugin.createCurrentPublicIpInstance(
+                asyncRequestInstanceState, this.cloudStackUser);
 
         // verify
-        Assert.assertEquals(publicIpInstanceExpected, publicIpInstance);
+        Assert.assertEquals(CloudStackStateMapper.CREATING_FIREWALL_RULE_STATUS, publicIpInstance.getCloudState());
+        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).trackCurrentJob(
+                Mockito.eq(asyncRequestInstanceState), Mockito.eq(this.cloudStackUser));
     }
 
-    // test case: When calling the createNextOperationPublicIpInstance method with secondary methods mocked
-    // and the current state is AssociateIp but occurs a FogbowException, it must verify if It throws
-    // a FogbowException.
+    // test case: When calling the createCurrentPublicIpInstance method and the asynchronous request
+    // instance has failed, it must verify if It returns a failed publicIpInstance.
     @Test
-    public void testCreateNextOperationPublicIpInstanceFailWhenAssociateIpState() throws FogbowException {
+    public void testCreateCurrentPublicIpInstanceWhenFailed() {
         // set up
-        AsyncRequestInstanceState asyncRequestInstanceState = Mockito.mock(AsyncRequestInstanceState.class);
-        AsyncRequestInstanceState.StateType state = AsyncRequestInstanceState.StateType.ASSOCIATING_IP_ADDRESS;
-        Mockito.when(asyncRequestInstanceState.getState()).thenReturn(state);
-        String jsonResponse = "jsonResponse";
+        AsyncRequestInstanceState asyncRequestInstanceState = new AsyncRequestInstanceState(
+                AsyncRequestInstanceState.StateType.FAILED, "jobId", null);
 
-        Mockito.doThrow(new FogbowException("")).when(this.plugin).doCreatingFirewallOperation(
-                Mockito.eq(asyncRequestInstanceState), Mockito.eq(this.cloudStackUser), Mockito.eq(jsonResponse));
+        // exercise
+        PublicIpInstance publicIpInstance = this.plugin.createCurrentPublicIpInstance(
+                asyncRequestInstanceState, this.cloudStackUser);
 
         // verify
-        this.expectedException.expect(FogbowException.class);
+        Assert.assertEquals(CloudStackStateMapper.FAILURE_STATUS, publicIpInstance.getCloudState());
+    }
+
+    // test case: When calling the trackCurrentJob method, it must verify if It tracks the current
+    // job of the asynchronous request instance with the CloudStackAsyncJobTracker.
+    @Test
+    public void testTrackCurrentJob() {
+        // set up
+        String jobId = "jobId";
+        AsyncRequestInstanceState asyncRequestInstanceState = new AsyncRequestInstanceState(
+                AsyncRequestInstanceState.StateType.ASSOCIATING_IP_ADDRESS, jobId, null);
+
+        CloudStackAsyncJobTracker tracker = Mockito.mock(CloudStackAsyncJobTracker.class);
+        Mockito.when(tracker.track(Mockito.eq(this.client), Mockito.eq(this.cloudStackUrl), Mockito.eq(jobId),
+                Mockito.eq(this.cloudStackUser))).thenReturn(new CompletableFuture<>());
+        PowerMockito.mockStatic(CloudStackAsyncJobTracker.class);
+        PowerMockito.when(CloudStackAsyncJobTracker.getInstance()).thenReturn(tracker);
 
         // exercise
-        this.plugin.createNextOperationPublicIpInstance(
-                asyncRequestInstanceState, this.cloudStackUser, jsonResponse);
+        this.plugin.trackCurrentJob(asyncRequestInstanceState, this.cloudStackUser);
+
+        // verify
+        Assert.assertTrue(asyncRequestInstanceState.isCurrentJobTracked());
+        Mockito.verify(tracker, Mockito.times(TestUtils.RUN_ONCE)).track(Mockito.eq(this.client),
+                Mockito.eq(this.cloudStackUrl), Mockito.eq(jobId), Mockito.eq(this.cloudStackUser));
     }
 
-    // test case: When calling the createNextOperationPublicIpInstance method with secondary methods mocked
-    // and the current state is AssociateIp, it must verify if It returns the PublicIpInstance by the
-    // buildCreatingFirewallPublicIpInstance method.
+    // test case: When calling the takeNextStep method and the job of the current step succeeded,
+    // it must verify if It executes the next operation.
     @Test
-    public void testCreateNextOperationPublicIpInstanceWhenAssociateIpState() throws FogbowException {
+    public void testTakeNextStepWhenSuccessJobStatus() throws FogbowException {
         // set up
-        AsyncRequestInstanceState asyncRequestInstanceState = Mockito.mock(AsyncRequestInstanceState.class);
-        AsyncRequestInstanceState.StateType state = AsyncRequestInstanceState.StateType.ASSOCIATING_IP_ADDRESS;
-        Mockito.when(asyncRequestInstanceState.getState()).thenReturn(state);
-        String jsonResponse = "jsonResponse";
-
-        Mockito.doNothing().when(this.plugin).doCreatingFirewallOperation(
-                Mockito.eq(asyncRequestInstanceState), Mockito.eq(this.cloudStackUser), Mockito.eq(jsonResponse));
+        String jobId = "jobId";
+        AsyncRequestInstanceState asyncRequestInstanceState = new AsyncRequestInstanceState(
+                AsyncRequestInstanceState.StateType.ASSOCIATING_IP_ADDRESS, jobId, null);
+        asyncRequestInstanceState.setCurrentJobTracked(true);
+        CloudStackAsyncJobTracker.JobResult jobResult = new CloudStackAsyncJobTracker.JobResult(
+                CloudStackQueryJobResult.SUCCESS, null);
 
-        PublicIpInstance publicIpInstanceExpected = new PublicIpInstance(
-                asyncRequestInstanceState.getIpInstanceId(),
-                CloudStackStateMapper.CREATING_FIREWALL_RULE_STATUS,
-                asyncRequestInstanceState.getIp());
+        Mockito.doNothing().when(this.plugin).doNextOperation(
+                Mockito.eq(asyncRequestInstanceState), Mockito.eq(this.cloudStackUser), Mockito.eq(jobId));
 
         // exercise
-        PublicIpInstance publicIpInstance = this.plugin.createNextOperationPublicIpInstance(
-                asyncRequestInstanceState, this.cloudStackUser, jsonResponse);
+        this.plugin.takeNextStep(asyncRequestInstanceState, this.cloudStackUser, jobId, jobResult, null);
 
         // verify
-        Assert.assertEquals(publicIpInstanceExpected, publicIpInstance);
+        Assert.assertFalse(asyncRequestInstanceState.isCurrentJobTracked());
+        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).doNextOperation(
+                Mockito.eq(asyncRequestInstanceState), Mockito.eq(this.cloudStackUser), Mockito.eq(jobId));
+        Mockito.verify(this.plugin, Mockito.never()).failAsyncRequestInstanceSteps(Mockito.any(), Mockito.any());
     }
 
-    // test case: When calling the createCurrentPublicIpInstance method with secondary methods mocked
-    // and job status is unknown, it must verify if it returns null.
+    // test case: When calling the takeNextStep method and the next operation throws a
+    // FogbowException, it must verify if It sets the asynchronous request instance as failed.
     @Test
-    public void testCreateCurrentPublicIpInstanceFailWhenUnexpected() throws FogbowException {
+    public void testTakeNextStepFailWhenNextOperationFails() throws FogbowException {
         // set up
         String jobId = "jobId";
-        AsyncRequestInstanceState asyncRequestInstanceState = Mockito.mock(AsyncRequestInstanceState.class);
-        Mockito.when(asyncRequestInstanceState.getCurrentJobId()).thenReturn(jobId);
-        PublicIpOrder publicIpOrder = Mockito.mock(PublicIpOrder.class);
+        AsyncRequestInstanceState asyncRequestInstanceState = new AsyncRequestInstanceState(
+                AsyncRequestInstanceState.StateType.ASSOCIATING_IP_ADDRESS, jobId, null);
+        asyncRequestInstanceState.setCurrentJobTracked(true);
+        CloudStackAsyncJobTracker.JobResult jobResult = new CloudStackAsyncJobTracker.JobResult(
+                CloudStackQueryJobResult.SUCCESS, null);
 
-        PowerMockito.mockStatic(CloudStackQueryJobResult.class);
-        String jsonResponse = "jsonResponse";
-        PowerMockito.when(CloudStackQueryJobResult.getQueryJobResult(
-                Mockito.eq(this.client), Mockito.eq(this.cloudStackUrl),
-                Mockito.eq(jobId), Mockito.eq(this.cloudStackUser))).
-                thenReturn(jsonResponse);
-
-        Integer jobStatusUnknown = -1;
-        CloudStackQueryAsyncJobResponse response = Mockito.mock(CloudStackQueryAsyncJobResponse.class);
-        Mockito.when(response.getJobStatus()).thenReturn(jobStatusUnknown);
-        PowerMockito.mockStatic(CloudStackQueryAsyncJobResponse.class);
-        PowerMockito.when(CloudStackQueryAsyncJobResponse.fromJson(Mockito.eq(jsonResponse))).
-                thenReturn(response);
+        Mockito.doThrow(new FogbowException("")).when(this.plugin).doNextOperation(
+                Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.doNothing().when(this.plugin).failAsyncRequestInstanceSteps(Mockito.any(), Mockito.any());
 
         // exercise
-        PublicIpInstance publicIpInstance = this.plugin.createCurrentPublicIpInstance(
-                asyncRequestInstanceState, publicIpOrder, this.cloudStackUser);
+        this.plugin.takeNextStep(asyncRequestInstanceState, this.cloudStackUser, jobId, jobResult, null);
 
         // verify
-        Assert.assertNull(publicIpInstance);
-        this.loggerTestChecking.assertEqualsInOrder(Level.ERROR, Messages.Log.UNEXPECTED_JOB_STATUS);
+        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).failAsyncRequestInstanceSteps(
+                Mockito.eq(asyncRequestInstanceState), Mockito.eq(this.cloudStackUser));
+        this.loggerTestChecking.assertEqualsInOrder(Level.ERROR,
+                Messages.Log.ERROR_WHILE_PROCESSING_ASYNCHRONOUS_REQUEST_INSTANCE_STEP);
     }
 
-    // test case: When calling the createCurrentPublicIpInstance method with secondary methods mocked
-    // and occurs an exception, it must verify if It throws a FogbowException.
+    // test case: When calling the takeNextStep method and the job of the current step failed,
+    // it must verify if It sets the asynchronous request instance as failed.
     @Test
-    public void testCreateCurrentPublicIpInstanceFail() throws FogbowException {
+    public void testTakeNextStepWhenFailureJobStatus() throws FogbowException {
         // set up
         String jobId = "jobId";
-        AsyncRequestInstanceState asyncRequestInstanceState = Mockito.mock(AsyncRequestInstanceState.class);
-        Mockito.when(asyncRequestInstanceState.getCurrentJobId()).thenReturn(jobId);
-        PublicIpOrder publicIpOrder = Mockito.mock(PublicIpOrder.class);
+        AsyncRequestInstanceState asyncRequestInstanceState = new AsyncRequestInstanceState(
+                AsyncRequestInstanceState.StateType.CREATING_FIREWALL_RULE, jobId, null);
+        asyncRequestInstanceState.setCurrentJobTracked(true);
+        CloudStackAsyncJobTracker.JobResult jobResult = new CloudStackAsyncJobTracker.JobResult(
+                CloudStackQueryJobResult.FAILURE, null);
 
-        PowerMockito.mockStatic(CloudStackQueryJobResult.class);
-        PowerMockito.when(CloudStackQueryJobResult.getQueryJobResult(
-                Mockito.eq(this.client), Mockito.eq(this.cloudStackUrl),
-                Mockito.eq(jobId), Mockito.eq(this.cloudStackUser))).
-                thenThrow(new FogbowException(""));
+        Mockito.doNothing().when(this.plugin).failAsyncRequestInstanceSteps(Mockito.any(), Mockito.any());
+
+        // exercise
+        this.plugin.takeNextStep(asyncRequestInstanceState, this.cloudStackUser, jobId, jobResult, null);
 
         // verify
-        this.expectedException.expect(FogbowException.class);
+        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).failAsyncRequestInstanceSteps(
+                Mockito.eq(asyncRequestInstanceState), Mockito.eq(this.cloudStackUser));
+        Mockito.verify(this.plugin, Mockito.never()).doNextOperation(Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    // test case: When calling the takeNextStep method and the tracking of the job failed, it must
+    // verify if It leaves the asynchronous request instance in the same step with its job untracked.
+    @Test
+    public void testTakeNextStepWhenTrackingFails() throws FogbowException {
+        // set up
+        String jobId = "jobId";
+        String instanceId = "instanceId";
+        AsyncRequestInstanceState asyncRequestInstanceState = new AsyncRequestInstanceState(
+                AsyncRequestInstanceState.StateType.ASSOCIATING_IP_ADDRESS, jobId, null);
+        asyncRequestInstanceState.setOrderInstanceId(instanceId);
+        asyncRequestInstanceState.setCurrentJobTracked(true);
+
+        String messageExpected = String.format(Messages.Log.UNABLE_TO_TRACK_JOB_OF_ASYNCHRONOUS_PUBLIC_IP_S,
+                instanceId);
 
         // exercise
-        this.plugin.createCurrentPublicIpInstance(
-                asyncRequestInstanceState, publicIpOrder, this.cloudStackUser);
+        this.plugin.takeNextStep(asyncRequestInstanceState, this.cloudStackUser, jobId, null,
+                new FogbowException(""));
+
+        // verify
+        Assert.assertFalse(asyncRequestInstanceState.isCurrentJobTracked());
+        Assert.assertEquals(AsyncRequestInstanceState.StateType.ASSOCIATING_IP_ADDRESS,
+                asyncRequestInstanceState.getState());
+        Mockito.verify(this.plugin, Mockito.never()).doNextOperation(Mockito.any(), Mockito.any(), Mockito.any());
+        this.loggerTestChecking.assertEqualsInOrder(Level.WARN, messageExpected);
     }
 
-    // test case: When calling the createCurrentPublicIpInstance method with secondary methods mocked
-    // and the job state is ready failure but it occurs a FogbowException when try delete the instance,
-    // it must verify if It returns the publicIpInstance failure and log the error.
+    // test case: When calling the takeNextStep method for an asynchronous request instance deleted while
+    // its ip address was being associated, it must verify if It releases the associated ip address and
+    // keeps the asynchronous request instance as a deleted one.
     @Test
-    public void testCreateCurrentPublicIpInstanceFailWhenFailureJobStatus() throws FogbowException {
+    public void testTakeNextStepWhenDeleted() throws Exception {
         // set up
         String jobId = "jobId";
-        AsyncRequestInstanceState asyncRequestInstanceState = Mockito.mock(AsyncRequestInstanceState.class);
-        Mockito.when(asyncRequestInstanceState.getCurrentJobId()).thenReturn(jobId);
-        PublicIpOrder publicIpOrder = Mockito.mock(PublicIpOrder.class);
         String instanceId = "instanceId";
-        Mockito.when(publicIpOrder.getInstanceId()).thenReturn(instanceId);
-
+        AsyncRequestInstanceState asyncRequestInstanceState = new AsyncRequestInstanceState(
+                AsyncRequestInstanceState.StateType.ASSOCIATING_IP_ADDRESS, jobId, null);
+        asyncRequestInstanceState.setOrderInstanceId(instanceId);
+        asyncRequestInstanceState.setCurrentJobTracked(true);
+        asyncRequestInstanceState.setDeleted(true);
+        this.asyncRequestInstanceStateMapMocked.put(instanceId, asyncRequestInstanceState);
+        CloudStackAsyncJobTracker.JobResult jobResult = new CloudStackAsyncJobTracker.JobResult(
+                CloudStackQueryJobResult.SUCCESS, null);
+
+        String jsonResponse = "{\"queryasyncjobresultresponse\":{\"jobresult\":{\"ipaddress\":"
+                + "{\"id\":\"ipAddressId\",\"ipaddress\":\"200.139.35.14\"}}}}";
         PowerMockito.mockStatic(CloudStackQueryJobResult.class);
-        String jsonResponse = "jsonResponse";
-        PowerMockito.when(CloudStackQueryJobResult.getQueryJobResult(
-                Mockito.eq(this.client), Mockito.eq(this.cloudStackUrl),
-                Mockito.eq(jobId), Mockito.eq(this.cloudStackUser))).
-                thenReturn(jsonResponse);
+        PowerMockito.when(CloudStackQueryJobResult.getQueryJobResult(Mockito.eq(this.client),
+                Mockito.eq(this.cloudStackUrl), Mockito.eq(jobId), Mockito.eq(this.cloudStackUser)))
+                .thenReturn(jsonResponse);
+        SuccessfulAssociateIpAddressResponse response = Mockito.mock(SuccessfulAssociateIpAddressResponse.class);
+        SuccessfulAssociateIpAddressResponse.IpAddress ipAddress =
+                Mockito.mock(SuccessfulAssociateIpAddressResponse.IpAddress.class);
+        Mockito.when(ipAddress.getId()).thenReturn("ipAddressId");
+        Mockito.when(response.getIpAddress()).thenReturn(ipAddress);
+        PowerMockito.mockStatic(SuccessfulAssociateIpAddressResponse.class);
+        PowerMockito.when(SuccessfulAssociateIpAddressResponse.fromJson(Mockito.eq(jsonResponse)))
+                .thenReturn(response);
+        Mockito.doNothing().when(this.plugin).requestDisassociateIpAddress(Mockito.any(), Mockito.any());
 
-        Integer jobStatus = CloudStackQueryJobResult.FAILURE;
-        CloudStackQueryAsyncJobResponse response = Mockito.mock(CloudStackQueryAsyncJobResponse.class);
-        Mockito.when(response.getJobStatus()).thenReturn(jobStatus);
-        PowerMockito.mockStatic(CloudStackQueryAsyncJobResponse.class);
-        PowerMockito.when(CloudStackQueryAsyncJobResponse.fromJson(Mockito.eq(jsonResponse))).
-                thenReturn(response);
+        DisassociateIpAddressRequest request = new DisassociateIpAddressRequest.Builder()
+                .id("ipAddressId")
+                .build(this.cloudStackUrl);
+
+        // exercise
+        this.plugin.takeNextStep(asyncRequestInstanceState, this.cloudStackUser, jobId, jobResult, null);
+
+        // verify
+        RequestMatcher<DisassociateIpAddressRequest> matcher = new RequestMatcher.DisassociateIpAddress(request);
+        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE))
+                .requestDisassociateIpAddress(Mockito.argThat(matcher), Mockito.eq(this.cloudStackUser));
+        Mockito.verify(this.plugin, Mockito.never()).doNextOperation(Mockito.any(), Mockito.any(), Mockito.any());
+        Assert.assertSame(asyncRequestInstanceState, this.asyncRequestInstanceStateMapMocked.get(instanceId));
+        Assert.assertEquals("ipAddressId", asyncRequestInstanceState.getReleasedIpInstanceId());
+    }
 
-        Mockito.doThrow(new FogbowException("")).when(this.plugin)
-                .doDeleteInstance(Mockito.any(), Mockito.any());
+    // test case: When calling the takeNextStep method with the result of a job that is no longer the
+    // current one, it must verify if It ignores the result.
+    @Test
+    public void testTakeNextStepIgnoresPreviousJobs() throws FogbowException {
+        // set up
+        AsyncRequestInstanceState asyncRequestInstanceState = new AsyncRequestInstanceState(
+                AsyncRequestInstanceState.StateType.CREATING_FIREWALL_RULE, "currentJobId", null);
+        asyncRequestInstanceState.setCurrentJobTracked(true);
+        CloudStackAsyncJobTracker.JobResult jobResult = new CloudStackAsyncJobTracker.JobResult(
+                CloudStackQueryJobResult.SUCCESS, null);
 
         // exercise
-        PublicIpInstance publicIpInstance = this.plugin.createCurrentPublicIpInstance(
-                asyncRequestInstanceState, publicIpOrder, this.cloudStackUser);
+        this.plugin.takeNextStep(asyncRequestInstanceState, this.cloudStackUser, "previousJobId", jobResult, null);
 
         // verify
-        Assert.assertEquals(CloudStackStateMapper.FAILURE_STATUS, publicIpInstance.getCloudState());
-        String errorExpected = String.format(Messages.Log.ERROR_WHILE_REMOVING_RESOURCE_S_S,
-                PUBLIC_IP_RESOURCE, publicIpOrder.getInstanceId());
-        this.loggerTestChecking.assertEqualsInOrder(Level.ERROR, errorExpected);
+        Assert.assertTrue(asyncRequestInstanceState.isCurrentJobTracked());
+        Mockito.verify(this.plugin, Mockito.never()).doNextOperation(Mockito.any(), Mockito.any(), Mockito.any());
     }
 
-    // test case: When calling the createCurrentPublicIpInstance method with secondary methods mocked
-    // and the job state is ready failure, it must verify if It returns the publicIpInstance failure
-    // and delete the instance.
+    // test case: When calling the doNextOperation method and the current state is AssociatingIpAddress,
+    // it must verify if It creates the firewall rule and tracks its job.
     @Test
-    public void testCreateCurrentPublicIpInstanceWhenFailureJobStatus() throws FogbowException {
+    public void testDoNextOperationWhenAssociatingIpAddress() throws FogbowException {
         // set up
         String jobId = "jobId";
-        AsyncRequestInstanceState asyncRequestInstanceState = Mockito.mock(AsyncRequestInstanceState.class);
-        Mockito.when(asyncRequestInstanceState.getCurrentJobId()).thenReturn(jobId);
-        PublicIpOrder publicIpOrder = Mockito.mock(PublicIpOrder.class);
+        AsyncRequestInstanceState asyncRequestInstanceState = new AsyncRequestInstanceState(
+                AsyncRequestInstanceState.StateType.ASSOCIATING_IP_ADDRESS, jobId, null);
 
-        PowerMockito.mockStatic(CloudStackQueryJobResult.class);
         String jsonResponse = "jsonResponse";
+        PowerMockito.mockStatic(CloudStackQueryJobResult.class);
         PowerMockito.when(CloudStackQueryJobResult.getQueryJobResult(
                 Mockito.eq(this.client), Mockito.eq(this.cloudStackUrl),
                 Mockito.eq(jobId), Mockito.eq(this.cloudStackUser))).
                 thenReturn(jsonResponse);
 
-        Integer jobStatus = CloudStackQueryJobResult.FAILURE;
-        CloudStackQueryAsyncJobResponse response = Mockito.mock(CloudStackQueryAsyncJobResponse.class);
-        Mockito.when(response.getJobStatus()).thenReturn(jobStatus);
-        PowerMockito.mockStatic(CloudStackQueryAsyncJobResponse.class);
-        PowerMockito.when(CloudStackQueryAsyncJobResponse.fromJson(Mockito.eq(jsonResponse))).
-                thenReturn(response);
+        Mockito.doNothing().when(this.plugin).doCreatingFirewallOperation(
+                Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.doNothing().when(this.plugin).trackCurrentJob(Mockito.any(), Mockito.any());
+
+        // exercise
+        this.plugin.doNextOperation(asyncRequestInstanceState, this.cloudStackUser, jobId);
+
+        // verify
+        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).doCreatingFirewallOperation(
+                Mockito.eq(asyncRequestInstanceState), Mockito.eq(this.cloudStackUser), Mockito.eq(jsonResponse));
+        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).trackCurrentJob(
+                Mockito.eq(asyncRequestInstanceState), Mockito.eq(this.cloudStackUser));
+    }
 
-        Mockito.doNothing().when(this.plugin).doDeleteInstance(Mockito.any(), Mockito.any());
+    // test case: When calling the doNextOperation method and the current state is CreatingFirewallRule,
+    // it must verify if It finishes the asynchronous request instance steps.
+    @Test
+    public void testDoNextOperationWhenCreatingFirewallRule() throws FogbowException {
+        // set up
+        AsyncRequestInstanceState asyncRequestInstanceState = new AsyncRequestInstanceState(
+                AsyncRequestInstanceState.StateType.CREATING_FIREWALL_RULE, "jobId", null);
 
         // exercise
-        PublicIpInstance publicIpInstance = this.plugin.createCurrentPublicIpInstance(
-                asyncRequestInstanceState, publicIpOrder, this.cloudStackUser);
+        this.plugin.doNextOperation(asyncRequestInstanceState, this.cloudStackUser, "jobId");
 
         // verify
-        Assert.assertEquals(CloudStackStateMapper.FAILURE_STATUS, publicIpInstance.getCloudState());
-        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).doDeleteInstance(
-                Mockito.eq(publicIpOrder), Mockito.eq(this.cloudStackUser));
+        Assert.assertTrue(asyncRequestInstanceState.isReady());
+        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).finishAsyncRequestInstanceSteps(
+                Mockito.eq(asyncRequestInstanceState));
+        Mockito.verify(this.plugin, Mockito.never()).trackCurrentJob(Mockito.any(), Mockito.any());
     }
 
-    // test case: When calling the createCurrentPublicIpInstance method with secondary methods mocked
-    // and the job state is ready success, it must verify if It returns the publicIpInstance processing.
+    // test case: When calling the failAsyncRequestInstanceSteps method and the ip address was already
+    // associated, it must verify if It releases the ip address and sets the state as failed.
     @Test
-    public void testCreateCurrentPublicIpInstanceWhenProcessingJobStatus() throws FogbowException {
+    public void testFailAsyncRequestInstanceStepsReleasesIpAddress() throws FogbowException {
         // set up
-        String jobId = "jobId";
-        AsyncRequestInstanceState asyncRequestInstanceState = Mockito.mock(AsyncRequestInstanceState.class);
-        Mockito.when(asyncRequestInstanceState.getCurrentJobId()).thenReturn(jobId);
-        PublicIpOrder publicIpOrder = Mockito.mock(PublicIpOrder.class);
+        String ipAddressId = "ipAddressId";
+        AsyncRequestInstanceState asyncRequestInstanceState = new AsyncRequestInstanceState(
+                AsyncRequestInstanceState.StateType.CREATING_FIREWALL_RULE, "jobId", null);
+        asyncRequestInstanceState.setIpInstanceId(ipAddressId);
 
-        PowerMockito.mockStatic(CloudStackQueryJobResult.class);
-        String jsonResponse = "jsonResponse";
-        PowerMockito.when(CloudStackQueryJobResult.getQueryJobResult(
-                Mockito.eq(this.client), Mockito.eq(this.cloudStackUrl),
-                Mockito.eq(jobId), Mockito.eq(this.cloudStackUser))).
-                thenReturn(jsonResponse);
+        Mockito.doNothing().when(this.plugin).requestDisassociateIpAddress(Mockito.any(), Mockito.any());
 
-        Integer jobStatus = CloudStackQueryJobResult.PROCESSING;
-        CloudStackQueryAsyncJobResponse response = Mockito.mock(CloudStackQueryAsyncJobResponse.class);
-        Mockito.when(response.getJobStatus()).thenReturn(jobStatus);
-        PowerMockito.mockStatic(CloudStackQueryAsyncJobResponse.class);
-        PowerMockito.when(CloudStackQueryAsyncJobResponse.fromJson(Mockito.eq(jsonResponse))).
-                thenReturn(response);
+        DisassociateIpAddressRequest request = new DisassociateIpAddressRequest.Builder()
+                .id(ipAddressId)
+                .build(this.cloudStackUrl);
 
         // exercise
-        PublicIpInstance publicIpInstance = this.plugin.createCurrentPublicIpInstance(
-                asyncRequestInstanceState, publicIpOrder, this.cloudStackUser);
+        this.plugin.failAsyncRequestInstanceSteps(asyncRequestInstanceState, this.cloudStackUser);
 
         // verify
-        Assert.assertEquals(CloudStackStateMapper.PROCESSING_STATUS, publicIpInstance.getCloudState());
+        Assert.assertTrue(asyncRequestInstanceState.isFailed());
+        RequestMatcher<DisassociateIpAddressRequest> matcher = new RequestMatcher.DisassociateIpAddress(request);
+        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE))
+                .requestDisassociateIpAddress(Mockito.argThat(matcher), Mockito.eq(this.cloudStackUser));
     }
 
-    // test case: When calling the createCurrentPublicIpInstance method with secondary methods mocked
-    // and the job state is ready success but it occurs a FogbowException, it must verify if It
-    // returns the publicIpInstance failure.
+    // test case: When calling the failAsyncRequestInstanceSteps method and the ip address was not
+    // associated, it must verify if It only sets the state as failed.
     @Test
-    public void testCreateCurrentPublicIpInstanceFailWhenSuccessJobStatus() throws FogbowException {
+    public void testFailAsyncRequestInstanceStepsWithoutIpAddress() throws FogbowException {
         // set up
-        String jobId = "jobId";
-        AsyncRequestInstanceState asyncRequestInstanceState = Mockito.mock(AsyncRequestInstanceState.class);
-        Mockito.when(asyncRequestInstanceState.getCurrentJobId()).thenReturn(jobId);
-        PublicIpOrder publicIpOrder = Mockito.mock(PublicIpOrder.class);
+        AsyncRequestInstanceState asyncRequestInstanceState = new AsyncRequestInstanceState(
+                AsyncRequestInstanceState.StateType.ASSOCIATING_IP_ADDRESS, "jobId", null);
 
-        PowerMockito.mockStatic(CloudStackQueryJobResult.class);
-        String jsonResponse = "jsonResponse";
-        PowerMockito.when(CloudStackQueryJobResult.getQueryJobResult(
-                Mockito.eq(this.client), Mockito.eq(this.cloudStackUrl),
-                Mockito.eq(jobId), Mockito.eq(this.cloudStackUser))).
-                thenReturn(jsonResponse);
+        // exercise
+        this.plugin.failAsyncRequestInstanceSteps(asyncRequestInstanceState, this.cloudStackUser);
 
-        Integer jobStatus = CloudStackQueryJobResult.SUCCESS;
-        CloudStackQueryAsyncJobResponse response = Mockito.mock(CloudStackQueryAsyncJobResponse.class);
-        Mockito.when(response.getJobStatus()).thenReturn(jobStatus);
-        PowerMockito.mockStatic(CloudStackQueryAsyncJobResponse.class);
-        PowerMockito.when(CloudStackQueryAsyncJobResponse.fromJson(Mockito.eq(jsonResponse))).
-                thenReturn(response);
+        // verify
+        Assert.assertTrue(asyncRequestInstanceState.isFailed());
+        Mockito.verify(this.plugin, Mockito.never()).requestDisassociateIpAddress(Mockito.any(), Mockito.any());
+    }
 
-        Mockito.doThrow(new FogbowException("")).when(this.plugin).createNextOperationPublicIpInstance(
-                Mockito.eq(asyncRequestInstanceState), Mockito.eq(this.cloudStackUser), Mockito.eq(jsonResponse));
+    // test case: When calling the recoverAsyncRequestInstanceState method and there is an ip address
+    // with static NAT to the compute of the order, it must verify if It returns a ready asynchronous
+    // request instance with this ip address and keeps it.
+    @Test
+    public void testRecoverAsyncRequestInstanceState() throws Exception {
+        // set up
+        String instanceId = "instanceId";
+        String computeId = "computeId";
+        PublicIpOrder publicIpOrder = Mockito.mock(PublicIpOrder.class);
+        Mockito.when(publicIpOrder.getId()).thenReturn(instanceId);
+        Mockito.when(publicIpOrder.getComputeId()).thenReturn(computeId);
+
+        String jsonResponse = "{\"listpublicipaddressesresponse\":{\"count\":2,\"publicipaddress\":["
+                + "{\"id\":\"otherIpAddressId\",\"ipaddress\":\"200.139.35.13\",\"virtualmachineid\":\"otherComputeId\"},"
+                + "{\"id\":\"ipAddressId\",\"ipaddress\":\"200.139.35.14\",\"virtualmachineid\":\"computeId\"}]}}";
+        PowerMockito.mockStatic(CloudStackCloudUtils.class);
+        PowerMockito.when(CloudStackCloudUtils.class, "doRequest", Mockito.eq(this.client),
+                Mockito.anyString(), Mockito.eq(this.cloudStackUser))
+                .thenReturn(jsonResponse);
+        Mockito.doReturn(true).when(this.plugin).hasFirewallRule(Mockito.eq("ipAddressId"),
+                Mockito.eq(this.cloudStackUser));
 
         // exercise
-        PublicIpInstance publicIpInstance = this.plugin.createCurrentPublicIpInstance(
-                asyncRequestInstanceState, publicIpOrder, this.cloudStackUser);
+        AsyncRequestInstanceState asyncRequestInstanceState = this.plugin.recoverAsyncRequestInstanceState(
+                publicIpOrder, this.cloudStackUser);
 
         // verify
-        Assert.assertEquals(CloudStackStateMapper.FAILURE_STATUS, publicIpInstance.getCloudState());
-        String errorExpected = Messages.Log.ERROR_WHILE_PROCESSING_ASYNCHRONOUS_REQUEST_INSTANCE_STEP;
-        this.loggerTestChecking.assertEqualsInOrder(Level.ERROR, errorExpected);
+        Assert.assertTrue(asyncRequestInstanceState.isReady());
+        Assert.assertEquals("ipAddressId", asyncRequestInstanceState.getIpInstanceId());
+        Assert.assertEquals("200.139.35.14", asyncRequestInstanceState.getIp());
+        Assert.assertEquals(computeId, asyncRequestInstanceState.getComputeInstanceId());
+        Assert.assertSame(asyncRequestInstanceState, this.asyncRequestInstanceStateMapMocked.get(instanceId));
     }
 
-    // test case: When calling the createCurrentPublicIpInstance method with secondary methods mocked
-    // and the job state is ready success, it must verify if It returns the publicIpInstance returned
-    // by the buildNextOperationPublicIpInstance.
+    // test case: When calling the recoverAsyncRequestInstanceState method and the ip address with static
+    // NAT to the compute of the order has no firewall rule, it must verify if It creates the firewall
+    // rule again and tracks its job.
     @Test
-    public void testCreateCurrentPublicIpInstanceWhenSuccessJobStatus() throws FogbowException {
+    public void testRecoverAsyncRequestInstanceStateWithoutFirewallRule() throws Exception {
         // set up
-        String jobId = "jobId";
-        AsyncRequestInstanceState asyncRequestInstanceState = Mockito.mock(AsyncRequestInstanceState.class);
-        Mockito.when(asyncRequestInstanceState.getCurrentJobId()).thenReturn(jobId);
+        String instanceId = "instanceId";
+        String createFirewallRuleJobId = "createFirewallRuleJobId";
         PublicIpOrder publicIpOrder = Mockito.mock(PublicIpOrder.class);
+        Mockito.when(publicIpOrder.getId()).thenReturn(instanceId);
+        Mockito.when(publicIpOrder.getComputeId()).thenReturn("computeId");
 
-        PowerMockito.mockStatic(CloudStackQueryJobResult.class);
-        String jsonResponse = "jsonResponse";
-        PowerMockito.when(CloudStackQueryJobResult.getQueryJobResult(
-                Mockito.eq(this.client), Mockito.eq(this.cloudStackUrl),
-                Mockito.eq(jobId), Mockito.eq(this.cloudStackUser))).
-                thenReturn(jsonResponse);
+        String jsonResponse = "{\"listpublicipaddressesresponse\":{\"count\":1,\"publicipaddress\":["
+                + "{\"id\":\"ipAddressId\",\"ipaddress\":\"200.139.35.14\",\"virtualmachineid\":\"computeId\"}]}}";
+        PowerMockito.mockStatic(CloudStackCloudUtils.class);
+        PowerMockito.when(CloudStackCloudUtils.class, "doRequest", Mockito.eq(this.client),
+                Mockito.anyString(), Mockito.eq(this.cloudStackUser))
+                .thenReturn(jsonResponse);
+        Mockito.doReturn(false).when(this.plugin).hasFirewallRule(Mockito.eq("ipAddressId"),
+                Mockito.eq(this.cloudStackUser));
+        Mockito.doReturn(createFirewallRuleJobId).when(this.plugin).doCreateFirewallRule(
+                Mockito.eq("ipAddressId"), Mockito.eq(this.cloudStackUser));
+        Mockito.doNothing().when(this.plugin).trackCurrentJob(Mockito.any(), Mockito.any());
 
-        Integer jobStatus = CloudStackQueryJobResult.SUCCESS;
-        CloudStackQueryAsyncJobResponse response = Mockito.mock(CloudStackQueryAsyncJobResponse.class);
-        Mockito.when(response.getJobStatus()).thenReturn(jobStatus);
-        PowerMockito.mockStatic(CloudStackQueryAsyncJobResponse.class);
-        PowerMockito.when(CloudStackQueryAsyncJobResponse.fromJson(Mockito.eq(jsonResponse))).
-                thenReturn(response);
+        // exercise
+        AsyncRequestInstanceState asyncRequestInstanceState = this.plugin.recoverAsyncRequestInstanceState(
+                publicIpOrder, this.cloudStackUser);
 
-        PublicIpInstance publicIpInstanceExpected = Mockito.mock(PublicIpInstance.class);
-        Mockito.doReturn(publicIpInstanceExpected).when(this.plugin).createNextOperationPublicIpInstance (
-                Mockito.eq(asyncRequestInstanceState), Mockito.eq(this.cloudStackUser), Mockito.eq(jsonResponse));
+        // verify
+        Assert.assertEquals(AsyncRequestInstanceState.StateType.CREATING_FIREWALL_RULE,
+                asyncRequestInstanceState.getState());
+        Assert.assertEquals(createFirewallRuleJobId, asyncRequestInstanceState.getCurrentJobId());
+        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).trackCurrentJob(
+                Mockito.eq(asyncRequestInstanceState), Mockito.eq(this.cloudStackUser));
+    }
+
+    // test case: When calling the recoverAsyncRequestInstanceState method and there is no ip address
+    // with static NAT to the compute of the order, it must verify if It returns null.
+    @Test
+    public void testRecoverAsyncRequestInstanceStateWhenThereIsNoIpAddress() throws Exception {
+        // set up
+        String instanceId = "instanceId";
+        PublicIpOrder publicIpOrder = Mockito.mock(PublicIpOrder.class);
+        Mockito.when(publicIpOrder.getId()).thenReturn(instanceId);
+        Mockito.when(publicIpOrder.getComputeId()).thenReturn("computeId");
+
+        String jsonResponse = "{\"listpublicipaddressesresponse\":{}}";
+        PowerMockito.mockStatic(CloudStackCloudUtils.class);
+        PowerMockito.when(CloudStackCloudUtils.class, "doRequest", Mockito.eq(this.client),
+                Mockito.anyString(), Mockito.eq(this.cloudStackUser))
+                .thenReturn(jsonResponse);
 
         // exercise
-        PublicIpInstance publicIpInstance = this.plugin.createCurrentPublicIpInstance(
-                asyncRequestInstanceState, publicIpOrder, this.cloudStackUser);
+        AsyncRequestInstanceState asyncRequestInstanceState = this.plugin.recoverAsyncRequestInstanceState(
+                publicIpOrder, this.cloudStackUser);
 
         // verify
-        Assert.assertEquals(publicIpInstanceExpected, publicIpInstance);
+        Assert.assertNull(asyncRequestInstanceState);
+        Assert.assertNull(this.asyncRequestInstanceStateMapMocked.get(instanceId));
     }
 
     // test case: When calling the doGetInstance method with secondary methods
@@ -1113,7 +1265,7 @@ public class CloudStackPublicIpPluginTest extends BaseUnitTests {
 
         PublicIpInstance publicIpInstanceExcepted = Mockito.mock(PublicIpInstance.class);
         Mockito.doReturn(publicIpInstanceExcepted).when(this.plugin).createCurrentPublicIpInstance(
-                Mockito.eq(asyncRequestInstanceStateNotReady), Mockito.eq(publicIpOrder), Mockito.eq(this.cloudStackUser));
+                Mockito.eq(asyncRequestInstanceStateNotReady), Mockito.eq(this.cloudStackUser));
 
         // exercise
         PublicIpInstance publicIpInstance = this.plugin.doGetInstance(publicIpOrder, this.cloudStackUser);
@@ -1123,8 +1275,33 @@ public class CloudStackPublicIpPluginTest extends BaseUnitTests {
     }
 
     // test case: When calling the doGetInstance method with secondary methods mocked and the
-    // asynchronous request instance is null because a memory lost, it must verify if It returns
-    // the current publicIpInstance failure.
+    // asynchronous request instance was lost in a restart, it must verify if It recovers it from
+    // the cloud and returns the publicIpInstance returned by the createReadyPublicIpInstance.
+    @Test
+    public void testDoGetInstanceWhenStateIsRecovered() throws FogbowException {
+        // set up
+        PublicIpOrder publicIpOrder = Mockito.mock(PublicIpOrder.class);
+        String instanceId = "instanceId";
+        Mockito.when(publicIpOrder.getId()).thenReturn(instanceId);
+        AsyncRequestInstanceState asyncRequestInstanceStateRecovered = new AsyncRequestInstanceState(
+                AsyncRequestInstanceState.StateType.READY, null, null);
+        Mockito.doReturn(asyncRequestInstanceStateRecovered).when(this.plugin).recoverAsyncRequestInstanceState(
+                Mockito.eq(publicIpOrder), Mockito.eq(this.cloudStackUser));
+
+        PublicIpInstance publicIpInstanceExcepted = Mockito.mock(PublicIpInstance.class);
+        Mockito.doReturn(publicIpInstanceExcepted).when(this.plugin).createReadyPublicIpInstance(
+                Mockito.eq(asyncRequestInstanceStateRecovered), Mockito.eq(this.cloudStackUser));
+
+        // exercise
+        PublicIpInstance publicIpInstance = this.plugin.doGetInstance(publicIpOrder, this.cloudStackUser);
+
+        // verify
+        Assert.assertEquals(publicIpInstanceExcepted, publicIpInstance);
+    }
+
+    // test case: When calling the doGetInstance method with secondary methods mocked and the
+    // asynchronous request instance is null because a memory lost and cannot be recovered,
+    // it must verify if It returns the current publicIpInstance failure.
     @Test
     public void testDoGetInstanceFailWhenThereMemoryLost() throws FogbowException {
         // set up
@@ -1132,6 +1309,8 @@ public class CloudStackPublicIpPluginTest extends BaseUnitTests {
         String instanceId = "instanceId";
         Mockito.when(publicIpOrder.getId()).thenReturn(instanceId);
         this.asyncRequestInstanceStateMapMocked = new HashMap<>();
+        Mockito.doReturn(null).when(this.plugin).recoverAsyncRequestInstanceState(
+                Mockito.eq(publicIpOrder), Mockito.eq(this.cloudStackUser));
 
         // exercise
         PublicIpInstance publicIpInstance = this.plugin.doGetInstance(publicIpOrder, this.cloudStackUser);
@@ -1140,4 +1319,86 @@ public class CloudStackPublicIpPluginTest extends BaseUnitTests {
         Assert.assertEquals(CloudStackStateMapper.FAILURE_STATUS, publicIpInstance.getCloudState());
     }
 
+    // test case: When calling the doGetInstance method after the doDeleteInstance method, it must
+    // verify if It reports the instance as processing while its ip address is being disassociated,
+    // and then throws an InstanceNotFoundException and forgets the asynchronous request instance.
+    @Test
+    public void testDoGetInstanceAfterDoDeleteInstance() throws FogbowException {
+        // set up
+        String instanceId = "instanceId";
+        String ipAddressId = "ipAddressId";
+        PublicIpOrder publicIpOrder = Mockito.mock(PublicIpOrder.class);
+        Mockito.when(publicIpOrder.getId()).thenReturn(instanceId);
+        Mockito.when(publicIpOrder.getOrderState()).thenReturn(OrderState.CHECKING_DELETION);
+
+        AsyncRequestInstanceState asyncRequestInstanceState = new AsyncRequestInstanceState(
+                AsyncRequestInstanceState.StateType.READY, null, null);
+        asyncRequestInstanceState.setOrderInstanceId(instanceId);
+        asyncRequestInstanceState.setIpInstanceId(ipAddressId);
+        this.asyncRequestInstanceStateMapMocked.put(instanceId, asyncRequestInstanceState);
+        Mockito.doNothing().when(this.plugin).requestDisassociateIpAddress(Mockito.any(), Mockito.any());
+        Mockito.doReturn(true, false).when(this.plugin).ipAddressExists(Mockito.eq(ipAddressId),
+                Mockito.eq(this.cloudStackUser));
+        this.plugin.doDeleteInstance(publicIpOrder, this.cloudStackUser);
+
+        // exercise
+        PublicIpInstance publicIpInstance = this.plugin.doGetInstance(publicIpOrder, this.cloudStackUser);
+
+        // verify
+        Assert.assertEquals(CloudStackStateMapper.PROCESSING_STATUS, publicIpInstance.getCloudState());
+
+        try {
+            // exercise
+            this.plugin.doGetInstance(publicIpOrder, this.cloudStackUser);
+            Assert.fail();
+        } catch (InstanceNotFoundException e) {
+            // verify
+            Assert.assertNull(this.asyncRequestInstanceStateMapMocked.get(instanceId));
+            Mockito.verify(this.plugin, Mockito.never()).hasFirewallRule(Mockito.any(), Mockito.any());
+        }
+    }
+
+    // test case: When calling the doGetInstance method for an order being deleted whose asynchronous
+    // request instance cannot be recovered, it must verify if It throws an InstanceNotFoundException.
+    @Test(expected = InstanceNotFoundException.class) // verify
+    public void testDoGetInstanceWhenDeletedOrderIsNotRecovered() throws FogbowException {
+        // set up
+        PublicIpOrder publicIpOrder = Mockito.mock(PublicIpOrder.class);
+        Mockito.when(publicIpOrder.getId()).thenReturn("instanceId");
+        Mockito.when(publicIpOrder.getOrderState()).thenReturn(OrderState.CHECKING_DELETION);
+        Mockito.doReturn(null).when(this.plugin).recoverAsyncRequestInstanceState(
+                Mockito.eq(publicIpOrder), Mockito.eq(this.cloudStackUser));
+
+        // exercise
+        this.plugin.doGetInstance(publicIpOrder, this.cloudStackUser);
+    }
+
+    // test case: When calling the recoverAsyncRequestInstanceState method for an order being deleted,
+    // it must verify if It recovers the asynchronous request instance as deleted, without creating
+    // the firewall rule of its ip address.
+    @Test
+    public void testRecoverAsyncRequestInstanceStateWhenOrderIsBeingDeleted() throws Exception {
+        // set up
+        String instanceId = "instanceId";
+        PublicIpOrder publicIpOrder = Mockito.mock(PublicIpOrder.class);
+        Mockito.when(publicIpOrder.getId()).thenReturn(instanceId);
+        Mockito.when(publicIpOrder.getComputeId()).thenReturn("computeId");
+        Mockito.when(publicIpOrder.getOrderState()).thenReturn(OrderState.ASSIGNED_FOR_DELETION);
+        String jsonResponse = "{\"listpublicipaddressesresponse\":{\"count\":1,\"publicipaddress\":["
+                + "{\"id\":\"ipAddressId\",\"ipaddress\":\"200.139.35.14\",\"virtualmachineid\":\"computeId\"}]}}";
+        PowerMockito.mockStatic(CloudStackCloudUtils.class);
+        PowerMockito.when(CloudStackCloudUtils.class, "doRequest", Mockito.eq(this.client),
+                Mockito.anyString(), Mockito.eq(this.cloudStackUser))
+                .thenReturn(jsonResponse);
+
+        // exercise
+        AsyncRequestInstanceState asyncRequestInstanceState = this.plugin.recoverAsyncRequestInstanceState(
+                publicIpOrder, this.cloudStackUser);
+
+        // verify
+        Assert.assertTrue(asyncRequestInstanceState.isDeleted());
+        Mockito.verify(this.plugin, Mockito.never()).hasFirewallRule(Mockito.any(), Mockito.any());
+        Mockito.verify(this.plugin, Mockito.never()).doCreateFirewallRule(Mockito.anyString(), Mockito.any());
+    }
+
 }
@@ -20,6 +20,7 @@ import java.io.File;
 public class OpenNebulaBaseTests extends BaseUnitTests {
 
     private static final String CLOUD_NAME = "opennebula";
+    private static final String FAKE_USER_ID = "fake-user-id";
     private static final String FAKE_USER_NAME = "fake-user-name";
     private static final String LOCAL_TOKEN_VALUE = "user:password";
 
@@ -40,10 +41,13 @@ public class OpenNebulaBaseTests extends BaseUnitTests {
         PowerMockito.mockStatic(OpenNebulaClientUtil.class);
         Mockito.when(OpenNebulaClientUtil.createClient(Mockito.anyString(), Mockito.anyString()))
                 .thenReturn(this.client);
+
+        // The cached metadata must not leak from one test to another
+        OpenNebulaMetadataCache.clear();
     }
 
     private CloudUser createCloudUser() {
-        String userId = null;
+        String userId = FAKE_USER_ID;
         String userName = FAKE_USER_NAME;
         String tokenValue = LOCAL_TOKEN_VALUE;
 
@@ -0,0 +1,58 @@
+package cloud.fogbow.ras.core.plugins.interoperability.opennebula;
+
+import cloud.fogbow.ras.constants.Messages;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opennebula.client.Client;
+import org.opennebula.client.ClientConfigurationException;
+import org.opennebula.client.OneResponse;
+
+public class OpenNebulaClientPoolTest {
+
+    private static final String FIRST_ENDPOINT = "http://first-frontend:2633/RPC2";
+    private static final String SECOND_ENDPOINT = "http://second-frontend:2633/RPC2";
+    private static final String FIRST_TOKEN_VALUE = "first-user:password";
+    private static final String SECOND_TOKEN_VALUE = "second-user:password";
+    private static final String FAKE_ACTION = "one.user.info";
+    private static final int MAX_CONNECTIONS = 2;
+    private static final long TIMEOUT = 1;
+    private static final long IDLE_TIMEOUT = 60000;
+
+    // test case: When getting clients, the same client must be returned for the same
+    // endpoint and token, and different clients for different endpoints or tokens.
+    @Test
+    public void testGetClientByEndpointAndToken() throws ClientConfigurationException {
+        // set up
+        OpenNebulaClientPool pool = new OpenNebulaClientPool(MAX_CONNECTIONS, TIMEOUT, IDLE_TIMEOUT);
+
+        // exercise
+        Client client = pool.getClient(FIRST_ENDPOINT, FIRST_TOKEN_VALUE);
+        Client sameClient = pool.getClient(FIRST_ENDPOINT, FIRST_TOKEN_VALUE);
+        Client anotherUserClient = pool.getClient(FIRST_ENDPOINT, SECOND_TOKEN_VALUE);
+        Client anotherCloudClient = pool.getClient(SECOND_ENDPOINT, FIRST_TOKEN_VALUE);
+
+        // verify
+        Assert.assertSame(client, sameClient);
+        Assert.assertNotSame(client, anotherUserClient);
+        Assert.assertNotSame(client, anotherCloudClient);
+        Assert.assertEquals(MAX_CONNECTIONS, pool.getAvailableConnections(FIRST_ENDPOINT));
+        Assert.assertEquals(MAX_CONNECTIONS, pool.getAvailableConnections(SECOND_ENDPOINT));
+    }
+
+    // test case: When no connection to the frontend becomes available within the
+    // timeout, the call must fail without being sent.
+    @Test
+    public void testCallWithoutAvailableConnections() throws ClientConfigurationException {
+        // set up
+        OpenNebulaClientPool pool = new OpenNebulaClientPool(0, TIMEOUT, IDLE_TIMEOUT);
+        Client client = pool.getClient(FIRST_ENDPOINT, FIRST_TOKEN_VALUE);
+        String expected = String.format(Messages.Exception.UNABLE_TO_ACQUIRE_RPC_CONNECTION_S, FIRST_ENDPOINT);
+
+        // exercise
+        OneResponse response = client.call(FAKE_ACTION);
+
+        // verify
+        Assert.assertTrue(response.isError());
+        Assert.assertEquals(expected, response.getErrorMessage());
+    }
+}
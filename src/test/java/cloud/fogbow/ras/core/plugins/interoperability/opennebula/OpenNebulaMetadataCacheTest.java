@@ -0,0 +1,77 @@
+package cloud.fogbow.ras.core.plugins.interoperability.opennebula;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.InstanceNotFoundException;
+import cloud.fogbow.ras.core.TestUtils;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.TimeUnit;
+
+public class OpenNebulaMetadataCacheTest {
+
+    private static final long TTL = TimeUnit.HOURS.toMillis(1);
+    private static final String FAKE_SECURITY_GROUP_ID = "fake-security-group-id";
+    private static final String FAKE_SECURITY_GROUP_NAME = "fake-security-group-name";
+
+    private OpenNebulaMetadataCache cache;
+    private OpenNebulaMetadataCache.Loader<String> loader;
+
+    @Before
+    public void setUp() {
+        this.cache = new OpenNebulaMetadataCache(TTL);
+        this.loader = Mockito.mock(OpenNebulaMetadataCache.Loader.class);
+    }
+
+    // test case: When getting the same value twice, it must be loaded only once.
+    @Test
+    public void testGetLoadsOnce() throws FogbowException {
+        // set up
+        Mockito.when(this.loader.load()).thenReturn(FAKE_SECURITY_GROUP_NAME);
+
+        // exercise
+        this.cache.getSecurityGroupName(FAKE_SECURITY_GROUP_ID, this.loader);
+        String name = this.cache.getSecurityGroupName(FAKE_SECURITY_GROUP_ID, this.loader);
+
+        // verify
+        Assert.assertEquals(FAKE_SECURITY_GROUP_NAME, name);
+        Mockito.verify(this.loader, Mockito.times(TestUtils.RUN_ONCE)).load();
+    }
+
+    // test case: When a value is invalidated, it must be loaded again on the next get.
+    @Test
+    public void testGetAfterInvalidate() throws FogbowException {
+        // set up
+        Mockito.when(this.loader.load()).thenReturn(FAKE_SECURITY_GROUP_NAME);
+        this.cache.getSecurityGroupName(FAKE_SECURITY_GROUP_ID, this.loader);
+
+        // exercise
+        this.cache.invalidateSecurityGroup(FAKE_SECURITY_GROUP_ID);
+        this.cache.getSecurityGroupName(FAKE_SECURITY_GROUP_ID, this.loader);
+
+        // verify
+        Mockito.verify(this.loader, Mockito.times(TestUtils.RUN_TWICE)).load();
+    }
+
+    // test case: When the loader finds no value, null must be returned and nothing
+    // must be cached; when it fails, its exception must be thrown.
+    @Test
+    public void testGetWithoutValue() throws FogbowException {
+        // set up
+        Mockito.when(this.loader.load()).thenReturn(null).thenThrow(new InstanceNotFoundException());
+
+        // exercise
+        String name = this.cache.getSecurityGroupName(FAKE_SECURITY_GROUP_ID, this.loader);
+
+        // verify
+        Assert.assertNull(name);
+        try {
+            this.cache.getSecurityGroupName(FAKE_SECURITY_GROUP_ID, this.loader);
+            Assert.fail();
+        } catch (InstanceNotFoundException e) {
+            Mockito.verify(this.loader, Mockito.times(TestUtils.RUN_TWICE)).load();
+        }
+    }
+}
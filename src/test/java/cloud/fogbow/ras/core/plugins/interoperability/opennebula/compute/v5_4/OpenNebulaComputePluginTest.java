@@ -26,8 +26,8 @@ import org.mockito.Mockito;
 import org.opennebula.client.Client;
 import org.opennebula.client.OneResponse;
 import org.opennebula.client.image.Image;
-import org.opennebula.client.image.ImagePool;
 import org.opennebula.client.vm.VirtualMachine;
+import org.opennebula.client.vm.VirtualMachinePool;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 
@@ -87,7 +87,7 @@ public class OpenNebulaComputePluginTest extends OpenNebulaBaseTests {
 		CreateComputeRequest createComputeRequest = this.getCreateComputeRequest();
 
 		Mockito.doReturn(createComputeRequest).when(this.plugin).getCreateComputeRequest(
-				Mockito.any(Client.class), Mockito.any(ComputeOrder.class));
+				Mockito.any(Client.class), Mockito.anyString(), Mockito.any(ComputeOrder.class));
 		Mockito.doReturn(FAKE_ID).when(this.plugin).doRequestInstance(
 				Mockito.any(Client.class), Mockito.any(CreateComputeRequest.class));
 		Mockito.doNothing().when(this.plugin).setOrderAllocation(Mockito.eq(computeOrder),
@@ -101,7 +101,7 @@ public class OpenNebulaComputePluginTest extends OpenNebulaBaseTests {
 		OpenNebulaClientUtil.createClient(Mockito.anyString(), Mockito.eq(this.cloudUser.getToken()));
 
 		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).getCreateComputeRequest(
-				Mockito.eq(this.client), Mockito.eq(this.computeOrder));
+				Mockito.eq(this.client), Mockito.eq(this.cloudUser.getId()), Mockito.eq(this.computeOrder));
 		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).doRequestInstance(
 				Mockito.eq(this.client), Mockito.eq(createComputeRequest));
 		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).setOrderAllocation(Mockito.eq(computeOrder),
@@ -153,15 +153,15 @@ public class OpenNebulaComputePluginTest extends OpenNebulaBaseTests {
 		Mockito.when(launchCommandGenerator.createLaunchCommand(Mockito.any(ComputeOrder.class))).thenReturn(FAKE_BASE64_SCRIPT);
 		Mockito.doReturn(this.networkIds).when(this.plugin).getNetworkIds(Mockito.anyList());
 		Mockito.doReturn(this.hardwareRequirements).when(this.plugin).getFlavor(
-				Mockito.any(Client.class), Mockito.any(ComputeOrder.class));
+				Mockito.any(Client.class), Mockito.anyString(), Mockito.any(ComputeOrder.class));
 
 		// exercise
-		this.plugin.getCreateComputeRequest(this.client, this.computeOrder);
+		this.plugin.getCreateComputeRequest(this.client, this.cloudUser.getId(), this.computeOrder);
 
 		// verify
 		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).getNetworkIds(Mockito.eq(this.computeOrder.getNetworkIds()));
 		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).getFlavor(
-				Mockito.eq(this.client), Mockito.eq(this.computeOrder));
+				Mockito.eq(this.client), Mockito.eq(this.cloudUser.getId()), Mockito.eq(this.computeOrder));
 	}
 
 	// test case: when invoking the doRequestInstance method with valid client and create compute
@@ -226,10 +226,10 @@ public class OpenNebulaComputePluginTest extends OpenNebulaBaseTests {
 		Mockito.when(computeOrder.getDisk()).thenReturn(diskInGb);
 		Mockito.when(computeOrder.getImageId()).thenReturn(imageId);
 		Mockito.doReturn(minimumDisk).when(this.plugin).getMinimumImageSize(
-				Mockito.eq(this.client), Mockito.eq(imageId));
+				Mockito.eq(this.client), Mockito.eq(this.cloudUser.getId()), Mockito.eq(imageId));
 
 		// exercise
-		int flavorDisk = this.plugin.getFlavorDisk(this.client, computeOrder);
+		int flavorDisk = this.plugin.getFlavorDisk(this.client, this.cloudUser.getId(), computeOrder);
 
 		// verify
 		Assert.assertEquals(diskExpected, flavorDisk);
@@ -310,10 +310,10 @@ public class OpenNebulaComputePluginTest extends OpenNebulaBaseTests {
 		Mockito.when(computeOrder.getDisk()).thenReturn(OpenNebulaComputePlugin.VALUE_NOT_DEFINED_BY_USER);
 		Mockito.when(computeOrder.getImageId()).thenReturn(imageId);
 		Mockito.doReturn(minimumDisk).when(this.plugin).getMinimumImageSize(
-				Mockito.eq(this.client), Mockito.eq(imageId));
+				Mockito.eq(this.client), Mockito.eq(this.cloudUser.getId()), Mockito.eq(imageId));
 
 		// exercise
-		int flavorDisk = this.plugin.getFlavorDisk(this.client, computeOrder);
+		int flavorDisk = this.plugin.getFlavorDisk(this.client, this.cloudUser.getId(), computeOrder);
 
 		// verify
 		Assert.assertEquals(minimumDisk, flavorDisk);
@@ -332,13 +332,13 @@ public class OpenNebulaComputePluginTest extends OpenNebulaBaseTests {
 		Mockito.when(computeOrder.getDisk()).thenReturn(diskInGb);
 		Mockito.when(computeOrder.getImageId()).thenReturn(imageId);
 		Mockito.doReturn(minimumDisk).when(this.plugin).getMinimumImageSize(
-				Mockito.eq(this.client), Mockito.eq(imageId));
+				Mockito.eq(this.client), Mockito.eq(this.cloudUser.getId()), Mockito.eq(imageId));
 
 		// verify
 		this.expectedException.expect(UnacceptableOperationException.class);
 
 		// exercise
-		this.plugin.getFlavorDisk(this.client, computeOrder);
+		this.plugin.getFlavorDisk(this.client, this.cloudUser.getId(), computeOrder);
 	}
 
 	// test case: when invoking getValue with valid compute order, the plugin
@@ -350,12 +350,12 @@ public class OpenNebulaComputePluginTest extends OpenNebulaBaseTests {
 		int cpuExpected = 2;
 		int memoryRamExpected = 3;
 		Mockito.doReturn(diskExpected).when(this.plugin).getFlavorDisk(
-				Mockito.eq(this.client), Mockito.eq(this.computeOrder));
+				Mockito.eq(this.client), Mockito.eq(this.cloudUser.getId()), Mockito.eq(this.computeOrder));
 		Mockito.doReturn(memoryRamExpected).when(this.plugin).getFlavorRam(Mockito.eq(this.computeOrder));
 		Mockito.doReturn(cpuExpected).when(this.plugin).getFlavorVcpu(Mockito.eq(this.computeOrder));
 
 		// exercise
-		HardwareRequirements flavor = this.plugin.getFlavor(this.client, this.computeOrder);
+		HardwareRequirements flavor = this.plugin.getFlavor(this.client, this.cloudUser.getId(), this.computeOrder);
 
 		// verify
 		Assert.assertEquals(diskExpected, flavor.getDisk());
@@ -373,13 +373,13 @@ public class OpenNebulaComputePluginTest extends OpenNebulaBaseTests {
 		Mockito.doReturn(memoryExpected).when(this.plugin).getFlavorRam(Mockito.eq(this.computeOrder));
 		Mockito.doReturn(cpuExpected).when(this.plugin).getFlavorVcpu(Mockito.eq(this.computeOrder));
 		Mockito.doThrow(new UnacceptableOperationException()).when(this.plugin).getFlavorDisk(
-				Mockito.eq(this.client), Mockito.eq(this.computeOrder));
+				Mockito.eq(this.client), Mockito.eq(this.cloudUser.getId()), Mockito.eq(this.computeOrder));
 
 		// verify
 		this.expectedException.expect(UnacceptableOperationException.class);
 
 		// exercise
-		this.plugin.getFlavor(this.client, this.computeOrder);
+		this.plugin.getFlavor(this.client, this.cloudUser.getId(), this.computeOrder);
 	}
 
 	// test case: when invoking getMinimumImageSize and it can find an image in the list, the plugin
@@ -391,14 +391,11 @@ public class OpenNebulaComputePluginTest extends OpenNebulaBaseTests {
 		String image = "image";
 		int imageValueRequired = 1024;
 
-		Map<String, String> images = new HashMap<>();
-		images.put("one", "1");
-		images.put(image, String.valueOf(imageValueRequired));
-		images.put("two", "2");
-		Mockito.doReturn(images).when(this.plugin).getImagesSizes(Mockito.eq(this.client));
+		Mockito.doReturn(String.valueOf(imageValueRequired)).when(this.plugin).getImageSize(Mockito.eq(this.client),
+				Mockito.eq(this.cloudUser.getId()), Mockito.eq(image));
 
 		// exercise
-		int minimumImageSize = this.plugin.getMinimumImageSize(this.client, image);
+		int minimumImageSize = this.plugin.getMinimumImageSize(this.client, this.cloudUser.getId(), image);
 
 		// verify
 		Assert.assertEquals(imageValueRequired, minimumImageSize);
@@ -412,45 +409,75 @@ public class OpenNebulaComputePluginTest extends OpenNebulaBaseTests {
 			throws InternalServerErrorException, UnacceptableOperationException {
 
 		// set up
-		Map<String, String> images = new HashMap<>();
-		images.put("one", "1");
-		images.put("two", "2");
-		Mockito.doReturn(images).when(this.plugin).getImagesSizes(Mockito.eq(this.client));
+		Mockito.doReturn(null).when(this.plugin).getImageSize(Mockito.eq(this.client),
+				Mockito.eq(this.cloudUser.getId()), Mockito.eq("unknownImage"));
 
 		// verify
 		this.expectedException.expect(UnacceptableOperationException.class);
 		this.expectedException.expectMessage(Messages.Exception.IMAGE_NOT_FOUND);
 
 		// exercise
-		this.plugin.getMinimumImageSize(this.client, "unknownImage");
+		this.plugin.getMinimumImageSize(this.client, this.cloudUser.getId(), "unknownImage");
 	}
 
-	// test case: when invoking getImagesSizes with a valid client, a map of all image ids and respective sizes
-	// should be returned
+	// test case: when invoking getImageSize twice for the same image, the image must be
+	// obtained from the cloud only once, and its size returned
 	@Test
-	public void testGetImagesSizes() throws InternalServerErrorException {
+	public void testGetImageSize() throws FogbowException {
 	    // setup
-		ImagePool imagePool = Mockito.mock(ImagePool.class);
 		Image image = Mockito.mock(Image.class);
-		Iterator<Image> imageIterator = Mockito.mock(Iterator.class);
+		String imageId = this.computeOrder.getImageId();
 		String fakeImageSize = String.valueOf(DISK_VALUE_6GB);
 
-		Mockito.when(OpenNebulaClientUtil.getImagePool(Mockito.any(Client.class))).thenReturn(imagePool);
-		Mockito.when(imagePool.iterator()).thenReturn(imageIterator);
-		Mockito.when(imageIterator.hasNext()).thenReturn(true, false);
-		Mockito.when(imageIterator.next()).thenReturn(image);
-		Mockito.when(image.getId()).thenReturn(this.computeOrder.getImageId());
+		Mockito.when(OpenNebulaClientUtil.getImage(Mockito.any(Client.class), Mockito.eq(imageId))).thenReturn(image);
 		Mockito.when(image.xpath(IMAGE_SIZE_PATH)).thenReturn(fakeImageSize);
 
 		// exercise
-		Map<String, String> imagesSizes = this.plugin.getImagesSizes(this.client);
+		this.plugin.getImageSize(this.client, this.cloudUser.getId(), imageId);
+		String imageSize = this.plugin.getImageSize(this.client, this.cloudUser.getId(), imageId);
 
 		// verify
         PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_ONCE));
-        OpenNebulaClientUtil.getImagePool(Mockito.eq(this.client));
+        OpenNebulaClientUtil.getImage(Mockito.eq(this.client), Mockito.eq(imageId));
 
-        Assert.assertEquals(ONE_VALUE, imagesSizes.size());
-        Assert.assertEquals(fakeImageSize, imagesSizes.get(this.computeOrder.getImageId()));
+        Assert.assertEquals(fakeImageSize, imageSize);
+	}
+
+	// test case: when invoking getImageSize for the same image with different cloud users, the
+	// image must be obtained from the cloud for each user, since it may not be visible to all of them
+	@Test
+	public void testGetImageSizeIsKeptPerUser() throws FogbowException {
+		// setup
+		Image image = Mockito.mock(Image.class);
+		String imageId = this.computeOrder.getImageId();
+		String otherCloudUserId = "other-cloud-user-id";
+
+		Mockito.when(OpenNebulaClientUtil.getImage(Mockito.any(Client.class), Mockito.eq(imageId))).thenReturn(image);
+		Mockito.when(image.xpath(IMAGE_SIZE_PATH)).thenReturn(String.valueOf(DISK_VALUE_6GB));
+
+		// exercise
+		this.plugin.getImageSize(this.client, this.cloudUser.getId(), imageId);
+		this.plugin.getImageSize(this.client, otherCloudUserId, imageId);
+
+		// verify
+		PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_TWICE));
+		OpenNebulaClientUtil.getImage(Mockito.eq(this.client), Mockito.eq(imageId));
+	}
+
+	// test case: when invoking getImageSize with an image that can not be obtained from the
+	// cloud, null must be returned
+	@Test
+	public void testGetImageSizeOfUnknownImage() throws FogbowException {
+	    // setup
+		String imageId = this.computeOrder.getImageId();
+		Mockito.when(OpenNebulaClientUtil.getImage(Mockito.any(Client.class), Mockito.eq(imageId)))
+				.thenThrow(new InstanceNotFoundException());
+
+		// exercise
+		String imageSize = this.plugin.getImageSize(this.client, this.cloudUser.getId(), imageId);
+
+		// verify
+        Assert.assertNull(imageSize);
 	}
 
 	// test case: when invoking containsFlavor with a valid hardware requirements object, return
@@ -543,6 +570,60 @@ public class OpenNebulaComputePluginTest extends OpenNebulaBaseTests {
 		Assert.assertEquals(this.computeOrder.getDisk() / ONE_GIGABYTE_IN_MEGABYTES, computeInstance.getDisk());
 	}
 
+	// test case: when invoking doGetInstances with the vm pool of the user, the plugin should
+	// mount the ComputeInstance of each order whose vm is in the pool, and leave out the others.
+	@Test
+	public void testDoGetInstances() {
+		// set up
+		VirtualMachinePool virtualMachinePool = Mockito.mock(VirtualMachinePool.class);
+		VirtualMachine virtualMachine = Mockito.mock(VirtualMachine.class);
+		ComputeOrder listedOrder = this.testUtils.createLocalComputeOrder();
+		listedOrder.setInstanceId(String.valueOf(ONE_VALUE));
+		ComputeOrder missingOrder = this.testUtils.createLocalComputeOrder();
+		missingOrder.setInstanceId(String.valueOf(TWO_VALUE));
+
+		Mockito.when(virtualMachinePool.getById(ONE_VALUE)).thenReturn(virtualMachine);
+		Mockito.when(virtualMachine.getId()).thenReturn(listedOrder.getInstanceId());
+		Mockito.when(virtualMachine.lcmStateStr()).thenReturn(OrderState.FULFILLED.toString());
+		Mockito.when(virtualMachine.xpath(TEMPLATE_CPU_PATH)).thenReturn(String.valueOf(CPU_VALUE_1));
+		Mockito.when(virtualMachine.xpath(TEMPLATE_MEMORY_PATH)).thenReturn(String.valueOf(MEMORY_VALUE_1024));
+		Mockito.when(virtualMachine.xpath(TEMPLATE_DISK_SIZE_PATH)).thenReturn(String.valueOf(DISK_VALUE_6GB));
+		Mockito.doReturn(new ArrayList<>()).when(this.plugin).getIpAddresses(Mockito.eq(virtualMachine));
+		Mockito.doNothing().when(this.plugin).setComputeInstanceNetworks(Mockito.any(ComputeInstance.class));
+
+		// exercise
+		Map<String, ComputeInstance> computeInstances = this.plugin.doGetInstances(virtualMachinePool,
+				Arrays.asList(listedOrder, missingOrder));
+
+		// verify
+		Mockito.verify(virtualMachine, Mockito.never()).info();
+		Assert.assertEquals(ONE_VALUE, computeInstances.size());
+		Assert.assertEquals(DISK_VALUE_6GB / ONE_GIGABYTE_IN_MEGABYTES,
+				computeInstances.get(listedOrder.getInstanceId()).getDisk());
+		Assert.assertFalse(computeInstances.containsKey(missingOrder.getInstanceId()));
+	}
+
+	// test case: when invoking getIpAddresses with a vm listed in a pool, the plugin should
+	// return the ip address of each of its NICs.
+	@Test
+	public void testGetIpAddresses() {
+		// set up
+		String firstIpAddress = "10.0.0.1";
+		String secondIpAddress = "10.0.1.1";
+		VirtualMachine virtualMachine = Mockito.mock(VirtualMachine.class);
+		Mockito.when(virtualMachine.xpath(NIC_COUNT_EXPRESSION)).thenReturn(String.valueOf(TWO_VALUE));
+		Mockito.when(virtualMachine.xpath(String.format(NIC_IP_BY_POSITION_EXPRESSION, ONE_VALUE)))
+				.thenReturn(firstIpAddress);
+		Mockito.when(virtualMachine.xpath(String.format(NIC_IP_BY_POSITION_EXPRESSION, TWO_VALUE)))
+				.thenReturn(secondIpAddress);
+
+		// exercise
+		List<String> ipAddresses = this.plugin.getIpAddresses(virtualMachine);
+
+		// verify
+		Assert.assertEquals(Arrays.asList(firstIpAddress, secondIpAddress), ipAddresses);
+	}
+
 	// test case: when invoking deleteInstance with a valid compute order and cloud user,
 	// the plugin should retrieve the respective vm from ONe and terminate it.
 	@Test
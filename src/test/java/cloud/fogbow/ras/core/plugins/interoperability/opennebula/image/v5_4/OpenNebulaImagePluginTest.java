@@ -75,6 +75,30 @@ public class OpenNebulaImagePluginTest extends OpenNebulaBaseTests {
 		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).getImageSummaryList(Mockito.eq(imagePool));
 	}
 
+	// test case: When invoking the getAllImages method twice for the same user, the
+	// image pool must be loaded only once, since the images are cached.
+	@Test
+	public void testGetAllImagesTwice() throws FogbowException {
+		// set up
+		ImagePool imagePool = Mockito.mock(ImagePool.class);
+		List<ImageSummary> imageSummaryList = new ArrayList<>();
+		imageSummaryList.add(new ImageSummary(FAKE_ID, FAKE_NAME));
+
+		Mockito.when(OpenNebulaClientUtil.getImagePool(Mockito.any())).thenReturn(imagePool);
+		Mockito.doReturn(imageSummaryList).when(this.plugin).getImageSummaryList(imagePool);
+
+		this.plugin.getAllImages(this.cloudUser);
+
+		// exercise
+		List<ImageSummary> images = this.plugin.getAllImages(this.cloudUser);
+
+		// verify
+		PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_ONCE));
+		OpenNebulaClientUtil.getImagePool(Mockito.any(Client.class));
+
+		Assert.assertEquals(imageSummaryList, images);
+	}
+
 	// test case: When invoking the getImage method, with a valid client, the image
 	// of the specific ID passed by parameter will be loaded, to return its instance
 	// with name, size and status.
@@ -14,6 +14,7 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 
 import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
 import cloud.fogbow.ras.api.http.response.quotas.ResourceQuota;
 import cloud.fogbow.ras.api.http.response.quotas.allocation.ResourceAllocation;
 import cloud.fogbow.ras.core.TestUtils;
@@ -39,6 +40,8 @@ public class OpenNebulaQuotaPluginTest extends OpenNebulaBaseTests {
     private static final String VMS_USED_VALUE = "1";
     private static final String USED_VOLUMES = "2";
 
+    private static final String FAKE_USER_ID = "1";
+
     private static final int FAKE_PUBLIC_NETWORK_ID = 100;
     private static final int FAKE_DATASTORE_ID = 1;
 
@@ -61,9 +64,8 @@ public class OpenNebulaQuotaPluginTest extends OpenNebulaBaseTests {
         Mockito.when(OpenNebulaClientUtil.createClient(Mockito.anyString(), Mockito.anyString()))
         .thenReturn(this.client);
 
-        UserPool userPool = Mockito.mock(UserPool.class);
-        Mockito.when(OpenNebulaClientUtil.getUserPool(Mockito.any(Client.class))).thenReturn(userPool);
-        Mockito.when(OpenNebulaClientUtil.getUser(Mockito.eq(userPool), Mockito.anyString())).thenReturn(this.user);
+        Mockito.doReturn(this.user).when(this.plugin).getUser(Mockito.eq(this.client),
+                Mockito.eq(this.cloudUser.getId()));
         
         ResourceAllocation totalAllocation = buildTotalAllocation();
         Mockito.doReturn(totalAllocation).when(this.plugin).getTotalAllocation(Mockito.eq(this.user));
@@ -80,18 +82,67 @@ public class OpenNebulaQuotaPluginTest extends OpenNebulaBaseTests {
         PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_ONCE));
         OpenNebulaClientUtil.createClient(Mockito.anyString(), Mockito.eq(this.cloudUser.getToken()));
 
-        PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_ONCE));
-        OpenNebulaClientUtil.getUserPool(Mockito.any(Client.class));
-
-        PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_ONCE));
-        OpenNebulaClientUtil.getUser(Mockito.eq(userPool), Mockito.eq(this.cloudUser.getId()));
-
+        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).getUser(Mockito.eq(this.client),
+                Mockito.eq(this.cloudUser.getId()));
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).getTotalAllocation(Mockito.eq(this.user));
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).getUsedAllocation(Mockito.eq(this.user), Mockito.eq(this.client));
         
         Assert.assertEquals(expected, quota);
     }
     
+    // test case: When calling the getUser method twice for the same user name, the
+    // user pool must be loaded only once, and the user must be obtained by its id.
+    @Test
+    public void testGetUserTwice() throws FogbowException {
+        // set up
+        String userName = this.cloudUser.getId();
+        UserPool userPool = Mockito.mock(UserPool.class);
+        Mockito.when(OpenNebulaClientUtil.getUserPool(Mockito.eq(this.client))).thenReturn(userPool);
+        Mockito.when(OpenNebulaClientUtil.getUserId(Mockito.eq(userPool), Mockito.eq(userName)))
+                .thenReturn(FAKE_USER_ID);
+        Mockito.when(OpenNebulaClientUtil.getUser(Mockito.eq(this.client), Mockito.eq(FAKE_USER_ID)))
+                .thenReturn(this.user);
+
+        this.plugin.getUser(this.client, userName);
+
+        // exercise
+        User user = this.plugin.getUser(this.client, userName);
+
+        // verify
+        PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_ONCE));
+        OpenNebulaClientUtil.getUserPool(Mockito.eq(this.client));
+
+        PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_TWICE));
+        OpenNebulaClientUtil.getUser(Mockito.eq(this.client), Mockito.eq(FAKE_USER_ID));
+
+        Assert.assertSame(this.user, user);
+    }
+
+    // test case: When the user can not be obtained by its cached id, the id must be
+    // discarded, so that the user pool is loaded again on the next call.
+    @Test
+    public void testGetUserFail() throws FogbowException {
+        // set up
+        String userName = this.cloudUser.getId();
+        UserPool userPool = Mockito.mock(UserPool.class);
+        Mockito.when(OpenNebulaClientUtil.getUserPool(Mockito.eq(this.client))).thenReturn(userPool);
+        Mockito.when(OpenNebulaClientUtil.getUserId(Mockito.eq(userPool), Mockito.eq(userName)))
+                .thenReturn(FAKE_USER_ID);
+        Mockito.when(OpenNebulaClientUtil.getUser(Mockito.eq(this.client), Mockito.eq(FAKE_USER_ID)))
+                .thenThrow(new InternalServerErrorException()).thenReturn(this.user);
+
+        try {
+            // exercise
+            this.plugin.getUser(this.client, userName);
+            Assert.fail();
+        } catch (InternalServerErrorException e) {
+            // verify
+            this.plugin.getUser(this.client, userName);
+            PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_TWICE));
+            OpenNebulaClientUtil.getUserPool(Mockito.eq(this.client));
+        }
+    }
+
     // test case: When calling the getUsedAllocation method, it must verify that
     // the call was successful and returned the expected value.
     @Test
@@ -421,9 +421,39 @@ public class OpenNebulaSecurityRulePluginTest extends OpenNebulaBaseTests {
         this.plugin.findSecurityGroupByName(this.client, content, securityGroupName);
 
         // verify
-        PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_ONCE));
+        PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_TWICE));
         OpenNebulaClientUtil.getSecurityGroup(Mockito.eq(this.client), Mockito.eq(securityGroupId));
     }
+
+    // test case: When calling the findSecurityGroupByName method several times,
+    // the names of the security groups must be cached, so that only the security
+    // group with the wanted name is obtained again.
+    @Test
+    public void testFindSecurityGroupByNameWithCachedNames() throws FogbowException {
+        // set up
+        String securityGroupId = TestUtils.FAKE_SECURITY_GROUP_ID;
+        String securityGroupName = SystemConstants.PN_SECURITY_GROUP_PREFIX + TestUtils.FAKE_INSTANCE_ID;
+        String anotherSecurityGroupName = SystemConstants.PIP_SECURITY_GROUP_PREFIX + TestUtils.FAKE_INSTANCE_ID;
+        String content = String.format(SECURITY_GROUP_CONTENT_FORMAT, ANOTHER_SECURITY_GROUP_ID, securityGroupId);
+
+        SecurityGroup securityGroup = mockSecurityGroupFromNetwork(securityGroupId, securityGroupName);
+        SecurityGroup anotherSecurityGroup = mockSecurityGroupFromNetwork(ANOTHER_SECURITY_GROUP_ID,
+                anotherSecurityGroupName);
+        PowerMockito.when(OpenNebulaClientUtil.getSecurityGroup(Mockito.eq(this.client),
+                Mockito.eq(securityGroupId))).thenReturn(securityGroup);
+        PowerMockito.when(OpenNebulaClientUtil.getSecurityGroup(Mockito.eq(this.client),
+                Mockito.eq(ANOTHER_SECURITY_GROUP_ID))).thenReturn(anotherSecurityGroup);
+
+        this.plugin.findSecurityGroupByName(this.client, content, securityGroupName);
+
+        // exercise
+        SecurityGroup found = this.plugin.findSecurityGroupByName(this.client, content, securityGroupName);
+
+        // verify
+        Assert.assertSame(securityGroup, found);
+        PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_ONCE));
+        OpenNebulaClientUtil.getSecurityGroup(Mockito.eq(this.client), Mockito.eq(ANOTHER_SECURITY_GROUP_ID));
+    }
     
     // test case: When calling the findSecurityGroupByName method with a security
     // group name incompatible, it must verify that an InstanceNotFoundException has
@@ -1,5 +1,6 @@
 package cloud.fogbow.ras.core.plugins.interoperability.openstack.compute.v2;
 
+import cloud.fogbow.common.constants.OpenStackConstants;
 import cloud.fogbow.common.exceptions.FogbowException;
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
 import cloud.fogbow.common.exceptions.UnacceptableOperationException;
@@ -61,7 +62,6 @@ public class OpenStackComputePluginTest extends BaseUnitTests {
     private static final String FAKE_TOKEN_VALUE = "fake-token-value";
 
     private static final String FAKE_REQUIREMENT = "fake-key-1";
-    private static final String FAKE_UNMET_REQUIREMENT = "this-requiremnt-isnot-going-to-be-fullfiled";
     private static final String MAP_METHOD = "map";
 
     private final String privateNetworkId = "fake-private-network-id";
@@ -93,29 +93,29 @@ public class OpenStackComputePluginTest extends BaseUnitTests {
                 this.FAKE_TOKEN_VALUE, this.FAKE_PROJECT_ID);
     }
 
-    // test case: when given an order, it should return a flavor with it's resources
-    // greater than or equal the requested
+    // test case: when given an order, it should return the smallest flavor of the flavor catalog
+    // of the project with resources greater than or equal the requested
     @Test
     public void testGetBestFlavor() throws FogbowException {
         // setup
         ComputeOrder computeOrder = this.testUtils.createLocalComputeOrder();
-        Mockito.doNothing().when(this.computePlugin)
-                .updateFlavors(Mockito.eq(computeOrder), Mockito.eq(this.cloudUser));
+        HardwareRequirements bestRequirements = getHardwareRequirementsList().last();
 
-        Mockito.doReturn(getHardwareRequirementsList()).when(this.computePlugin)
-                .getHardwareRequirementsList();
+        OpenStackFlavorCatalog flavorCatalog = Mockito.mock(OpenStackFlavorCatalog.class);
+        Mockito.when(flavorCatalog.findSmallestFlavor(Mockito.eq(computeOrder.getvCPU()),
+                Mockito.eq(computeOrder.getRam()), Mockito.eq(computeOrder.getDisk()),
+                Mockito.eq(computeOrder.getRequirements()), Mockito.any())).thenReturn(bestRequirements);
+        Mockito.doReturn(flavorCatalog).when(this.computePlugin).getFlavorCatalog(Mockito.anyString());
 
         // exercise
         HardwareRequirements requirements = this.computePlugin.getBestFlavor(computeOrder, cloudUser);
 
         // verify
-        Mockito.verify(computePlugin, Mockito.times(testUtils.RUN_ONCE))
-                .updateFlavors(Mockito.eq(computeOrder), Mockito.eq(this.cloudUser));
-        Mockito.verify(computePlugin, Mockito.times(testUtils.RUN_ONCE))
-                .getHardwareRequirementsList();
-        Assert.assertTrue(testUtils.DISK_VALUE <= requirements.getDisk());
-        Assert.assertTrue(testUtils.CPU_VALUE <= requirements.getCpu());
-        Assert.assertTrue(testUtils.MEMORY_VALUE <= requirements.getRam());
+        Assert.assertEquals(bestRequirements, requirements);
+        Mockito.verify(this.computePlugin, Mockito.times(testUtils.RUN_ONCE))
+                .getFlavorCatalog(Mockito.anyString());
+        Mockito.verify(this.computePlugin, Mockito.times(testUtils.RUN_ONCE))
+                .buildFlavorLoader(Mockito.anyString(), Mockito.eq(this.cloudUser));
     }
 
     // test case: when given and order with huge resources it should not be capable
@@ -130,11 +130,16 @@ public class OpenStackComputePluginTest extends BaseUnitTests {
                 testUtils.DEFAULT_CLOUD_NAME, testUtils.FAKE_INSTANCE_NAME, bigVcpu, bigMemory, bigDisk, testUtils.FAKE_IMAGE_ID,
                 testUtils.mockUserData(), publicKey, null);
 
-        Mockito.doNothing().when(this.computePlugin)
-                .updateFlavors(Mockito.eq(computeOrder), Mockito.eq(this.cloudUser));
-
-        Mockito.doReturn(getHardwareRequirementsList()).when(this.computePlugin)
-                .getHardwareRequirementsList();
+        OpenStackFlavorCatalog flavorCatalog = new OpenStackFlavorCatalog(ANY_URL, Long.MAX_VALUE);
+        Mockito.doReturn(flavorCatalog).when(this.computePlugin).getFlavorCatalog(Mockito.anyString());
+        Mockito.doReturn(getFlavorIdsFromHardwareRequirementsList()).when(this.computePlugin)
+                .listFlavorIds(Mockito.anyString(), Mockito.eq(this.cloudUser));
+        for (HardwareRequirements hardwareRequirements : getHardwareRequirementsList()) {
+            Mockito.doReturn(hardwareRequirements).when(this.computePlugin).fetchHardwareRequirements(
+                    Mockito.anyString(), Mockito.eq(hardwareRequirements.getFlavorId()), Mockito.eq(this.cloudUser));
+        }
+        Mockito.doReturn(new HashMap<>()).when(this.computePlugin)
+                .fetchFlavorExtraSpecs(Mockito.anyString(), Mockito.anyString(), Mockito.eq(this.cloudUser));
 
         // exercise
         HardwareRequirements requirements = this.computePlugin.getBestFlavor(computeOrder, cloudUser);
@@ -292,32 +297,38 @@ public class OpenStackComputePluginTest extends BaseUnitTests {
                         Mockito.any(), Mockito.any());
     }
 
-    // test case: When given a list of Flavor, check if it does have them cached, else
-    // it should perform a request for those flavors.
+    // test case: When listing the flavors, it should perform a single request and
+    // return the ids of all the flavors.
     @Test
-    public void testDetailFlavors() throws FogbowException, HttpResponseException {
+    public void testListFlavorIds() throws FogbowException {
         // set up
-        Mockito.doReturn(getHardwareRequirementsList()).when(this.computePlugin)
-                .getHardwareRequirementsList();
-        List<String> flavorIds = getFlavorIdsFromHardwareRequirementsList();
-        String unCachedFlavorId = "uncached-flavor-id";
-        flavorIds   .add(unCachedFlavorId);
-
-        HardwareRequirements requirementsMock = Mockito.mock(HardwareRequirements.class);
-        Mockito.doReturn(requirementsMock).when(this.computePlugin)
-                .fetchHardwareRequirements(Mockito.anyString(), Mockito.anyString(), Mockito.eq(cloudUser));
+        Mockito.doReturn(createGetAllFlavorsResponseJson()).when(this.computePlugin)
+                .doGetRequest(Mockito.eq(ANY_URL), Mockito.eq(cloudUser));
 
         // exercise
-        this.computePlugin.detailFlavors(ANY_URL, flavorIds, cloudUser);
+        List<String> flavorIds = this.computePlugin.listFlavorIds(ANY_URL, cloudUser);
 
         // verify
-        Mockito.verify(computePlugin, Mockito.times(testUtils.RUN_ONCE))
-                .getHardwareRequirementsList();
+        Assert.assertEquals(Arrays.asList("1", "2", "3", "4"), flavorIds);
+        Mockito.verify(this.computePlugin, Mockito.times(testUtils.RUN_ONCE))
+                .doGetRequest(Mockito.anyString(), Mockito.eq(cloudUser));
+    }
 
-        Mockito.verify(computePlugin, Mockito.times(testUtils.RUN_ONCE))
-                .fetchHardwareRequirements(Mockito.anyString(), Mockito.anyString(), Mockito.eq(cloudUser));
+    // test case: When performing an unsuccessful request, it must throw an InternalServerErrorException
+    @Test(expected = InternalServerErrorException.class)
+    public void testListFlavorIdsUnsuccessfully() throws FogbowException {
+        // set up
+        Mockito.when(this.clientMock.doGetRequest(Mockito.anyString(), Mockito.eq(cloudUser)))
+                .thenThrow(InternalServerErrorException.class);
+
+        // exercise
+        this.computePlugin.listFlavorIds(ANY_URL, cloudUser);
+
+        Assert.fail();
     }
 
+    // test case: When fetching a flavor, it should perform a request to the flavor endpoint
+    // and return the hardware requirements of the flavor.
     @Test
     public void testFetchHardwareRequirements() throws FogbowException, HttpResponseException {
         // set up
@@ -330,7 +341,7 @@ public class OpenStackComputePluginTest extends BaseUnitTests {
                 .doGetRequest(Mockito.anyString(), Mockito.eq(cloudUser));
 
         // exercise
-        this.computePlugin.fetchHardwareRequirements(ANY_URL, ANY_STRING, cloudUser);
+        HardwareRequirements requirements = this.computePlugin.fetchHardwareRequirements(ANY_URL, ANY_STRING, cloudUser);
 
         // verify
         Mockito.verify(this.computePlugin, Mockito.times(testUtils.RUN_ONCE))
@@ -338,6 +349,11 @@ public class OpenStackComputePluginTest extends BaseUnitTests {
 
         PowerMockito.verifyStatic(GetFlavorResponse.class);
         GetFlavorResponse.fromJson(Mockito.anyString());
+
+        Assert.assertEquals(FAKE_FLAVOR_ID, requirements.getFlavorId());
+        Assert.assertEquals(FAKE_FLAVOR_VCPU, requirements.getCpu());
+        Assert.assertEquals(FAKE_FLAVOR_MEMORY, requirements.getRam());
+        Assert.assertEquals(FAKE_FLAVOR_DISK, requirements.getDisk());
     }
 
     private GetFlavorResponse createGetFlavorResponseMock() {
@@ -351,25 +367,6 @@ public class OpenStackComputePluginTest extends BaseUnitTests {
         return response;
     }
 
-    // test case: When performing an unsuccessful request, it must throw an InternalServerErrorException
-    @Test(expected = InternalServerErrorException.class)
-    public void testDetailFlavorsUnsuccessfully() throws FogbowException {
-        // set up
-        Mockito.doReturn(getHardwareRequirementsList()).when(this.computePlugin)
-                .getHardwareRequirementsList();
-        List<String> flavorIds = getFlavorIdsFromHardwareRequirementsList();
-        String unCachedFlavorId = "uncached-flavor-id";
-        flavorIds.add(unCachedFlavorId);
-
-        Mockito.when(this.clientMock.doGetRequest(Mockito.anyString(), Mockito.eq(cloudUser)))
-                .thenThrow(InternalServerErrorException.class);
-
-        // exercise
-        this.computePlugin.detailFlavors(ANY_URL, flavorIds, cloudUser);
-
-        Assert.fail();
-    }
-
     @Test
     public void getInstanceFromJson() {
         // set up
@@ -383,161 +380,54 @@ public class OpenStackComputePluginTest extends BaseUnitTests {
         Assert.assertEquals(FAKE_INSTANCE_NAME, computeInstance.getName());
     }
 
-    // test case: checks if a given flavor has a requirement
+    // test case: the extra specs of a flavor should be obtained from its os-extra_specs endpoint
     @Test
-    public void testFlavorHasRequirements() throws FogbowException, HttpResponseException {
+    public void testFetchFlavorExtraSpecs() throws FogbowException, HttpResponseException {
         // set up
-        PowerMockito.mockStatic(OpenStackPluginUtils.class);
-        BDDMockito.given(OpenStackPluginUtils.getProjectIdFrom(Mockito.eq(cloudUser)))
-                .willReturn(ANY_STRING);
-
-        Mockito.doReturn(ANY_URL).when(this.computePlugin)
-                .getComputeEndpoint(Mockito.anyString(), Mockito.anyString());
-
+        String specsEndpoint = ANY_URL + OpenStackConstants.ENDPOINT_SEPARATOR + flavorId
+                + OpenStackConstants.EXTRA_SPECS_ENDPOINT;
         String getFlavorsResponseJson = createExtraSpecsResponseJson(createFakeExtraSpecs());
         Mockito.doReturn(getFlavorsResponseJson)
-                .when(computePlugin).doGetRequest(Mockito.anyString(), Mockito.eq(cloudUser));
+                .when(computePlugin).doGetRequest(Mockito.eq(specsEndpoint), Mockito.eq(cloudUser));
 
         PowerMockito.mockStatic(GetFlavorExtraSpecsResponse.class);
         BDDMockito.given(GetFlavorExtraSpecsResponse.fromJson(Mockito.anyString()))
                 .willCallRealMethod();
 
-        Map<String, String> fakeRequirement = new HashMap<>();
-        fakeRequirement.put(FAKE_REQUIREMENT, ANY_STRING);
-
         // exercise
-        boolean hasRequirement = this.computePlugin.flavorHasRequirements(cloudUser, fakeRequirement, flavorId);
+        Map<String, String> extraSpecs = this.computePlugin.fetchFlavorExtraSpecs(ANY_URL, flavorId, cloudUser);
 
         // verify
-        Assert.assertTrue(hasRequirement);
-
-        PowerMockito.verifyStatic(OpenStackPluginUtils.class);
-        OpenStackPluginUtils.getProjectIdFrom(Mockito.eq(cloudUser));
+        Assert.assertEquals(createFakeExtraSpecs(), extraSpecs);
 
         Mockito.verify(computePlugin, Mockito.times(testUtils.RUN_ONCE))
-                .getComputeEndpoint(Mockito.anyString(), Mockito.anyString());
-
-        Mockito.verify(computePlugin, Mockito.times(1))
                 .doGetRequest(Mockito.anyString(), Mockito.eq(cloudUser));
 
         PowerMockito.verifyStatic(GetFlavorExtraSpecsResponse.class);
         GetFlavorExtraSpecsResponse.fromJson(Mockito.anyString());
     }
 
-    // test case: when a flavor does not have a requirement, it should return false
+    // test case: the flavor loader built for the flavor catalog should obtain the flavors
+    // through the plugin, with the given endpoint and cloud user
     @Test
-    public void testFlavorHasNotRequirements() throws FogbowException, HttpResponseException {
+    public void testBuildFlavorLoader() throws FogbowException {
         // set up
-        PowerMockito.mockStatic(OpenStackPluginUtils.class);
-        BDDMockito.given(OpenStackPluginUtils.getProjectIdFrom(Mockito.eq(cloudUser)))
-                .willReturn(ANY_STRING);
-
-        Mockito.doReturn(ANY_URL).when(this.computePlugin)
-                .getComputeEndpoint(Mockito.anyString(), Mockito.anyString());
-
-        String getFlavorsResponseJson = createExtraSpecsResponseJson(createFakeExtraSpecs());
-        Mockito.doReturn(getFlavorsResponseJson)
-                .when(computePlugin).doGetRequest(Mockito.anyString(), Mockito.eq(cloudUser));
-
-        PowerMockito.mockStatic(GetFlavorExtraSpecsResponse.class);
-        BDDMockito.given(GetFlavorExtraSpecsResponse.fromJson(Mockito.anyString()))
-                .willCallRealMethod();
-
-        Map<String, String> fakeRequirement = new HashMap<>();
-        fakeRequirement.put(FAKE_UNMET_REQUIREMENT, FAKE_UNMET_REQUIREMENT);
-
-        // exercise
-        boolean hasRequirement = this.computePlugin.flavorHasRequirements(cloudUser, fakeRequirement, flavorId);
-
-        // verify
-        Assert.assertFalse(hasRequirement);
-
-        PowerMockito.verifyStatic(OpenStackPluginUtils.class);
-        OpenStackPluginUtils.getProjectIdFrom(Mockito.eq(cloudUser));
-
-        Mockito.verify(computePlugin, Mockito.times(testUtils.RUN_ONCE))
-                .getComputeEndpoint(Mockito.anyString(), Mockito.anyString());
-
-        Mockito.verify(computePlugin, Mockito.times(1))
-                .doGetRequest(Mockito.anyString(), Mockito.eq(cloudUser));
-
-        PowerMockito.verifyStatic(GetFlavorExtraSpecsResponse.class);
-        GetFlavorExtraSpecsResponse.fromJson(Mockito.anyString());
-    }
-
-    // test case: the updateFlavors() should perform a HTTP request for the flavors and
-    // update the current data the plugin holds
-    @Test
-    public void testUpdateFlavorsSuccessfully() throws FogbowException, HttpResponseException {
-        // set up
-        PowerMockito.mockStatic(OpenStackPluginUtils.class);
-        BDDMockito.given(OpenStackPluginUtils.getProjectIdFrom(Mockito.eq(cloudUser)))
-                .willReturn(ANY_STRING);
-
-        Mockito.doReturn(ANY_URL).when(this.computePlugin)
-                .getComputeEndpoint(Mockito.anyString(), Mockito.anyString());
-
-        String getAllFlavorsResponseJson = createGetAllFlavorsResponseJson();
-        Mockito.doReturn(getAllFlavorsResponseJson)
-                .when(computePlugin).doGetRequest(Mockito.anyString(), Mockito.eq(cloudUser));
-
-        PowerMockito.spy(GetAllFlavorsResponse.class);
-        BDDMockito.given(GetAllFlavorsResponse.fromJson(Mockito.anyString()))
-                .willCallRealMethod();
-
-        ComputeOrder computeOrder = testUtils.createLocalComputeOrder();
-        Map<String, String> fakeRequirement = new HashMap<>();
-        fakeRequirement.put(FAKE_REQUIREMENT, ANY_STRING);
-        computeOrder.setRequirements(fakeRequirement);
-
-        Mockito.doNothing().when(this.computePlugin).setHardwareRequirementsList(Mockito.any());
-        Mockito.doReturn(false).doReturn(true).when(this.computePlugin)
-                .flavorHasRequirements(Mockito.eq(cloudUser), Mockito.any(), Mockito.any());
-
-        Mockito.doReturn(getHardwareRequirementsList()).when(this.computePlugin)
-                .detailFlavors(Mockito.any(), Mockito.any(), Mockito.any());
+        List<String> flavorIds = getFlavorIdsFromHardwareRequirementsList();
+        HardwareRequirements hardwareRequirements = getHardwareRequirementsList().first();
+        Map<String, String> extraSpecs = createFakeExtraSpecs();
+        Mockito.doReturn(flavorIds).when(this.computePlugin).listFlavorIds(Mockito.eq(ANY_URL), Mockito.eq(cloudUser));
+        Mockito.doReturn(hardwareRequirements).when(this.computePlugin)
+                .fetchHardwareRequirements(Mockito.eq(ANY_URL), Mockito.eq(flavorId), Mockito.eq(cloudUser));
+        Mockito.doReturn(extraSpecs).when(this.computePlugin)
+                .fetchFlavorExtraSpecs(Mockito.eq(ANY_URL), Mockito.eq(flavorId), Mockito.eq(cloudUser));
 
         // exercise
-        this.computePlugin.updateFlavors(computeOrder, cloudUser);
+        OpenStackFlavorCatalog.FlavorLoader loader = this.computePlugin.buildFlavorLoader(ANY_URL, cloudUser);
 
         // verify
-        PowerMockito.verifyStatic(OpenStackPluginUtils.class);
-        OpenStackPluginUtils.getProjectIdFrom(Mockito.eq(cloudUser));
-
-        Mockito.verify(computePlugin, Mockito.times(testUtils.RUN_ONCE))
-                .getComputeEndpoint(Mockito.anyString(), Mockito.anyString());
-
-        Mockito.verify(computePlugin, Mockito.times(testUtils.RUN_ONCE))
-                .doGetRequest(Mockito.anyString(), Mockito.eq(cloudUser));
-
-        PowerMockito.verifyStatic(GetAllFlavorsResponse.class);
-        GetAllFlavorsResponse.fromJson(Mockito.anyString());
-
-        Mockito.verify(this.computePlugin, Mockito.atLeast(1))
-                .flavorHasRequirements(Mockito.eq(cloudUser), Mockito.any(), Mockito.any());
-
-        Mockito.verify(this.computePlugin, Mockito.times(1))
-                .detailFlavors(Mockito.any(), Mockito.any(), Mockito.any());
-
-        Mockito.verify(this.computePlugin, Mockito.times(1)).setHardwareRequirementsList(Mockito.any());
-    }
-
-    // test case: when a request is unsuccessful, it should thrown InternalServerErrorException
-    @Test(expected = InternalServerErrorException.class)
-    public void testUpdateFlavorsUnsuccessfully() throws FogbowException, HttpResponseException {
-        // set up
-        ComputeOrder computeOrder = testUtils.createLocalComputeOrder();
-        Map<String, String> fakeRequirement = new HashMap<>();
-        fakeRequirement.put(FAKE_REQUIREMENT, ANY_STRING);
-        computeOrder.setRequirements(fakeRequirement);
-
-        Mockito.when(clientMock.doGetRequest(Mockito.anyString(), Mockito.eq(cloudUser)))
-                .thenThrow(InternalServerErrorException.class);
-
-        // exercise
-        this.computePlugin.updateFlavors(computeOrder, cloudUser);
-
-        Assert.fail();
+        Assert.assertEquals(flavorIds, loader.listFlavorIds());
+        Assert.assertEquals(hardwareRequirements, loader.fetchFlavor(flavorId));
+        Assert.assertEquals(extraSpecs, loader.fetchExtraSpecs(flavorId));
     }
 
     // test case: given and order, it should call
@@ -678,6 +568,33 @@ public class OpenStackComputePluginTest extends BaseUnitTests {
         Assert.assertEquals(ANY_STRING, instanceId);
     }
 
+    // test case: When getting the instances of several orders in bulk, only the servers
+    // of those orders must be returned, keyed by instance id, and a single page must be
+    // requested when it is shorter than the page size.
+    @Test
+    public void testGetInstances() throws FogbowException {
+        // set up
+        ComputeOrder computeOrder = this.testUtils.createLocalComputeOrder();
+        computeOrder.setInstanceId(this.instanceId);
+        String serversJson = "{\"servers\": ["
+                + "{\"id\": \"" + this.instanceId + "\", \"name\": \"" + FAKE_INSTANCE_NAME
+                + "\", \"status\": \"ACTIVE\"},"
+                + "{\"id\": \"other-instance-id\", \"name\": \"" + FAKE_INSTANCE_NAME
+                + "\", \"status\": \"ACTIVE\"}]}";
+        Mockito.doReturn(serversJson).when(this.computePlugin)
+                .doGetRequest(Mockito.anyString(), Mockito.eq(this.cloudUser));
+
+        // exercise
+        Map<String, ComputeInstance> computeInstances = this.computePlugin.getInstances(
+                Collections.singletonList(computeOrder), this.cloudUser);
+
+        // verify
+        Mockito.verify(this.computePlugin, Mockito.times(1))
+                .doGetRequest(Mockito.anyString(), Mockito.eq(this.cloudUser));
+        Assert.assertEquals(1, computeInstances.size());
+        Assert.assertEquals(this.instanceId, computeInstances.get(this.instanceId).getId());
+    }
+
     private Map<String, String> createFakeExtraSpecs() {
         Map<String, String> extraSpecs = new HashMap();
 
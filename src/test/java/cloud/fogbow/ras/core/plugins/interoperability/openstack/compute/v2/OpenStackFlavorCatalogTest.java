@@ -0,0 +1,135 @@
+package cloud.fogbow.ras.core.plugins.interoperability.openstack.compute.v2;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.ras.core.TestUtils;
+import cloud.fogbow.ras.core.models.HardwareRequirements;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class OpenStackFlavorCatalogTest {
+
+    private static final String FLAVORS_ENDPOINT = "http://localhost:8774/v2/fake-project-id/flavors";
+    private static final long REFRESH_INTERVAL = TimeUnit.HOURS.toMillis(1);
+    private static final String SMALL_FLAVOR_ID = "small";
+    private static final String MEDIUM_FLAVOR_ID = "medium";
+    private static final String LARGE_FLAVOR_ID = "large";
+    private static final String GPU_EXTRA_SPEC = "gpu";
+    private static final String GPU_EXTRA_SPEC_VALUE = "true";
+
+    private OpenStackFlavorCatalog.FlavorLoader loader;
+    private OpenStackFlavorCatalog catalog;
+
+    @Before
+    public void setUp() throws FogbowException {
+        this.loader = Mockito.mock(OpenStackFlavorCatalog.FlavorLoader.class);
+        Mockito.when(this.loader.listFlavorIds())
+                .thenReturn(Arrays.asList(SMALL_FLAVOR_ID, MEDIUM_FLAVOR_ID, LARGE_FLAVOR_ID));
+        Mockito.when(this.loader.fetchFlavor(SMALL_FLAVOR_ID))
+                .thenReturn(new HardwareRequirements(SMALL_FLAVOR_ID, SMALL_FLAVOR_ID, 1, 1024, 10));
+        Mockito.when(this.loader.fetchFlavor(MEDIUM_FLAVOR_ID))
+                .thenReturn(new HardwareRequirements(MEDIUM_FLAVOR_ID, MEDIUM_FLAVOR_ID, 2, 2048, 20));
+        Mockito.when(this.loader.fetchFlavor(LARGE_FLAVOR_ID))
+                .thenReturn(new HardwareRequirements(LARGE_FLAVOR_ID, LARGE_FLAVOR_ID, 4, 4096, 40));
+
+        Map<String, String> gpuExtraSpecs = new HashMap<>();
+        gpuExtraSpecs.put(GPU_EXTRA_SPEC, GPU_EXTRA_SPEC_VALUE);
+        Mockito.when(this.loader.fetchExtraSpecs(SMALL_FLAVOR_ID)).thenReturn(Collections.emptyMap());
+        Mockito.when(this.loader.fetchExtraSpecs(MEDIUM_FLAVOR_ID)).thenReturn(gpuExtraSpecs);
+        Mockito.when(this.loader.fetchExtraSpecs(LARGE_FLAVOR_ID)).thenReturn(gpuExtraSpecs);
+
+        this.catalog = new OpenStackFlavorCatalog(FLAVORS_ENDPOINT, REFRESH_INTERVAL);
+    }
+
+    // test case: When finding flavors several times, the flavors must be loaded only on the
+    // first time, and the smallest flavor with enough resources must be returned.
+    @Test
+    public void testFindSmallestFlavorLoadsFlavorsOnce() throws FogbowException {
+        // exercise
+        HardwareRequirements smallFlavor = this.catalog.findSmallestFlavor(1, 512, 5, null, this.loader);
+        HardwareRequirements mediumFlavor = this.catalog.findSmallestFlavor(2, 1024, 10, null, this.loader);
+        HardwareRequirements noFlavor = this.catalog.findSmallestFlavor(8, 1024, 10, null, this.loader);
+
+        // verify
+        Assert.assertEquals(SMALL_FLAVOR_ID, smallFlavor.getFlavorId());
+        Assert.assertEquals(MEDIUM_FLAVOR_ID, mediumFlavor.getFlavorId());
+        Assert.assertNull(noFlavor);
+        Mockito.verify(this.loader, Mockito.times(TestUtils.RUN_ONCE)).listFlavorIds();
+        Mockito.verify(this.loader, Mockito.times(TestUtils.RUN_ONCE)).fetchFlavor(SMALL_FLAVOR_ID);
+    }
+
+    // test case: When finding a flavor with requirements, only the flavors having all the
+    // required extra specs must be considered.
+    @Test
+    public void testFindSmallestFlavorWithRequirements() throws FogbowException {
+        // set up
+        Map<String, String> requirements = new HashMap<>();
+        requirements.put(GPU_EXTRA_SPEC, GPU_EXTRA_SPEC_VALUE);
+        Map<String, String> unmetRequirements = new HashMap<>();
+        unmetRequirements.put(GPU_EXTRA_SPEC, "false");
+
+        // exercise
+        HardwareRequirements gpuFlavor = this.catalog.findSmallestFlavor(1, 512, 5, requirements, this.loader);
+        HardwareRequirements noFlavor = this.catalog.findSmallestFlavor(1, 512, 5, unmetRequirements, this.loader);
+
+        // verify
+        Assert.assertEquals(MEDIUM_FLAVOR_ID, gpuFlavor.getFlavorId());
+        Assert.assertNull(noFlavor);
+    }
+
+    // test case: When refreshing the catalog, only the flavors that were not known must be
+    // detailed, and the flavors no longer listed must be removed.
+    @Test
+    public void testRefreshOnlyDetailsNewFlavors() throws FogbowException {
+        // set up
+        this.catalog.refresh(this.loader);
+        Mockito.when(this.loader.listFlavorIds()).thenReturn(Arrays.asList(MEDIUM_FLAVOR_ID, LARGE_FLAVOR_ID));
+
+        // exercise
+        this.catalog.refresh(this.loader);
+
+        // verify
+        Mockito.verify(this.loader, Mockito.times(TestUtils.RUN_ONCE)).fetchFlavor(MEDIUM_FLAVOR_ID);
+        Mockito.verify(this.loader, Mockito.times(TestUtils.RUN_ONCE)).fetchExtraSpecs(MEDIUM_FLAVOR_ID);
+        HardwareRequirements flavor = this.catalog.findSmallestFlavor(1, 512, 5, null, this.loader);
+        Assert.assertEquals(MEDIUM_FLAVOR_ID, flavor.getFlavorId());
+    }
+
+    // test case: When a background refresh fails, the flavors loaded before must be kept.
+    @Test
+    public void testRefreshInBackgroundKeepsFlavorsOnFailure() throws FogbowException {
+        // set up
+        this.catalog.findSmallestFlavor(1, 512, 5, null, this.loader);
+        Mockito.when(this.loader.listFlavorIds()).thenThrow(new InternalServerErrorException());
+
+        // exercise
+        this.catalog.refreshInBackground();
+
+        // verify
+        HardwareRequirements flavor = this.catalog.findSmallestFlavor(1, 512, 5, null, this.loader);
+        Assert.assertEquals(SMALL_FLAVOR_ID, flavor.getFlavorId());
+    }
+
+    // test case: When a catalog is not used for several refresh intervals, the background
+    // refresh must discard it, so that a new catalog is created for its endpoint.
+    @Test
+    public void testRefreshInBackgroundDiscardsIdleCatalog() throws FogbowException {
+        // set up
+        OpenStackFlavorCatalog idleCatalog = OpenStackFlavorCatalog.getInstance(FLAVORS_ENDPOINT);
+
+        // exercise
+        idleCatalog.refreshInBackground();
+
+        // verify
+        Assert.assertNotSame(idleCatalog, OpenStackFlavorCatalog.getInstance(FLAVORS_ENDPOINT));
+        Mockito.verify(this.loader, Mockito.never()).listFlavorIds();
+    }
+}
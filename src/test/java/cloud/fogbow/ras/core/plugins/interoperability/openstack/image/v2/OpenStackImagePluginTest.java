@@ -361,6 +361,29 @@ public class OpenStackImagePluginTest extends BaseUnitTests{
         Assert.assertEquals(4, availableImages.size());
     }
 
+    //test case: test if only the private images of the project are requested and returned.
+    @Test
+    public void testGetPrivateImages() throws FogbowException {
+        //setup
+        GetImageResponse privateImageResponse = Mockito.mock(GetImageResponse.class);
+        GetImageResponse anotherProjectImageResponse = Mockito.mock(GetImageResponse.class);
+        Mockito.when(privateImageResponse.getVisibility()).thenReturn(PRIVATE_VISIBILITY);
+        Mockito.when(anotherProjectImageResponse.getVisibility()).thenReturn(PRIVATE_VISIBILITY);
+        Mockito.when(privateImageResponse.getOwner()).thenReturn(FOGBOW_OWNER);
+        Mockito.when(anotherProjectImageResponse.getOwner()).thenReturn(UNDEFINED_OWNER);
+        List<GetImageResponse> images = new ArrayList<>();
+        images.add(privateImageResponse);
+        images.add(anotherProjectImageResponse);
+        OpenStackV3User cloudUser = Mockito.mock(OpenStackV3User.class);
+        Mockito.when(cloudUser.getProjectId()).thenReturn(FOGBOW_OWNER);
+        Mockito.doReturn(images).when(plugin).getImagesResponse(Mockito.any(), Mockito.eq(PRIVATE_VISIBILITY));
+        //exercise
+        List<ImageSummary> privateImages = plugin.getPrivateImages(cloudUser);
+        //verify
+        Assert.assertEquals(1, privateImages.size());
+        Mockito.verify(plugin, Mockito.never()).getImagesResponse(Mockito.any(), Mockito.eq(PUBLIC_VISIBILITY));
+    }
+
     private String getImagesJson(List<Map<String, String>> imagesList) {
         Map<String, Object> jsonMap = new HashMap<String, Object>();
         jsonMap.put("images", imagesList);
@@ -15,6 +15,7 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 
 import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.UnauthorizedRequestException;
 import cloud.fogbow.common.models.OpenStackV3User;
 import cloud.fogbow.common.util.HomeDir;
 import cloud.fogbow.common.util.connectivity.cloud.openstack.OpenStackHttpClient;
@@ -106,6 +107,31 @@ public class OpenStackQuotaPluginTest extends BaseUnitTests {
                 Mockito.eq(networkQuotas), Mockito.eq(volumeQuotas));
     }
     
+    // test case: When calling the getUserQuota method and the network quotas can not
+    // be obtained, it must throw the exception thrown while getting them.
+    @Test
+    public void testGetUserQuotaFail() throws FogbowException {
+        // set up
+        GetComputeQuotasResponse computeQuotas = getComputeQuotaResponse();
+        Mockito.doReturn(computeQuotas).when(this.plugin).getComputeQuotas(Mockito.eq(this.cloudUser));
+
+        Mockito.doThrow(new UnauthorizedRequestException()).when(this.plugin)
+                .getNetworkQuotas(Mockito.eq(this.cloudUser));
+
+        GetVolumeQuotasResponse volumeQuotas = getVolumeQuotasResponse();
+        Mockito.doReturn(volumeQuotas).when(this.plugin).getVolumeQuotas(Mockito.eq(this.cloudUser));
+
+        try {
+            // exercise
+            this.plugin.getUserQuota(this.cloudUser);
+            Assert.fail();
+        } catch (UnauthorizedRequestException e) {
+            // verify
+            Mockito.verify(this.plugin, Mockito.never()).buildResourceQuota(Mockito.any(), Mockito.any(),
+                    Mockito.any());
+        }
+    }
+
     // test case: When calling the buildResourceQuota method, it must verify that
     // the call was successful and returned the expected value.
     @Test
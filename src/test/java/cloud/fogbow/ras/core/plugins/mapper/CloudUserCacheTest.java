@@ -0,0 +1,187 @@
+package cloud.fogbow.ras.core.plugins.mapper;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.UnavailableProviderException;
+import cloud.fogbow.common.models.CloudUser;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+public class CloudUserCacheTest {
+    private static final long TTL = 1000;
+    private static final long REFRESH_MARGIN = 100;
+    private static final long NOW = 10000;
+
+    private CloudUserCache<CloudUser> cloudUserCache;
+    private CloudUserCache.CloudUserLoader<CloudUser> loader;
+    private Map<String, String> credentials;
+
+    @Before
+    public void setUp() {
+        // Refreshes run on the calling thread, so that their outcome can be verified right away
+        this.cloudUserCache = Mockito.spy(new CloudUserCache<>(TTL, REFRESH_MARGIN,
+                cloudUser -> CloudUserCache.UNKNOWN_EXPIRATION_TIME, Runnable::run));
+        this.loader = Mockito.mock(CloudUserCache.CloudUserLoader.class);
+        this.credentials = new HashMap<>();
+        this.credentials.put("username", "fake-username");
+        Mockito.doReturn(NOW).when(this.cloudUserCache).getCurrentTimeMillis();
+    }
+
+    // test case: When getting the same credentials twice within the TTL, the loader
+    // must be called only once, and a miss followed by a hit must be counted.
+    @Test
+    public void testGetIsCachedWithinTtl() throws FogbowException {
+        // set up
+        CloudUser cloudUser = Mockito.mock(CloudUser.class);
+        Mockito.when(this.loader.load(Mockito.anyMap())).thenReturn(cloudUser);
+
+        // exercise
+        CloudUser first = this.cloudUserCache.get(this.credentials, this.loader);
+        CloudUser second = this.cloudUserCache.get(this.credentials, this.loader);
+
+        // verify
+        Assert.assertSame(cloudUser, first);
+        Assert.assertSame(cloudUser, second);
+        Mockito.verify(this.loader, Mockito.times(1)).load(Mockito.anyMap());
+        Assert.assertEquals(1, this.cloudUserCache.getMisses());
+        Assert.assertEquals(1, this.cloudUserCache.getHits());
+    }
+
+    // test case: When an entry is inside the refresh margin, the cached cloud user must be
+    // returned and the entry must be refreshed with a newly loaded cloud user.
+    @Test
+    public void testGetRefreshesBeforeExpiration() throws FogbowException {
+        // set up
+        CloudUser oldCloudUser = Mockito.mock(CloudUser.class);
+        CloudUser newCloudUser = Mockito.mock(CloudUser.class);
+        Mockito.when(this.loader.load(Mockito.anyMap())).thenReturn(oldCloudUser, newCloudUser);
+        this.cloudUserCache.get(this.credentials, this.loader);
+        Mockito.doReturn(NOW + TTL - REFRESH_MARGIN).when(this.cloudUserCache).getCurrentTimeMillis();
+
+        // exercise
+        CloudUser returned = this.cloudUserCache.get(this.credentials, this.loader);
+
+        // verify
+        Assert.assertSame(oldCloudUser, returned);
+        Assert.assertSame(newCloudUser, this.cloudUserCache.get(this.credentials, this.loader));
+        Assert.assertEquals(1, this.cloudUserCache.getRefreshes());
+    }
+
+    // test case: When an entry is inside the refresh margin, the refresh must be handed to
+    // the refresh executor, so that the caller does not wait for the identity provider.
+    @Test
+    public void testGetRefreshesInBackground() throws FogbowException {
+        // set up
+        Executor refreshExecutor = Mockito.mock(Executor.class);
+        CloudUserCache<CloudUser> backgroundCache = Mockito.spy(new CloudUserCache<>(TTL, REFRESH_MARGIN,
+                cloudUser -> CloudUserCache.UNKNOWN_EXPIRATION_TIME, refreshExecutor));
+        Mockito.doReturn(NOW).when(backgroundCache).getCurrentTimeMillis();
+        CloudUser cloudUser = Mockito.mock(CloudUser.class);
+        Mockito.when(this.loader.load(Mockito.anyMap())).thenReturn(cloudUser);
+        backgroundCache.get(this.credentials, this.loader);
+        Mockito.doReturn(NOW + TTL - REFRESH_MARGIN).when(backgroundCache).getCurrentTimeMillis();
+
+        // exercise
+        backgroundCache.get(this.credentials, this.loader);
+        backgroundCache.get(this.credentials, this.loader);
+
+        // verify
+        Mockito.verify(refreshExecutor, Mockito.times(1)).execute(Mockito.any(Runnable.class));
+        Mockito.verify(this.loader, Mockito.times(1)).load(Mockito.anyMap());
+    }
+
+    // test case: When an entry has expired, the loader must be called again.
+    @Test
+    public void testGetAfterExpiration() throws FogbowException {
+        // set up
+        CloudUser cloudUser = Mockito.mock(CloudUser.class);
+        Mockito.when(this.loader.load(Mockito.anyMap())).thenReturn(cloudUser);
+        this.cloudUserCache.get(this.credentials, this.loader);
+        Mockito.doReturn(NOW + TTL).when(this.cloudUserCache).getCurrentTimeMillis();
+
+        // exercise
+        this.cloudUserCache.get(this.credentials, this.loader);
+
+        // verify
+        Mockito.verify(this.loader, Mockito.times(2)).load(Mockito.anyMap());
+        Assert.assertEquals(2, this.cloudUserCache.getMisses());
+    }
+
+    // test case: When a refresh fails, the still valid cached cloud user must be kept.
+    @Test
+    public void testGetKeepsCloudUserWhenRefreshFails() throws FogbowException {
+        // set up
+        CloudUser cloudUser = Mockito.mock(CloudUser.class);
+        Mockito.when(this.loader.load(Mockito.anyMap())).thenReturn(cloudUser)
+                .thenThrow(new UnavailableProviderException());
+        this.cloudUserCache.get(this.credentials, this.loader);
+        Mockito.doReturn(NOW + TTL - 1).when(this.cloudUserCache).getCurrentTimeMillis();
+
+        // exercise
+        CloudUser returned = this.cloudUserCache.get(this.credentials, this.loader);
+
+        // verify
+        Assert.assertSame(cloudUser, returned);
+        Assert.assertEquals(0, this.cloudUserCache.getRefreshes());
+    }
+
+    // test case: When the TTL is zero, caching is disabled and the loader is always called.
+    @Test
+    public void testGetWithCacheDisabled() throws FogbowException {
+        // set up
+        CloudUserCache<CloudUser> disabledCache = new CloudUserCache<>(0, 0);
+
+        // exercise
+        disabledCache.get(this.credentials, this.loader);
+        disabledCache.get(this.credentials, this.loader);
+
+        // verify
+        Mockito.verify(this.loader, Mockito.times(2)).load(Mockito.anyMap());
+    }
+
+    // test case: When the cloud user expires before the TTL, the entry must expire with it.
+    @Test
+    public void testGetAfterCloudUserExpiration() throws FogbowException {
+        // set up
+        CloudUserCache<CloudUser> expiringCache = Mockito.spy(new CloudUserCache<>(TTL, 0,
+                cloudUser -> NOW + TTL / 2));
+        Mockito.doReturn(NOW).when(expiringCache).getCurrentTimeMillis();
+        CloudUser cloudUser = Mockito.mock(CloudUser.class);
+        Mockito.when(this.loader.load(Mockito.anyMap())).thenReturn(cloudUser);
+        expiringCache.get(this.credentials, this.loader);
+        Mockito.doReturn(NOW + TTL / 2).when(expiringCache).getCurrentTimeMillis();
+
+        // exercise
+        expiringCache.get(this.credentials, this.loader);
+
+        // verify
+        Mockito.verify(this.loader, Mockito.times(2)).load(Mockito.anyMap());
+        Assert.assertEquals(2, expiringCache.getMisses());
+    }
+
+    // test case: When the cached cloud user is invalidated, the next get must load a new one,
+    // while invalidating a cloud user that is no longer cached must keep the current entry.
+    @Test
+    public void testInvalidate() throws FogbowException {
+        // set up
+        CloudUser oldCloudUser = Mockito.mock(CloudUser.class);
+        CloudUser newCloudUser = Mockito.mock(CloudUser.class);
+        Mockito.when(this.loader.load(Mockito.anyMap())).thenReturn(oldCloudUser, newCloudUser);
+        this.cloudUserCache.get(this.credentials, this.loader);
+
+        // exercise
+        this.cloudUserCache.invalidate(this.credentials, oldCloudUser);
+        CloudUser returned = this.cloudUserCache.get(this.credentials, this.loader);
+        this.cloudUserCache.invalidate(this.credentials, oldCloudUser);
+
+        // verify
+        Assert.assertSame(newCloudUser, returned);
+        Assert.assertSame(newCloudUser, this.cloudUserCache.get(this.credentials, this.loader));
+        Mockito.verify(this.loader, Mockito.times(2)).load(Mockito.anyMap());
+    }
+}
@@ -0,0 +1,85 @@
+package cloud.fogbow.ras.core.processors;
+
+import cloud.fogbow.ras.core.models.ResourceType;
+import cloud.fogbow.ras.core.models.orders.ComputeOrder;
+import cloud.fogbow.ras.core.models.orders.Order;
+import cloud.fogbow.ras.core.models.orders.VolumeOrder;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+
+public class OrderCheckBackoffPolicyTest {
+    private static final long INITIAL_INTERVAL = 1000;
+    private static final long MAX_INTERVAL = 8000;
+    private static final long COMPUTE_MAX_INTERVAL = 2000;
+    private static final int MANY_CHECKS = 100;
+
+    // test case: When the order has just changed state, the check interval must be the
+    // initial interval, and it must double at each check up to the maximum interval. A fixed
+    // policy must always return the initial interval.
+    @Test
+    public void testGetCheckIntervalBacksOff() {
+        // set up
+        OrderCheckBackoffPolicy fixedPolicy = OrderCheckBackoffPolicy.fixed(INITIAL_INTERVAL);
+        OrderCheckBackoffPolicy exponentialPolicy = new OrderCheckBackoffPolicy(INITIAL_INTERVAL, MAX_INTERVAL,
+                Collections.emptyMap());
+        Order order = new VolumeOrder();
+
+        // exercise
+        long firstInterval = exponentialPolicy.getCheckInterval(order);
+        order.incrementChecksInCurrentState();
+        long secondInterval = exponentialPolicy.getCheckInterval(order);
+        for (int i = 0; i < MANY_CHECKS; i++) {
+            order.incrementChecksInCurrentState();
+        }
+        long lastInterval = exponentialPolicy.getCheckInterval(order);
+
+        // verify
+        assertWithinJitter(INITIAL_INTERVAL, firstInterval);
+        assertWithinJitter(2 * INITIAL_INTERVAL, secondInterval);
+        assertWithinJitter(MAX_INTERVAL, lastInterval);
+        Assert.assertEquals(INITIAL_INTERVAL, fixedPolicy.getCheckInterval(order));
+    }
+
+    // test case: When a maximum interval is set for the resource type of the order, it must
+    // be used instead of the default maximum interval.
+    @Test
+    public void testGetCheckIntervalWithResourceTypeLimit() {
+        // set up
+        OrderCheckBackoffPolicy backoffPolicy = new OrderCheckBackoffPolicy(INITIAL_INTERVAL, MAX_INTERVAL,
+                Collections.singletonMap(ResourceType.COMPUTE, COMPUTE_MAX_INTERVAL));
+        Order order = new ComputeOrder();
+        for (int i = 0; i < MANY_CHECKS; i++) {
+            order.incrementChecksInCurrentState();
+        }
+
+        // exercise
+        long interval = backoffPolicy.getCheckInterval(order);
+
+        // verify
+        assertWithinJitter(COMPUTE_MAX_INTERVAL, interval);
+        Assert.assertEquals(MAX_INTERVAL, backoffPolicy.getMaxInterval(ResourceType.VOLUME));
+    }
+
+    // test case: When the check schedule of an order is reset, it must be checked right away
+    // and the backoff must start over.
+    @Test
+    public void testResetCheckSchedule() {
+        // set up
+        Order order = new ComputeOrder();
+        order.setNextCheckTime(MAX_INTERVAL);
+        order.incrementChecksInCurrentState();
+
+        // exercise
+        order.resetCheckSchedule();
+
+        // verify
+        Assert.assertEquals(Order.CHECK_IMMEDIATELY, order.getNextCheckTime());
+        Assert.assertEquals(0, order.getChecksInCurrentState());
+    }
+
+    private void assertWithinJitter(long expected, long actual) {
+        Assert.assertTrue(actual >= expected * 0.9 - 1 && actual <= expected * 1.1 + 1);
+    }
+}
@@ -0,0 +1,142 @@
+package cloud.fogbow.ras.core.processors;
+
+import cloud.fogbow.ras.core.OrderListSignal;
+import cloud.fogbow.ras.core.TestUtils;
+import cloud.fogbow.ras.core.models.orders.ComputeOrder;
+import cloud.fogbow.ras.core.models.orders.Order;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class OrderCheckSchedulerTest {
+    private static final long CHECK_PERIOD = 1000;
+    private static final long NOW = 10000;
+
+    private OrderListSignal ordersListSignal;
+    private OrderCheckScheduler checkScheduler;
+
+    @Before
+    public void setUp() {
+        this.ordersListSignal = Mockito.mock(OrderListSignal.class);
+        this.checkScheduler = Mockito.spy(new OrderCheckScheduler(this.ordersListSignal, CHECK_PERIOD));
+        Mockito.doReturn(NOW).when(this.checkScheduler).getCurrentTimeMillis();
+    }
+
+    // test case: When an order has just entered the list, its check must be due right away,
+    // and its next check must not be scheduled before it is dispatched.
+    @Test
+    public void testIsCheckDueForNewOrder() {
+        // set up
+        Order order = new ComputeOrder();
+
+        // exercise
+        boolean isCheckDue = this.checkScheduler.isCheckDue(order);
+
+        // verify
+        Assert.assertTrue(isCheckDue);
+        Assert.assertEquals(Order.CHECK_IMMEDIATELY, order.getNextCheckTime());
+    }
+
+    // test case: When a due order is dispatched, it must be processed, and its next check must
+    // be scheduled one check period later, so that it is no longer due.
+    @Test
+    public void testDispatchSchedulesNextCheck() throws Exception {
+        // set up
+        Order order = new ComputeOrder();
+        OrderProcessorWorkerPool.OrderProcessingTask task =
+                Mockito.mock(OrderProcessorWorkerPool.OrderProcessingTask.class);
+
+        // exercise
+        this.checkScheduler.dispatch(order, OrderProcessorWorkerPool.sequential(), task);
+
+        // verify
+        Mockito.verify(task, Mockito.times(TestUtils.RUN_ONCE)).process(order);
+        Assert.assertEquals(NOW + CHECK_PERIOD, order.getNextCheckTime());
+        Assert.assertEquals(1, order.getChecksInCurrentState());
+        Assert.assertFalse(this.checkScheduler.isCheckDue(order));
+    }
+
+    // test case: When the worker pool skips a due order, its check must be tried again
+    // shortly, without being counted as a check.
+    @Test
+    public void testDispatchSkippedOrderIsPostponed() throws Exception {
+        // set up
+        Order order = new ComputeOrder();
+        OrderProcessorWorkerPool.OrderProcessingTask task =
+                Mockito.mock(OrderProcessorWorkerPool.OrderProcessingTask.class);
+        OrderProcessorWorkerPool workerPool = Mockito.mock(OrderProcessorWorkerPool.class);
+        Mockito.when(workerPool.dispatch(Mockito.eq(order),
+                Mockito.any(OrderProcessorWorkerPool.OrderProcessingTask.class))).thenReturn(false);
+
+        // exercise
+        this.checkScheduler.dispatch(order, workerPool, task);
+
+        // verify
+        Mockito.verify(task, Mockito.never()).process(order);
+        Assert.assertEquals(NOW + OrderCheckScheduler.SKIPPED_CHECK_RETRY_DELAY, order.getNextCheckTime());
+        Assert.assertEquals(0, order.getChecksInCurrentState());
+    }
+
+    // test case: When an order has been checked less than one check period ago, its check
+    // must not be due.
+    @Test
+    public void testIsCheckDueBeforeNextCheckTime() throws Exception {
+        // set up
+        Order order = new ComputeOrder();
+        this.checkScheduler.dispatch(order, OrderProcessorWorkerPool.sequential(),
+                Mockito.mock(OrderProcessorWorkerPool.OrderProcessingTask.class));
+
+        // exercise
+        boolean isCheckDue = this.checkScheduler.isCheckDue(order);
+
+        // verify
+        Assert.assertFalse(isCheckDue);
+    }
+
+    // test case: When awaiting the next check, the processor must wait until the earliest
+    // next check time of the orders in the list.
+    @Test
+    public void testAwaitNextCheckUntilEarliestNextCheckTime() throws InterruptedException {
+        // set up
+        Order order = new ComputeOrder();
+        order.setNextCheckTime(NOW + CHECK_PERIOD / 2);
+        this.checkScheduler.isCheckDue(order);
+        this.checkScheduler.isCheckDue(new ComputeOrder());
+
+        // exercise
+        this.checkScheduler.awaitNextCheck();
+
+        // verify
+        Mockito.verify(this.ordersListSignal, Mockito.times(TestUtils.RUN_ONCE)).await(CHECK_PERIOD / 2);
+    }
+
+    // test case: When awaiting the next check and the list is empty, the processor must wait
+    // for new orders for at most the maximum wait time.
+    @Test
+    public void testAwaitNextCheckWithEmptyList() throws InterruptedException {
+        // exercise
+        this.checkScheduler.awaitNextCheck();
+
+        // verify
+        Mockito.verify(this.ordersListSignal, Mockito.times(TestUtils.RUN_ONCE))
+                .await(OrderCheckScheduler.MAX_WAIT_TIME);
+    }
+
+    // test case: When the signal of the list is raised before the processor starts waiting,
+    // the processor must not wait.
+    @Test
+    public void testAwaitNextCheckAfterSignal() throws InterruptedException {
+        // set up
+        OrderListSignal signal = new OrderListSignal();
+        OrderCheckScheduler checkScheduler = new OrderCheckScheduler(signal, CHECK_PERIOD);
+        signal.signal();
+
+        // exercise
+        long start = System.currentTimeMillis();
+        checkScheduler.awaitNextCheck();
+
+        // verify
+        Assert.assertTrue(System.currentTimeMillis() - start < OrderCheckScheduler.MAX_WAIT_TIME);
+    }
+}
@@ -0,0 +1,114 @@
+package cloud.fogbow.ras.core.processors;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.UnavailableProviderException;
+import cloud.fogbow.ras.api.http.response.ComputeInstance;
+import cloud.fogbow.ras.api.http.response.OrderInstance;
+import cloud.fogbow.ras.core.BaseUnitTests;
+import cloud.fogbow.ras.core.TestUtils;
+import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
+import cloud.fogbow.ras.core.cloudconnector.LocalCloudConnector;
+import cloud.fogbow.ras.core.models.orders.Order;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@PrepareForTest({ CloudConnectorFactory.class })
+public class OrderInstancesFetcherTest extends BaseUnitTests {
+
+    private static final String FIRST_INSTANCE_ID = "first-instance-id";
+    private static final String SECOND_INSTANCE_ID = "second-instance-id";
+
+    private LocalCloudConnector localCloudConnector;
+    private OrderInstancesFetcher instancesFetcher;
+
+    @Before
+    public void setUp() {
+        this.localCloudConnector = this.testUtils.mockLocalCloudConnectorFromFactory();
+        this.instancesFetcher = new OrderInstancesFetcher(TestUtils.LOCAL_MEMBER_ID);
+    }
+
+    // test case: When fetching the instances of several orders of the same cloud, the
+    // instances must be obtained with a single bulk request to that cloud.
+    @Test
+    public void testFetchInBulk() throws FogbowException {
+        // set up
+        List<Order> orders = createOrdersWithInstances(FIRST_INSTANCE_ID, SECOND_INSTANCE_ID);
+        Map<String, OrderInstance> cloudInstances = new HashMap<>();
+        OrderInstance instance = new ComputeInstance(FIRST_INSTANCE_ID);
+        cloudInstances.put(orders.get(0).getId(), instance);
+        Mockito.doReturn(cloudInstances).when(this.localCloudConnector).getInstances(Mockito.anyCollection());
+
+        // exercise
+        Map<String, OrderInstance> instances = this.instancesFetcher.fetch(orders);
+
+        // verify
+        Mockito.verify(this.localCloudConnector, Mockito.times(1)).getInstances(Mockito.eq(orders));
+        Assert.assertEquals(1, instances.size());
+        Assert.assertSame(instance, instances.get(orders.get(0).getId()));
+    }
+
+    // test case: When there is a single order of a cloud, no bulk request must be made,
+    // since the order is checked individually anyway.
+    @Test
+    public void testFetchSkipsSingleOrder() throws FogbowException {
+        // set up
+        List<Order> orders = createOrdersWithInstances(FIRST_INSTANCE_ID);
+
+        // exercise
+        Map<String, OrderInstance> instances = this.instancesFetcher.fetch(orders);
+
+        // verify
+        Mockito.verify(this.localCloudConnector, Mockito.never()).getInstances(Mockito.anyCollection());
+        Assert.assertTrue(instances.isEmpty());
+    }
+
+    // test case: When the bulk request fails, no instance must be returned, so that the
+    // orders are checked individually.
+    @Test
+    public void testFetchWhenBulkRequestFails() throws FogbowException {
+        // set up
+        List<Order> orders = createOrdersWithInstances(FIRST_INSTANCE_ID, SECOND_INSTANCE_ID);
+        Mockito.doThrow(new UnavailableProviderException()).when(this.localCloudConnector)
+                .getInstances(Mockito.anyCollection());
+
+        // exercise
+        Map<String, OrderInstance> instances = this.instancesFetcher.fetch(orders);
+
+        // verify
+        Assert.assertEquals(Collections.emptyMap(), instances);
+    }
+
+    // test case: When the bulk request fails with an unchecked exception, no instance must
+    // be returned either, so that the orders are checked individually.
+    @Test
+    public void testFetchWhenBulkRequestFailsUnexpectedly() throws FogbowException {
+        // set up
+        List<Order> orders = createOrdersWithInstances(FIRST_INSTANCE_ID, SECOND_INSTANCE_ID);
+        Mockito.doThrow(new RuntimeException()).when(this.localCloudConnector)
+                .getInstances(Mockito.anyCollection());
+
+        // exercise
+        Map<String, OrderInstance> instances = this.instancesFetcher.fetch(orders);
+
+        // verify
+        Assert.assertEquals(Collections.emptyMap(), instances);
+    }
+
+    private List<Order> createOrdersWithInstances(String... instanceIds) {
+        Order[] orders = new Order[instanceIds.length];
+        for (int i = 0; i < instanceIds.length; i++) {
+            orders[i] = this.testUtils.createLocalComputeOrder();
+            orders[i].setInstanceId(instanceIds[i]);
+        }
+        return Arrays.asList(orders);
+    }
+}
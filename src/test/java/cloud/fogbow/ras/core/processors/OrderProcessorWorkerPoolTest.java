@@ -0,0 +1,129 @@
+package cloud.fogbow.ras.core.processors;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.ras.core.TestUtils;
+import cloud.fogbow.ras.core.models.orders.Order;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class OrderProcessorWorkerPoolTest {
+    private static final String POOL_NAME = "test-proc";
+    private static final String FIRST_ORDER_ID = "first-order-id";
+    private static final String SECOND_ORDER_ID = "second-order-id";
+    private static final long WAIT_TIMEOUT = 5;
+
+    private OrderProcessorWorkerPool workerPool;
+
+    @After
+    public void tearDown() {
+        if (this.workerPool != null) {
+            this.workerPool.shutdown();
+        }
+    }
+
+    // test case: In sequential mode, the order must be processed by the calling thread,
+    // and exceptions thrown while processing it must be propagated.
+    @Test(expected = InternalServerErrorException.class) // verify
+    public void testDispatchSequential() throws Exception {
+        // set up
+        this.workerPool = OrderProcessorWorkerPool.sequential();
+        Order order = mockOrder(FIRST_ORDER_ID);
+
+        // exercise
+        this.workerPool.dispatch(order, o -> {
+            throw new InternalServerErrorException();
+        });
+    }
+
+    // test case: When an order is already being processed by a worker, dispatching it
+    // again must skip it.
+    @Test
+    public void testDispatchSkipsOrderInProcess() throws Exception {
+        // set up
+        this.workerPool = new OrderProcessorWorkerPool(POOL_NAME, 2, 0);
+        Order order = mockOrder(FIRST_ORDER_ID);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // exercise
+        boolean firstDispatch = this.workerPool.dispatch(order, o -> await(release));
+        boolean secondDispatch = this.workerPool.dispatch(order, o -> await(release));
+        release.countDown();
+
+        // verify
+        Assert.assertTrue(firstDispatch);
+        Assert.assertFalse(secondDispatch);
+    }
+
+    // test case: When the cloud of an order has reached the maximum number of orders being
+    // processed concurrently, dispatching it must skip it.
+    @Test
+    public void testDispatchRespectsPerCloudLimit() throws Exception {
+        // set up
+        this.workerPool = new OrderProcessorWorkerPool(POOL_NAME, 2, 1);
+        Order firstOrder = mockOrder(FIRST_ORDER_ID);
+        Order secondOrder = mockOrder(SECOND_ORDER_ID);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // exercise
+        boolean firstDispatch = this.workerPool.dispatch(firstOrder, o -> await(release));
+        boolean secondDispatch = this.workerPool.dispatch(secondOrder, o -> await(release));
+        release.countDown();
+
+        // verify
+        Assert.assertTrue(firstDispatch);
+        Assert.assertFalse(secondDispatch);
+    }
+
+    // test case: Orders of the same cloud must be processed concurrently when there is no
+    // per cloud limit, and released once processed.
+    @Test
+    public void testDispatchProcessesConcurrently() throws Exception {
+        // set up
+        this.workerPool = new OrderProcessorWorkerPool(POOL_NAME, 2, 0);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        CountDownLatch finished = new CountDownLatch(2);
+        OrderProcessorWorkerPool.OrderProcessingTask task = o -> {
+            bothStarted.countDown();
+            await(bothStarted);
+            finished.countDown();
+        };
+
+        // exercise
+        this.workerPool.dispatch(mockOrder(FIRST_ORDER_ID), task);
+        this.workerPool.dispatch(mockOrder(SECOND_ORDER_ID), task);
+
+        // verify
+        Assert.assertTrue(finished.await(WAIT_TIMEOUT, TimeUnit.SECONDS));
+        waitUntilIdle();
+        Assert.assertEquals(0, this.workerPool.getOrdersInProcessCount());
+    }
+
+    private void waitUntilIdle() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(WAIT_TIMEOUT);
+        while (this.workerPool.getOrdersInProcessCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void await(CountDownLatch latch) throws FogbowException {
+        try {
+            latch.await(WAIT_TIMEOUT, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            throw new InternalServerErrorException(e.getMessage());
+        }
+    }
+
+    private Order mockOrder(String orderId) {
+        Order order = Mockito.mock(Order.class);
+        Mockito.when(order.getId()).thenReturn(orderId);
+        Mockito.when(order.getProvider()).thenReturn(TestUtils.LOCAL_MEMBER_ID);
+        Mockito.when(order.getCloudName()).thenReturn(TestUtils.DEFAULT_CLOUD_NAME);
+        return order;
+    }
+}
@@ -0,0 +1,115 @@
+package cloud.fogbow.ras.core.processors;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.UnavailableProviderException;
+import cloud.fogbow.ras.core.BaseUnitTests;
+import cloud.fogbow.ras.core.TestUtils;
+import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
+import cloud.fogbow.ras.core.cloudconnector.RemoteCloudConnector;
+import cloud.fogbow.ras.core.models.orders.Order;
+import cloud.fogbow.ras.core.models.orders.OrderStateDelta;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@PrepareForTest({ CloudConnectorFactory.class })
+public class RemoteOrderStatesFetcherTest extends BaseUnitTests {
+
+    private RemoteCloudConnector remoteCloudConnector;
+    private RemoteOrderStatesFetcher orderStatesFetcher;
+
+    @Before
+    public void setUp() {
+        this.remoteCloudConnector = this.testUtils.mockRemoteCloudConnectorFromFactory();
+        this.orderStatesFetcher = new RemoteOrderStatesFetcher(TestUtils.LOCAL_MEMBER_ID);
+    }
+
+    // test case: When fetching the states of several orders of the same provider, they
+    // must be obtained with a single bulk request to that provider.
+    @Test
+    public void testFetchInBulk() throws FogbowException {
+        // set up
+        List<Order> orders = createRemoteOrders(2);
+        OrderStateDelta orderStateDelta = new OrderStateDelta(orders.get(0));
+        Mockito.doReturn(CompletableFuture.completedFuture(Arrays.asList(orderStateDelta)))
+                .when(this.remoteCloudConnector).getRemoteOrderStatesAsync(Mockito.anyCollection());
+
+        // exercise
+        Map<String, OrderStateDelta> orderStateDeltas = this.orderStatesFetcher.fetch(orders);
+
+        // verify
+        Mockito.verify(this.remoteCloudConnector, Mockito.times(TestUtils.RUN_ONCE))
+                .getRemoteOrderStatesAsync(Mockito.eq(orders));
+        Assert.assertEquals(1, orderStateDeltas.size());
+        Assert.assertSame(orderStateDelta, orderStateDeltas.get(orders.get(0).getId()));
+    }
+
+    // test case: When a provider has more orders than fit in a single request, they must
+    // be split into several bulk requests.
+    @Test
+    public void testFetchSplitsLargeBatches() throws FogbowException {
+        // set up
+        List<Order> orders = createRemoteOrders(RemoteOrderStatesFetcher.MAX_ORDERS_PER_REQUEST + 1);
+        Mockito.doReturn(CompletableFuture.completedFuture(Collections.emptyList()))
+                .when(this.remoteCloudConnector).getRemoteOrderStatesAsync(Mockito.anyCollection());
+
+        // exercise
+        this.orderStatesFetcher.fetch(orders);
+
+        // verify
+        Mockito.verify(this.remoteCloudConnector, Mockito.times(TestUtils.RUN_TWICE))
+                .getRemoteOrderStatesAsync(Mockito.anyCollection());
+    }
+
+    // test case: When there is a single order of a provider, or the orders are local, no
+    // bulk request must be made, since the orders are synchronized individually anyway.
+    @Test
+    public void testFetchSkipsSingleAndLocalOrders() throws FogbowException {
+        // set up
+        List<Order> orders = createRemoteOrders(1);
+        orders.add(this.testUtils.createLocalComputeOrder());
+        orders.add(this.testUtils.createLocalComputeOrder());
+
+        // exercise
+        Map<String, OrderStateDelta> orderStateDeltas = this.orderStatesFetcher.fetch(orders);
+
+        // verify
+        Mockito.verify(this.remoteCloudConnector, Mockito.never()).getRemoteOrderStatesAsync(Mockito.anyCollection());
+        Assert.assertTrue(orderStateDeltas.isEmpty());
+    }
+
+    // test case: When the bulk request fails, no state must be returned, so that the
+    // orders are synchronized individually.
+    @Test
+    public void testFetchWhenBulkRequestFails() throws FogbowException {
+        // set up
+        List<Order> orders = createRemoteOrders(2);
+        CompletableFuture<List<OrderStateDelta>> failedRequest = new CompletableFuture<>();
+        failedRequest.completeExceptionally(new UnavailableProviderException());
+        Mockito.doReturn(failedRequest).when(this.remoteCloudConnector)
+                .getRemoteOrderStatesAsync(Mockito.anyCollection());
+
+        // exercise
+        Map<String, OrderStateDelta> orderStateDeltas = this.orderStatesFetcher.fetch(orders);
+
+        // verify
+        Assert.assertEquals(Collections.emptyMap(), orderStateDeltas);
+    }
+
+    private List<Order> createRemoteOrders(int amount) {
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < amount; i++) {
+            orders.add(this.testUtils.createRemoteOrder(TestUtils.LOCAL_MEMBER_ID));
+        }
+        return orders;
+    }
+}
@@ -14,19 +14,18 @@ import cloud.fogbow.ras.core.cloudconnector.RemoteCloudConnector;
 import cloud.fogbow.ras.core.datastore.DatabaseManager;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
+import cloud.fogbow.ras.core.models.orders.OrderStateDelta;
 import org.apache.log4j.Level;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.mockito.Mockito;
-import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 
 @PrepareForTest({ RemoteCloudConnector.class,
         DatabaseManager.class,
         CloudConnectorFactory.class,
-        Thread.class,
         RemoteOrdersStateSynchronizationProcessor.class })
 public class RemoteOrdersStateSynchronizationProcessorTest extends BaseUnitTests {
 
@@ -75,6 +74,30 @@ public class RemoteOrdersStateSynchronizationProcessorTest extends BaseUnitTests
         Mockito.verify(order, Mockito.times(TestUtils.RUN_ONCE)).setOrderState(Mockito.eq(remoteOrderState));
     }
 
+    // test case: When calling the processRemoteProviderOrder method with the state of a remote
+    // order already fetched in bulk, it must apply that state without requesting the order again.
+    @Test
+    public void testProcessRemoteProviderOrderWithFetchedState() throws FogbowException {
+        // set up
+        Order order = Mockito.mock(Order.class);
+        Mockito.when(order.isProviderLocal(Mockito.any())).thenReturn(false);
+        Mockito.when(order.getOrderState()).thenReturn(OrderState.SPAWNING);
+        Mockito.doNothing().when(order).setOrderState(Mockito.eq(OrderState.FULFILLED));
+
+        OrderStateDelta fetchedState = Mockito.mock(OrderStateDelta.class);
+        Mockito.when(fetchedState.getOrderState()).thenReturn(OrderState.FULFILLED);
+
+        RemoteCloudConnector remoteCloudConnector = this.testUtils.mockRemoteCloudConnectorFromFactory();
+
+        // exercise
+        this.processor.processRemoteProviderOrder(order, fetchedState);
+
+        // verify
+        Mockito.verify(fetchedState, Mockito.times(TestUtils.RUN_ONCE)).applyTo(Mockito.eq(order));
+        Mockito.verify(order, Mockito.times(TestUtils.RUN_ONCE)).setOrderState(Mockito.eq(OrderState.FULFILLED));
+        Mockito.verify(remoteCloudConnector, Mockito.times(TestUtils.NEVER_RUN)).getRemoteOrder(Mockito.eq(order));
+    }
+
     // test case: When calling the processRemoteProviderOrder method with remote order and
     // it throws an FogbowException, it must verify if It logs an info message.
     @Test
@@ -169,9 +192,12 @@ public class RemoteOrdersStateSynchronizationProcessorTest extends BaseUnitTests
         this.remoteOrderList.addItem(order);
 
         Mockito.doThrow(new RuntimeException()).when(this.processor).processRemoteProviderOrder(Mockito.eq(order));
+        Mockito.doNothing().when(this.processor).waitForOrders();
 
         // exercise
-        this.processor.synchronizeWithRemote();
+        for (int i = 0; i < TestUtils.RUN_TWICE; i++) {
+            this.processor.synchronizeWithRemote();
+        }
 
         // verify
         this.loggerTestChecking.assertEqualsInOrder(Level.ERROR, Messages.Exception.UNEXPECTED_ERROR);
@@ -188,9 +214,12 @@ public class RemoteOrdersStateSynchronizationProcessorTest extends BaseUnitTests
         String errorMessage = TestUtils.ANY_VALUE;
         InternalServerErrorException internalServerErrorException = new InternalServerErrorException(errorMessage);
         Mockito.doThrow(internalServerErrorException).when(this.processor).processRemoteProviderOrder(Mockito.eq(order));
+        Mockito.doNothing().when(this.processor).waitForOrders();
 
         // exercise
-        this.processor.synchronizeWithRemote();
+        for (int i = 0; i < TestUtils.RUN_TWICE; i++) {
+            this.processor.synchronizeWithRemote();
+        }
 
         // verify
         this.loggerTestChecking.assertEqualsInOrder(Level.ERROR, errorMessage);
@@ -202,9 +231,7 @@ public class RemoteOrdersStateSynchronizationProcessorTest extends BaseUnitTests
     public void testAssignForDeletionSuccessfullyWhenThereIsNoOrder() throws InterruptedException, InternalServerErrorException {
 
         // set up
-        PowerMockito.mockStatic(Thread.class);
-        PowerMockito.doNothing().when(Thread.class);
-        Thread.sleep(Mockito.anyLong());
+        Mockito.doNothing().when(this.processor).waitForOrders();
 
         // exercise
         this.processor.synchronizeWithRemote();
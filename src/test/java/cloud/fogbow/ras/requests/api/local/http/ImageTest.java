@@ -98,6 +98,82 @@ public class ImageTest {
         Assert.assertEquals(3, resultList.size());
     }
 
+    // test case: Test getAllImages() with a page and its size, it must return only the
+    // images of that page, tagged with the ETag of the whole list.
+    @Test
+    public void testGetAllImagesPage() throws Exception {
+        // set up
+        List<ImageSummary> imageSummaryList = new ArrayList<>();
+        imageSummaryList.add(new ImageSummary("image-id1", "image-name1"));
+        imageSummaryList.add(new ImageSummary("image-id2", "image-name2"));
+        imageSummaryList.add(new ImageSummary("image-id3", "image-name3"));
+
+        Mockito.doReturn(imageSummaryList).when(this.facade).getAllImages(Mockito.anyString(), Mockito.anyString(), Mockito.anyString());
+
+        String imagesEndpoint = IMAGE_ENDPOINT + "/provider/cloud?" + Image.PAGE_PARAMETER + "=1&"
+                + Image.PAGE_SIZE_PARAMETER + "=2";
+        RequestBuilder requestBuilder = createRequestBuilder(imagesEndpoint, getHttpHeaders(), "");
+
+        // exercise
+        MvcResult result = this.mockMvc.perform(requestBuilder).andReturn();
+
+        // verify
+        int expectedStatus = HttpStatus.OK.value();
+        Assert.assertEquals(expectedStatus, result.getResponse().getStatus());
+        Assert.assertNotNull(result.getResponse().getHeader(HttpHeaders.ETAG));
+
+        TypeToken<List<ImageSummary>> token = new TypeToken<List<ImageSummary>>() {};
+        List<ImageSummary> resultList = new Gson().fromJson(result.getResponse().getContentAsString(), token.getType());
+        Assert.assertEquals(1, resultList.size());
+        Assert.assertEquals("image-id3", resultList.get(0).getId());
+    }
+
+    // test case: Test getAllImages() with a page but no page size, it must return BAD_REQUEST.
+    @Test
+    public void testGetAllImagesPageWithoutSize() throws Exception {
+        // set up
+        Mockito.doReturn(new ArrayList<>()).when(this.facade).getAllImages(Mockito.anyString(), Mockito.anyString(), Mockito.anyString());
+
+        String imagesEndpoint = IMAGE_ENDPOINT + "/provider/cloud?" + Image.PAGE_PARAMETER + "=1";
+        RequestBuilder requestBuilder = createRequestBuilder(imagesEndpoint, getHttpHeaders(), "");
+
+        // exercise
+        MvcResult result = this.mockMvc.perform(requestBuilder).andReturn();
+
+        // verify
+        int expectedStatus = HttpStatus.BAD_REQUEST.value();
+        Assert.assertEquals(expectedStatus, result.getResponse().getStatus());
+    }
+
+    // test case: Test getAllImages() with the ETag of the current images, it must return
+    // NOT_MODIFIED without the images.
+    @Test
+    public void testGetAllImagesNotModified() throws Exception {
+        // set up
+        List<ImageSummary> imageSummaryList = new ArrayList<>();
+        imageSummaryList.add(new ImageSummary("image-id1", "image-name1"));
+
+        Mockito.doReturn(imageSummaryList).when(this.facade).getAllImages(Mockito.anyString(), Mockito.anyString(), Mockito.anyString());
+
+        String imagesEndpoint = IMAGE_ENDPOINT + "/provider/cloud";
+        MvcResult firstResult = this.mockMvc.perform(createRequestBuilder(imagesEndpoint, getHttpHeaders(), ""))
+                .andReturn();
+        String eTag = firstResult.getResponse().getHeader(HttpHeaders.ETAG);
+
+        HttpHeaders headers = getHttpHeaders();
+        headers.set(HttpHeaders.IF_NONE_MATCH, eTag);
+        RequestBuilder requestBuilder = createRequestBuilder(imagesEndpoint, headers, "");
+
+        // exercise
+        MvcResult result = this.mockMvc.perform(requestBuilder).andReturn();
+
+        // verify
+        int expectedStatus = HttpStatus.NOT_MODIFIED.value();
+        Assert.assertEquals(expectedStatus, result.getResponse().getStatus());
+        Assert.assertEquals(eTag, result.getResponse().getHeader(HttpHeaders.ETAG));
+        Assert.assertEquals("", result.getResponse().getContentAsString());
+    }
+
     // test case: Test if given an existing image id, the getImageId() returns that image properly.
     @Test
     public void testGetImageById() throws Exception {